@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.benchmarks;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+
+/**
+ * Creates the Thing JSON documents the benchmarks operate on. The size of a document is determined by its number of
+ * features; each feature has the same set of properties.
+ */
+@Immutable
+final class BenchmarkDocuments {
+
+    /**
+     * The ID of the Thing of each document.
+     */
+    static final String THING_ID = "org.eclipse.ditto:benchmark";
+
+    private BenchmarkDocuments() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns the JSON of a Thing with the given number of features.
+     *
+     * @param featureCount the number of features of the Thing.
+     * @return the JSON object.
+     */
+    static JsonObject newThingJson(final int featureCount) {
+        final JsonObjectBuilder featuresBuilder = JsonFactory.newObjectBuilder();
+        for (int i = 0; i < featureCount; i++) {
+            featuresBuilder.set(getFeatureId(i), JsonFactory.newObjectBuilder()
+                    .set("properties", JsonFactory.newObjectBuilder()
+                            .set("value", i * 3.14D)
+                            .set("counter", i)
+                            .set("active", 0 == i % 2)
+                            .set("unit", "\u00b0C")
+                            .set("samples", JsonFactory.newArrayBuilder().add(1, 2, 3, 4, 5, 6, 7, 8).build())
+                            .set("status", JsonFactory.newObjectBuilder()
+                                    .set("lastModified", "2017-06-01T12:00:00Z")
+                                    .set("valid", true)
+                                    .build())
+                            .build())
+                    .build());
+        }
+        return JsonFactory.newObjectBuilder()
+                .set("thingId", THING_ID)
+                .set("policyId", THING_ID)
+                .set("attributes", JsonFactory.newObjectBuilder()
+                        .set("manufacturer", "ACME")
+                        .set("serial", 1337)
+                        .set("tags", JsonFactory.newArrayBuilder().add("a", "b", "c").build())
+                        .set("location", JsonFactory.newObjectBuilder()
+                                .set("longitude", 47.68217D)
+                                .set("latitude", -9.386372D)
+                                .build())
+                        .build())
+                .set("features", featuresBuilder.build())
+                .build();
+    }
+
+    /**
+     * Returns the ID of the feature at the given index of a document.
+     *
+     * @param index the index of the feature.
+     * @return the feature ID.
+     */
+    static String getFeatureId(final int index) {
+        return "feature-" + index;
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures projecting a JSON object with a {@link JsonFieldSelector}, both with a selector which is parsed once and
+ * with a selector which is parsed from the string for each projection like it is done per request.
+ */
+@State(Scope.Benchmark)
+public class JsonFieldSelectorBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final String SELECTOR_STRING = "thingId,attributes/location,features/"
+            + BenchmarkDocuments.getFeatureId(0) + "/properties(value,unit,status/valid)";
+
+    /**
+     * The number of features of the Thing JSON.
+     */
+    @Param({"1", "10", "100"})
+    public int featureCount;
+
+    private JsonObject jsonObject;
+    private JsonFieldSelector fieldSelector;
+
+    @Setup
+    public void setUp() {
+        jsonObject = JsonFactory.newObject(BenchmarkDocuments.newThingJson(featureCount).toString());
+        fieldSelector = newFieldSelector();
+    }
+
+    private static JsonFieldSelector newFieldSelector() {
+        return JsonFactory.newFieldSelector(SELECTOR_STRING, JsonFactory.newParseOptionsBuilder()
+                .withoutUrlDecoding()
+                .build());
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject project() {
+        return jsonObject.get(fieldSelector);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject parseSelectorAndProject() {
+        return jsonObject.get(newFieldSelector());
+    }
+
+}
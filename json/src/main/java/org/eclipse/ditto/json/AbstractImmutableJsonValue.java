@@ -11,27 +11,37 @@
  */
 package org.eclipse.ditto.json;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
 
 import javax.annotation.Nullable;
 
 /**
  * Abstract base implementation of {@link JsonValue}. This class merely exists to save work when writing other
  * implementations of {@code JsonValue}. With this abstract implementation only the particular methods have to be
- * re-implemented. Also the string representation of this value is cached which should have positive impacts on
- * overall performance.
+ * re-implemented. Also the string representation and the UTF-8 bytes of JSON objects and arrays are cached which
+ * should have positive impacts on overall performance. See {@link JsonSerializationCacheStatistics} for the limits of
+ * caching.
  */
 abstract class AbstractImmutableJsonValue implements JsonValue {
 
     private static final String NOT_A_NUMBER = "This JSON value is not a number: ";
 
+    /*
+     * Both serialized forms are softly referenced: nested values cache them as well, thus strong references would
+     * keep each part of a large JSON value in memory several times.
+     */
     @Nullable private SoftReference<String> stringRepresentation;
+    @Nullable private SoftReference<byte[]> utf8Representation;
 
     /**
      * Constructs a new {@code AbstractImmutableJsonValue} object.
      */
     protected AbstractImmutableJsonValue() {
         stringRepresentation = null;
+        utf8Representation = null;
     }
 
     @Override
@@ -101,17 +111,116 @@ abstract class AbstractImmutableJsonValue implements JsonValue {
 
     @Override
     public String toString() {
+        if (!isContainer()) {
+            return createStringRepresentation();
+        }
       /*
        * Lazy initialisation of the string representation of this JSON value by using the Single-Check-Idiom.
        * This preserves immutability of this class (and its children) as no state change is visible for users of this
        * class. However in rare cases the string representation is created two times.
        */
-        if (stringRepresentation == null || stringRepresentation.get() == null) {
-            stringRepresentation = new SoftReference<>(createStringRepresentation());
+        final JsonSerializationCache cache = JsonSerializationCache.getInstance();
+        String result = getCachedStringRepresentation();
+        if (null != result) {
+            cache.recordHit();
+        } else {
+            cache.recordMiss();
+            result = createStringRepresentation();
+            if (cache.isCacheable(result.length())) {
+                stringRepresentation = new SoftReference<>(result);
+            }
         }
-        return stringRepresentation.get();
+        return result;
+    }
+
+    /**
+     * Returns the string representation of this value if it was already created and is still cached.
+     *
+     * @return the cached string representation or {@code null}.
+     */
+    @Nullable
+    final String getCachedStringRepresentation() {
+        return dereference(stringRepresentation);
+    }
+
+    /*
+     * Only the serialized forms of objects and arrays are cached. Scalar values are cheap to serialize and become part
+     * of the cached serialized form of their container; caching them as well would allocate a reference per value.
+     */
+    private boolean isContainer() {
+        return (isObject() || isArray()) && !isNull();
+    }
+
+    @Nullable
+    private static <T> T dereference(@Nullable final SoftReference<T> reference) {
+        return null != reference ? reference.get() : null;
     }
 
     protected abstract String createStringRepresentation();
 
+    /**
+     * Creates the UTF-8 encoded JSON string of this value. Subclasses may override this method if they are able to
+     * create the bytes more efficiently.
+     *
+     * @return the UTF-8 bytes.
+     */
+    protected byte[] createUtf8Representation() {
+        return JsonValueWriter.toUtf8Bytes(this);
+    }
+
+    @Override
+    public void writeTo(final Appendable appendable) throws IOException {
+        final String cachedStringRepresentation = getCachedStringRepresentation();
+        if (null != cachedStringRepresentation) {
+            appendable.append(cachedStringRepresentation);
+        } else {
+            JsonValueWriter.write(this, appendable);
+        }
+    }
+
+    @Override
+    public void writeTo(final ByteBuffer byteBuffer) {
+        final byte[] cachedUtf8Representation = dereference(utf8Representation);
+        if (null != cachedUtf8Representation) {
+            byteBuffer.put(cachedUtf8Representation);
+        } else {
+            JsonValueWriter.write(this, byteBuffer);
+        }
+    }
+
+    @Override
+    public void writeTo(final OutputStream outputStream) throws IOException {
+        // the cached bytes never leave this class, thus they can be written without copying them
+        outputStream.write(getUtf8Representation());
+    }
+
+    @Override
+    public byte[] toUtf8Bytes() {
+        return getUtf8Representation().clone();
+    }
+
+    /**
+     * Returns the UTF-8 bytes of this value which are cached for objects and arrays. The returned array must not be
+     * modified or passed to other code than an output.
+     *
+     * @return the UTF-8 bytes.
+     */
+    final byte[] getUtf8Representation() {
+        if (!isContainer()) {
+            return createUtf8Representation();
+        }
+        final JsonSerializationCache cache = JsonSerializationCache.getInstance();
+        byte[] result = dereference(utf8Representation);
+        if (null != result) {
+            cache.recordHit();
+        } else {
+            cache.recordMiss();
+            result = createUtf8Representation();
+            if (cache.isCacheable(result.length)) {
+                utf8Representation = new SoftReference<>(result);
+            }
+        }
+        return result;
+    }
+
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Defines the compact, self-describing binary format of JSON values which is written by {@link BinaryJsonWriter} and
+ * read by {@link BinaryJsonReader}.
+ * <p>
+ * A document starts with the byte {@link #MAGIC} followed by the byte {@link #VERSION}. Then follows exactly one
+ * value. Each value starts with a one byte type tag:
+ * </p>
+ * <ul>
+ *     <li>{@link #NULL}, {@link #FALSE} and {@link #TRUE} are the literals and have no further content.</li>
+ *     <li>{@link #INTEGER} is followed by the zig-zag encoded varint of the number.</li>
+ *     <li>{@link #DOUBLE} is followed by the eight bytes of the IEEE 754 representation of the number, most
+ *     significant byte first.</li>
+ *     <li>{@link #NUMBER} is followed by the varint length and the ASCII characters of the original lexeme of the
+ *     number. It is used for all numbers whose lexeme would get lost as {@code INTEGER} or {@code DOUBLE}, e. g.
+ *     {@code 1e3} or {@code 1.50}.</li>
+ *     <li>{@link #STRING} is followed by the varint length and the UTF-8 bytes of the string. Unpaired surrogates
+ *     are encoded like code points so that each string is restored exactly.</li>
+ *     <li>{@link #ARRAY} is followed by the elements and terminated by {@link #END_OF_ARRAY}.</li>
+ *     <li>{@link #OBJECT} is followed by the members and terminated by a key reference of {@code 0}. Each member
+ *     starts with a varint key reference: an even number {@code 2n} with {@code n > 0} is followed by the {@code n}
+ *     UTF-8 bytes of a key which was not used before in the document; it is appended to the key dictionary. An odd
+ *     number {@code 2i + 1} refers to the key at index {@code i} of the dictionary. The key is followed by the
+ *     value of the member.</li>
+ * </ul>
+ * <p>
+ * Varints use seven bits per byte, least significant group first; the most significant bit of each byte tells
+ * whether another byte follows.
+ * </p>
+ */
+@Immutable
+final class BinaryJsonFormat {
+
+    static final byte MAGIC = (byte) 0xD1;
+    static final byte VERSION = 1;
+
+    static final byte NULL = 0;
+    static final byte FALSE = 1;
+    static final byte TRUE = 2;
+    static final byte INTEGER = 3;
+    static final byte DOUBLE = 4;
+    static final byte NUMBER = 5;
+    static final byte STRING = 6;
+    static final byte ARRAY = 7;
+    static final byte OBJECT = 8;
+    static final byte END_OF_ARRAY = 9;
+
+    static final int END_OF_OBJECT = 0;
+
+    private BinaryJsonFormat() {
+        throw new AssertionError();
+    }
+
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import com.eclipsesource.json.Json;
+
+/**
+ * Reads a {@link JsonValue} from the binary format which is described at {@link BinaryJsonFormat}. The created value
+ * equals the written one and has the same string representation. The key of each distinct key name is created only
+ * once per document.
+ */
+@NotThreadSafe
+final class BinaryJsonReader {
+
+    private static final int MAX_VARINT_BYTES = 10;
+
+    private final byte[] bytes;
+    private final List<JsonKey> keys;
+    private int position;
+
+    private BinaryJsonReader(final byte[] bytes) {
+        this.bytes = bytes;
+        keys = new ArrayList<>();
+        position = 0;
+    }
+
+    /**
+     * Reads the JSON value from the given bytes.
+     *
+     * @param bytes the bytes to read from.
+     * @return the JSON value.
+     * @throws NullPointerException if {@code bytes} is {@code null}.
+     * @throws FormatException if {@code bytes} do not contain exactly one value in the binary format.
+     */
+    static JsonValue read(final byte[] bytes) {
+        requireNonNull(bytes, "The bytes to read from must not be null!");
+        final BinaryJsonReader reader = new BinaryJsonReader(bytes);
+        if (BinaryJsonFormat.MAGIC != reader.readByte()) {
+            throw new FormatException("The bytes are not in the binary JSON format!");
+        }
+        final byte version = reader.readByte();
+        if (BinaryJsonFormat.VERSION != version) {
+            throw new FormatException(
+                    MessageFormat.format("The binary JSON format version <{0}> is not supported!", version));
+        }
+        final JsonValue result = reader.readValue(reader.readByte());
+        if (reader.position < bytes.length) {
+            throw reader.unexpected("byte");
+        }
+        return result;
+    }
+
+    @SuppressWarnings({"checkstyle:com.puppycrawl.tools.checkstyle.checks.metrics.CyclomaticComplexityCheck",
+            "squid:MethodCyclomaticComplexity"})
+    private JsonValue readValue(final byte typeTag) {
+        switch (typeTag) {
+            case BinaryJsonFormat.NULL:
+                return JsonFactory.nullLiteral();
+            case BinaryJsonFormat.FALSE:
+                return ImmutableJsonLiteral.FALSE;
+            case BinaryJsonFormat.TRUE:
+                return ImmutableJsonLiteral.TRUE;
+            case BinaryJsonFormat.INTEGER:
+                return ImmutableJsonNumber.of(readInteger());
+            case BinaryJsonFormat.DOUBLE:
+                return ImmutableJsonNumber.of(readDouble());
+            case BinaryJsonFormat.NUMBER:
+                return readNumberLexeme();
+            case BinaryJsonFormat.STRING:
+                return ImmutableJsonString.of(Json.value(readString(readLength())));
+            case BinaryJsonFormat.ARRAY:
+                return readArray();
+            case BinaryJsonFormat.OBJECT:
+                return readObject();
+            default:
+                position--;
+                throw unexpected("type tag");
+        }
+    }
+
+    private long readInteger() {
+        final long zigZagValue = readVarint();
+        return (zigZagValue >>> 1) ^ -(zigZagValue & 1L);
+    }
+
+    private double readDouble() {
+        long bits = 0L;
+        for (int i = 0; i < Long.BYTES; i++) {
+            bits = (bits << 8) | (readByte() & 0xFF);
+        }
+        final double doubleValue = Double.longBitsToDouble(bits);
+        if (Double.isInfinite(doubleValue) || Double.isNaN(doubleValue)) {
+            position -= Long.BYTES;
+            throw unexpected("double number");
+        }
+        return doubleValue;
+    }
+
+    private JsonValue readNumberLexeme() {
+        final int start = position;
+        final String lexeme = readString(readLength());
+        try {
+            final JsonValue result = JsonValueParser.parse(lexeme);
+            if (result.isNumber()) {
+                return result;
+            }
+        } catch (final JsonValueParser.SyntaxException e) {
+            // reported below
+        }
+        position = start;
+        throw unexpected("number");
+    }
+
+    /*
+     * Numbers are collected unboxed until the first element which cannot be kept this way.
+     */
+    private JsonArray readArray() {
+        final JsonNumberArrayCollector numbers = new JsonNumberArrayCollector();
+        List<JsonValue> values = null;
+        byte typeTag = readByte();
+        while (BinaryJsonFormat.END_OF_ARRAY != typeTag) {
+            if (null != values) {
+                values.add(readValue(typeTag)); // Recursion
+            } else if (BinaryJsonFormat.INTEGER == typeTag) {
+                final long longValue = readInteger();
+                if (!numbers.addLong(longValue)) {
+                    values = numbers.toValues();
+                    values.add(ImmutableJsonNumber.of(longValue));
+                }
+            } else if (BinaryJsonFormat.DOUBLE == typeTag) {
+                final double doubleValue = readDouble();
+                if (!numbers.addDouble(doubleValue)) {
+                    values = numbers.toValues();
+                    values.add(ImmutableJsonNumber.of(doubleValue));
+                }
+            } else {
+                values = numbers.toValues();
+                values.add(readValue(typeTag)); // Recursion
+            }
+            typeTag = readByte();
+        }
+        return null == values ? numbers.build() : ImmutableJsonArray.of(values);
+    }
+
+    private JsonObject readObject() {
+        final Map<String, JsonField> fields = new LinkedHashMap<>();
+        long keyReference = readVarint();
+        while (BinaryJsonFormat.END_OF_OBJECT != keyReference) {
+            final JsonKey key = readKey(keyReference);
+            final JsonValue value = readValue(readByte()); // Recursion
+            fields.put(key.toString(), JsonFactory.newField(key, value));
+            keyReference = readVarint();
+        }
+        return ImmutableJsonObject.of(fields);
+    }
+
+    private JsonKey readKey(final long keyReference) {
+        final long keyIndex = keyReference >>> 1;
+        if (0L != (keyReference & 1L)) {
+            if (keyIndex >= keys.size()) {
+                throw new FormatException(MessageFormat.format(
+                        "Unknown key reference <{0,number,#}> before offset {1,number,#}!", keyIndex, position));
+            }
+            return keys.get((int) keyIndex);
+        }
+        final JsonKey result = JsonFactory.newKey(readString(checkLength(keyIndex)));
+        keys.add(result);
+        return result;
+    }
+
+    private int readLength() {
+        return checkLength(readVarint());
+    }
+
+    private int checkLength(final long length) {
+        if (0L > length || length > bytes.length - position) {
+            throw new FormatException(MessageFormat.format(
+                    "Length <{0,number,#}> before offset {1,number,#} exceeds the input!", length, position));
+        }
+        return (int) length;
+    }
+
+    /*
+     * Decodes UTF-8 which additionally may contain encoded surrogates.
+     */
+    @SuppressWarnings({"checkstyle:com.puppycrawl.tools.checkstyle.checks.metrics.CyclomaticComplexityCheck",
+            "squid:MethodCyclomaticComplexity"})
+    private String readString(final int utf8Length) {
+        final int end = position + utf8Length;
+        final char[] chars = new char[utf8Length];
+        int length = 0;
+        while (position < end) {
+            final int b = bytes[position] & 0xFF;
+            if (b < 0x80) {
+                chars[length++] = (char) b;
+                position++;
+            } else if (b >= 0xC2 && b < 0xE0) {
+                chars[length++] = (char) (((b & 0x1F) << 6) | continuation(end, 1));
+                position += 2;
+            } else if (b >= 0xE0 && b < 0xF0) {
+                final int c = ((b & 0x0F) << 12) | (continuation(end, 1) << 6) | continuation(end, 2);
+                if (c < 0x800) {
+                    throw unexpected("UTF-8 byte");
+                }
+                chars[length++] = (char) c;
+                position += 3;
+            } else if (b >= 0xF0 && b < 0xF5) {
+                final int codePoint = ((b & 0x07) << 18) | (continuation(end, 1) << 12)
+                        | (continuation(end, 2) << 6) | continuation(end, 3);
+                if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT || codePoint > Character.MAX_CODE_POINT) {
+                    throw unexpected("UTF-8 byte");
+                }
+                chars[length++] = Character.highSurrogate(codePoint);
+                chars[length++] = Character.lowSurrogate(codePoint);
+                position += 4;
+            } else {
+                throw unexpected("UTF-8 byte");
+            }
+        }
+        return new String(chars, 0, length);
+    }
+
+    private int continuation(final int end, final int offset) {
+        final int index = position + offset;
+        if (index >= end || 0x80 != (bytes[index] & 0xC0)) {
+            throw unexpected("UTF-8 byte");
+        }
+        return bytes[index] & 0x3F;
+    }
+
+    private long readVarint() {
+        long result = 0L;
+        for (int i = 0; i < MAX_VARINT_BYTES; i++) {
+            final byte b = readByte();
+            result |= (long) (b & 0x7F) << (7 * i);
+            if (0 <= b) {
+                return result;
+            }
+        }
+        position--;
+        throw unexpected("varint byte");
+    }
+
+    private byte readByte() {
+        if (position >= bytes.length) {
+            throw new FormatException("Unexpected end of binary JSON!");
+        }
+        return bytes[position++];
+    }
+
+    private FormatException unexpected(final String description) {
+        return new FormatException(MessageFormat.format("Unexpected {0} <0x{1}> at offset {2,number,#}!",
+                description, String.format("%02x", bytes[position] & 0xFF), position));
+    }
+
+    /**
+     * Thrown if the read bytes are not in the binary JSON format.
+     */
+    static final class FormatException extends RuntimeException {
+
+        private static final long serialVersionUID = -2709834170623464918L;
+
+        FormatException(final String message) {
+            super(message);
+        }
+
+    }
+
+}
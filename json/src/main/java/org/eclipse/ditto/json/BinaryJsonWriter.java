@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Writes a {@link JsonValue} in the binary format which is described at {@link BinaryJsonFormat} by directly walking
+ * the value. Each key is written only once per document, numbers are written without decimal formatting wherever
+ * their lexeme can be restored from the binary number and strings are written without escaping.
+ */
+@NotThreadSafe
+final class BinaryJsonWriter {
+
+    private static final int INITIAL_BYTE_ARRAY_SIZE = 128;
+    private static final long NEGATIVE_ZERO_BITS = Double.doubleToRawLongBits(-0.0);
+
+    private final Map<String, Integer> keyIndexes;
+    private byte[] bytes;
+    private int size;
+
+    private BinaryJsonWriter() {
+        keyIndexes = new HashMap<>();
+        bytes = new byte[INITIAL_BYTE_ARRAY_SIZE];
+        size = 0;
+    }
+
+    /**
+     * Returns the binary representation of the given value.
+     *
+     * @param jsonValue the value to get the binary representation for.
+     * @return the bytes.
+     * @throws NullPointerException if {@code jsonValue} is {@code null}.
+     */
+    static byte[] toBytes(final JsonValue jsonValue) {
+        requireNonNull(jsonValue, "The JSON value to be written must not be null!");
+        final BinaryJsonWriter writer = new BinaryJsonWriter();
+        writer.writeByte(BinaryJsonFormat.MAGIC);
+        writer.writeByte(BinaryJsonFormat.VERSION);
+        writer.writeValue(jsonValue);
+        return Arrays.copyOf(writer.bytes, writer.size);
+    }
+
+    @SuppressWarnings({"checkstyle:com.puppycrawl.tools.checkstyle.checks.metrics.CyclomaticComplexityCheck",
+            "squid:MethodCyclomaticComplexity"})
+    private void writeValue(final JsonValue jsonValue) {
+        if (jsonValue.isNull()) {
+            writeByte(BinaryJsonFormat.NULL);
+        } else if (jsonValue.isObject()) {
+            writeObject(jsonValue.asObject());
+        } else if (jsonValue.isArray()) {
+            writeArray(jsonValue.asArray());
+        } else if (jsonValue.isString()) {
+            writeByte(BinaryJsonFormat.STRING);
+            writeString(jsonValue.asString());
+        } else if (jsonValue.isNumber()) {
+            writeNumber(jsonValue);
+        } else {
+            writeByte(jsonValue.asBoolean() ? BinaryJsonFormat.TRUE : BinaryJsonFormat.FALSE);
+        }
+    }
+
+    private void writeObject(final JsonObject jsonObject) {
+        writeByte(BinaryJsonFormat.OBJECT);
+        for (final JsonField jsonField : jsonObject) {
+            writeKey(jsonField.getKeyName());
+            writeValue(jsonField.getValue()); // Recursion
+        }
+        writeVarint(BinaryJsonFormat.END_OF_OBJECT);
+    }
+
+    private void writeKey(final String key) {
+        final Integer keyIndex = keyIndexes.get(key);
+        if (null != keyIndex) {
+            writeVarint(((long) keyIndex << 1) | 1L);
+        } else {
+            keyIndexes.put(key, keyIndexes.size());
+            final int utf8Length = getUtf8Length(key);
+            writeVarint((long) utf8Length << 1);
+            writeUtf8(key, utf8Length);
+        }
+    }
+
+    private void writeArray(final JsonArray jsonArray) {
+        writeByte(BinaryJsonFormat.ARRAY);
+        final List<JsonValue> values = jsonArray instanceof ImmutableJsonNumberArray
+                ? ((ImmutableJsonNumberArray) jsonArray).getValues()
+                : null;
+        if (values instanceof LongJsonValueList) {
+            final LongJsonValueList longs = (LongJsonValueList) values;
+            for (int i = 0; i < longs.size(); i++) {
+                writeInteger(longs.getLong(i));
+            }
+        } else if (values instanceof DoubleJsonValueList) {
+            final DoubleJsonValueList doubles = (DoubleJsonValueList) values;
+            for (int i = 0; i < doubles.size(); i++) {
+                writeDouble(doubles.getDouble(i));
+            }
+        } else {
+            for (final JsonValue jsonValue : jsonArray) {
+                writeValue(jsonValue); // Recursion
+            }
+        }
+        writeByte(BinaryJsonFormat.END_OF_ARRAY);
+    }
+
+    /*
+     * A number has to keep its lexeme as this is what its string representation and its equality are based on.
+     */
+    private void writeNumber(final JsonValue jsonNumber) {
+        if (jsonNumber instanceof ImmutableJsonNumber && ((ImmutableJsonNumber) jsonNumber).hasCanonicalLongLexeme()) {
+            writeInteger(jsonNumber.asLong());
+            return;
+        }
+        final String lexeme = jsonNumber.toString();
+        if (ImmutableJsonNumber.isCanonicalLong(lexeme)) {
+            writeInteger(Long.parseLong(lexeme));
+            return;
+        }
+        final double doubleValue = jsonNumber.asDouble();
+        if (!Double.isInfinite(doubleValue) && !Double.isNaN(doubleValue)
+                && lexeme.equals(ImmutableJsonNumber.toCanonicalString(doubleValue))) {
+            writeByte(BinaryJsonFormat.DOUBLE);
+            writeLong(Double.doubleToRawLongBits(doubleValue));
+        } else {
+            writeByte(BinaryJsonFormat.NUMBER);
+            writeString(lexeme);
+        }
+    }
+
+    private void writeInteger(final long longValue) {
+        writeByte(BinaryJsonFormat.INTEGER);
+        writeVarint((longValue << 1) ^ (longValue >> 63));
+    }
+
+    /*
+     * Writes a finite double number whose lexeme is the string representation Minimal JSON creates for it like
+     * writeNumber would do.
+     */
+    private void writeDouble(final double doubleValue) {
+        final long longValue = (long) doubleValue;
+        if (longValue == doubleValue && ImmutableJsonNumber.hasSameLexemeAsDouble(longValue)
+                && Double.doubleToRawLongBits(doubleValue) != NEGATIVE_ZERO_BITS) {
+            writeInteger(longValue);
+        } else {
+            writeByte(BinaryJsonFormat.DOUBLE);
+            writeLong(Double.doubleToRawLongBits(doubleValue));
+        }
+    }
+
+    private void writeString(final String string) {
+        final int utf8Length = getUtf8Length(string);
+        writeVarint(utf8Length);
+        writeUtf8(string, utf8Length);
+    }
+
+    private static int getUtf8Length(final String string) {
+        final int length = string.length();
+        int result = length;
+        for (int i = 0; i < length; i++) {
+            final char c = string.charAt(i);
+            if (c >= 0x800) {
+                if (isSurrogatePair(string, i)) {
+                    i++;
+                }
+                result += 2;
+            } else if (c >= 0x80) {
+                result += 1;
+            }
+        }
+        return result;
+    }
+
+    private static boolean isSurrogatePair(final String string, final int index) {
+        return Character.isHighSurrogate(string.charAt(index)) && index + 1 < string.length()
+                && Character.isLowSurrogate(string.charAt(index + 1));
+    }
+
+    private void writeUtf8(final String string, final int utf8Length) {
+        ensureCapacity(utf8Length);
+        final byte[] target = bytes;
+        int position = size;
+        final int length = string.length();
+        for (int i = 0; i < length; i++) {
+            final char c = string.charAt(i);
+            if (c < 0x80) {
+                target[position++] = (byte) c;
+            } else if (c < 0x800) {
+                target[position++] = (byte) (0xC0 | (c >> 6));
+                target[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (isSurrogatePair(string, i)) {
+                final int codePoint = Character.toCodePoint(c, string.charAt(++i));
+                target[position++] = (byte) (0xF0 | (codePoint >> 18));
+                target[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                target[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                target[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                // includes unpaired surrogates
+                target[position++] = (byte) (0xE0 | (c >> 12));
+                target[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                target[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        size = position;
+    }
+
+    private void writeVarint(final long value) {
+        ensureCapacity(10);
+        long remaining = value;
+        while (0L != (remaining & ~0x7FL)) {
+            bytes[size++] = (byte) ((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        bytes[size++] = (byte) remaining;
+    }
+
+    private void writeLong(final long value) {
+        ensureCapacity(Long.BYTES);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            bytes[size++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void writeByte(final byte b) {
+        ensureCapacity(1);
+        bytes[size++] = b;
+    }
+
+    private void ensureCapacity(final int additionalBytes) {
+        final int requiredCapacity = size + additionalBytes;
+        if (requiredCapacity > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(requiredCapacity, bytes.length << 1));
+        }
+    }
+
+}
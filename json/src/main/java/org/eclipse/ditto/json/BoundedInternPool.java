@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A pool which maps string representations to the canonical instance of an immutable value, e. g. a JSON key or a
+ * JSON pointer. Frequently used values like {@code "attributes"} or {@code "/features"} are thus created only once
+ * and equal values share the same instance.
+ * <p>
+ * The pool is bounded: if it reaches its maximum size, one value is evicted for each newly pooled value. The evicted
+ * value is chosen by the CLOCK algorithm which approximates evicting the least recently used value: a clock hand
+ * cycles through the pooled values, values which were used since the hand passed them the last time get a second
+ * chance, the first value which was not used is evicted. Thus frequently used values stay pooled while a burst of
+ * rarely used strings only displaces other rarely used values. Looking up a pooled value does not lock; eviction is
+ * serialized. Concurrently pooled values may exceed the maximum size by the number of concurrently interning
+ * threads.
+ * </p>
+ * <p>
+ * Strings which are longer than the maximum string length are never pooled.
+ * </p>
+ *
+ * @param <V> the type of the pooled values.
+ */
+@ThreadSafe
+final class BoundedInternPool<V> {
+
+    private final int maxSize;
+    private final int maxStringLength;
+    private final Map<String, PooledValue<V>> pool;
+
+    // only accessed while holding the lock of the pool
+    @Nullable private Iterator<Map.Entry<String, PooledValue<V>>> clockHand;
+
+    private BoundedInternPool(final int maxSize, final int maxStringLength) {
+        this.maxSize = maxSize;
+        this.maxStringLength = maxStringLength;
+        pool = new ConcurrentHashMap<>();
+        clockHand = null;
+    }
+
+    /**
+     * Returns a new instance of {@code BoundedInternPool}.
+     *
+     * @param maxSize the maximum number of pooled values.
+     * @param maxStringLength the maximum length of a string whose value is pooled.
+     * @param <V> the type of the pooled values.
+     * @return the instance.
+     */
+    static <V> BoundedInternPool<V> newInstance(final int maxSize, final int maxStringLength) {
+        return new BoundedInternPool<>(maxSize, maxStringLength);
+    }
+
+    /**
+     * Returns the pooled value for the given string. If there is none yet, the value is created with the given
+     * function and pooled; if the pool is full, another value is evicted beforehand.
+     *
+     * @param string the string representation of the value.
+     * @param valueFactory creates the value for {@code string} if it is not pooled yet.
+     * @return the pooled or newly created value.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    V intern(final String string, final Function<String, V> valueFactory) {
+        requireNonNull(string, "The string must not be null!");
+        if (maxStringLength < string.length()) {
+            return valueFactory.apply(string);
+        }
+
+        final PooledValue<V> pooledValue = pool.get(string);
+        if (null != pooledValue) {
+            return pooledValue.use();
+        }
+
+        final V value = valueFactory.apply(string);
+        if (maxSize <= pool.size()) {
+            evictOne();
+        }
+        final PooledValue<V> previousValue = pool.putIfAbsent(string, new PooledValue<>(value));
+        return null != previousValue ? previousValue.use() : value;
+    }
+
+    /*
+     * Advances the clock hand until it reaches a value which was not used since the hand passed it the last time and
+     * evicts that value. The hand passes each value at most twice, thus a value is evicted even if all values were
+     * used.
+     */
+    private void evictOne() {
+        synchronized (pool) {
+            final int maxSteps = 2 * pool.size() + 1;
+            for (int i = 0; i < maxSteps; i++) {
+                if (null == clockHand || !clockHand.hasNext()) {
+                    clockHand = pool.entrySet().iterator();
+                    if (!clockHand.hasNext()) {
+                        return;
+                    }
+                }
+                final Map.Entry<String, PooledValue<V>> candidate = clockHand.next();
+                if (!candidate.getValue().resetUsed()) {
+                    pool.remove(candidate.getKey(), candidate.getValue());
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of currently pooled values.
+     *
+     * @return the size of this pool.
+     */
+    int size() {
+        return pool.size();
+    }
+
+    /**
+     * A pooled value together with the flag of the CLOCK algorithm which tells whether the value was used since the
+     * clock hand passed it the last time.
+     *
+     * @param <V> the type of the value.
+     */
+    @ThreadSafe
+    private static final class PooledValue<V> {
+
+        private final V value;
+        private volatile boolean used;
+
+        private PooledValue(final V value) {
+            this.value = value;
+            used = false;
+        }
+
+        private V use() {
+            // only write if necessary to not invalidate the cache line of a frequently used value on each lookup
+            if (!used) {
+                used = true;
+            }
+            return value;
+        }
+
+        private boolean resetUsed() {
+            final boolean result = used;
+            if (result) {
+                used = false;
+            }
+            return result;
+        }
+
+    }
+
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A {@link JsonFieldSelector} which was compiled to a prefix tree of its pointers. The tree allows to project a JSON
+ * object in one recursive pass instead of resolving each pointer separately and merging the results afterwards.
+ * <p>
+ * The projection yields the same result as resolving the pointers one by one:
+ * </p>
+ * <ul>
+ *     <li>the fields of each level are ordered by the first pointer of the selector which matched them,</li>
+ *     <li>the root fields as well as the fields on the path of the first matching pointer of a root field keep their
+ *     definitions while fields which were only matched by subsequent pointers lose them,</li>
+ *     <li>objects which contain none of the selected fields are omitted.</li>
+ * </ul>
+ * <p>
+ * If a selector contains a pointer which is the prefix of another one or if a pointer runs into a value which is not
+ * an object, the pointer-by-pointer semantics are too irregular to be reproduced; the projection then is
+ * {@code null} and the caller has to resort to resolving the pointers one by one.
+ * </p>
+ * <p>
+ * Compiled selectors are cached by the string representation of the field selector.
+ * </p>
+ */
+@Immutable
+final class CompiledJsonFieldSelector {
+
+    private static final int MAX_CACHE_SIZE = 1_024;
+    private static final int MAX_CACHED_SELECTOR_LENGTH = 2_048;
+
+    private static final BoundedInternPool<CompiledJsonFieldSelector> CACHE =
+            BoundedInternPool.newInstance(MAX_CACHE_SIZE, MAX_CACHED_SELECTOR_LENGTH);
+
+    private static final int NO_POINTER = -1;
+
+    private static final Comparator<Projection> FIRST_MATCHING_POINTER_ORDER =
+            Comparator.comparingInt(projection -> projection.firstPointerIndex);
+
+    private final List<JsonPointer> pointers;
+    @Nullable private final Node root;
+
+    private CompiledJsonFieldSelector(final List<JsonPointer> thePointers) {
+        pointers = thePointers;
+        root = compile(thePointers);
+    }
+
+    /**
+     * Returns the compiled form of the given field selector.
+     *
+     * @param fieldSelector the field selector to be compiled.
+     * @return the compiled field selector.
+     * @throws NullPointerException if {@code fieldSelector} is {@code null}.
+     */
+    static CompiledJsonFieldSelector of(final JsonFieldSelector fieldSelector) {
+        requireNonNull(fieldSelector, "The JSON field selector must not be null!");
+
+        final CompiledJsonFieldSelector cached = CACHE.intern(fieldSelector.toString(),
+                selectorString -> new CompiledJsonFieldSelector(new ArrayList<>(fieldSelector.getPointers())));
+        if (cached.isCompiledFrom(fieldSelector)) {
+            return cached;
+        }
+
+        // the string representation of a field selector is not guaranteed to reflect its pointers
+        return new CompiledJsonFieldSelector(new ArrayList<>(fieldSelector.getPointers()));
+    }
+
+    @Nullable
+    private static Node compile(final Iterable<JsonPointer> pointers) {
+        final Node result = new Node(NO_POINTER);
+        int pointerIndex = 0;
+        for (final JsonPointer pointer : pointers) {
+            Node node = result;
+            final Iterator<JsonKey> keyIterator = pointer.iterator();
+            while (keyIterator.hasNext()) {
+                if (node.isLeaf()) {
+                    return null; // a previous pointer is a prefix of this one
+                }
+                final JsonKey key = keyIterator.next();
+                final Node child = node.children.get(key.toString());
+                if (null == child) {
+                    final Node newChild = new Node(keyIterator.hasNext() ? NO_POINTER : pointerIndex);
+                    node.children.put(key.toString(), newChild);
+                    node = newChild;
+                } else if (keyIterator.hasNext()) {
+                    node = child;
+                } else {
+                    return null; // this pointer is a prefix of a previous one
+                }
+            }
+            pointerIndex++;
+        }
+        return result;
+    }
+
+    private boolean isCompiledFrom(final JsonFieldSelector fieldSelector) {
+        final Iterator<JsonPointer> pointerIterator = pointers.iterator();
+        for (final JsonPointer pointer : fieldSelector.getPointers()) {
+            if (!pointerIterator.hasNext() || !pointer.equals(pointerIterator.next())) {
+                return false;
+            }
+        }
+        return !pointerIterator.hasNext();
+    }
+
+    /**
+     * Projects the given JSON object to the fields this selector selects.
+     *
+     * @param jsonObject the JSON object to be projected.
+     * @return the projected JSON object or {@code null} if the projection has to be done pointer by pointer.
+     */
+    @Nullable
+    JsonObject project(final ImmutableJsonObject jsonObject) {
+        if (null == root) {
+            return null;
+        }
+        final List<Projection> projections = projectChildren(root, jsonObject);
+        if (null == projections) {
+            return null;
+        }
+
+        final Map<String, JsonField> rootFields = new LinkedHashMap<>();
+        for (final Projection projection : projections) {
+            final JsonField originalField = projection.originalField;
+            if (null == projection.children) {
+                rootFields.put(originalField.getKeyName(), originalField);
+            } else {
+                final JsonObject value = toJsonObject(projection.children, projection.firstPointerIndex);
+                rootFields.put(originalField.getKeyName(), JsonFactory.newField(originalField.getKey(), value,
+                        originalField.getDefinition().orElse(null)));
+            }
+        }
+        return ImmutableJsonObject.of(rootFields);
+    }
+
+    @Nullable
+    private static List<Projection> projectChildren(final Node node, final JsonObject jsonObject) {
+        final ImmutableJsonObject immutableJsonObject = toImmutableJsonObject(jsonObject);
+        final List<Projection> result = new ArrayList<>(node.children.size());
+        for (final Map.Entry<String, Node> childEntry : node.children.entrySet()) {
+            final JsonField field = getField(jsonObject, immutableJsonObject, childEntry.getKey());
+            final Node child = childEntry.getValue();
+            if (null == field) {
+                continue;
+            }
+            if (child.isLeaf()) {
+                result.add(new Projection(field, child.pointerIndex, null));
+            } else {
+                final JsonValue value = field.getValue();
+                if (!value.isObject() || value.isNull()) {
+                    return null;
+                }
+                final List<Projection> grandchildren = projectChildren(child, value.asObject()); // Recursion
+                if (null == grandchildren) {
+                    return null;
+                }
+                if (!grandchildren.isEmpty()) {
+                    result.add(new Projection(field, grandchildren.get(0).firstPointerIndex, grandchildren));
+                }
+            }
+        }
+        result.sort(FIRST_MATCHING_POINTER_ORDER);
+        return result;
+    }
+
+    @Nullable
+    private static ImmutableJsonObject toImmutableJsonObject(final JsonObject jsonObject) {
+        if (jsonObject instanceof ImmutableJsonObject) {
+            return (ImmutableJsonObject) jsonObject;
+        } else if (jsonObject instanceof LazyJsonObject) {
+            return ((LazyJsonObject) jsonObject).materialize();
+        }
+        return null;
+    }
+
+    @Nullable
+    private static JsonField getField(final JsonObject jsonObject,
+            @Nullable final ImmutableJsonObject immutableJsonObject, final String key) {
+
+        if (null != immutableJsonObject) {
+            return immutableJsonObject.getFieldForKey(key);
+        }
+        return jsonObject.getField(JsonFactory.newKey(key)).orElse(null);
+    }
+
+    private static JsonObject toJsonObject(final List<Projection> projections, final int firstPathPointerIndex) {
+        final Map<String, JsonField> fields = new LinkedHashMap<>();
+        for (final Projection projection : projections) {
+            final JsonField originalField = projection.originalField;
+            final boolean keepDefinition = projection.firstPointerIndex == firstPathPointerIndex;
+            final JsonField field;
+            if (null == projection.children) {
+                field = keepDefinition || !originalField.getDefinition().isPresent()
+                        ? originalField
+                        : JsonFactory.newField(originalField.getKey(), originalField.getValue());
+            } else {
+                final JsonObject value = toJsonObject(projection.children, firstPathPointerIndex); // Recursion
+                field = JsonFactory.newField(originalField.getKey(), value,
+                        keepDefinition ? originalField.getDefinition().orElse(null) : null);
+            }
+            fields.put(field.getKeyName(), field);
+        }
+        return ImmutableJsonObject.of(fields);
+    }
+
+    /**
+     * A node of the prefix tree. The children are kept in the order of the first pointer which contains them.
+     */
+    private static final class Node {
+
+        private final int pointerIndex;
+        private final Map<String, Node> children;
+
+        private Node(final int pointerIndex) {
+            this.pointerIndex = pointerIndex;
+            children = NO_POINTER == pointerIndex ? new LinkedHashMap<>() : Collections.emptyMap();
+        }
+
+        private boolean isLeaf() {
+            return NO_POINTER != pointerIndex;
+        }
+
+    }
+
+    /**
+     * A field of the projected object together with the index of the first pointer which matched it.
+     */
+    private static final class Projection {
+
+        private final JsonField originalField;
+        private final int firstPointerIndex;
+        @Nullable private final List<Projection> children;
+
+        private Projection(final JsonField originalField, final int firstPointerIndex,
+                @Nullable final List<Projection> children) {
+
+            this.originalField = originalField;
+            this.firstPointerIndex = firstPointerIndex;
+            this.children = children;
+        }
+
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * An unmodifiable list of JSON numbers which is backed by a {@code double} array. Each number is only boxed as JSON
+ * value when it is accessed. The list is meant to hold only finite numbers whose lexeme is the string representation
+ * which Minimal JSON creates for a {@code double}; thus the boxed JSON values equal the JSON values which were parsed
+ * originally.
+ */
+@Immutable
+final class DoubleJsonValueList extends AbstractList<JsonValue> implements RandomAccess {
+
+    private final double[] values;
+
+    private DoubleJsonValueList(final double[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Returns a new list of the given numbers. The array is not copied.
+     *
+     * @param values the finite numbers; the array must not be modified afterwards.
+     * @return the list.
+     */
+    static DoubleJsonValueList of(final double[] values) {
+        return new DoubleJsonValueList(values);
+    }
+
+    /**
+     * Returns the number at the given index without boxing it.
+     *
+     * @param index the index of the number.
+     * @return the number.
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    double getDouble(final int index) {
+        return values[index];
+    }
+
+    @Override
+    public JsonValue get(final int index) {
+        return ImmutableJsonNumber.of(values[index]);
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    /*
+     * Two of the numbers are equal if they have the same lexeme. As the string representation of a double is unique,
+     * this is the case if their bits are equal.
+     */
+    @Override
+    public int indexOf(final Object o) {
+        if (o instanceof ImmutableJsonNumber) {
+            final JsonValue jsonNumber = (JsonValue) o;
+            final double value = jsonNumber.asDouble();
+            if (!Double.isInfinite(value) && !Double.isNaN(value)
+                    && jsonNumber.toString().equals(ImmutableJsonNumber.toCanonicalString(value))) {
+                final long bits = Double.doubleToLongBits(value);
+                for (int i = 0; i < values.length; i++) {
+                    if (bits == Double.doubleToLongBits(values[i])) {
+                        return i;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return 0 <= indexOf(o);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o instanceof DoubleJsonValueList) {
+            // compares the bits of the numbers
+            return Arrays.equals(values, ((DoubleJsonValueList) o).values);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+}
@@ -37,11 +37,13 @@ import javax.annotation.concurrent.Immutable;
 final class ImmutableJsonArray extends AbstractImmutableJsonValue implements JsonArray {
 
     private final List<JsonValue> values;
+    private int hashCode;
 
     private ImmutableJsonArray(final List<JsonValue> theValues) {
         requireNonNull(theValues, "The JSON values must not be null!");
 
         values = Collections.unmodifiableList(new ArrayList<>(theValues));
+        hashCode = 0;
     }
 
     /**
@@ -198,6 +200,9 @@ final class ImmutableJsonArray extends AbstractImmutableJsonValue implements Jso
         if (this == o) {
             return true;
         }
+        if (o instanceof LazyJsonArray || o instanceof ImmutableJsonNumberArray) {
+            return o.equals(this);
+        }
         if (o == null || getClass() != o.getClass()) {
             return false;
         }
@@ -207,16 +212,22 @@ final class ImmutableJsonArray extends AbstractImmutableJsonValue implements Jso
 
     @Override
     public int hashCode() {
+        // lazily computed by using the Single-Check-Idiom like String does
+        int result = hashCode;
+        if (0 == result) {
+            result = calculateHashCode();
+            hashCode = result;
+        }
+        return result;
+    }
+
+    private int calculateHashCode() {
         return Objects.hash(values);
     }
 
     @Override
     protected String createStringRepresentation() {
-        final com.eclipsesource.json.JsonArray minimalJsonArray = new com.eclipsesource.json.JsonArray();
-        for (final JsonValue value : values) {
-            minimalJsonArray.add(JsonFactory.convert(value));
-        }
-        return minimalJsonArray.toString();
+        return JsonValueWriter.toJsonString(this);
     }
 
     private List<JsonValue> copyValues() {
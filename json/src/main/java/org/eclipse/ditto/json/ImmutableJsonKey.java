@@ -24,10 +24,17 @@ import javax.annotation.concurrent.Immutable;
 @Immutable
 final class ImmutableJsonKey implements JsonKey {
 
+    private static final int MAX_POOL_SIZE = 4096;
+    private static final int MAX_POOLED_KEY_LENGTH = 64;
+    private static final BoundedInternPool<JsonKey> INTERN_POOL =
+            BoundedInternPool.newInstance(MAX_POOL_SIZE, MAX_POOLED_KEY_LENGTH);
+
     private final String keyValue;
+    private final int hashCode;
 
     private ImmutableJsonKey(final String theKeyValue) {
         keyValue = theKeyValue;
+        hashCode = calculateHashCode();
     }
 
     /**
@@ -50,6 +57,19 @@ final class ImmutableJsonKey implements JsonKey {
         return new ImmutableJsonKey(keyValue.toString());
     }
 
+    /**
+     * Returns the canonical JSON key for the given string. Keys are pooled up to a limited number and length; thus
+     * frequently used keys are shared instead of being created again and again.
+     *
+     * @param keyValue the key's value.
+     * @return the JSON key.
+     * @throws NullPointerException if {@code keyValue} is {@code null}.
+     * @throws IllegalArgumentException if {@code keyValue} is empty.
+     */
+    static JsonKey interned(final String keyValue) {
+        return INTERN_POOL.intern(keyValue, ImmutableJsonKey::of);
+    }
+
     @Override
     public JsonPointer asPointer() {
         return JsonFactory.newPointer(this);
@@ -84,6 +104,10 @@ final class ImmutableJsonKey implements JsonKey {
 
     @Override
     public int hashCode() {
+        return hashCode;
+    }
+
+    private int calculateHashCode() {
         return Objects.hash(keyValue);
     }
 
@@ -11,20 +11,57 @@
  */
 package org.eclipse.ditto.json;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
 import javax.annotation.concurrent.Immutable;
 
 /**
  * An immutable JSON number. As JSON does not define fine grained number types like Java ({@code int}, {@code float},
- * {@code long} etc.) a JSON number is represented as a Java {@link Number} object.
+ * {@code long} etc.) a JSON number keeps its original lexeme. The lexeme determines the string representation and
+ * the equality of the number; thus numbers are never reformatted when they are passed through.
+ * <p>
+ * A parsed number keeps only its lexeme; the primitive value is decoded on the first access and then kept. A number
+ * whose lexeme is the canonical representation of a {@code long} keeps that {@code long}, all numbers keep their
+ * {@code double}. Therefore numbers which are only passed through are never decoded and repeated calls of
+ * {@link #asInt()}, {@link #asLong()} and {@link #asDouble()} neither parse nor box anything.
+ * </p>
  */
 @Immutable
-final class ImmutableJsonNumber extends AbstractMinimalJsonValueWrapper {
+final class ImmutableJsonNumber extends AbstractImmutableJsonValue {
 
-    private ImmutableJsonNumber(final com.eclipsesource.json.JsonValue toWrap) {
-        super(toWrap);
-        if (!toWrap.isNumber()) {
-            throw new IllegalArgumentException("Is not a number: " + toWrap.toString());
-        }
+    private static final int MAX_LONG_DIGITS = 19;
+
+    /*
+     * From this magnitude on Double.toString uses the computerized scientific notation.
+     */
+    private static final long MIN_SCIENTIFIC_DOUBLE = 10_000_000L;
+
+    private final String lexeme;
+
+    /*
+     * The decoded values are written before the volatile flag and read after it; a thread which sees the flag unset
+     * decodes the lexeme itself, which yields the same values.
+     */
+    private boolean isCanonicalLong;
+    private long longValue;
+    private double doubleValue;
+    private volatile boolean isDecoded;
+
+    private ImmutableJsonNumber(final String lexeme) {
+        this.lexeme = lexeme;
+        isDecoded = false;
+    }
+
+    private ImmutableJsonNumber(final String lexeme, final boolean isCanonicalLong, final long longValue,
+            final double doubleValue) {
+
+        this.lexeme = lexeme;
+        this.isCanonicalLong = isCanonicalLong;
+        this.longValue = longValue;
+        this.doubleValue = doubleValue;
+        isDecoded = true;
     }
 
     /**
@@ -36,7 +73,116 @@ final class ImmutableJsonNumber extends AbstractMinimalJsonValueWrapper {
      * @throws IllegalArgumentException if {@code minimalJsonValue} is not a number.
      */
     public static ImmutableJsonNumber of(final com.eclipsesource.json.JsonValue minimalJsonValue) {
-        return new ImmutableJsonNumber(minimalJsonValue);
+        requireNonNull(minimalJsonValue, "The JSON value to wrap must not be null!");
+        if (!minimalJsonValue.isNumber()) {
+            throw new IllegalArgumentException("Is not a number: " + minimalJsonValue.toString());
+        }
+        return ofLexeme(minimalJsonValue.toString());
+    }
+
+    /**
+     * Returns a new instance of {@code ImmutableJsonNumber} for the given {@code long}.
+     *
+     * @param value the value of the JSON number.
+     * @return a new JSON number.
+     */
+    static ImmutableJsonNumber of(final long value) {
+        return new ImmutableJsonNumber(Long.toString(value), true, value, value);
+    }
+
+    /**
+     * Returns a new instance of {@code ImmutableJsonNumber} for the given {@code double}. The lexeme of the number is
+     * the string representation which Minimal JSON creates for the {@code double}.
+     *
+     * @param value the value of the JSON number.
+     * @return a new JSON number.
+     * @throws IllegalArgumentException if {@code value} is infinite or not a number.
+     */
+    static ImmutableJsonNumber of(final double value) {
+        if (Double.isInfinite(value) || Double.isNaN(value)) {
+            throw new IllegalArgumentException("Infinite and NaN values not permitted in JSON");
+        }
+        final String lexeme = toCanonicalString(value);
+        if (isCanonicalLong(lexeme)) {
+            return new ImmutableJsonNumber(lexeme, true, (long) value, value);
+        }
+        return new ImmutableJsonNumber(lexeme, false, 0L, value);
+    }
+
+    /**
+     * Returns a new instance of {@code ImmutableJsonNumber} which keeps the given lexeme. The lexeme is decoded not
+     * before the value of the number is requested.
+     *
+     * @param lexeme a valid lexeme of a JSON number.
+     * @return a new JSON number.
+     */
+    static ImmutableJsonNumber ofLexeme(final String lexeme) {
+        return new ImmutableJsonNumber(lexeme);
+    }
+
+    /**
+     * Indicates whether the lexeme of this number is the canonical string representation of a {@code long}.
+     *
+     * @return {@code true} if the number can be restored from the {@code long} returned by {@link #asLong()}.
+     */
+    boolean hasCanonicalLongLexeme() {
+        decode();
+        return isCanonicalLong;
+    }
+
+    /**
+     * Indicates whether the value of this number was already decoded from its lexeme.
+     *
+     * @return {@code true} if the lexeme was decoded.
+     */
+    boolean isDecoded() {
+        return isDecoded;
+    }
+
+    private void decode() {
+        if (!isDecoded) {
+            if (isCanonicalLong(lexeme)) {
+                final long value = parseCanonicalLong(lexeme);
+                isCanonicalLong = true;
+                longValue = value;
+                doubleValue = value;
+            } else {
+                doubleValue = Double.parseDouble(lexeme);
+            }
+            isDecoded = true;
+        }
+    }
+
+    @Override
+    public boolean isNumber() {
+        return true;
+    }
+
+    /*
+     * Numbers which are no int are parsed like Minimal JSON did in order to throw the same NumberFormatException.
+     */
+    @Override
+    public int asInt() {
+        decode();
+        if (isCanonicalLong && (int) longValue == longValue) {
+            return (int) longValue;
+        }
+        return Integer.parseInt(lexeme);
+    }
+
+    @Override
+    public long asLong() {
+        decode();
+        if (isCanonicalLong) {
+            return longValue;
+        }
+        return Long.parseLong(lexeme);
+    }
+
+    @Override
+    public double asDouble() {
+        decode();
+        return doubleValue;
     }
 
     @Override
@@ -49,4 +195,109 @@ final class ImmutableJsonNumber extends AbstractMinimalJsonValueWrapper {
                 Number.class.isAssignableFrom(expectedType);
     }
 
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ImmutableJsonNumber that = (ImmutableJsonNumber) o;
+        // the decoded values are equal if the lexemes are; thus the lexemes need not be decoded for comparison
+        return Objects.equals(lexeme, that.lexeme);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lexeme);
+    }
+
+    /*
+     * The lexeme is the string representation; there is no need to cache it separately.
+     */
+    @Override
+    public String toString() {
+        return lexeme;
+    }
+
+    @Override
+    protected String createStringRepresentation() {
+        return lexeme;
+    }
+
+    /**
+     * Indicates whether the given lexeme is exactly what {@link Long#toString(long)} returns for the number it
+     * represents, i. e. whether the lexeme can be restored from a {@code long}.
+     *
+     * @param lexeme the lexeme of a JSON number.
+     * @return {@code true} if {@code lexeme} is the canonical string representation of a {@code long}.
+     */
+    static boolean isCanonicalLong(final CharSequence lexeme) {
+        final int length = lexeme.length();
+        final int digitsStart = length > 0 && '-' == lexeme.charAt(0) ? 1 : 0;
+        final int digitsCount = length - digitsStart;
+        if (0 == digitsCount || MAX_LONG_DIGITS < digitsCount) {
+            return false;
+        }
+        if ('0' == lexeme.charAt(digitsStart) && (1 < digitsCount || 1 == digitsStart)) {
+            return false; // leading zero or negative zero
+        }
+        for (int i = digitsStart; i < length; i++) {
+            final char c = lexeme.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        if (MAX_LONG_DIGITS > digitsCount) {
+            return true;
+        }
+        // the lexeme has as many digits as Long.MIN_VALUE/MAX_VALUE
+        final String limit = 1 == digitsStart ? Long.toString(Long.MIN_VALUE) : Long.toString(Long.MAX_VALUE);
+        return lexeme.toString().compareTo(limit) <= 0;
+    }
+
+    /**
+     * Parses the given lexeme which has to be the canonical string representation of a {@code long}.
+     *
+     * @param lexeme the lexeme to be parsed.
+     * @return the number.
+     * @see #isCanonicalLong(CharSequence)
+     */
+    static long parseCanonicalLong(final CharSequence lexeme) {
+        final boolean isNegative = '-' == lexeme.charAt(0);
+        long result = 0L;
+        for (int i = isNegative ? 1 : 0; i < lexeme.length(); i++) {
+            // accumulates negatively to be able to represent Long.MIN_VALUE
+            result = result * 10 - (lexeme.charAt(i) - '0');
+        }
+        return isNegative ? result : -result;
+    }
+
+    /**
+     * Indicates whether the canonical string representation of the given {@code long} equals the string
+     * representation which Minimal JSON creates for the {@code double} of the same value.
+     *
+     * @param value the number to be checked.
+     * @return {@code true} if the number has the same lexeme as {@code long} and as {@code double}.
+     */
+    static boolean hasSameLexemeAsDouble(final long value) {
+        return -MIN_SCIENTIFIC_DOUBLE < value && MIN_SCIENTIFIC_DOUBLE > value;
+    }
+
+    /**
+     * Returns the string representation of the given double number as created by Minimal JSON, i. e. the lexeme of a
+     * JSON number which is created for the double number.
+     *
+     * @param doubleValue the finite double number.
+     * @return the string representation.
+     */
+    static String toCanonicalString(final double doubleValue) {
+        final String doubleString = Double.toString(doubleValue);
+        if (doubleString.endsWith(".0")) {
+            return doubleString.substring(0, doubleString.length() - 2);
+        }
+        return doubleString;
+    }
+
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A JSON array of numbers which are kept unboxed in a {@code long} or a {@code double} array. It is created by the
+ * parsers of this package for each non-empty array whose elements are all numbers that can be restored exactly from
+ * their primitive value. Such arrays, like sample buffers or histograms in Feature properties, thus need only a
+ * fraction of the memory of an {@link ImmutableJsonArray}.
+ * <p>
+ * This array behaves exactly like an {@code ImmutableJsonArray} with the same elements and is equal to it. Its
+ * numbers are only boxed when they are accessed; the writers of this package write them without boxing. Each call
+ * to a method which would alter the state of this array returns a new {@code ImmutableJsonArray}.
+ * </p>
+ */
+@Immutable
+final class ImmutableJsonNumberArray extends AbstractImmutableJsonValue implements JsonArray {
+
+    private final List<JsonValue> values;
+    private int hashCode;
+
+    private ImmutableJsonNumberArray(final List<JsonValue> values) {
+        this.values = values;
+        hashCode = 0;
+    }
+
+    /**
+     * Returns a new JSON array of the numbers of the given list.
+     *
+     * @param values the numbers of the array to be created.
+     * @return the JSON array.
+     * @throws NullPointerException if {@code values} is {@code null}.
+     */
+    static ImmutableJsonNumberArray of(final LongJsonValueList values) {
+        return new ImmutableJsonNumberArray(requireNonNull(values, "The JSON values must not be null!"));
+    }
+
+    /**
+     * Returns a new JSON array of the numbers of the given list.
+     *
+     * @param values the numbers of the array to be created.
+     * @return the JSON array.
+     * @throws NullPointerException if {@code values} is {@code null}.
+     */
+    static ImmutableJsonNumberArray of(final DoubleJsonValueList values) {
+        return new ImmutableJsonNumberArray(requireNonNull(values, "The JSON values must not be null!"));
+    }
+
+    /**
+     * Returns the unboxed numbers of this array, i. e. either a {@link LongJsonValueList} or a
+     * {@link DoubleJsonValueList}.
+     *
+     * @return the numbers.
+     */
+    List<JsonValue> getValues() {
+        return values;
+    }
+
+    private ImmutableJsonArray toImmutableJsonArray() {
+        return ImmutableJsonArray.of(values);
+    }
+
+    @Override
+    public boolean isArray() {
+        return true;
+    }
+
+    @Override
+    public JsonArray asArray() {
+        return this;
+    }
+
+    @Override
+    public JsonArray add(final int value, final int... furtherValues) {
+        return toImmutableJsonArray().add(value, furtherValues);
+    }
+
+    @Override
+    public JsonArray add(final long value, final long... furtherValues) {
+        return toImmutableJsonArray().add(value, furtherValues);
+    }
+
+    @Override
+    public JsonArray add(final double value, final double... furtherValues) {
+        return toImmutableJsonArray().add(value, furtherValues);
+    }
+
+    @Override
+    public JsonArray add(final boolean value, final boolean... furtherValues) {
+        return toImmutableJsonArray().add(value, furtherValues);
+    }
+
+    @Override
+    public JsonArray add(final String value, final String... furtherValues) {
+        return toImmutableJsonArray().add(value, furtherValues);
+    }
+
+    @Override
+    public JsonArray add(final JsonValue value, final JsonValue... furtherValues) {
+        return toImmutableJsonArray().add(value, furtherValues);
+    }
+
+    @Override
+    public Optional<JsonValue> get(final int index) {
+        if (0 <= index && index < values.size()) {
+            return Optional.of(values.get(index));
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    @Override
+    public int getSize() {
+        return values.size();
+    }
+
+    @Override
+    public boolean contains(final JsonValue value) {
+        requireNonNull(value, "The value whose presence in this array is to be tested must not be null!");
+
+        return values.contains(value);
+    }
+
+    @Override
+    public int indexOf(final JsonValue value) {
+        requireNonNull(value, "The value to search the index for must not be null!");
+
+        return values.indexOf(value);
+    }
+
+    @Override
+    public Stream<JsonValue> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    @Override
+    public Iterator<JsonValue> iterator() {
+        // like ImmutableJsonArray the iterator is based on a copy of the values
+        return new ArrayList<>(values).iterator();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof ImmutableJsonNumberArray) {
+            return values.equals(((ImmutableJsonNumberArray) o).values);
+        }
+        if (o instanceof ImmutableJsonArray || o instanceof LazyJsonArray) {
+            return toImmutableJsonArray().equals(o);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        // lazily computed by using the Single-Check-Idiom like String does; equals the hash code of ImmutableJsonArray
+        int result = hashCode;
+        if (0 == result) {
+            result = 31 + values.hashCode();
+            hashCode = result;
+        }
+        return result;
+    }
+
+    @Override
+    protected String createStringRepresentation() {
+        return JsonValueWriter.toJsonString(this);
+    }
+
+}
@@ -26,6 +26,7 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 /**
@@ -33,18 +34,22 @@ import javax.annotation.concurrent.Immutable;
  * returns a new JSON object with the altered state instead while the old JSON object remains unchanged. Care has to be
  * taken to assign the result of an altering method like {@code add} to a variable to have a handle to the new resp.
  * altered JSON object.
+ * <p>
+ * The fields are held in a {@link PersistentJsonFieldMap}, i. e. the new JSON object shares all untouched fields with
+ * the old one. Thus setting or removing a value at a pointer costs logarithmic time per level of the pointer.
+ * </p>
  */
 @Immutable
 final class ImmutableJsonObject extends AbstractImmutableJsonValue implements JsonObject {
 
     private static final JsonKey ROOT_KEY = JsonFactory.newKey("/");
 
-    private final Map<String, JsonField> fields;
+    private static final ImmutableJsonObject EMPTY = new ImmutableJsonObject(PersistentJsonFieldMap.empty());
 
-    private ImmutableJsonObject(final Map<String, JsonField> theFields) {
-        requireNonNull(theFields, "The fields of JSON object must not be null!");
+    private final PersistentJsonFieldMap fields;
 
-        fields = Collections.unmodifiableMap(new LinkedHashMap<>(theFields));
+    private ImmutableJsonObject(final PersistentJsonFieldMap theFields) {
+        fields = theFields;
     }
 
     /**
@@ -53,7 +58,7 @@ final class ImmutableJsonObject extends AbstractImmutableJsonValue implements Js
      * @return a new empty JSON object.
      */
     public static ImmutableJsonObject empty() {
-        return new ImmutableJsonObject(Collections.emptyMap());
+        return EMPTY;
     }
 
     /**
@@ -64,7 +69,7 @@ final class ImmutableJsonObject extends AbstractImmutableJsonValue implements Js
      * @throws NullPointerException if {@code fields} is {@code null}.
      */
     public static ImmutableJsonObject of(final Map<String, JsonField> fields) {
-        return new ImmutableJsonObject(fields);
+        return new ImmutableJsonObject(PersistentJsonFieldMap.of(fields));
     }
 
     private static void checkPointer(final JsonPointer pointer) {
@@ -143,27 +148,36 @@ final class ImmutableJsonObject extends AbstractImmutableJsonValue implements Js
                 .orElseGet(ImmutableJsonObject::empty);
 
         // let the recursion begin ]:-)
-        return target.setValue(rootKey, setFieldInHierarchy(newTarget, pointer.nextLevel(), jsonField));
+        final JsonObject newValue = setFieldInHierarchy(newTarget, pointer.nextLevel(), jsonField);
+        if (newValue == newTarget) {
+            // the field was already contained, as setting a field on an empty object always yields a new object
+            return target;
+        }
+        return setChangedValue(target, rootKey, newValue);
+    }
+
+    /*
+     * Sets a value which is known to differ from the current value of the key. Unlike JsonObject.setValue the old and
+     * the new value are not compared, as this would cost linear time for nested objects which differ in only one
+     * field.
+     */
+    private static JsonObject setChangedValue(final JsonObject target, final JsonKey key, final JsonValue newValue) {
+        if (target instanceof ImmutableJsonObject) {
+            final PersistentJsonFieldMap targetFields = ((ImmutableJsonObject) target).fields;
+            final JsonField existingField = targetFields.get(key.toString());
+            final JsonFieldDefinition definition =
+                    null != existingField ? existingField.getDefinition().orElse(null) : null;
+            return new ImmutableJsonObject(targetFields.withReplaced(JsonFactory.newField(key, newValue, definition)));
+        }
+        return target.setValue(key, newValue);
     }
 
     @Override
     public ImmutableJsonObject set(final JsonField field) {
         requireNonNull(field, "The JSON field to be set must not be null!");
 
-        ImmutableJsonObject result = this;
-
-        final JsonField existingField = fields.get(field.getKeyName());
-        if (!field.equals(existingField)) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            fieldsCopy.put(field.getKeyName(), field);
-            result = new ImmutableJsonObject(fieldsCopy);
-        }
-
-        return result;
-    }
-
-    private Map<String, JsonField> copyFields() {
-        return new LinkedHashMap<>(fields);
+        final PersistentJsonFieldMap newFields = fields.with(field);
+        return newFields != fields ? new ImmutableJsonObject(newFields) : this;
     }
 
     @Override
@@ -175,9 +189,11 @@ final class ImmutableJsonObject extends AbstractImmutableJsonValue implements Js
         if (isEmpty(fields)) {
             result = this;
         } else {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            fields.forEach(jsonField -> fieldsCopy.put(jsonField.getKeyName(), jsonField));
-            result = new ImmutableJsonObject(fieldsCopy);
+            PersistentJsonFieldMap newFields = this.fields;
+            for (final JsonField jsonField : fields) {
+                newFields = newFields.with(jsonField);
+            }
+            result = newFields != this.fields ? new ImmutableJsonObject(newFields) : this;
         }
 
         return result;
@@ -211,6 +227,26 @@ final class ImmutableJsonObject extends AbstractImmutableJsonValue implements Js
         return fields.containsKey(key.toString());
     }
 
+    /**
+     * Returns the field of this object with the given key without interpreting the key as pointer.
+     *
+     * @param key the key of the field.
+     * @return the field or {@code null} if this object does not contain a field with {@code key}.
+     */
+    @Nullable
+    JsonField getFieldForKey(final String key) {
+        return fields.get(key);
+    }
+
+    /**
+     * Returns the persistent map which holds the fields of this object.
+     *
+     * @return the fields.
+     */
+    PersistentJsonFieldMap getFieldMap() {
+        return fields;
+    }
+
     private Optional<JsonValue> getValueForKey(final CharSequence key) {
         final JsonField jsonField = fields.get(key.toString());
         return null != jsonField ? Optional.of(jsonField.getValue()) : Optional.empty();
@@ -319,6 +355,11 @@ final class ImmutableJsonObject extends AbstractImmutableJsonValue implements Js
             return this;
         }
 
+        final JsonObject projection = CompiledJsonFieldSelector.of(fieldSelector).project(this);
+        if (null != projection) {
+            return projection;
+        }
+
         final Map<JsonKey, JsonValue> jsonValues = new LinkedHashMap<>();
         for (final JsonPointer jsonPointer : fieldSelector) {
             if (contains(jsonPointer)) {
@@ -371,7 +412,6 @@ final class ImmutableJsonObject extends AbstractImmutableJsonValue implements Js
         final JsonObject result;
 
         final JsonKey rootKey = pointer.getRoot().orElse(ROOT_KEY);
-        final Optional<JsonFieldDefinition> rootKeyDefinition = getDefinitionForKey(rootKey);
         if (pointer.isEmpty()) {
             result = this;
         } else if (1 == pointer.getLevelCount()) {
@@ -387,9 +427,10 @@ final class ImmutableJsonObject extends AbstractImmutableJsonValue implements Js
                     .filter(JsonValue::isObject)
                     .map(JsonValue::asObject)
                     .filter(containsNextLevelRootKey)
-                    .map(jsonObject -> jsonObject.remove(nextPointerLevel)) // Recursion
-                    .map(withoutValue -> JsonFactory.newField(rootKey, withoutValue, rootKeyDefinition.orElse(null)))
-                    .map(this::set)
+                    .map(jsonObject -> {
+                        final JsonObject withoutValue = jsonObject.remove(nextPointerLevel); // Recursion
+                        return withoutValue != jsonObject ? setChangedValue(this, rootKey, withoutValue) : this;
+                    })
                     .orElse(this);
         }
 
@@ -397,15 +438,8 @@ final class ImmutableJsonObject extends AbstractImmutableJsonValue implements Js
     }
 
     private JsonObject removeValueForKey(final CharSequence key) {
-        JsonObject result = this;
-
-        if (containsKey(key)) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            fieldsCopy.remove(key.toString());
-            result = new ImmutableJsonObject(fieldsCopy);
-        }
-
-        return result;
+        final PersistentJsonFieldMap newFields = fields.without(key.toString());
+        return newFields != fields ? new ImmutableJsonObject(newFields) : this;
     }
 
     @Override
@@ -450,9 +484,7 @@ final class ImmutableJsonObject extends AbstractImmutableJsonValue implements Js
 
     @Override
     protected String createStringRepresentation() {
-        final com.eclipsesource.json.JsonObject minJsonObject = new com.eclipsesource.json.JsonObject();
-        fields.values().forEach(field -> minJsonObject.add(field.getKeyName(), JsonFactory.convert(field.getValue())));
-        return minJsonObject.toString();
+        return JsonValueWriter.toJsonString(this);
     }
 
     /**
@@ -487,6 +519,9 @@ final class ImmutableJsonObject extends AbstractImmutableJsonValue implements Js
         if (this == o) {
             return true;
         }
+        if (o instanceof LazyJsonObject) {
+            return o.equals(this);
+        }
         if (o == null || getClass() != o.getClass()) {
             return false;
         }
@@ -22,9 +22,11 @@ import javax.annotation.concurrent.Immutable;
 final class ImmutableJsonParseOptions implements JsonParseOptions {
 
     private final boolean applyUrlDecoding;
+    private final boolean internKeys;
 
-    private ImmutableJsonParseOptions(final boolean applyUrlDecoding) {
+    private ImmutableJsonParseOptions(final boolean applyUrlDecoding, final boolean internKeys) {
         this.applyUrlDecoding = applyUrlDecoding;
+        this.internKeys = internKeys;
     }
 
     /**
@@ -34,7 +36,18 @@ final class ImmutableJsonParseOptions implements JsonParseOptions {
      * @return the new JsonParseOptions instance.
      */
     public static JsonParseOptions of(final boolean applyUrlDecoding) {
-        return new ImmutableJsonParseOptions(applyUrlDecoding);
+        return of(applyUrlDecoding, false);
+    }
+
+    /**
+     * Returns a new instance of {@code JsonParseOptions} with the specified options.
+     *
+     * @param applyUrlDecoding whether or not url decoding should be applied.
+     * @param internKeys whether or not the keys of parsed JSON objects should be interned.
+     * @return the new JsonParseOptions instance.
+     */
+    public static JsonParseOptions of(final boolean applyUrlDecoding, final boolean internKeys) {
+        return new ImmutableJsonParseOptions(applyUrlDecoding, internKeys);
     }
 
     @Override
@@ -42,6 +55,11 @@ final class ImmutableJsonParseOptions implements JsonParseOptions {
         return applyUrlDecoding;
     }
 
+    @Override
+    public boolean isInternKeys() {
+        return internKeys;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -51,17 +69,20 @@ final class ImmutableJsonParseOptions implements JsonParseOptions {
             return false;
         }
         final ImmutableJsonParseOptions that = (ImmutableJsonParseOptions) o;
-        return applyUrlDecoding == that.applyUrlDecoding;
+        return applyUrlDecoding == that.applyUrlDecoding && internKeys == that.internKeys;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(applyUrlDecoding);
+        return Objects.hash(applyUrlDecoding, internKeys);
     }
 
     @Override
     public String toString() {
-        return getClass().getSimpleName() + " [" + "applyUrlDecoding=" + applyUrlDecoding + "]";
+        return getClass().getSimpleName() + " [" +
+                "applyUrlDecoding=" + applyUrlDecoding +
+                ", internKeys=" + internKeys +
+                "]";
     }
 
 }
@@ -20,9 +20,11 @@ import javax.annotation.concurrent.NotThreadSafe;
 final class ImmutableJsonParseOptionsBuilder implements JsonParseOptionsBuilder {
 
     private boolean applyUrlDecoding;
+    private boolean internKeys;
 
     private ImmutableJsonParseOptionsBuilder() {
         applyUrlDecoding = false;
+        internKeys = false;
     }
 
     public static ImmutableJsonParseOptionsBuilder newInstance() {
@@ -41,8 +43,20 @@ final class ImmutableJsonParseOptionsBuilder implements JsonParseOptionsBuilder
         return this;
     }
 
+    @Override
+    public JsonParseOptionsBuilder withKeyInterning() {
+        internKeys = true;
+        return this;
+    }
+
+    @Override
+    public JsonParseOptionsBuilder withoutKeyInterning() {
+        internKeys = false;
+        return this;
+    }
+
     @Override
     public JsonParseOptions build() {
-        return ImmutableJsonParseOptions.of(applyUrlDecoding);
+        return ImmutableJsonParseOptions.of(applyUrlDecoding, internKeys);
     }
 }
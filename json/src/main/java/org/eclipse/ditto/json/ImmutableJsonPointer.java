@@ -12,7 +12,6 @@
 package org.eclipse.ditto.json;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -20,10 +19,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import javax.annotation.concurrent.Immutable;
 
@@ -33,13 +28,15 @@ import javax.annotation.concurrent.Immutable;
 @Immutable
 final class ImmutableJsonPointer implements JsonPointer {
 
-    private static final String SLASH = "/";
-    private static final String SLASH_REGEX = "/(?!/)"; // a SLASH which is not followed by another slash
-    private static final Pattern SINGLE_SLASH_REGEX_PATTERN = Pattern.compile(SLASH_REGEX);
-    private static final Pattern ESCAPED_SLASH_PATTERN = Pattern.compile("~1");
-    private static final Pattern DECODED_SLASH_PATTERN = Pattern.compile(SLASH);
-    private static final Pattern ESCAPED_TILDE_PATTERN = Pattern.compile("~0");
-    private static final Pattern DECODED_TILDE_PATTERN = Pattern.compile("~");
+    private static final char SLASH = '/';
+    private static final char TILDE = '~';
+    private static final char ESCAPED_SLASH = '1';
+    private static final char ESCAPED_TILDE = '0';
+
+    private static final int MAX_POOL_SIZE = 4096;
+    private static final int MAX_POOLED_POINTER_LENGTH = 256;
+    private static final BoundedInternPool<JsonPointer> INTERN_POOL =
+            BoundedInternPool.newInstance(MAX_POOL_SIZE, MAX_POOLED_POINTER_LENGTH);
 
     private static final ImmutableJsonPointer EMPTY = new ImmutableJsonPointer(Collections.emptyList());
 
@@ -60,7 +57,8 @@ final class ImmutableJsonPointer implements JsonPointer {
 
     /**
      * Parses the given character sequence to obtain a new JSON pointer instance. This method is the inverse of
-     * {@link ImmutableJsonPointer#toString()}.
+     * {@link ImmutableJsonPointer#toString()}. The parsed pointers of frequently used strings are pooled up to a
+     * limited number and length.
      *
      * @param slashDelimitedCharSequence a character sequence representing a JSON pointer. The leading slash may be
      * omitted.
@@ -80,28 +78,70 @@ final class ImmutableJsonPointer implements JsonPointer {
         } else if (0 == slashDelimitedCharSequence.length()) {
             result = empty();
         } else {
-            final List<JsonKey> jsonKeys = Stream.of(SINGLE_SLASH_REGEX_PATTERN.split(slashDelimitedCharSequence))
-                    .filter(keyName -> !keyName.isEmpty()) // ignore empty segments
-                    .filter(keyName -> !keyName.equals(SLASH)) // ignore "/" segments
-                    .map(ImmutableJsonPointer::decodeSlash)
-                    .map(ImmutableJsonPointer::decodeTilde)
-                    .map(JsonFactory::newKey)
-                    .collect(toList());
-
-            result = newInstance(jsonKeys);
+            result = INTERN_POOL.intern(slashDelimitedCharSequence.toString(), ImmutableJsonPointer::parse);
         }
 
         return result;
     }
 
-    private static String decodeSlash(final CharSequence keyString) {
-        final Matcher matcher = ESCAPED_SLASH_PATTERN.matcher(keyString);
-        return matcher.replaceAll(SLASH);
+    /*
+     * The string is split at each slash which is not followed by another slash. Empty segments as well as segments
+     * which consist of a single slash are ignored. Within a segment "~1" is decoded to "/" and "~0" to "~".
+     */
+    private static JsonPointer parse(final String slashDelimitedString) {
+        final List<JsonKey> jsonKeys = new ArrayList<>();
+        final int length = slashDelimitedString.length();
+        int segmentStart = 0;
+        for (int i = 0; i < length; i++) {
+            if (SLASH == slashDelimitedString.charAt(i) && isNotFollowedBySlash(slashDelimitedString, i)) {
+                addSegment(slashDelimitedString, segmentStart, i, jsonKeys);
+                segmentStart = i + 1;
+            }
+        }
+        addSegment(slashDelimitedString, segmentStart, length, jsonKeys);
+
+        return newInstance(jsonKeys);
+    }
+
+    private static boolean isNotFollowedBySlash(final String string, final int index) {
+        final int nextIndex = index + 1;
+        return nextIndex == string.length() || SLASH != string.charAt(nextIndex);
     }
 
-    private static String decodeTilde(final CharSequence keyString) {
-        final Matcher matcher = ESCAPED_TILDE_PATTERN.matcher(keyString);
-        return matcher.replaceAll(DECODED_TILDE_PATTERN.toString());
+    private static void addSegment(final String string, final int start, final int end,
+            final List<JsonKey> jsonKeys) {
+
+        final int segmentLength = end - start;
+        if (0 == segmentLength || (1 == segmentLength && SLASH == string.charAt(start))) {
+            return;
+        }
+        jsonKeys.add(ImmutableJsonKey.interned(decode(string, start, end)));
+    }
+
+    private static String decode(final String string, final int start, final int end) {
+        final int firstTildeIndex = string.indexOf(TILDE, start);
+        if (0 > firstTildeIndex || end <= firstTildeIndex) {
+            return string.substring(start, end);
+        }
+
+        final StringBuilder stringBuilder = new StringBuilder(end - start);
+        stringBuilder.append(string, start, firstTildeIndex);
+        int i = firstTildeIndex;
+        while (i < end) {
+            final char c = string.charAt(i);
+            final int nextIndex = i + 1;
+            if (TILDE == c && nextIndex < end && ESCAPED_SLASH == string.charAt(nextIndex)) {
+                stringBuilder.append(SLASH);
+                i += 2;
+            } else if (TILDE == c && nextIndex < end && ESCAPED_TILDE == string.charAt(nextIndex)) {
+                stringBuilder.append(TILDE);
+                i += 2;
+            } else {
+                stringBuilder.append(c);
+                i++;
+            }
+        }
+        return stringBuilder.toString();
     }
 
     private static ImmutableJsonPointer newInstance(final List<JsonKey> jsonKeyHierarchy) {
@@ -216,11 +256,10 @@ final class ImmutableJsonPointer implements JsonPointer {
 
     @Override
     public Optional<JsonKey> get(final int level) {
-        try {
-            return Optional.of(jsonKeyHierarchy.get(level));
-        } catch (final IndexOutOfBoundsException e) {
+        if (0 > level || jsonKeyHierarchy.size() <= level) {
             return Optional.empty();
         }
+        return Optional.of(jsonKeyHierarchy.get(level));
     }
 
     @Override
@@ -233,28 +272,21 @@ final class ImmutableJsonPointer implements JsonPointer {
         return get(getLevelCount() - 1);
     }
 
-    @SuppressWarnings("squid:S1166")
     @Override
     public Optional<JsonPointer> getSubPointer(final int level) {
-        final List<JsonKey> jsonKeysCopy = new ArrayList<>(jsonKeyHierarchy);
-        try {
-            final List<JsonKey> subList = jsonKeysCopy.subList(level, jsonKeysCopy.size());
-            return Optional.of(newInstance(subList));
-        } catch (final IllegalArgumentException | IndexOutOfBoundsException e) {
+        final int levelCount = getLevelCount();
+        if (0 > level || levelCount < level) {
             return Optional.empty();
         }
+        return Optional.of(newInstance(jsonKeyHierarchy.subList(level, levelCount)));
     }
 
     @Override
     public Optional<JsonPointer> getPrefixPointer(final int level) {
-        final List<JsonKey> jsonKeysCopy = new ArrayList<>(jsonKeyHierarchy);
-
-        try {
-            final List<JsonKey> subList = jsonKeysCopy.subList(0, level);
-            return Optional.of(newInstance(subList));
-        } catch (final IllegalArgumentException | IndexOutOfBoundsException e) {
+        if (0 > level || getLevelCount() < level) {
             return Optional.empty();
         }
+        return Optional.of(newInstance(jsonKeyHierarchy.subList(0, level)));
     }
 
     @Override
@@ -327,27 +359,29 @@ final class ImmutableJsonPointer implements JsonPointer {
      */
     @Override
     public String toString() {
-        final String stringRepresentation;
         if (jsonKeyHierarchy.isEmpty()) {
-            stringRepresentation = SLASH;
-        } else {
-            stringRepresentation = SLASH + jsonKeyHierarchy.stream()
-                    .map(ImmutableJsonPointer::escapeTilde)
-                    .map(ImmutableJsonPointer::escapeSlash)
-                    .collect(Collectors.joining(SLASH));
+            return String.valueOf(SLASH);
         }
-        return stringRepresentation;
-    }
-
-    private static String escapeTilde(final JsonKey jsonKey) {
-        final String keyString = jsonKey.toString();
-        final Matcher matcher = DECODED_TILDE_PATTERN.matcher(keyString);
-        return matcher.replaceAll(ESCAPED_TILDE_PATTERN.toString());
+        final StringBuilder stringBuilder = new StringBuilder();
+        for (final JsonKey jsonKey : jsonKeyHierarchy) {
+            stringBuilder.append(SLASH);
+            appendEscaped(jsonKey.toString(), stringBuilder);
+        }
+        return stringBuilder.toString();
     }
 
-    private static String escapeSlash(final CharSequence jsonKeyString) {
-        final Matcher matcher = DECODED_SLASH_PATTERN.matcher(jsonKeyString);
-        return matcher.replaceAll(ESCAPED_SLASH_PATTERN.toString());
+    private static void appendEscaped(final String keyString, final StringBuilder stringBuilder) {
+        final int length = keyString.length();
+        for (int i = 0; i < length; i++) {
+            final char c = keyString.charAt(i);
+            if (TILDE == c) {
+                stringBuilder.append(TILDE).append(ESCAPED_TILDE);
+            } else if (SLASH == c) {
+                stringBuilder.append(TILDE).append(ESCAPED_SLASH);
+            } else {
+                stringBuilder.append(c);
+            }
+        }
     }
 
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Computes the {@link JsonPatch}es which transform a source JSON object into a target JSON object.
+ * <p>
+ * The objects are compared member by member. Nested objects are compared recursively; all other values, including
+ * arrays, are compared as a whole as a {@link JsonPointer} cannot address array elements. The resulting patches are
+ * minimal in the following sense:
+ * </p>
+ * <ul>
+ *     <li>members which are identical or equal in both objects are not mentioned at all,</li>
+ *     <li>a member of the source which is missing in the target is removed,</li>
+ *     <li>a member of the target which is missing in the source is added,</li>
+ *     <li>a member whose value changed is replaced; if both values are objects only the changed parts are patched
+ *     unless the objects have no member in common, then the object is replaced as a whole by one patch.</li>
+ * </ul>
+ * <p>
+ * The removals and replacements are in the order of the source, the additions follow in the order of the target.
+ * Applying the patches to the source yields an object which equals the target in terms of values; neither the order
+ * of the members nor the field definitions are reflected by the patches.
+ * </p>
+ */
+@Immutable
+final class JsonDiff {
+
+    private JsonDiff() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns the patches which transform {@code source} into {@code target}.
+     *
+     * @param source the JSON object to be transformed.
+     * @param target the JSON object to transform {@code source} into.
+     * @return the patches; the list is empty if both objects are equal.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    static List<JsonPatch> diff(final JsonObject source, final JsonObject target) {
+        requireNonNull(source, "The source JSON object must not be null!");
+        requireNonNull(target, "The target JSON object must not be null!");
+
+        final List<JsonPatch> result = new ArrayList<>();
+        if (source != target) {
+            diffMembers(source, target, JsonFactory.emptyPointer(), result);
+        }
+        return result;
+    }
+
+    /*
+     * Appends the patches for the members of the objects at the given pointer and returns the number of members of
+     * the source which are not replaced or removed as a whole.
+     */
+    private static int diffMembers(final JsonObject source, final JsonObject target, final JsonPointer pointer,
+            final List<JsonPatch> patches) {
+
+        int keptMembersCount = 0;
+        for (final JsonField sourceField : source) {
+            final JsonKey key = sourceField.getKey();
+            final JsonValue sourceValue = sourceField.getValue();
+            final JsonValue targetValue = getValue(target, key);
+            final JsonPointer memberPointer = pointer.addLeaf(key);
+            if (null == targetValue) {
+                patches.add(JsonFactory.newPatch(JsonPatch.Operation.REMOVE, memberPointer, null));
+            } else if (sourceValue == targetValue) {
+                keptMembersCount++;
+            } else if (isObject(sourceValue) && isObject(targetValue)) {
+                if (diffObjects(sourceValue.asObject(), targetValue.asObject(), memberPointer, patches)) {
+                    keptMembersCount++;
+                }
+            } else if (sourceValue.equals(targetValue)) {
+                keptMembersCount++;
+            } else {
+                patches.add(JsonFactory.newPatch(JsonPatch.Operation.REPLACE, memberPointer, targetValue));
+            }
+        }
+        for (final JsonField targetField : target) {
+            final JsonKey key = targetField.getKey();
+            if (null == getValue(source, key)) {
+                patches.add(JsonFactory.newPatch(JsonPatch.Operation.ADD, pointer.addLeaf(key),
+                        targetField.getValue()));
+            }
+        }
+        return keptMembersCount;
+    }
+
+    /*
+     * Appends the patches for the nested objects at the given pointer and returns whether the source object is kept
+     * at least partially.
+     */
+    private static boolean diffObjects(final JsonObject source, final JsonObject target, final JsonPointer pointer,
+            final List<JsonPatch> patches) {
+
+        final int patchesCountBefore = patches.size();
+        final int keptMembersCount = diffMembers(source, target, pointer, patches); // Recursion
+        final int memberPatchesCount = patches.size() - patchesCountBefore;
+        if (0 == keptMembersCount && 1 < memberPatchesCount) {
+            patches.subList(patchesCountBefore, patches.size()).clear();
+            patches.add(JsonFactory.newPatch(JsonPatch.Operation.REPLACE, pointer, target));
+            return false;
+        }
+        return true;
+    }
+
+    @Nullable
+    private static JsonValue getValue(final JsonObject jsonObject, final JsonKey key) {
+        final JsonField field;
+        if (jsonObject instanceof ImmutableJsonObject) {
+            field = ((ImmutableJsonObject) jsonObject).getFieldForKey(key.toString());
+        } else if (jsonObject instanceof LazyJsonObject) {
+            field = ((LazyJsonObject) jsonObject).materialize().getFieldForKey(key.toString());
+        } else {
+            return jsonObject.getValue(key.asPointer()).orElse(null);
+        }
+        return null != field ? field.getValue() : null;
+    }
+
+    private static boolean isObject(final JsonValue jsonValue) {
+        return jsonValue.isObject() && !jsonValue.isNull();
+    }
+
+}
@@ -15,6 +15,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -31,7 +34,6 @@ import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import com.eclipsesource.json.Json;
-import com.eclipsesource.json.ParseException;
 
 /**
  * The main entry point for the Eclipse Ditto JSON API. It provides a lot of convenience methods. Apart from
@@ -93,7 +95,7 @@ public final class JsonFactory {
      * @return a JSON number that represents the given value.
      */
     public static JsonValue newValue(final int value) {
-        return ImmutableJsonNumber.of(Json.value(value));
+        return ImmutableJsonNumber.of(value);
     }
 
     /**
@@ -103,7 +105,7 @@ public final class JsonFactory {
      * @return a JSON number that represents the given value.
      */
     public static JsonValue newValue(final long value) {
-        return ImmutableJsonNumber.of(Json.value(value));
+        return ImmutableJsonNumber.of(value);
     }
 
     /**
@@ -113,7 +115,7 @@ public final class JsonFactory {
      * @return a JSON number that represents the given value.
      */
     public static JsonValue newValue(final double value) {
-        return ImmutableJsonNumber.of(Json.value(value));
+        return ImmutableJsonNumber.of(value);
     }
 
     /**
@@ -153,15 +155,38 @@ public final class JsonFactory {
             throw new JsonParseException("The JSON to read from must not be empty!");
         }
 
-        final com.eclipsesource.json.JsonValue minimalJsonValue = tryToRead(json);
-        return convert(minimalJsonValue);
+        try {
+            return JsonValueParser.parse(json);
+        } catch (final JsonValueParser.SyntaxException | StackOverflowError e) {
+            throw JsonParseException.newBuilder()
+                    .message(MessageFormat.format("Failed to parse ''{0}''!", json))
+                    .cause(e)
+                    .build();
+        }
     }
 
-    private static com.eclipsesource.json.JsonValue tryToRead(final String json) {
-        try {
-            return Json.parse(json);
+    /**
+     * Reads the given string with the given options and creates a JSON value based on the read data. If the options
+     * demand key interning, the keys of the parsed JSON objects are taken from a bounded pool of canonical instances;
+     * this reduces the memory footprint of JSON values which are held for a long time.
+     *
+     * @param json the JSON document to read.
+     * @param options the options which determine how {@code json} is read.
+     * @return a JSON value representing the read document.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws JsonParseException if {@code json} is empty, if it cannot be URL decoded or if it is no valid JSON.
+     */
+    public static JsonValue readFrom(final String json, final JsonParseOptions options) {
+        requireNonNull(json, "The JSON to read from must not be null!");
+        requireNonNull(options, "The JSON parse options must not be null!");
+        if (json.isEmpty()) {
+            throw new JsonParseException("The JSON to read from must not be empty!");
         }
-        catch (final ParseException | StackOverflowError e) {
+
+        try {
+            return JsonValueParser.parse(decode(json, options), options);
+        } catch (final JsonValueParser.SyntaxException | IllegalArgumentException | UnsupportedEncodingException
+                | StackOverflowError e) {
             throw JsonParseException.newBuilder()
                     .message(MessageFormat.format("Failed to parse ''{0}''!", json))
                     .cause(e)
@@ -169,6 +194,13 @@ public final class JsonFactory {
         }
     }
 
+    private static String decode(final String s, final JsonParseOptions options) throws UnsupportedEncodingException {
+        if (options.isApplyUrlDecoding()) {
+            return URLDecoder.decode(s, "UTF-8");
+        }
+        return s;
+    }
+
     /**
      * Reads the entire input stream from the specified reader and parses it as JSON value. The input stream is expected
      * to contain a valid JSON value with optional whitespace padding.
@@ -184,22 +216,114 @@ public final class JsonFactory {
      */
     public static JsonValue readFrom(final Reader reader) {
         requireNonNull(reader, "The reader must not be null!");
-        final com.eclipsesource.json.JsonValue minimalJsonValue = tryToRead(reader);
-        return convert(minimalJsonValue);
+        try {
+            return JsonValueParser.parse(reader);
+        } catch (final JsonValueParser.SyntaxException | IOException | StackOverflowError e) {
+            throw JsonParseException.newBuilder()
+                    .message("Failed to parse JSON from reader!")
+                    .cause(e)
+                    .build();
+        }
     }
 
-    private static com.eclipsesource.json.JsonValue tryToRead(final Reader reader) {
+    /**
+     * Parses the given UTF-8 encoded bytes as JSON value. The bytes are decoded while parsing, i. e. there is no need
+     * to create an intermediate string.
+     *
+     * @param utf8Bytes the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document.
+     * @throws NullPointerException if {@code utf8Bytes} is {@code null}.
+     * @throws JsonParseException if {@code utf8Bytes} is empty or if it is no valid UTF-8 encoded JSON.
+     */
+    public static JsonValue readFrom(final byte[] utf8Bytes) {
+        requireNonNull(utf8Bytes, "The bytes to read from must not be null!");
+        return readFrom(ByteBuffer.wrap(utf8Bytes));
+    }
+
+    /**
+     * Parses the remaining UTF-8 encoded bytes of the given buffer as JSON value. The position of the buffer remains
+     * unchanged.
+     *
+     * @param utf8Bytes the buffer containing the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document.
+     * @throws NullPointerException if {@code utf8Bytes} is {@code null}.
+     * @throws JsonParseException if {@code utf8Bytes} has no remaining bytes or if it is no valid UTF-8 encoded JSON.
+     */
+    public static JsonValue readFrom(final ByteBuffer utf8Bytes) {
+        requireNonNull(utf8Bytes, "The byte buffer to read from must not be null!");
+        if (!utf8Bytes.hasRemaining()) {
+            throw new JsonParseException("The JSON to read from must not be empty!");
+        }
+
         try {
-            return Json.parse(reader);
+            return JsonValueParser.parse(utf8Bytes);
+        } catch (final JsonValueParser.SyntaxException | StackOverflowError e) {
+            throw JsonParseException.newBuilder()
+                    .message("Failed to parse JSON from bytes!")
+                    .cause(e)
+                    .build();
         }
-        catch (final ParseException | IOException | StackOverflowError e) {
+    }
+
+    /**
+     * Reads a JSON value from its binary representation as returned by {@link JsonValue#toBinary()}.
+     *
+     * @param bytes the binary representation of the JSON value.
+     * @return the JSON value.
+     * @throws NullPointerException if {@code bytes} is {@code null}.
+     * @throws JsonParseException if {@code bytes} is no binary representation of a JSON value.
+     */
+    public static JsonValue readFromBinary(final byte[] bytes) {
+        requireNonNull(bytes, "The bytes to read from must not be null!");
+
+        try {
+            return BinaryJsonReader.read(bytes);
+        } catch (final BinaryJsonReader.FormatException | StackOverflowError e) {
             throw JsonParseException.newBuilder()
-                    .message("Failed to parse JSON from reader!")
+                    .message("Failed to read JSON from binary representation!")
                     .cause(e)
                     .build();
         }
     }
 
+    /**
+     * Returns a new pull parser which reads the given string token by token.
+     *
+     * @param json the JSON document to read.
+     * @return the pull parser.
+     * @throws NullPointerException if {@code json} is {@code null}.
+     */
+    public static JsonPullParser newPullParser(final String json) {
+        requireNonNull(json, "The JSON to read from must not be null!");
+        return JsonValuePullParser.of(JsonValueParser.forString(json, 0, json.length()));
+    }
+
+    /**
+     * Returns a new pull parser which reads the given UTF-8 encoded bytes token by token. The bytes are decoded while
+     * parsing; the array is not copied and thus must not be changed while it is read.
+     *
+     * @param utf8Bytes the UTF-8 encoded JSON document to read.
+     * @return the pull parser.
+     * @throws NullPointerException if {@code utf8Bytes} is {@code null}.
+     */
+    public static JsonPullParser newPullParser(final byte[] utf8Bytes) {
+        requireNonNull(utf8Bytes, "The bytes to read from must not be null!");
+        return JsonValuePullParser.of(JsonValueParser.forUtf8Bytes(ByteBuffer.wrap(utf8Bytes)));
+    }
+
+    /**
+     * Returns a new pull parser which reads the input stream of the given reader token by token. Characters are read
+     * in chunks and buffered internally; the reader is not closed by the parser.
+     *
+     * @param reader the reader to read the JSON document from.
+     * @return the pull parser.
+     * @throws NullPointerException if {@code reader} is {@code null}.
+     */
+    public static JsonPullParser newPullParser(final Reader reader) {
+        requireNonNull(reader, "The reader must not be null!");
+        return JsonValuePullParser.of(JsonValueParser.forReader(reader));
+    }
+
     /**
      * Returns a new mutable builder for a {@code JsonObject}.
      *
@@ -250,11 +374,85 @@ public final class JsonFactory {
             throw new IllegalArgumentException("The JSON string to create a JSON object from must not be empty!");
         }
 
-        if (Objects.equals(Json.NULL.toString(), jsonString)) {
+        if (Objects.equals(NULL_LITERAL.toString(), jsonString)) {
             return NULL_JSON_OBJECT;
         } else {
-            final com.eclipsesource.json.JsonObject jsonObject = tryToReadJsonObjectFrom(jsonString);
-            return ImmutableJsonObject.of(toMap(jsonObject));
+            return tryToReadJsonObjectFrom(jsonString);
+        }
+    }
+
+    /**
+     * Creates a JSON object from the given string with the given options.
+     *
+     * @param jsonString the string that represents the JSON object.
+     * @param options the options which determine how {@code jsonString} is read.
+     * @return the JSON object that has been created from the string.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws JsonParseException if {@code jsonString} does not contain a valid JSON object.
+     * @see #readFrom(String, JsonParseOptions)
+     */
+    public static JsonObject newObject(final String jsonString, final JsonParseOptions options) {
+        requireNonNull(jsonString, "The JSON string to create a JSON object from must not be null!");
+        if (jsonString.isEmpty()) {
+            throw new IllegalArgumentException("The JSON string to create a JSON object from must not be empty!");
+        }
+
+        final JsonValue jsonValue = readFrom(jsonString, options);
+        if (jsonValue.isNull()) {
+            return NULL_JSON_OBJECT;
+        } else if (!jsonValue.isObject()) {
+            throw JsonParseException.newBuilder()
+                    .message("Failed to create JSON object from string!")
+                    .cause(new UnsupportedOperationException("Not an object: " + jsonValue))
+                    .build();
+        }
+        return jsonValue.asObject();
+    }
+
+    /**
+     * Creates a JSON object from the given string which parses its values not until they are accessed. The string is
+     * validated and the offsets of the top-level fields are indexed immediately. The string representation of the
+     * returned object copies the original text of all fields which were not altered and which are already in minimal
+     * form. This is beneficial if only a few fields of a big JSON object are read, or if a JSON object is merely
+     * passed on.
+     *
+     * @param jsonString the string that represents the JSON object.
+     * @return the JSON object that has been created from the string.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws JsonParseException if {@code jsonString} is empty or if it does not contain a valid JSON object.
+     */
+    public static JsonObject newLazyObject(final String jsonString) {
+        requireNonNull(jsonString, "The JSON string to create a JSON object from must not be null!");
+        return tryToCreateLazyObject(RawJson.ofString(jsonString));
+    }
+
+    /**
+     * Creates a JSON object from the given UTF-8 encoded bytes which parses its values not until they are accessed.
+     * The bytes are validated and the offsets of the top-level fields are indexed immediately. The UTF-8 bytes of the
+     * returned object are created by copying the original bytes of all fields which were not altered and which are
+     * already in minimal form.
+     *
+     * @param utf8Bytes the UTF-8 encoded bytes that represent the JSON object. The array is copied.
+     * @return the JSON object that has been created from the bytes.
+     * @throws NullPointerException if {@code utf8Bytes} is {@code null}.
+     * @throws JsonParseException if {@code utf8Bytes} is empty or if it does not contain a valid UTF-8 encoded JSON
+     * object.
+     * @see #newLazyObject(String)
+     */
+    public static JsonObject newLazyObject(final byte[] utf8Bytes) {
+        requireNonNull(utf8Bytes, "The bytes to create a JSON object from must not be null!");
+        return tryToCreateLazyObject(RawJson.ofUtf8Bytes(utf8Bytes));
+    }
+
+    private static JsonObject tryToCreateLazyObject(final RawJson rawJson) {
+        try {
+            return LazyJsonObject.of(rawJson);
+        } catch (final JsonValueParser.SyntaxException | StackOverflowError e) {
+            throw JsonParseException.newBuilder()
+                    .message("Failed to create JSON object!")
+                    .cause(e)
+                    .build();
         }
     }
 
@@ -280,12 +478,14 @@ public final class JsonFactory {
         return NULL_JSON_OBJECT;
     }
 
-    private static com.eclipsesource.json.JsonObject tryToReadJsonObjectFrom(final String jsonString) {
+    private static JsonObject tryToReadJsonObjectFrom(final String jsonString) {
         try {
-            final com.eclipsesource.json.JsonValue parsedJsonString = Json.parse(jsonString);
+            final JsonValue parsedJsonString = JsonValueParser.parse(jsonString);
+            if (!parsedJsonString.isObject() || parsedJsonString.isNull()) {
+                throw new UnsupportedOperationException("Not an object: " + parsedJsonString);
+            }
             return parsedJsonString.asObject();
-        }
-        catch (final ParseException | UnsupportedOperationException | StackOverflowError e) {
+        } catch (final JsonValueParser.SyntaxException | UnsupportedOperationException | StackOverflowError e) {
             throw JsonParseException.newBuilder()
                     .message("Failed to create JSON object from string!")
                     .cause(e)
@@ -350,20 +550,21 @@ public final class JsonFactory {
         if (jsonString.isEmpty()) {
             throw new IllegalArgumentException("The JSON string to create a JSON array from must not be empty!");
         }
-        if (jsonString.equals(Json.NULL.toString())) {
+        if (jsonString.equals(NULL_LITERAL.toString())) {
             return NULL_JSON_ARRAY;
         } else {
-            final com.eclipsesource.json.JsonArray jsonArray = tryToReadMinimalJsonArrayFrom(jsonString);
-            return ImmutableJsonArray.of(toList(jsonArray));
+            return tryToReadJsonArrayFrom(jsonString);
         }
     }
 
-    private static com.eclipsesource.json.JsonArray tryToReadMinimalJsonArrayFrom(final String jsonString) {
+    private static JsonArray tryToReadJsonArrayFrom(final String jsonString) {
         try {
-            final com.eclipsesource.json.JsonValue parsedJsonString = Json.parse(jsonString);
+            final JsonValue parsedJsonString = JsonValueParser.parse(jsonString);
+            if (!parsedJsonString.isArray() || parsedJsonString.isNull()) {
+                throw new UnsupportedOperationException("Not an array: " + parsedJsonString);
+            }
             return parsedJsonString.asArray();
-        }
-        catch (final ParseException | UnsupportedOperationException | StackOverflowError e) {
+        } catch (final JsonValueParser.SyntaxException | UnsupportedOperationException | StackOverflowError e) {
             throw JsonParseException.newBuilder()
                     .message("Failed to create JSON array from string!")
                     .cause(e)
@@ -447,6 +648,37 @@ public final class JsonFactory {
         return ImmutableJsonPatch.fromJson(jsonString);
     }
 
+    /**
+     * Returns the JSON Patches which transform the given source JSON object into the given target JSON object. Nested
+     * objects are patched member by member, all other values are added, replaced or removed as a whole. Applying the
+     * patches to {@code source}, e. g. with {@link #applyPatches(JsonObject, Iterable)}, yields an object which equals
+     * {@code target} apart from the order of the members and the field definitions.
+     *
+     * @param source the JSON object to be transformed.
+     * @param target the JSON object to transform {@code source} into.
+     * @return the patches; the list is empty if both objects are equal.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static List<JsonPatch> newPatchesForDiff(final JsonObject source, final JsonObject target) {
+        return JsonDiff.diff(source, target);
+    }
+
+    /**
+     * Applies the given JSON Patches in the given order to the given JSON object. The result equals the result of
+     * removing ({@link JsonPatch.Operation#REMOVE}) resp. setting ({@link JsonPatch.Operation#ADD},
+     * {@link JsonPatch.Operation#REPLACE}) the value at the path of each patch one by one; each object on the paths
+     * is built only once though.
+     *
+     * @param jsonObject the JSON object to apply the patches to.
+     * @param patches the patches to be applied.
+     * @return the patched JSON object.
+     * @throws NullPointerException if any argument is {@code null} or if {@code patches} contains {@code null}.
+     * @throws IllegalArgumentException if a patch which adds or replaces a value has an empty path or no value.
+     */
+    public static JsonObject applyPatches(final JsonObject jsonObject, final Iterable<JsonPatch> patches) {
+        return JsonPatchApplier.apply(jsonObject, patches);
+    }
+
     /**
      * Returns an empty JSON pointer.
      *
@@ -785,6 +1017,38 @@ public final class JsonFactory {
         return result;
     }
 
+    /**
+     * Returns the statistics of the cache for serialized forms of JSON values.
+     *
+     * @return the statistics.
+     */
+    public static JsonSerializationCacheStatistics getSerializationCacheStatistics() {
+        return JsonSerializationCache.getInstance();
+    }
+
+    /**
+     * Sets the maximum length of a serialized form of a JSON value which gets cached. {@code 0} effectively disables
+     * the cache. Already cached serialized forms are not affected.
+     *
+     * @param maxCachedLength the maximum cached length in characters resp. bytes.
+     * @throws IllegalArgumentException if {@code maxCachedLength} is negative.
+     * @see JsonSerializationCacheStatistics
+     */
+    public static void setSerializationCacheMaxCachedLength(final int maxCachedLength) {
+        JsonSerializationCache.getInstance().setMaxCachedLength(maxCachedLength);
+    }
+
+    /**
+     * Enables or disables counting the hits and misses of the cache for serialized forms of JSON values. Counting is
+     * disabled by default.
+     *
+     * @param statisticsEnabled whether hits and misses are counted.
+     * @see JsonSerializationCacheStatistics
+     */
+    public static void setSerializationCacheStatisticsEnabled(final boolean statisticsEnabled) {
+        JsonSerializationCache.getInstance().setStatisticsEnabled(statisticsEnabled);
+    }
+
     /**
      * Converts the specified char sequence to a {@link JsonPointer} which is guaranteed to be not empty.
      * @param keyOrPointer a string representation of a JSON pointer or a JsonKey.
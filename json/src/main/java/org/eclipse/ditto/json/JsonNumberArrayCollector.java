@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Collects the numbers of a JSON array which is being read in order to create a JSON array which keeps them unboxed
+ * in a {@code long} or {@code double} array. As long as all added numbers are {@code long}s, a {@code long} array is
+ * used; once a {@code double} is added the numbers are kept in a {@code double} array. If a number cannot be added
+ * because its lexeme could not be restored afterwards, the reader continues with the boxed values of the collected
+ * numbers.
+ */
+@NotThreadSafe
+final class JsonNumberArrayCollector {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    @Nullable private long[] longs;
+    @Nullable private double[] doubles;
+    private int size;
+
+    /**
+     * Constructs a new empty {@code JsonNumberArrayCollector} object.
+     */
+    JsonNumberArrayCollector() {
+        longs = new long[INITIAL_CAPACITY];
+        doubles = null;
+        size = 0;
+    }
+
+    /**
+     * Adds a number whose lexeme is the canonical string representation of the given {@code long}.
+     *
+     * @param value the number to be added.
+     * @return {@code true} if the number was added, {@code false} if it cannot be kept together with the previously
+     * added numbers; in this case nothing was changed.
+     */
+    boolean addLong(final long value) {
+        if (null != doubles) {
+            if (!ImmutableJsonNumber.hasSameLexemeAsDouble(value)) {
+                return false;
+            }
+            doubles = ensureCapacity(doubles);
+            doubles[size++] = value;
+        } else {
+            longs = ensureCapacity(longs);
+            longs[size++] = value;
+        }
+        return true;
+    }
+
+    /**
+     * Adds a number whose lexeme is the string representation which Minimal JSON creates for the given finite
+     * {@code double}.
+     *
+     * @param value the number to be added.
+     * @return {@code true} if the number was added, {@code false} if it cannot be kept together with the previously
+     * added numbers; in this case nothing was changed.
+     */
+    boolean addDouble(final double value) {
+        if (null == doubles) {
+            final long[] collectedLongs = longs;
+            final double[] converted = new double[collectedLongs.length];
+            for (int i = 0; i < size; i++) {
+                if (!ImmutableJsonNumber.hasSameLexemeAsDouble(collectedLongs[i])) {
+                    return false;
+                }
+                converted[i] = collectedLongs[i];
+            }
+            doubles = converted;
+            longs = null;
+        }
+        doubles = ensureCapacity(doubles);
+        doubles[size++] = value;
+        return true;
+    }
+
+    private long[] ensureCapacity(final long[] array) {
+        return size < array.length ? array : Arrays.copyOf(array, array.length << 1);
+    }
+
+    private double[] ensureCapacity(final double[] array) {
+        return size < array.length ? array : Arrays.copyOf(array, array.length << 1);
+    }
+
+    /**
+     * Returns a mutable list of the boxed collected numbers.
+     *
+     * @return the list.
+     */
+    List<JsonValue> toValues() {
+        final List<JsonValue> result = new ArrayList<>(Math.max(INITIAL_CAPACITY, size << 1));
+        if (null != doubles) {
+            result.addAll(DoubleJsonValueList.of(Arrays.copyOf(doubles, size)));
+        } else {
+            result.addAll(LongJsonValueList.of(Arrays.copyOf(longs, size)));
+        }
+        return result;
+    }
+
+    /**
+     * Returns a JSON array of the collected numbers.
+     *
+     * @return the JSON array.
+     */
+    JsonArray build() {
+        if (0 == size) {
+            return ImmutableJsonArray.empty();
+        } else if (null != doubles) {
+            return ImmutableJsonNumberArray.of(DoubleJsonValueList.of(Arrays.copyOf(doubles, size)));
+        }
+        return ImmutableJsonNumberArray.of(LongJsonValueList.of(Arrays.copyOf(longs, size)));
+    }
+
+}
@@ -32,4 +32,15 @@ public interface JsonParseOptions {
      */
     boolean isApplyUrlDecoding();
 
+    /**
+     * Returns whether the keys of parsed JSON objects should be taken from a bounded pool of canonical key instances
+     * or not. Interning keys saves memory if many parsed objects with the same key names are held for a long time.
+     * The default implementation returns {@code false}.
+     *
+     * @return whether the keys of parsed JSON objects should be interned or not.
+     */
+    default boolean isInternKeys() {
+        return false;
+    }
+
 }
@@ -31,6 +31,26 @@ public interface JsonParseOptionsBuilder {
      */
     JsonParseOptionsBuilder withoutUrlDecoding();
 
+    /**
+     * Configures to reuse canonical instances of the keys of parsed JSON objects. Interning does not change the parsed
+     * values, thus the default implementation ignores this setting.
+     *
+     * @return this builder to allow method chaining.
+     */
+    default JsonParseOptionsBuilder withKeyInterning() {
+        return this;
+    }
+
+    /**
+     * Configures to create new instances of the keys of parsed JSON objects. The default implementation does nothing
+     * as this is the default behaviour.
+     *
+     * @return this builder to allow method chaining.
+     */
+    default JsonParseOptionsBuilder withoutKeyInterning() {
+        return this;
+    }
+
     /**
      * Creates new {@link JsonParseOptions} containing all values which were added beforehand.
      *
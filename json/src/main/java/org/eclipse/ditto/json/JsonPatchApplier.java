@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Applies a sequence of {@link JsonPatch}es to a JSON object at once.
+ * <p>
+ * The result equals the result of applying the patches one by one: {@link JsonPatch.Operation#REMOVE} removes the
+ * value at the path like {@link JsonObject#remove(CharSequence)} does while {@link JsonPatch.Operation#ADD} and
+ * {@link JsonPatch.Operation#REPLACE} set the value at the path like {@link JsonObject#setValue(CharSequence,
+ * JsonValue)} does. However, each object on the paths of the patches is copied and built only once instead of once
+ * per patch; the touched objects are held as drafts until all patches are applied.
+ * </p>
+ */
+@Immutable
+final class JsonPatchApplier {
+
+    private JsonPatchApplier() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Applies the given patches in the given order to the given JSON object.
+     *
+     * @param jsonObject the JSON object to apply the patches to.
+     * @param patches the patches to be applied.
+     * @return the patched JSON object.
+     * @throws NullPointerException if any argument is {@code null} or if {@code patches} contains {@code null}.
+     * @throws IllegalArgumentException if a patch which adds or replaces a value has an empty path or no value.
+     */
+    static JsonObject apply(final JsonObject jsonObject, final Iterable<JsonPatch> patches) {
+        requireNonNull(jsonObject, "The JSON object to apply the patches to must not be null!");
+        requireNonNull(patches, "The JSON Patches to be applied must not be null!");
+
+        final Iterator<JsonPatch> patchIterator = patches.iterator();
+        if (!patchIterator.hasNext()) {
+            return jsonObject;
+        }
+        final Draft root = Draft.of(jsonObject);
+        do {
+            final JsonPatch patch = requireNonNull(patchIterator.next(), "The JSON Patch must not be null!");
+            final JsonKey[] keys = toKeys(patch.getPath());
+            if (JsonPatch.Operation.REMOVE == patch.getOperation()) {
+                if (0 < keys.length) {
+                    root.remove(keys, 0);
+                }
+            } else {
+                final JsonValue value = patch.getValue().orElseThrow(() -> new IllegalArgumentException(
+                        MessageFormat.format("The JSON Patch <{0}> has no value!", patch)));
+                if (0 == keys.length) {
+                    throw new IllegalArgumentException("The key or pointer must not be empty!");
+                }
+                // the definition of the leaf field is determined like JsonObject.setValue does
+                final JsonFieldDefinition leafDefinition = root.getDefinition(keys[keys.length - 1]);
+                root.set(keys, 0, JsonFactory.newField(keys[keys.length - 1], value, leafDefinition));
+            }
+        } while (patchIterator.hasNext());
+        return root.build();
+    }
+
+    private static JsonKey[] toKeys(final JsonPointer pointer) {
+        final JsonKey[] result = new JsonKey[pointer.getLevelCount()];
+        int level = 0;
+        for (final JsonKey key : pointer) {
+            result[level++] = key;
+        }
+        return result;
+    }
+
+    private static PersistentJsonFieldMap getFieldMap(final JsonObject jsonObject) {
+        if (jsonObject instanceof ImmutableJsonObject) {
+            return ((ImmutableJsonObject) jsonObject).getFieldMap();
+        } else if (jsonObject instanceof LazyJsonObject) {
+            return ((LazyJsonObject) jsonObject).materialize().getFieldMap();
+        }
+        final Map<String, JsonField> fields = new LinkedHashMap<>();
+        for (final JsonField field : jsonObject) {
+            fields.put(field.getKeyName(), field);
+        }
+        return PersistentJsonFieldMap.of(fields);
+    }
+
+    private static boolean isObject(final JsonValue jsonValue) {
+        return jsonValue.isObject() && !jsonValue.isNull();
+    }
+
+    /**
+     * A JSON object which is being patched. The fields of nested objects which are being patched as well are only
+     * placeholders until the draft is built; the nested drafts replace them then.
+     */
+    @NotThreadSafe
+    private static final class Draft {
+
+        private PersistentJsonFieldMap fields;
+        private final Map<String, Draft> children;
+
+        private Draft(final PersistentJsonFieldMap fields) {
+            this.fields = fields;
+            children = new HashMap<>();
+        }
+
+        private static Draft of(final JsonObject jsonObject) {
+            return new Draft(getFieldMap(jsonObject));
+        }
+
+        @Nullable
+        private JsonFieldDefinition getDefinition(final JsonKey key) {
+            final JsonField field = fields.get(key.toString());
+            return null != field ? field.getDefinition().orElse(null) : null;
+        }
+
+        private void set(final JsonKey[] keys, final int level, final JsonField leafField) {
+            final String key = keys[level].toString();
+            if (keys.length - 1 == level) {
+                children.remove(key);
+                fields = fields.with(leafField);
+                return;
+            }
+            Draft child = children.get(key);
+            if (null == child) {
+                final JsonField field = fields.get(key);
+                if (null != field && isObject(field.getValue())) {
+                    child = Draft.of(field.getValue().asObject());
+                } else {
+                    child = new Draft(PersistentJsonFieldMap.empty());
+                    if (null == field) {
+                        // keeps the position of the new field
+                        fields = fields.with(JsonFactory.newField(keys[level], ImmutableJsonObject.empty()));
+                    }
+                }
+                children.put(key, child);
+            }
+            child.set(keys, level + 1, leafField); // Recursion
+        }
+
+        private void remove(final JsonKey[] keys, final int level) {
+            final String key = keys[level].toString();
+            if (keys.length - 1 == level) {
+                children.remove(key);
+                fields = fields.without(key);
+                return;
+            }
+            Draft child = children.get(key);
+            if (null == child) {
+                final JsonField field = fields.get(key);
+                if (null == field || !isObject(field.getValue())) {
+                    return;
+                }
+                child = Draft.of(field.getValue().asObject());
+                if (!child.fields.containsKey(keys[level + 1].toString())) {
+                    return;
+                }
+                children.put(key, child);
+            }
+            child.remove(keys, level + 1); // Recursion
+        }
+
+        private JsonObject build() {
+            for (final Map.Entry<String, Draft> childEntry : children.entrySet()) {
+                final JsonField placeholder = fields.get(childEntry.getKey());
+                // an equal object might have its members in a different order after being patched
+                fields = fields.withReplaced(JsonFactory.newField(placeholder.getKey(),
+                        childEntry.getValue().build(), placeholder.getDefinition().orElse(null))); // Recursion
+            }
+            return ImmutableJsonObject.of(fields);
+        }
+
+    }
+
+}
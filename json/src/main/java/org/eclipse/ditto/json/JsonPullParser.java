@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import javax.annotation.Nullable;
+
+/**
+ * A parser which reads a JSON document token by token. In contrast to parsing the whole document at once, the caller
+ * decides which values are created: each value can be read completely with {@link #readValue()} or skipped with
+ * {@link #skipValue()}. Thus, for example, the elements of a huge JSON array can be processed one by one:
+ * <pre>
+ *     final JsonPullParser parser = JsonFactory.newPullParser(jsonString);
+ *     if (JsonToken.BEGIN_ARRAY == parser.nextToken()) {
+ *         while (JsonToken.END_ARRAY != parser.nextToken()) {
+ *             process(parser.readValue());
+ *         }
+ *     }
+ * </pre>
+ * <p>
+ * The parser validates the document while reading. Implementations of this interface are not thread-safe.
+ * </p>
+ */
+public interface JsonPullParser {
+
+    /**
+     * Reads the next token of the document. After the value of the document was read completely, the token is
+     * {@link JsonToken#END_OF_DOCUMENT}.
+     *
+     * @return the next token.
+     * @throws JsonParseException if the document is no valid JSON or if it cannot be read.
+     */
+    JsonToken nextToken();
+
+    /**
+     * Returns the token which was read last.
+     *
+     * @return the current token or {@code null} if {@link #nextToken()} was not called yet.
+     */
+    @Nullable
+    JsonToken getCurrentToken();
+
+    /**
+     * Returns the key of the JSON object member whose key is the current token.
+     *
+     * @return the key.
+     * @throws IllegalStateException if the current token is not {@link JsonToken#KEY}.
+     */
+    String getKey();
+
+    /**
+     * Reads the value which starts at the current token completely. If the current token is the begin of a JSON object
+     * or array, the object or array is read until its end; the current token then is its end token. If the current
+     * token is a key, the value of the member is read.
+     *
+     * @return the value.
+     * @throws IllegalStateException if no value starts at the current token.
+     * @throws JsonParseException if the document is no valid JSON or if it cannot be read.
+     */
+    JsonValue readValue();
+
+    /**
+     * Skips the value which starts at the current token like {@link #readValue()} reads it, however without
+     * creating it.
+     *
+     * @throws IllegalStateException if no value starts at the current token.
+     * @throws JsonParseException if the document is no valid JSON or if it cannot be read.
+     */
+    void skipValue();
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Decides whether a serialized form of a JSON value gets cached and counts cache hits and misses if statistics are
+ * enabled. There is one instance per class loader.
+ */
+@ThreadSafe
+final class JsonSerializationCache implements JsonSerializationCacheStatistics {
+
+    private static final JsonSerializationCache INSTANCE =
+            new JsonSerializationCache(Integer.getInteger(MAX_CACHED_LENGTH_PROPERTY, DEFAULT_MAX_CACHED_LENGTH));
+
+    private volatile int maxCachedLength;
+    private volatile boolean statisticsEnabled;
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+
+    JsonSerializationCache(final int maxCachedLength) {
+        this.maxCachedLength = checkMaxCachedLength(maxCachedLength);
+        statisticsEnabled = false;
+        hitCount = new LongAdder();
+        missCount = new LongAdder();
+    }
+
+    /**
+     * Returns the instance of {@code JsonSerializationCache}.
+     *
+     * @return the instance.
+     */
+    static JsonSerializationCache getInstance() {
+        return INSTANCE;
+    }
+
+    private static int checkMaxCachedLength(final int maxCachedLength) {
+        if (0 > maxCachedLength) {
+            throw new IllegalArgumentException("The maximum cached length must not be negative!");
+        }
+        return maxCachedLength;
+    }
+
+    /**
+     * Sets the maximum length of a serialized form which gets cached. Already cached serialized forms are not
+     * affected.
+     *
+     * @param maxCachedLength the maximum cached length in characters resp. bytes.
+     * @throws IllegalArgumentException if {@code maxCachedLength} is negative.
+     */
+    void setMaxCachedLength(final int maxCachedLength) {
+        this.maxCachedLength = checkMaxCachedLength(maxCachedLength);
+    }
+
+    /**
+     * Enables or disables counting cache hits and misses. Counting is disabled by default as the counters are shared
+     * by all threads which serialize JSON values.
+     *
+     * @param statisticsEnabled whether hits and misses are counted.
+     */
+    void setStatisticsEnabled(final boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    /**
+     * Indicates whether a serialized form with the given length may be cached.
+     *
+     * @param length the length of the serialized form.
+     * @return {@code true} if the serialized form may be cached, {@code false} else.
+     */
+    boolean isCacheable(final int length) {
+        return length <= maxCachedLength;
+    }
+
+    void recordHit() {
+        if (statisticsEnabled) {
+            hitCount.increment();
+        }
+    }
+
+    void recordMiss() {
+        if (statisticsEnabled) {
+            missCount.increment();
+        }
+    }
+
+    @Override
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    @Override
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    @Override
+    public int getMaxCachedLength() {
+        return maxCachedLength;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "maxCachedLength=" + maxCachedLength +
+                ", statisticsEnabled=" + statisticsEnabled +
+                ", hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                "]";
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+/**
+ * Statistics about the cache of serialized forms (string representation and UTF-8 bytes) of JSON objects and arrays.
+ * JSON values are immutable, thus the serialized form of an object or array is computed only once as long as it does
+ * not exceed the maximum cached length. Cached serialized forms are softly referenced, i. e. the garbage collector
+ * reclaims them before running out of memory; longer serialized forms are not cached at all. Serialized forms of
+ * scalar values are not cached.
+ * <p>
+ * Hits and misses are only counted after enabling the statistics with
+ * {@link JsonFactory#setSerializationCacheStatisticsEnabled(boolean)}.
+ * </p>
+ * <p>
+ * The maximum cached length is initialized from the system property {@value #MAX_CACHED_LENGTH_PROPERTY} and can be
+ * changed at runtime with {@link JsonFactory#setSerializationCacheMaxCachedLength(int)}. The Ditto services set it
+ * from their configuration key {@code ditto.services-utils-config.json.serialization-cache.max-cached-length}.
+ * </p>
+ */
+public interface JsonSerializationCacheStatistics {
+
+    /**
+     * Name of the system property which defines the initial maximum length of a cached serialized form.
+     */
+    String MAX_CACHED_LENGTH_PROPERTY = "org.eclipse.ditto.json.serializationCache.maxCachedLength";
+
+    /**
+     * The default maximum length of a cached serialized form.
+     */
+    int DEFAULT_MAX_CACHED_LENGTH = 64 * 1024;
+
+    /**
+     * Indicates whether cache hits and misses are counted.
+     *
+     * @return {@code true} if hits and misses are counted, {@code false} else.
+     */
+    boolean isStatisticsEnabled();
+
+    /**
+     * Returns how often a serialized form was taken from the cache.
+     *
+     * @return the hit count.
+     */
+    long getHitCount();
+
+    /**
+     * Returns how often a serialized form had to be computed.
+     *
+     * @return the miss count.
+     */
+    long getMissCount();
+
+    /**
+     * Returns the ratio of hits to all requests for a serialized form.
+     *
+     * @return the hit rate between {@code 0.0} and {@code 1.0}; {@code 0.0} if there was no request yet.
+     */
+    default double getHitRate() {
+        final long hitCount = getHitCount();
+        final long requestCount = hitCount + getMissCount();
+        return 0 == requestCount ? 0.0D : (double) hitCount / requestCount;
+    }
+
+    /**
+     * Returns the maximum length of a serialized form which gets cached.
+     *
+     * @return the maximum cached length in characters resp. bytes.
+     */
+    int getMaxCachedLength();
+
+}
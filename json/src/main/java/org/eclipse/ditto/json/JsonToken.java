@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+/**
+ * The tokens a {@link JsonPullParser} reports while reading a JSON document.
+ */
+public enum JsonToken {
+
+    /**
+     * The opening brace of a JSON object.
+     */
+    BEGIN_OBJECT,
+
+    /**
+     * The closing brace of a JSON object.
+     */
+    END_OBJECT,
+
+    /**
+     * The opening bracket of a JSON array.
+     */
+    BEGIN_ARRAY,
+
+    /**
+     * The closing bracket of a JSON array.
+     */
+    END_ARRAY,
+
+    /**
+     * The key of a member of a JSON object.
+     */
+    KEY,
+
+    /**
+     * A JSON string value.
+     */
+    STRING,
+
+    /**
+     * A JSON number value.
+     */
+    NUMBER,
+
+    /**
+     * A JSON boolean value.
+     */
+    BOOLEAN,
+
+    /**
+     * The JSON null literal.
+     */
+    NULL,
+
+    /**
+     * The end of the JSON document.
+     */
+    END_OF_DOCUMENT
+
+}
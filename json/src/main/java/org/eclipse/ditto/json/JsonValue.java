@@ -11,6 +11,10 @@
  */
 package org.eclipse.ditto.json;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
 import javax.annotation.Nullable;
 
 /**
@@ -251,6 +255,67 @@ public interface JsonValue {
      */
     JsonArray asArray();
 
+    /**
+     * Writes the JSON string for this value in its minimal form, without any additional whitespace, to the given
+     * Appendable. This is equivalent to appending {@link #toString()} but does not require the string to be created
+     * first.
+     *
+     * @param appendable the Appendable to write this value to, e. g. a {@code StringBuilder} or a {@code Writer}.
+     * @throws NullPointerException if {@code appendable} is {@code null}.
+     * @throws IOException if {@code appendable} throws an IOException.
+     */
+    default void writeTo(final Appendable appendable) throws IOException {
+        JsonValueWriter.write(this, appendable);
+    }
+
+    /**
+     * Writes the UTF-8 encoded JSON string for this value in its minimal form, without any additional whitespace, to
+     * the given buffer. Writing starts at the current position of the buffer; the position is advanced by the number
+     * of written bytes.
+     *
+     * @param byteBuffer the buffer to write this value to.
+     * @throws NullPointerException if {@code byteBuffer} is {@code null}.
+     * @throws java.nio.BufferOverflowException if {@code byteBuffer} has not enough remaining space.
+     * @throws java.nio.ReadOnlyBufferException if {@code byteBuffer} is read-only.
+     */
+    default void writeTo(final ByteBuffer byteBuffer) {
+        JsonValueWriter.write(this, byteBuffer);
+    }
+
+    /**
+     * Writes the UTF-8 encoded JSON string for this value in its minimal form, without any additional whitespace, to
+     * the given OutputStream. In contrast to {@link #toUtf8Bytes()} this does not copy already cached bytes.
+     *
+     * @param outputStream the OutputStream to write this value to.
+     * @throws NullPointerException if {@code outputStream} is {@code null}.
+     * @throws IOException if {@code outputStream} throws an IOException.
+     */
+    default void writeTo(final OutputStream outputStream) throws IOException {
+        JsonValueWriter.write(this, outputStream);
+    }
+
+    /**
+     * Returns the UTF-8 encoded JSON string for this value in its minimal form, without any additional whitespace.
+     * This is equivalent to {@code toString().getBytes(StandardCharsets.UTF_8)} but does not require the string to be
+     * created first.
+     *
+     * @return the UTF-8 bytes of the JSON string that represents this value.
+     */
+    default byte[] toUtf8Bytes() {
+        return JsonValueWriter.toUtf8Bytes(this);
+    }
+
+    /**
+     * Returns the compact binary representation of this value. It contains each key only once and numbers in binary
+     * form where possible. Reading it with {@link JsonFactory#readFromBinary(byte[])} restores a value which equals
+     * this value and has the same string representation.
+     *
+     * @return the binary representation of this value.
+     */
+    default byte[] toBinary() {
+        return BinaryJsonWriter.toBytes(this);
+    }
+
     /**
      * Returns the JSON string for this value in its minimal form, without any additional whitespace.
      *
@@ -0,0 +1,800 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.text.MessageFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import com.eclipsesource.json.Json;
+
+/**
+ * A single-pass JSON parser which directly creates the immutable {@link JsonValue} implementations of this package.
+ * In contrast to parsing with Minimal JSON and converting the result afterwards, no intermediate tree is built.
+ * <p>
+ * The parser reads from a {@link CharSource}. There are sources for strings, readers and UTF-8 encoded bytes. An
+ * instance of this class is meant to be used for parsing exactly one JSON document.
+ * </p>
+ * <p>
+ * Besides parsing a whole document at once, the package-private instance methods allow {@link JsonValuePullParser}
+ * to read a document token by token while sharing the lexical analysis.
+ * </p>
+ */
+@NotThreadSafe
+final class JsonValueParser {
+
+    private static final int END_OF_INPUT = -1;
+
+    private final CharSource source;
+    private final StringBuilder captureBuffer;
+    private boolean internKeys;
+    private int current;
+    private long offset;
+
+    private JsonValueParser(final CharSource source) {
+        this.source = source;
+        captureBuffer = new StringBuilder();
+        internKeys = false;
+        current = END_OF_INPUT;
+        offset = -1;
+    }
+
+    /**
+     * Parses the given string to a JSON value.
+     *
+     * @param json the string to be parsed.
+     * @return the JSON value.
+     * @throws NullPointerException if {@code json} is {@code null}.
+     * @throws SyntaxException if {@code json} is no valid JSON.
+     */
+    static JsonValue parse(final String json) {
+        requireNonNull(json, "The JSON string to be parsed must not be null!");
+        return forString(json, 0, json.length()).parseDocument();
+    }
+
+    /**
+     * Parses the given string to a JSON value. Of the given options only {@link JsonParseOptions#isInternKeys()} is
+     * regarded; decoding the string is up to the caller.
+     *
+     * @param json the string to be parsed.
+     * @param options the options which determine how the JSON value is created.
+     * @return the JSON value.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws SyntaxException if {@code json} is no valid JSON.
+     */
+    static JsonValue parse(final String json, final JsonParseOptions options) {
+        requireNonNull(json, "The JSON string to be parsed must not be null!");
+        requireNonNull(options, "The JSON parse options must not be null!");
+        return forString(json, 0, json.length()).withKeyInterning(options.isInternKeys()).parseDocument();
+    }
+
+    /**
+     * Parses the characters of the given string between {@code start} (inclusive) and {@code end} (exclusive) to a
+     * JSON value.
+     *
+     * @param json the string containing the characters to be parsed.
+     * @param start the index of the first character to be parsed.
+     * @param end the index after the last character to be parsed.
+     * @return the JSON value.
+     * @throws NullPointerException if {@code json} is {@code null}.
+     * @throws SyntaxException if the characters are no valid JSON.
+     */
+    static JsonValue parse(final String json, final int start, final int end) {
+        requireNonNull(json, "The JSON string to be parsed must not be null!");
+        return forString(json, start, end).parseDocument();
+    }
+
+    /**
+     * Parses the characters provided by the given reader to a JSON value. The reader is internally buffered.
+     *
+     * @param reader provides the characters to be parsed.
+     * @return the JSON value.
+     * @throws NullPointerException if {@code reader} is {@code null}.
+     * @throws SyntaxException if the read characters are no valid JSON.
+     * @throws IOException if the reader failed to provide characters.
+     */
+    static JsonValue parse(final Reader reader) throws IOException {
+        requireNonNull(reader, "The reader to be parsed must not be null!");
+        try {
+            return forReader(reader).parseDocument();
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Parses the given UTF-8 encoded bytes to a JSON value.
+     *
+     * @param utf8Bytes the bytes to be parsed.
+     * @return the JSON value.
+     * @throws NullPointerException if {@code utf8Bytes} is {@code null}.
+     * @throws SyntaxException if the bytes are no valid UTF-8 encoded JSON.
+     */
+    static JsonValue parse(final byte[] utf8Bytes) {
+        requireNonNull(utf8Bytes, "The bytes to be parsed must not be null!");
+        return parse(ByteBuffer.wrap(utf8Bytes));
+    }
+
+    /**
+     * Parses the remaining UTF-8 encoded bytes of the given buffer to a JSON value. Neither position nor limit of the
+     * buffer are changed by this method.
+     *
+     * @param utf8Bytes the buffer containing the bytes to be parsed.
+     * @return the JSON value.
+     * @throws NullPointerException if {@code utf8Bytes} is {@code null}.
+     * @throws SyntaxException if the bytes are no valid UTF-8 encoded JSON.
+     */
+    static JsonValue parse(final ByteBuffer utf8Bytes) {
+        requireNonNull(utf8Bytes, "The byte buffer to be parsed must not be null!");
+        return forUtf8Bytes(utf8Bytes).parseDocument();
+    }
+
+    /**
+     * Parses the remaining UTF-8 encoded bytes of the given buffer to a JSON value. Neither position nor limit of the
+     * buffer are changed by this method. Of the given options only {@link JsonParseOptions#isInternKeys()} is
+     * regarded.
+     *
+     * @param utf8Bytes the buffer containing the bytes to be parsed.
+     * @param options the options which determine how the JSON value is created.
+     * @return the JSON value.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws SyntaxException if the bytes are no valid UTF-8 encoded JSON.
+     */
+    static JsonValue parse(final ByteBuffer utf8Bytes, final JsonParseOptions options) {
+        requireNonNull(utf8Bytes, "The byte buffer to be parsed must not be null!");
+        requireNonNull(options, "The JSON parse options must not be null!");
+        return forUtf8Bytes(utf8Bytes).withKeyInterning(options.isInternKeys()).parseDocument();
+    }
+
+    /**
+     * Returns a parser for the characters of the given string between {@code start} (inclusive) and {@code end}
+     * (exclusive). Nothing is read yet.
+     *
+     * @param json the string containing the characters to be parsed.
+     * @param start the index of the first character to be parsed.
+     * @param end the index after the last character to be parsed.
+     * @return the parser.
+     */
+    static JsonValueParser forString(final String json, final int start, final int end) {
+        return new JsonValueParser(new StringSource(json, start, end));
+    }
+
+    /**
+     * Returns a parser for the characters provided by the given reader. Nothing is read yet. An IOException of the
+     * reader is thrown as {@link UncheckedIOException}.
+     *
+     * @param reader provides the characters to be parsed.
+     * @return the parser.
+     */
+    static JsonValueParser forReader(final Reader reader) {
+        return new JsonValueParser(new ReaderSource(reader));
+    }
+
+    /**
+     * Returns a parser for the remaining UTF-8 encoded bytes of the given buffer. Nothing is read yet.
+     *
+     * @param utf8Bytes the buffer containing the bytes to be parsed.
+     * @return the parser.
+     */
+    static JsonValueParser forUtf8Bytes(final ByteBuffer utf8Bytes) {
+        return new JsonValueParser(new Utf8Source(utf8Bytes));
+    }
+
+    /**
+     * Determines whether the keys of parsed objects are taken from the bounded pool of canonical keys instead of
+     * being created anew.
+     *
+     * @param internKeys whether the keys should be interned.
+     * @return this parser.
+     */
+    JsonValueParser withKeyInterning(final boolean internKeys) {
+        this.internKeys = internKeys;
+        return this;
+    }
+
+    private JsonValue parseDocument() {
+        start();
+        final JsonValue result = parseValue();
+        skipWhitespace();
+        if (END_OF_INPUT != current) {
+            throw unexpectedCharacter();
+        }
+        return result;
+    }
+
+    /**
+     * Reads the first character of the input and skips leading whitespace.
+     */
+    void start() {
+        read();
+        skipWhitespace();
+    }
+
+    /**
+     * Returns the current character.
+     *
+     * @return the current character or {@code -1} if the end of input was reached.
+     */
+    int getCurrent() {
+        return current;
+    }
+
+    /**
+     * Parses the value which starts at the current character.
+     *
+     * @return the value.
+     * @throws SyntaxException if the input is no valid JSON value.
+     */
+    @SuppressWarnings({"squid:MethodCyclomaticComplexity",
+            "checkstyle:com.puppycrawl.tools.checkstyle.checks.metrics.CyclomaticComplexityCheck"})
+    JsonValue parseValue() {
+        switch (current) {
+            case '{':
+                return parseObject();
+            case '[':
+                return parseArray();
+            case '"':
+                return ImmutableJsonString.of(Json.value(parseString()));
+            case 't':
+                parseLiteralRest("true");
+                return ImmutableJsonLiteral.TRUE;
+            case 'f':
+                parseLiteralRest("false");
+                return ImmutableJsonLiteral.FALSE;
+            case 'n':
+                parseLiteralRest("null");
+                return JsonFactory.nullLiteral();
+            case '-':
+            case '0':
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+                return parseNumber();
+            default:
+                throw unexpectedCharacter();
+        }
+    }
+
+    private JsonObject parseObject() {
+        read();
+        return parseObjectMembers();
+    }
+
+    /**
+     * Parses the members of an object whose opening brace was already read, including the closing brace.
+     *
+     * @return the object.
+     * @throws SyntaxException if the input is no valid JSON object.
+     */
+    JsonObject parseObjectMembers() {
+        skipWhitespace();
+        final Map<String, JsonField> fields = new LinkedHashMap<>();
+        if (readIf('}')) {
+            return ImmutableJsonObject.of(fields);
+        }
+        do {
+            skipWhitespace();
+            if ('"' != current) {
+                throw unexpectedCharacter();
+            }
+            final String keyName = parseString();
+            final JsonKey key = internKeys ? ImmutableJsonKey.interned(keyName) : JsonFactory.newKey(keyName);
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+            final JsonValue value = parseValue();
+            fields.put(key.toString(), JsonFactory.newField(key, value));
+            skipWhitespace();
+        } while (readIf(','));
+        expect('}');
+
+        return ImmutableJsonObject.of(fields);
+    }
+
+    private JsonArray parseArray() {
+        read();
+        return parseArrayElements();
+    }
+
+    /**
+     * Parses the elements of an array whose opening bracket was already read, including the closing bracket.
+     *
+     * @return the array.
+     * @throws SyntaxException if the input is no valid JSON array.
+     */
+    JsonArray parseArrayElements() {
+        skipWhitespace();
+        if (readIf(']')) {
+            return ImmutableJsonArray.empty();
+        }
+        // numbers are collected unboxed until the first element which cannot be kept this way
+        final JsonNumberArrayCollector numbers = new JsonNumberArrayCollector();
+        List<JsonValue> values = null;
+        do {
+            skipWhitespace();
+            if (null == values && ('-' == current || isDigit())) {
+                final boolean isIntegral = captureNumber();
+                if (!collectNumber(numbers, isIntegral)) {
+                    values = numbers.toValues();
+                    values.add(ImmutableJsonNumber.ofLexeme(captureBuffer.toString()));
+                }
+            } else {
+                if (null == values) {
+                    values = numbers.toValues();
+                }
+                values.add(parseValue());
+            }
+            skipWhitespace();
+        } while (readIf(','));
+        expect(']');
+
+        return null == values ? numbers.build() : ImmutableJsonArray.of(values);
+    }
+
+    /*
+     * Adds the captured number if its lexeme can be restored from the unboxed number.
+     */
+    private boolean collectNumber(final JsonNumberArrayCollector numbers, final boolean isIntegral) {
+        if (isIntegral && ImmutableJsonNumber.isCanonicalLong(captureBuffer)) {
+            return numbers.addLong(ImmutableJsonNumber.parseCanonicalLong(captureBuffer));
+        }
+        final String lexeme = captureBuffer.toString();
+        final double doubleValue = Double.parseDouble(lexeme);
+        return !Double.isInfinite(doubleValue) && lexeme.equals(ImmutableJsonNumber.toCanonicalString(doubleValue))
+                && numbers.addDouble(doubleValue);
+    }
+
+    /**
+     * Validates the value which starts at the current character and skips it without creating it.
+     *
+     * @throws SyntaxException if the input is no valid JSON value.
+     */
+    void skipValue() {
+        switch (current) {
+            case '{':
+                read();
+                skipObjectMembers();
+                break;
+            case '[':
+                read();
+                skipArrayElements();
+                break;
+            case '"':
+                parseString();
+                break;
+            case 't':
+                parseLiteralRest("true");
+                break;
+            case 'f':
+                parseLiteralRest("false");
+                break;
+            case 'n':
+                parseLiteralRest("null");
+                break;
+            default:
+                if ('-' != current && !isDigit()) {
+                    throw unexpectedCharacter();
+                }
+                captureNumber();
+        }
+    }
+
+    /**
+     * Validates and skips the members of an object whose opening brace was already read, including the closing
+     * brace.
+     *
+     * @throws SyntaxException if the input is no valid JSON object.
+     */
+    void skipObjectMembers() {
+        skipWhitespace();
+        if (readIf('}')) {
+            return;
+        }
+        do {
+            skipWhitespace();
+            if ('"' != current) {
+                throw unexpectedCharacter();
+            }
+            parseString();
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+            skipValue();
+            skipWhitespace();
+        } while (readIf(','));
+        expect('}');
+    }
+
+    /**
+     * Validates and skips the elements of an array whose opening bracket was already read, including the closing
+     * bracket.
+     *
+     * @throws SyntaxException if the input is no valid JSON array.
+     */
+    void skipArrayElements() {
+        skipWhitespace();
+        if (readIf(']')) {
+            return;
+        }
+        do {
+            skipWhitespace();
+            skipValue();
+            skipWhitespace();
+        } while (readIf(','));
+        expect(']');
+    }
+
+    /**
+     * Parses the string which starts at the current character, i. e. at the opening quote.
+     *
+     * @return the unescaped string.
+     * @throws SyntaxException if the input is no valid JSON string.
+     */
+    String parseString() {
+        read();
+        captureBuffer.setLength(0);
+        while ('"' != current) {
+            if ('\\' == current) {
+                read();
+                captureBuffer.append(parseEscapeSequence());
+            } else if (current < 0x20) {
+                // covers END_OF_INPUT as well
+                throw unexpectedCharacter();
+            } else {
+                captureBuffer.append((char) current);
+                read();
+            }
+        }
+        read();
+        return captureBuffer.toString();
+    }
+
+    @SuppressWarnings({"squid:MethodCyclomaticComplexity",
+            "checkstyle:com.puppycrawl.tools.checkstyle.checks.metrics.CyclomaticComplexityCheck"})
+    private char parseEscapeSequence() {
+        final char result;
+        switch (current) {
+            case '"':
+            case '/':
+            case '\\':
+                result = (char) current;
+                break;
+            case 'b':
+                result = '\b';
+                break;
+            case 'f':
+                result = '\f';
+                break;
+            case 'n':
+                result = '\n';
+                break;
+            case 'r':
+                result = '\r';
+                break;
+            case 't':
+                result = '\t';
+                break;
+            case 'u':
+                int codeUnit = 0;
+                for (int i = 0; i < 4; i++) {
+                    read();
+                    final int digit = Character.digit(current, 16);
+                    if (0 > digit) {
+                        throw unexpectedCharacter();
+                    }
+                    codeUnit = (codeUnit << 4) | digit;
+                }
+                result = (char) codeUnit;
+                break;
+            default:
+                throw unexpectedCharacter();
+        }
+        read();
+        return result;
+    }
+
+    private JsonValue parseNumber() {
+        captureNumber();
+        return ImmutableJsonNumber.ofLexeme(captureBuffer.toString());
+    }
+
+    private boolean captureNumber() {
+        captureBuffer.setLength(0);
+        boolean isIntegral = true;
+        captureIf('-');
+        if (!captureIf('0')) {
+            captureDigits();
+        }
+        if (captureIf('.')) {
+            isIntegral = false;
+            captureDigits();
+        }
+        if (captureIf('e') || captureIf('E')) {
+            isIntegral = false;
+            if (!captureIf('+')) {
+                captureIf('-');
+            }
+            captureDigits();
+        }
+        return isIntegral;
+    }
+
+
+    private void captureDigits() {
+        if (!isDigit()) {
+            throw unexpectedCharacter();
+        }
+        do {
+            captureBuffer.append((char) current);
+            read();
+        } while (isDigit());
+    }
+
+    private boolean captureIf(final char expected) {
+        if (expected == current) {
+            captureBuffer.append(expected);
+            read();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean isDigit() {
+        return '0' <= current && '9' >= current;
+    }
+
+    private void parseLiteralRest(final String literal) {
+        read();
+        for (int i = 1; i < literal.length(); i++) {
+            expect(literal.charAt(i));
+        }
+    }
+
+    /**
+     * Reads the given character or throws an exception if the current character is another one.
+     *
+     * @param expected the expected character.
+     * @throws SyntaxException if the current character is not {@code expected}.
+     */
+    void expect(final char expected) {
+        if (!readIf(expected)) {
+            throw unexpectedCharacter();
+        }
+    }
+
+    /**
+     * Reads the current character if it is the given one.
+     *
+     * @param expected the expected character.
+     * @return {@code true} if the current character was {@code expected} and was read, {@code false} else.
+     */
+    boolean readIf(final char expected) {
+        if (expected == current) {
+            read();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Skips whitespace until the current character is no whitespace.
+     */
+    void skipWhitespace() {
+        while (' ' == current || '\t' == current || '\n' == current || '\r' == current) {
+            read();
+        }
+    }
+
+    private void read() {
+        current = source.read();
+        offset++;
+    }
+
+    /**
+     * Returns an exception which reports the current character as unexpected.
+     *
+     * @return the exception.
+     */
+    SyntaxException unexpectedCharacter() {
+        if (END_OF_INPUT == current) {
+            return new SyntaxException(MessageFormat.format("Unexpected end of input at offset {0,number,#}!", offset));
+        }
+        return new SyntaxException(MessageFormat.format("Unexpected character <{0}> at offset {1,number,#}!",
+                (char) current, offset));
+    }
+
+    /**
+     * Thrown if the parsed input is no valid JSON.
+     */
+    static final class SyntaxException extends RuntimeException {
+
+        private static final long serialVersionUID = 2406519787925461238L;
+
+        SyntaxException(final String message) {
+            super(message);
+        }
+
+    }
+
+    /**
+     * Provides the characters to be parsed one by one.
+     */
+    interface CharSource {
+
+        /**
+         * Returns the next character or {@code -1} if the end of input was reached.
+         *
+         * @return the next character or {@code -1}.
+         * @throws SyntaxException if the input cannot be decoded to characters.
+         */
+        int read();
+
+    }
+
+    private static final class StringSource implements CharSource {
+
+        private final String string;
+        private final int end;
+        private int index;
+
+        private StringSource(final String string, final int start, final int end) {
+            this.string = string;
+            this.end = end;
+            index = start;
+        }
+
+        @Override
+        public int read() {
+            if (index < end) {
+                return string.charAt(index++);
+            }
+            return END_OF_INPUT;
+        }
+
+    }
+
+    /**
+     * Reads the characters of a reader in chunks. Once the reader reached its end, the end of input is returned for
+     * each further read without asking the reader again.
+     */
+    static final class ReaderSource implements CharSource {
+
+        private static final int BUFFER_SIZE = 1024;
+
+        private final Reader reader;
+        private final char[] buffer;
+        private int fill;
+        private int index;
+
+        ReaderSource(final Reader reader) {
+            this.reader = reader;
+            buffer = new char[BUFFER_SIZE];
+            fill = 0;
+            index = 0;
+        }
+
+        @Override
+        public int read() {
+            if (0 > fill) {
+                return END_OF_INPUT;
+            }
+            if (index == fill) {
+                fillBuffer();
+                if (0 > fill) {
+                    return END_OF_INPUT;
+                }
+            }
+            return buffer[index++];
+        }
+
+        private void fillBuffer() {
+            try {
+                do {
+                    fill = reader.read(buffer, 0, buffer.length);
+                } while (0 == fill);
+                index = 0;
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+    }
+
+    /**
+     * Decodes UTF-8 on the fly. Characters outside the Basic Multilingual Plane are returned as surrogate pair. Like
+     * a strict decoder it rejects overlong encodings and encoded surrogates; otherwise characters like {@code '"'}
+     * or {@code '/'} could be smuggled in by byte sequences which do not contain them literally.
+     */
+    private static final class Utf8Source implements CharSource {
+
+        private final ByteBuffer bytes;
+        private final int limit;
+        private int index;
+        private int pendingLowSurrogate;
+
+        private Utf8Source(final ByteBuffer bytes) {
+            this.bytes = bytes;
+            limit = bytes.limit();
+            index = bytes.position();
+            pendingLowSurrogate = END_OF_INPUT;
+        }
+
+        @Override
+        public int read() {
+            if (END_OF_INPUT != pendingLowSurrogate) {
+                final int result = pendingLowSurrogate;
+                pendingLowSurrogate = END_OF_INPUT;
+                return result;
+            }
+            if (index >= limit) {
+                return END_OF_INPUT;
+            }
+            final int first = bytes.get(index++) & 0xFF;
+            if (0x80 > first) {
+                return first;
+            } else if (0xC0 == (first & 0xE0)) {
+                final int codePoint = ((first & 0x1F) << 6) | readContinuation();
+                if (0x80 > codePoint) {
+                    throw malformed();
+                }
+                return codePoint;
+            } else if (0xE0 == (first & 0xF0)) {
+                final int codePoint = ((first & 0x0F) << 12) | (readContinuation() << 6) | readContinuation();
+                if (0x800 > codePoint || Character.isSurrogate((char) codePoint)) {
+                    throw malformed();
+                }
+                return codePoint;
+            } else if (0xF0 == (first & 0xF8)) {
+                final int codePoint = ((first & 0x07) << 18) | (readContinuation() << 12) |
+                        (readContinuation() << 6) | readContinuation();
+                if (!Character.isSupplementaryCodePoint(codePoint)) {
+                    throw malformed();
+                }
+                pendingLowSurrogate = Character.lowSurrogate(codePoint);
+                return Character.highSurrogate(codePoint);
+            }
+            throw malformed();
+        }
+
+        private int readContinuation() {
+            if (index >= limit) {
+                throw malformed();
+            }
+            final int b = bytes.get(index++) & 0xFF;
+            if (0x80 != (b & 0xC0)) {
+                throw malformed();
+            }
+            return b & 0x3F;
+        }
+
+        private SyntaxException malformed() {
+            return new SyntaxException(MessageFormat.format("Malformed UTF-8 input at byte {0,number,#}!", index - 1));
+        }
+
+    }
+
+}
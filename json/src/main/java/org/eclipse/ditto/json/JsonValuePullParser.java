@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.UncheckedIOException;
+import java.text.MessageFormat;
+import java.util.BitSet;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * An implementation of {@link JsonPullParser} which uses a {@link JsonValueParser} for the lexical analysis. The
+ * parser only keeps track of the kinds of the enclosing containers; values are created on demand only.
+ */
+@NotThreadSafe
+final class JsonValuePullParser implements JsonPullParser {
+
+    private static final int END_OF_INPUT = -1;
+
+    private final JsonValueParser parser;
+    private final BitSet objectContainers;
+    private int depth;
+    private boolean isContainerStart;
+    @Nullable private JsonToken currentToken;
+    @Nullable private String currentKey;
+    @Nullable private JsonValue currentValue;
+
+    private JsonValuePullParser(final JsonValueParser parser) {
+        this.parser = parser;
+        objectContainers = new BitSet();
+        depth = 0;
+        isContainerStart = false;
+        currentToken = null;
+        currentKey = null;
+        currentValue = null;
+    }
+
+    /**
+     * Returns a new {@code JsonValuePullParser} which reads with the given parser. The parser must not have read
+     * anything yet.
+     *
+     * @param parser the parser to read with.
+     * @return the pull parser.
+     * @throws NullPointerException if {@code parser} is {@code null}.
+     */
+    static JsonValuePullParser of(final JsonValueParser parser) {
+        return new JsonValuePullParser(requireNonNull(parser, "The JSON value parser must not be null!"));
+    }
+
+    @Override
+    public JsonToken nextToken() {
+        try {
+            currentToken = readNextToken();
+        } catch (final JsonValueParser.SyntaxException e) {
+            throw newParseException("Failed to read the next JSON token!", e);
+        } catch (final UncheckedIOException e) {
+            throw newParseException("Failed to read the next JSON token!", e.getCause());
+        }
+        return currentToken;
+    }
+
+    @SuppressWarnings({"squid:MethodCyclomaticComplexity",
+            "checkstyle:com.puppycrawl.tools.checkstyle.checks.metrics.CyclomaticComplexityCheck"})
+    private JsonToken readNextToken() {
+        currentKey = null;
+        currentValue = null;
+        if (null == currentToken) {
+            parser.start();
+            return readValueStart();
+        }
+        if (JsonToken.END_OF_DOCUMENT == currentToken) {
+            return JsonToken.END_OF_DOCUMENT;
+        }
+        if (JsonToken.KEY == currentToken) {
+            return readValueStart();
+        }
+        parser.skipWhitespace();
+        if (0 == depth) {
+            // the value of the document was read completely
+            if (END_OF_INPUT != parser.getCurrent()) {
+                throw parser.unexpectedCharacter();
+            }
+            return JsonToken.END_OF_DOCUMENT;
+        }
+
+        final boolean isInObject = objectContainers.get(depth - 1);
+        if (parser.readIf(isInObject ? '}' : ']')) {
+            depth--;
+            isContainerStart = false;
+            return isInObject ? JsonToken.END_OBJECT : JsonToken.END_ARRAY;
+        }
+        if (!isContainerStart) {
+            parser.expect(',');
+            parser.skipWhitespace();
+        }
+        isContainerStart = false;
+        return isInObject ? readKey() : readValueStart();
+    }
+
+    private JsonToken readKey() {
+        if ('"' != parser.getCurrent()) {
+            throw parser.unexpectedCharacter();
+        }
+        currentKey = parser.parseString();
+        parser.skipWhitespace();
+        parser.expect(':');
+        parser.skipWhitespace();
+        return JsonToken.KEY;
+    }
+
+    private JsonToken readValueStart() {
+        if (parser.readIf('{')) {
+            enterContainer(true);
+            return JsonToken.BEGIN_OBJECT;
+        }
+        if (parser.readIf('[')) {
+            enterContainer(false);
+            return JsonToken.BEGIN_ARRAY;
+        }
+        final JsonValue value = parser.parseValue();
+        currentValue = value;
+        if (value.isString()) {
+            return JsonToken.STRING;
+        } else if (value.isNumber()) {
+            return JsonToken.NUMBER;
+        } else if (value.isBoolean()) {
+            return JsonToken.BOOLEAN;
+        }
+        return JsonToken.NULL;
+    }
+
+    private void enterContainer(final boolean isObject) {
+        objectContainers.set(depth, isObject);
+        depth++;
+        isContainerStart = true;
+    }
+
+    @Nullable
+    @Override
+    public JsonToken getCurrentToken() {
+        return currentToken;
+    }
+
+    @Override
+    public String getKey() {
+        if (JsonToken.KEY != currentToken || null == currentKey) {
+            throw new IllegalStateException(
+                    MessageFormat.format("The current token <{0}> is no key!", currentToken));
+        }
+        return currentKey;
+    }
+
+    @Override
+    public JsonValue readValue() {
+        if (JsonToken.KEY == currentToken) {
+            nextToken();
+        }
+        if (null != currentValue) {
+            return currentValue;
+        }
+        checkContainerStart();
+        try {
+            final JsonValue result;
+            if (JsonToken.BEGIN_OBJECT == currentToken) {
+                result = parser.parseObjectMembers();
+            } else {
+                result = parser.parseArrayElements();
+            }
+            leaveContainer();
+            return result;
+        } catch (final JsonValueParser.SyntaxException | StackOverflowError e) {
+            throw newParseException("Failed to read JSON value!", e);
+        } catch (final UncheckedIOException e) {
+            throw newParseException("Failed to read JSON value!", e.getCause());
+        }
+    }
+
+    @Override
+    public void skipValue() {
+        if (JsonToken.KEY == currentToken) {
+            nextToken();
+        }
+        if (null != currentValue) {
+            return;
+        }
+        checkContainerStart();
+        try {
+            if (JsonToken.BEGIN_OBJECT == currentToken) {
+                parser.skipObjectMembers();
+            } else {
+                parser.skipArrayElements();
+            }
+            leaveContainer();
+        } catch (final JsonValueParser.SyntaxException | StackOverflowError e) {
+            throw newParseException("Failed to skip JSON value!", e);
+        } catch (final UncheckedIOException e) {
+            throw newParseException("Failed to skip JSON value!", e.getCause());
+        }
+    }
+
+    private void checkContainerStart() {
+        if (JsonToken.BEGIN_OBJECT != currentToken && JsonToken.BEGIN_ARRAY != currentToken) {
+            throw new IllegalStateException(
+                    MessageFormat.format("No value starts at the current token <{0}>!", currentToken));
+        }
+    }
+
+    private void leaveContainer() {
+        currentToken = JsonToken.BEGIN_OBJECT == currentToken ? JsonToken.END_OBJECT : JsonToken.END_ARRAY;
+        depth--;
+        isContainerStart = false;
+    }
+
+    private static JsonParseException newParseException(final String message, final Throwable cause) {
+        return JsonParseException.newBuilder()
+                .message(message)
+                .cause(cause)
+                .build();
+    }
+
+}
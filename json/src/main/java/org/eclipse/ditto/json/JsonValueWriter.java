@@ -0,0 +1,481 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Writes the minimal JSON string representation of a {@link JsonValue} by directly walking the value. No
+ * intermediate JSON tree is created. The output is the same as the one of Minimal JSON; JSON strings are escaped
+ * likewise. Nested JSON objects and arrays whose string representation is already cached are written by appending
+ * the cached string; a {@link LazyJsonObject} is written by copying its untouched parts, a {@link LazyJsonArray} by
+ * copying its original text if it is in minimal form. Numbers are written with their original lexeme; the numbers of
+ * an {@link ImmutableJsonNumberArray} are written without boxing them.
+ */
+@Immutable
+final class JsonValueWriter {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final int INITIAL_BYTE_ARRAY_SIZE = 128;
+
+    private JsonValueWriter() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Writes the JSON string representation of the given value to the given Appendable.
+     *
+     * @param jsonValue the value to be written.
+     * @param appendable the Appendable to write to.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IOException if {@code appendable} throws an IOException.
+     */
+    static void write(final JsonValue jsonValue, final Appendable appendable) throws IOException {
+        requireNonNull(jsonValue, "The JSON value to be written must not be null!");
+        requireNonNull(appendable, "The Appendable to write to must not be null!");
+        if (isContainer(jsonValue)) {
+            writeValue(jsonValue, appendable);
+        } else {
+            appendable.append(jsonValue.toString());
+        }
+    }
+
+    private static boolean isContainer(final JsonValue jsonValue) {
+        return (jsonValue.isObject() || jsonValue.isArray()) && !jsonValue.isNull();
+    }
+
+    /**
+     * Returns the JSON string representation of the given value.
+     *
+     * @param jsonValue the value to get the string representation for.
+     * @return the string representation.
+     * @throws NullPointerException if {@code jsonValue} is {@code null}.
+     */
+    static String toJsonString(final JsonValue jsonValue) {
+        final StringBuilder stringBuilder = new StringBuilder();
+        try {
+            write(jsonValue, stringBuilder);
+        } catch (final IOException e) {
+            // never happens for StringBuilder
+            throw new UncheckedIOException(e);
+        }
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Writes the UTF-8 encoded JSON string representation of the given value to the given buffer, starting at its
+     * current position.
+     *
+     * @param jsonValue the value to be written.
+     * @param byteBuffer the buffer to write to.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws java.nio.BufferOverflowException if {@code byteBuffer} has not enough remaining space.
+     * @throws java.nio.ReadOnlyBufferException if {@code byteBuffer} is read-only.
+     */
+    static void write(final JsonValue jsonValue, final ByteBuffer byteBuffer) {
+        requireNonNull(byteBuffer, "The ByteBuffer to write to must not be null!");
+        final Utf8ByteBufferAppendable appendable = new Utf8ByteBufferAppendable(byteBuffer);
+        try {
+            write(jsonValue, appendable);
+        } catch (final IOException e) {
+            // never happens for Utf8ByteBufferAppendable
+            throw new UncheckedIOException(e);
+        }
+        appendable.flushPendingSurrogate();
+    }
+
+    /**
+     * Writes the UTF-8 encoded JSON string representation of the given value to the given OutputStream.
+     *
+     * @param jsonValue the value to be written.
+     * @param outputStream the OutputStream to write to.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IOException if {@code outputStream} throws an IOException.
+     */
+    static void write(final JsonValue jsonValue, final OutputStream outputStream) throws IOException {
+        requireNonNull(outputStream, "The OutputStream to write to must not be null!");
+        final Utf8OutputStreamAppendable appendable = new Utf8OutputStreamAppendable(outputStream);
+        try {
+            write(jsonValue, appendable);
+            appendable.flushPendingSurrogate();
+            appendable.flush();
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Returns the UTF-8 encoded JSON string representation of the given value.
+     *
+     * @param jsonValue the value to get the bytes for.
+     * @return the UTF-8 bytes.
+     * @throws NullPointerException if {@code jsonValue} is {@code null}.
+     */
+    static byte[] toUtf8Bytes(final JsonValue jsonValue) {
+        final Utf8ByteArrayAppendable appendable = new Utf8ByteArrayAppendable();
+        try {
+            write(jsonValue, appendable);
+        } catch (final IOException e) {
+            // never happens for Utf8ByteArrayAppendable
+            throw new UncheckedIOException(e);
+        }
+        return appendable.toByteArray();
+    }
+
+    /**
+     * Appends the JSON string representation of the given value to the given StringBuilder the way the value is
+     * written as member of a JSON object or array.
+     *
+     * @param jsonValue the value to be written.
+     * @param stringBuilder the StringBuilder to append to.
+     */
+    static void appendMember(final JsonValue jsonValue, final StringBuilder stringBuilder) {
+        try {
+            writeValue(jsonValue, stringBuilder);
+        } catch (final IOException e) {
+            // never happens for StringBuilder
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends the given string as escaped and quoted JSON string to the given StringBuilder.
+     *
+     * @param string the string to be written.
+     * @param stringBuilder the StringBuilder to append to.
+     */
+    static void appendString(final String string, final StringBuilder stringBuilder) {
+        try {
+            writeString(string, stringBuilder);
+        } catch (final IOException e) {
+            // never happens for StringBuilder
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @SuppressWarnings({"checkstyle:com.puppycrawl.tools.checkstyle.checks.metrics.CyclomaticComplexityCheck",
+            "squid:MethodCyclomaticComplexity"})
+    private static void writeValue(final JsonValue jsonValue, final Appendable appendable) throws IOException {
+        if (jsonValue.isNull()) {
+            appendable.append("null");
+        } else if (jsonValue.isObject()) {
+            if (!appendCachedStringRepresentation(jsonValue, appendable)) {
+                writeObject(jsonValue.asObject(), appendable);
+            }
+        } else if (jsonValue.isArray()) {
+            if (!appendCachedStringRepresentation(jsonValue, appendable)) {
+                writeArray(jsonValue.asArray(), appendable);
+            }
+        } else if (jsonValue.isString()) {
+            writeString(jsonValue.asString(), appendable);
+        } else {
+            // a number which keeps its lexeme or a boolean literal
+            appendable.append(jsonValue.toString());
+        }
+    }
+
+    private static boolean appendCachedStringRepresentation(final JsonValue jsonValue, final Appendable appendable)
+            throws IOException {
+
+        if (jsonValue instanceof LazyJsonObject
+                || (jsonValue instanceof LazyJsonArray && ((LazyJsonArray) jsonValue).isVerbatim())) {
+            // copies the untouched parts of the original JSON
+            appendable.append(jsonValue.toString());
+            return true;
+        }
+        if (jsonValue instanceof ImmutableJsonObject || jsonValue instanceof ImmutableJsonArray
+                || jsonValue instanceof LazyJsonArray || jsonValue instanceof ImmutableJsonNumberArray) {
+            final String cachedStringRepresentation =
+                    ((AbstractImmutableJsonValue) jsonValue).getCachedStringRepresentation();
+            if (null != cachedStringRepresentation) {
+                appendable.append(cachedStringRepresentation);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void writeObject(final JsonObject jsonObject, final Appendable appendable) throws IOException {
+        appendable.append('{');
+        boolean isFirst = true;
+        for (final JsonField jsonField : jsonObject) {
+            if (!isFirst) {
+                appendable.append(',');
+            }
+            writeString(jsonField.getKeyName(), appendable);
+            appendable.append(':');
+            writeValue(jsonField.getValue(), appendable);
+            isFirst = false;
+        }
+        appendable.append('}');
+    }
+
+    private static void writeArray(final JsonArray jsonArray, final Appendable appendable) throws IOException {
+        if (jsonArray instanceof ImmutableJsonNumberArray) {
+            final List<JsonValue> values = ((ImmutableJsonNumberArray) jsonArray).getValues();
+            if (values instanceof LongJsonValueList) {
+                writeLongs((LongJsonValueList) values, appendable);
+                return;
+            } else if (values instanceof DoubleJsonValueList) {
+                writeDoubles((DoubleJsonValueList) values, appendable);
+                return;
+            }
+        }
+        appendable.append('[');
+        boolean isFirst = true;
+        for (final JsonValue jsonValue : jsonArray) {
+            if (!isFirst) {
+                appendable.append(',');
+            }
+            writeValue(jsonValue, appendable);
+            isFirst = false;
+        }
+        appendable.append(']');
+    }
+
+    private static void writeLongs(final LongJsonValueList longs, final Appendable appendable) throws IOException {
+        appendable.append('[');
+        for (int i = 0; i < longs.size(); i++) {
+            if (0 < i) {
+                appendable.append(',');
+            }
+            appendable.append(Long.toString(longs.getLong(i)));
+        }
+        appendable.append(']');
+    }
+
+    private static void writeDoubles(final DoubleJsonValueList doubles, final Appendable appendable)
+            throws IOException {
+
+        appendable.append('[');
+        for (int i = 0; i < doubles.size(); i++) {
+            if (0 < i) {
+                appendable.append(',');
+            }
+            appendable.append(ImmutableJsonNumber.toCanonicalString(doubles.getDouble(i)));
+        }
+        appendable.append(']');
+    }
+
+    private static void writeString(final String string, final Appendable appendable) throws IOException {
+        appendable.append('"');
+        final int length = string.length();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = string.charAt(i);
+            if (needsEscaping(c)) {
+                appendable.append(string, start, i);
+                appendEscaped(c, appendable);
+                start = i + 1;
+            }
+        }
+        appendable.append(string, start, length);
+        appendable.append('"');
+    }
+
+    private static boolean needsEscaping(final char c) {
+        return c < 0x20 || '"' == c || '\\' == c || '\u2028' == c || '\u2029' == c;
+    }
+
+    private static void appendEscaped(final char c, final Appendable appendable) throws IOException {
+        switch (c) {
+            case '"':
+                appendable.append("\\\"");
+                break;
+            case '\\':
+                appendable.append("\\\\");
+                break;
+            case '\n':
+                appendable.append("\\n");
+                break;
+            case '\r':
+                appendable.append("\\r");
+                break;
+            case '\t':
+                appendable.append("\\t");
+                break;
+            default:
+                appendable.append("\\u")
+                        .append(HEX_DIGITS[(c >> 12) & 0xF])
+                        .append(HEX_DIGITS[(c >> 8) & 0xF])
+                        .append(HEX_DIGITS[(c >> 4) & 0xF])
+                        .append(HEX_DIGITS[c & 0xF]);
+        }
+    }
+
+    /**
+     * Base class for Appendables which encode the appended characters as UTF-8.
+     */
+    @NotThreadSafe
+    private abstract static class AbstractUtf8Appendable implements Appendable {
+
+        private char pendingHighSurrogate;
+
+        private AbstractUtf8Appendable() {
+            pendingHighSurrogate = 0;
+        }
+
+        protected abstract void put(int b);
+
+        @Override
+        public Appendable append(final CharSequence csq) {
+            return append(csq, 0, csq.length());
+        }
+
+        @Override
+        public Appendable append(final CharSequence csq, final int start, final int end) {
+            for (int i = start; i < end; i++) {
+                append(csq.charAt(i));
+            }
+            return this;
+        }
+
+        @Override
+        public Appendable append(final char c) {
+            if (0 != pendingHighSurrogate) {
+                final char highSurrogate = pendingHighSurrogate;
+                pendingHighSurrogate = 0;
+                if (Character.isLowSurrogate(c)) {
+                    putCodePoint(Character.toCodePoint(highSurrogate, c));
+                    return this;
+                }
+                // unpaired surrogate
+                put('?');
+            }
+            if (0x80 > c) {
+                put(c);
+            } else if (0x800 > c) {
+                put(0xC0 | (c >> 6));
+                put(0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c)) {
+                pendingHighSurrogate = c;
+            } else if (Character.isLowSurrogate(c)) {
+                // unpaired surrogate
+                put('?');
+            } else {
+                put(0xE0 | (c >> 12));
+                put(0x80 | ((c >> 6) & 0x3F));
+                put(0x80 | (c & 0x3F));
+            }
+            return this;
+        }
+
+        private void putCodePoint(final int codePoint) {
+            put(0xF0 | (codePoint >> 18));
+            put(0x80 | ((codePoint >> 12) & 0x3F));
+            put(0x80 | ((codePoint >> 6) & 0x3F));
+            put(0x80 | (codePoint & 0x3F));
+        }
+
+        /**
+         * Handles a high surrogate which was the last appended character.
+         */
+        protected void flushPendingSurrogate() {
+            if (0 != pendingHighSurrogate) {
+                pendingHighSurrogate = 0;
+                put('?');
+            }
+        }
+
+    }
+
+    @NotThreadSafe
+    private static final class Utf8ByteBufferAppendable extends AbstractUtf8Appendable {
+
+        private final ByteBuffer byteBuffer;
+
+        private Utf8ByteBufferAppendable(final ByteBuffer byteBuffer) {
+            this.byteBuffer = byteBuffer;
+        }
+
+        @Override
+        protected void put(final int b) {
+            byteBuffer.put((byte) b);
+        }
+
+    }
+
+    /**
+     * Buffers the encoded bytes in chunks to not call the OutputStream for each single byte. An IOException of the
+     * OutputStream is thrown as UncheckedIOException because {@link #put(int)} cannot throw checked exceptions.
+     */
+    @NotThreadSafe
+    private static final class Utf8OutputStreamAppendable extends AbstractUtf8Appendable {
+
+        private static final int CHUNK_SIZE = 8192;
+
+        private final OutputStream outputStream;
+        private final byte[] chunk;
+        private int count;
+
+        private Utf8OutputStreamAppendable(final OutputStream outputStream) {
+            this.outputStream = outputStream;
+            chunk = new byte[CHUNK_SIZE];
+            count = 0;
+        }
+
+        @Override
+        protected void put(final int b) {
+            if (count == chunk.length) {
+                flush();
+            }
+            chunk[count++] = (byte) b;
+        }
+
+        private void flush() {
+            try {
+                outputStream.write(chunk, 0, count);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            count = 0;
+        }
+
+    }
+
+    @NotThreadSafe
+    private static final class Utf8ByteArrayAppendable extends AbstractUtf8Appendable {
+
+        private byte[] bytes;
+        private int count;
+
+        private Utf8ByteArrayAppendable() {
+            bytes = new byte[INITIAL_BYTE_ARRAY_SIZE];
+            count = 0;
+        }
+
+        @Override
+        protected void put(final int b) {
+            if (count == bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length << 1);
+            }
+            bytes[count++] = (byte) b;
+        }
+
+        private byte[] toByteArray() {
+            flushPendingSurrogate();
+            return Arrays.copyOf(bytes, count);
+        }
+
+    }
+
+}
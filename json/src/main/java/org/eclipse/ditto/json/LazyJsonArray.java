@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A JSON array which is backed by its already validated original text. It is the value of each member of a
+ * {@link LazyJsonObject} which is a JSON array.
+ * <p>
+ * Iterating or streaming the elements reads them one by one with a {@link JsonValuePullParser}; only the element at
+ * hand is created and held. Thus huge arrays, like the entities of responses which contain thousands of Things, can
+ * be processed with bounded memory. All other methods operate on an {@link ImmutableJsonArray} which is parsed on
+ * first use; afterwards iterating uses that array as well.
+ * </p>
+ */
+@Immutable
+final class LazyJsonArray extends AbstractImmutableJsonValue implements JsonArray {
+
+    private final RawJson rawJson;
+    private final int start;
+    private final int end;
+    private final boolean verbatim;
+    @Nullable private JsonArray materialized;
+
+    private LazyJsonArray(final RawJson rawJson, final int start, final int end, final boolean verbatim) {
+        this.rawJson = rawJson;
+        this.start = start;
+        this.end = end;
+        this.verbatim = verbatim;
+        materialized = null;
+    }
+
+    /**
+     * Returns a new {@code LazyJsonArray} for the given region of the given text which has to contain exactly one
+     * valid JSON array.
+     *
+     * @param rawJson the text containing the JSON array.
+     * @param start the index of the opening bracket of the array.
+     * @param end the index after the closing bracket of the array.
+     * @param verbatim whether the region is in the minimal form which would be written for the array.
+     * @return the JSON array.
+     * @throws NullPointerException if {@code rawJson} is {@code null}.
+     */
+    static LazyJsonArray of(final RawJson rawJson, final int start, final int end, final boolean verbatim) {
+        requireNonNull(rawJson, "The raw JSON must not be null!");
+        return new LazyJsonArray(rawJson, start, end, verbatim);
+    }
+
+    /**
+     * Returns an {@code ImmutableJsonArray} or an {@code ImmutableJsonNumberArray} with the same elements as this
+     * array.
+     *
+     * @return the materialized JSON array.
+     */
+    JsonArray materialize() {
+        // Single-Check-Idiom: the array is parsed again in rare cases
+        JsonArray result = materialized;
+        if (null == result) {
+            result = rawJson.parse(start, end).asArray();
+            materialized = result;
+        }
+        return result;
+    }
+
+    /**
+     * Indicates whether the original text of this array is the minimal form which would be written for it.
+     *
+     * @return {@code true} if the original text can be copied when writing this array.
+     */
+    boolean isVerbatim() {
+        return verbatim;
+    }
+
+    private JsonPullParser newPullParser() {
+        final JsonPullParser result = JsonValuePullParser.of(rawJson.newParser(start, end));
+        result.nextToken(); // the opening bracket
+        return result;
+    }
+
+    @Override
+    public boolean isArray() {
+        return true;
+    }
+
+    @Override
+    public JsonArray asArray() {
+        return this;
+    }
+
+    @Override
+    public JsonArray add(final int value, final int... furtherValues) {
+        return materialize().add(value, furtherValues);
+    }
+
+    @Override
+    public JsonArray add(final long value, final long... furtherValues) {
+        return materialize().add(value, furtherValues);
+    }
+
+    @Override
+    public JsonArray add(final double value, final double... furtherValues) {
+        return materialize().add(value, furtherValues);
+    }
+
+    @Override
+    public JsonArray add(final boolean value, final boolean... furtherValues) {
+        return materialize().add(value, furtherValues);
+    }
+
+    @Override
+    public JsonArray add(final String value, final String... furtherValues) {
+        return materialize().add(value, furtherValues);
+    }
+
+    @Override
+    public JsonArray add(final JsonValue value, final JsonValue... furtherValues) {
+        return materialize().add(value, furtherValues);
+    }
+
+    @Override
+    public Optional<JsonValue> get(final int index) {
+        return materialize().get(index);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        final JsonArray materializedArray = materialized;
+        if (null != materializedArray) {
+            return materializedArray.isEmpty();
+        }
+        return JsonToken.END_ARRAY == newPullParser().nextToken();
+    }
+
+    @Override
+    public int getSize() {
+        return materialize().getSize();
+    }
+
+    @Override
+    public boolean contains(final JsonValue value) {
+        return materialize().contains(value);
+    }
+
+    @Override
+    public int indexOf(final JsonValue value) {
+        return materialize().indexOf(value);
+    }
+
+    @Override
+    public Stream<JsonValue> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+
+    @Override
+    public Iterator<JsonValue> iterator() {
+        final JsonArray materializedArray = materialized;
+        if (null != materializedArray) {
+            return materializedArray.iterator();
+        }
+        return new ElementIterator(newPullParser());
+    }
+
+    @Override
+    protected String createStringRepresentation() {
+        if (verbatim) {
+            return rawJson.toString(start, end);
+        }
+        return JsonValueWriter.toJsonString(this);
+    }
+
+    @Override
+    protected byte[] createUtf8Representation() {
+        if (verbatim && rawJson.isUtf8()) {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(end - start);
+            rawJson.writeUtf8To(start, end, outputStream);
+            return outputStream.toByteArray();
+        }
+        return super.createUtf8Representation();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof LazyJsonArray) {
+            return materialize().equals(((LazyJsonArray) o).materialize());
+        }
+        return (o instanceof ImmutableJsonArray || o instanceof ImmutableJsonNumberArray) && materialize().equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return materialize().hashCode();
+    }
+
+    /**
+     * Reads the elements of the array one by one.
+     */
+    @NotThreadSafe
+    private static final class ElementIterator implements Iterator<JsonValue> {
+
+        private final JsonPullParser pullParser;
+        @Nullable private JsonValue next;
+        private boolean isEndOfArray;
+
+        private ElementIterator(final JsonPullParser pullParser) {
+            this.pullParser = pullParser;
+            next = null;
+            isEndOfArray = false;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (null == next && !isEndOfArray) {
+                if (JsonToken.END_ARRAY == pullParser.nextToken()) {
+                    isEndOfArray = true;
+                } else {
+                    next = pullParser.readValue();
+                }
+            }
+            return null != next;
+        }
+
+        @Override
+        public JsonValue next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final JsonValue result = next;
+            next = null;
+            return result;
+        }
+
+    }
+
+}
@@ -0,0 +1,416 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A JSON object which is backed by its original text. On creation, the text is validated and the offsets of the
+ * top-level members are indexed; the values of the members are parsed not until they are accessed for the first time.
+ * A member value which is a JSON object is a {@code LazyJsonObject} itself, thus nested objects are indexed on first
+ * access as well. A member value which is a JSON array is a {@link LazyJsonArray} whose elements can be read one by
+ * one.
+ * <p>
+ * The string representation and the UTF-8 bytes of this object are created by copying the original text of all
+ * members which are verbatim (see {@link RawJsonScanner}). Only the remaining members are parsed and written.
+ * </p>
+ * <p>
+ * Each method which would alter this object operates on a fully materialized {@link ImmutableJsonObject}. However,
+ * the member values which are JSON objects remain lazy in the result.
+ * </p>
+ * <p>
+ * A lazy member value gets a copy of its own text if it makes up less than half of the text of this object (see
+ * {@link RawJson#forRegion(int, int)}). Thus a small nested object which is kept after its document was processed
+ * does not keep the whole document in memory.
+ * </p>
+ */
+@Immutable
+final class LazyJsonObject extends AbstractImmutableJsonValue implements JsonObject {
+
+    private static final String ROOT_KEY = "/";
+
+    private final RawJson rawJson;
+    private final int start;
+    private final boolean verbatim;
+    @Nullable private RawJsonScanner.Index index;
+    @Nullable private ImmutableJsonObject materialized;
+
+    private LazyJsonObject(final RawJson rawJson, final int start, final boolean verbatim,
+            @Nullable final RawJsonScanner.Index index) {
+
+        this.rawJson = rawJson;
+        this.start = start;
+        this.verbatim = verbatim;
+        this.index = index;
+        materialized = null;
+    }
+
+    /**
+     * Returns a new {@code LazyJsonObject} for the given text which has to consist of exactly one JSON object.
+     *
+     * @param rawJson the text of the JSON object.
+     * @return the JSON object.
+     * @throws NullPointerException if {@code rawJson} is {@code null}.
+     * @throws JsonValueParser.SyntaxException if {@code rawJson} is no valid JSON or not a JSON object.
+     */
+    static LazyJsonObject of(final RawJson rawJson) {
+        requireNonNull(rawJson, "The raw JSON must not be null!");
+        final RawJsonScanner.Index index = RawJsonScanner.scanDocument(rawJson);
+        return new LazyJsonObject(rawJson, index.getStart(), index.isVerbatim(), index);
+    }
+
+    private static LazyJsonObject ofMember(final RawJson rawJson, final RawJsonScanner.Member member) {
+        final RawJson memberText = rawJson.forRegion(member.getValueStart(), member.getValueEnd());
+        return new LazyJsonObject(memberText, rawJson.getRegionStart(memberText, member.getValueStart()),
+                member.isValueVerbatim(), null);
+    }
+
+    private static LazyJsonArray ofArrayMember(final RawJson rawJson, final RawJsonScanner.Member member) {
+        final RawJson memberText = rawJson.forRegion(member.getValueStart(), member.getValueEnd());
+        final int start = rawJson.getRegionStart(memberText, member.getValueStart());
+        return LazyJsonArray.of(memberText, start, start + member.getValueEnd() - member.getValueStart(),
+                member.isValueVerbatim());
+    }
+
+    /**
+     * Returns the text which backs this object.
+     *
+     * @return the text.
+     */
+    RawJson getRawJson() {
+        return rawJson;
+    }
+
+    private RawJsonScanner.Index getIndex() {
+        // Single-Check-Idiom: an already validated object is indexed again in rare cases
+        RawJsonScanner.Index result = index;
+        if (null == result) {
+            result = RawJsonScanner.scanObject(rawJson, start);
+            index = result;
+        }
+        return result;
+    }
+
+    private JsonValue getMemberValue(final RawJsonScanner.Member member) {
+        JsonValue result = member.getValue();
+        if (null == result) {
+            result = parseMemberValue(member);
+            member.setValue(result);
+        }
+        return result;
+    }
+
+    private JsonValue parseMemberValue(final RawJsonScanner.Member member) {
+        if (member.isValueObject()) {
+            return ofMember(rawJson, member);
+        }
+        if ('[' == rawJson.codeUnitAt(member.getValueStart())) {
+            return ofArrayMember(rawJson, member);
+        }
+        try {
+            return rawJson.parse(member.getValueStart(), member.getValueEnd());
+        } catch (final JsonValueParser.SyntaxException e) {
+            throw JsonParseException.newBuilder()
+                    .message(MessageFormat.format("Failed to parse the value of ''{0}''!", member.getKey()))
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    /**
+     * Returns an {@code ImmutableJsonObject} with the same fields as this object. The values of the fields which are
+     * JSON objects remain lazy.
+     *
+     * @return the materialized JSON object.
+     */
+    ImmutableJsonObject materialize() {
+        ImmutableJsonObject result = materialized;
+        if (null == result) {
+            final List<RawJsonScanner.Member> members = getIndex().getMembers();
+            final Map<String, JsonField> fields = new LinkedHashMap<>(members.size() * 4 / 3 + 1);
+            for (final RawJsonScanner.Member member : members) {
+                fields.put(member.getKey(),
+                        JsonFactory.newField(JsonFactory.newKey(member.getKey()), getMemberValue(member)));
+            }
+            result = ImmutableJsonObject.of(fields);
+            materialized = result;
+        }
+        return result;
+    }
+
+    /*
+     * Returns a JSON object which contains at most the member for the root key of the given pointer. As parsed
+     * fields have no definitions, querying this object leads to the same result as querying the whole object.
+     */
+    private JsonObject getRootMemberObject(final JsonPointer pointer) {
+        final String rootKey = pointer.getRoot().map(JsonKey::toString).orElse(ROOT_KEY);
+        final RawJsonScanner.Member member = getIndex().getMember(rootKey);
+        if (null == member) {
+            return ImmutableJsonObject.empty();
+        }
+        final JsonField field = JsonFactory.newField(JsonFactory.newKey(rootKey), getMemberValue(member));
+        return ImmutableJsonObject.of(Collections.singletonMap(rootKey, field));
+    }
+
+    @Override
+    public JsonObject setValue(final CharSequence key, final int value) {
+        return materialize().setValue(key, value);
+    }
+
+    @Override
+    public JsonObject setValue(final CharSequence key, final long value) {
+        return materialize().setValue(key, value);
+    }
+
+    @Override
+    public JsonObject setValue(final CharSequence key, final double value) {
+        return materialize().setValue(key, value);
+    }
+
+    @Override
+    public JsonObject setValue(final CharSequence key, final boolean value) {
+        return materialize().setValue(key, value);
+    }
+
+    @Override
+    public JsonObject setValue(final CharSequence key, final String value) {
+        return materialize().setValue(key, value);
+    }
+
+    @Override
+    public JsonObject setValue(final CharSequence key, final JsonValue value) {
+        return materialize().setValue(key, value);
+    }
+
+    @Override
+    public JsonObject set(final JsonFieldDefinition fieldDefinition, final JsonValue value) {
+        return materialize().set(fieldDefinition, value);
+    }
+
+    @Override
+    public JsonObject set(final JsonField field) {
+        return materialize().set(field);
+    }
+
+    @Override
+    public JsonObject setAll(final Iterable<JsonField> jsonFields) {
+        return materialize().setAll(jsonFields);
+    }
+
+    @Override
+    public boolean contains(final CharSequence key) {
+        requireNonNull(key, "The key or pointer to check the existence of a value for must not be null!");
+        final JsonPointer pointer = JsonFactory.newPointer(key);
+        return getRootMemberObject(pointer).contains(pointer);
+    }
+
+    @Override
+    public JsonObject get(final JsonPointer pointer) {
+        requireNonNull(pointer, "The JSON pointer must not be null!");
+        if (pointer.isEmpty()) {
+            return this;
+        }
+        return getRootMemberObject(pointer).get(pointer);
+    }
+
+    @Override
+    public JsonObject get(final JsonFieldDefinition fieldDefinition) {
+        requireNonNull(fieldDefinition, "The JSON field definition which supplies the pointer must not be null!");
+        return get(fieldDefinition.getPointer());
+    }
+
+    @Override
+    public JsonObject get(final JsonFieldSelector fieldSelector) {
+        return materialize().get(fieldSelector);
+    }
+
+    @Override
+    public Optional<JsonValue> getValue(final CharSequence key) {
+        requireNonNull(key, "The key or pointer of the value to be retrieved must not be null!");
+        return getValueForPointer(JsonFactory.newPointer(key));
+    }
+
+    @Override
+    public Optional<JsonValue> getValue(final JsonFieldDefinition fieldDefinition) {
+        requireNonNull(fieldDefinition, "The JSON field definition which supplies the pointer must not be null!");
+        return getValueForPointer(fieldDefinition.getPointer());
+    }
+
+    private Optional<JsonValue> getValueForPointer(final JsonPointer pointer) {
+        if (1 == pointer.getLevelCount()) {
+            final RawJsonScanner.Member member = getIndex().getMember(pointer.getRoot().get().toString());
+            return null != member ? Optional.of(getMemberValue(member)) : Optional.empty();
+        }
+        return getRootMemberObject(pointer).getValue(pointer);
+    }
+
+    @Override
+    public JsonObject remove(final CharSequence key) {
+        return materialize().remove(key);
+    }
+
+    @Override
+    public List<JsonKey> getKeys() {
+        final List<RawJsonScanner.Member> members = getIndex().getMembers();
+        final List<JsonKey> keys = new ArrayList<>(members.size());
+        for (final RawJsonScanner.Member member : members) {
+            keys.add(JsonFactory.newKey(member.getKey()));
+        }
+        return Collections.unmodifiableList(keys);
+    }
+
+    @Override
+    public Optional<JsonField> getField(final CharSequence key) {
+        requireNonNull(key, "The key or pointer of the field to be retrieved must not be null!");
+        final JsonPointer pointer = JsonFactory.newPointer(key);
+        return getRootMemberObject(pointer).getField(pointer);
+    }
+
+    @Override
+    public boolean isObject() {
+        return true;
+    }
+
+    @Override
+    public JsonObject asObject() {
+        return this;
+    }
+
+    @Override
+    public Iterator<JsonField> iterator() {
+        return materialize().iterator();
+    }
+
+    @Override
+    public Stream<JsonField> stream() {
+        return materialize().stream();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return getIndex().getMembers().isEmpty();
+    }
+
+    @Override
+    public int getSize() {
+        return getIndex().getMembers().size();
+    }
+
+    @Override
+    protected String createStringRepresentation() {
+        if (verbatim) {
+            return rawJson.toString(start, getEnd());
+        }
+        final StringBuilder stringBuilder = new StringBuilder(getEnd() - start);
+        stringBuilder.append('{');
+        boolean isFirst = true;
+        for (final RawJsonScanner.Member member : getIndex().getMembers()) {
+            if (!isFirst) {
+                stringBuilder.append(',');
+            }
+            if (member.isKeyVerbatim()) {
+                rawJson.appendTo(member.getKeyStart(), member.getKeyEnd(), stringBuilder);
+            } else {
+                JsonValueWriter.appendString(member.getKey(), stringBuilder);
+            }
+            stringBuilder.append(':');
+            if (member.isValueVerbatim()) {
+                rawJson.appendTo(member.getValueStart(), member.getValueEnd(), stringBuilder);
+            } else {
+                JsonValueWriter.appendMember(getMemberValue(member), stringBuilder);
+            }
+            isFirst = false;
+        }
+        stringBuilder.append('}');
+        return stringBuilder.toString();
+    }
+
+    private int getEnd() {
+        return getIndex().getEnd();
+    }
+
+    @Override
+    public void writeTo(final Appendable appendable) throws IOException {
+        appendable.append(toString());
+    }
+
+    @Override
+    public void writeTo(final ByteBuffer byteBuffer) {
+        byteBuffer.put(getUtf8Representation());
+    }
+
+    @Override
+    protected byte[] createUtf8Representation() {
+        if (!rawJson.isUtf8()) {
+            return toString().getBytes(StandardCharsets.UTF_8);
+        }
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(getEnd() - start);
+        if (verbatim) {
+            rawJson.writeUtf8To(start, getEnd(), outputStream);
+            return outputStream.toByteArray();
+        }
+        outputStream.write('{');
+        boolean isFirst = true;
+        for (final RawJsonScanner.Member member : getIndex().getMembers()) {
+            if (!isFirst) {
+                outputStream.write(',');
+            }
+            if (member.isVerbatim()) {
+                rawJson.writeUtf8To(member.getKeyStart(), member.getValueEnd(), outputStream);
+            } else {
+                final StringBuilder stringBuilder = new StringBuilder();
+                JsonValueWriter.appendString(member.getKey(), stringBuilder);
+                stringBuilder.append(':');
+                JsonValueWriter.appendMember(getMemberValue(member), stringBuilder);
+                final byte[] memberBytes = stringBuilder.toString().getBytes(StandardCharsets.UTF_8);
+                outputStream.write(memberBytes, 0, memberBytes.length);
+            }
+            isFirst = false;
+        }
+        outputStream.write('}');
+        return outputStream.toByteArray();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof LazyJsonObject) {
+            return materialize().equals(((LazyJsonObject) o).materialize());
+        }
+        return o instanceof ImmutableJsonObject && materialize().equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return materialize().hashCode();
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * An unmodifiable list of JSON numbers which is backed by a {@code long} array. Each number is only boxed as JSON
+ * value when it is accessed. The list is meant to hold only numbers whose lexeme is the canonical string
+ * representation of a {@code long}; thus the boxed JSON values equal the JSON values which were parsed originally.
+ */
+@Immutable
+final class LongJsonValueList extends AbstractList<JsonValue> implements RandomAccess {
+
+    private final long[] values;
+
+    private LongJsonValueList(final long[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Returns a new list of the given numbers. The array is not copied.
+     *
+     * @param values the numbers; the array must not be modified afterwards.
+     * @return the list.
+     */
+    static LongJsonValueList of(final long[] values) {
+        return new LongJsonValueList(values);
+    }
+
+    /**
+     * Returns the number at the given index without boxing it.
+     *
+     * @param index the index of the number.
+     * @return the number.
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    long getLong(final int index) {
+        return values[index];
+    }
+
+    @Override
+    public JsonValue get(final int index) {
+        return ImmutableJsonNumber.of(values[index]);
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public int indexOf(final Object o) {
+        if (o instanceof ImmutableJsonNumber) {
+            final ImmutableJsonNumber jsonNumber = (ImmutableJsonNumber) o;
+            if (jsonNumber.hasCanonicalLongLexeme()) {
+                final long value = jsonNumber.asLong();
+                for (int i = 0; i < values.length; i++) {
+                    if (value == values[i]) {
+                        return i;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return 0 <= indexOf(o);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o instanceof LongJsonValueList) {
+            return Arrays.equals(values, ((LongJsonValueList) o).values);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+}
@@ -0,0 +1,699 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A persistent map of JSON fields which preserves insertion order. Altering methods like {@link #with(JsonField)} or
+ * {@link #without(String)} return a new map which shares all untouched parts with this map; thus the costs of a
+ * modification are logarithmic in the size of the map instead of linear.
+ * <p>
+ * Internally the entries are stored twice: in a hash array mapped trie for lookup by key and in a vector trie which
+ * is indexed by insertion order for iteration. Replacing the field of an existing key keeps its position like
+ * {@link java.util.LinkedHashMap} does. Removed entries leave a gap in the vector trie which is compacted as soon as
+ * the gaps outnumber the entries.
+ * </p>
+ * <p>
+ * This map is unmodifiable in terms of the {@link Map} interface. Equality and hash code are the same as defined by
+ * {@link Map}; the order of the entries is irrelevant for both. The hash code is computed at most once.
+ * </p>
+ */
+@Immutable
+final class PersistentJsonFieldMap extends AbstractMap<String, JsonField> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final int MIN_GAPS_FOR_COMPACTION = 8;
+
+    private static final Object[] EMPTY_ARRAY = new Object[0];
+    private static final PersistentJsonFieldMap EMPTY =
+            new PersistentJsonFieldMap(BitmapNode.EMPTY, EMPTY_ARRAY, 0, 0, 0);
+
+    private final Node hashTrie;
+    private final Object[] orderTrie;
+    private final int orderTrieShift;
+    private final int slotCount;
+    private final int size;
+    private int hashCode;
+
+    private PersistentJsonFieldMap(final Node hashTrie, final Object[] orderTrie, final int orderTrieShift,
+            final int slotCount, final int size) {
+
+        this.hashTrie = hashTrie;
+        this.orderTrie = orderTrie;
+        this.orderTrieShift = orderTrieShift;
+        this.slotCount = slotCount;
+        this.size = size;
+        hashCode = 0;
+    }
+
+    /**
+     * Returns an empty {@code PersistentJsonFieldMap}.
+     *
+     * @return the empty map.
+     */
+    public static PersistentJsonFieldMap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a new {@code PersistentJsonFieldMap} which contains the entries of the given map in its iteration order.
+     *
+     * @param fields the fields to be contained in the returned map.
+     * @return the new map.
+     * @throws NullPointerException if {@code fields} is {@code null}.
+     */
+    public static PersistentJsonFieldMap of(final Map<String, JsonField> fields) {
+        requireNonNull(fields, "The fields of JSON object must not be null!");
+        if (fields instanceof PersistentJsonFieldMap) {
+            return (PersistentJsonFieldMap) fields;
+        }
+
+        final List<Entry> entries = new ArrayList<>(fields.size());
+        for (final Map.Entry<String, JsonField> mapEntry : fields.entrySet()) {
+            final String key = requireNonNull(mapEntry.getKey(), "The key of a JSON field must not be null!");
+            final JsonField field = requireNonNull(mapEntry.getValue(), "The JSON field must not be null!");
+            entries.add(new Entry(key, field, entries.size()));
+        }
+        return ofEntries(entries);
+    }
+
+    private static PersistentJsonFieldMap ofEntries(final List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return EMPTY;
+        }
+
+        Object[] nodes = entries.toArray();
+        int shift = 0;
+        while (WIDTH < nodes.length) {
+            nodes = chunk(nodes);
+            shift += BITS;
+        }
+        final Node hashTrie = BitmapNode.build(entries, 0);
+
+        return new PersistentJsonFieldMap(hashTrie, nodes, shift, entries.size(), entries.size());
+    }
+
+    private static Object[] chunk(final Object[] nodes) {
+        final Object[] result = new Object[(nodes.length + MASK) >>> BITS];
+        for (int i = 0; i < result.length; i++) {
+            final int from = i << BITS;
+            result[i] = Arrays.copyOfRange(nodes, from, Math.min(from + WIDTH, nodes.length));
+        }
+        return result;
+    }
+
+    /**
+     * Returns a map which contains the given field. If this map already contains a field with the same key, the field
+     * is replaced but keeps its position; otherwise the field is appended.
+     *
+     * @param field the field to be set.
+     * @return a map containing {@code field} or this map if it already contained exactly this field.
+     * @throws NullPointerException if {@code field} is {@code null}.
+     */
+    public PersistentJsonFieldMap with(final JsonField field) {
+        return with(field, true);
+    }
+
+    /**
+     * Returns a map which contains the given field. Unlike {@link #with(JsonField)} an existing field which equals
+     * the given field is replaced as well; this is relevant if the value of the field is a JSON object whose members
+     * are in a different order.
+     *
+     * @param field the field to be set.
+     * @return a map containing {@code field}.
+     * @throws NullPointerException if {@code field} is {@code null}.
+     */
+    PersistentJsonFieldMap withReplaced(final JsonField field) {
+        return with(field, false);
+    }
+
+    private PersistentJsonFieldMap with(final JsonField field, final boolean keepEqualField) {
+        requireNonNull(field, "The JSON field to be set must not be null!");
+        final String key = field.getKeyName();
+        final Entry existingEntry = hashTrie.find(key, key.hashCode(), 0);
+
+        if (null != existingEntry) {
+            if (keepEqualField && field.equals(existingEntry.field)) {
+                return this;
+            }
+            final Entry entry = new Entry(key, field, existingEntry.index);
+            return new PersistentJsonFieldMap(hashTrie.put(entry, 0),
+                    setSlot(orderTrie, orderTrieShift, entry.index, entry), orderTrieShift, slotCount, size);
+        }
+
+        final Entry entry = new Entry(key, field, slotCount);
+        final Node newHashTrie = hashTrie.put(entry, 0);
+        if (slotCount == 1 << (orderTrieShift + BITS)) {
+            // the order trie is full, so it grows by one level
+            final Object[] newOrderTrie = {orderTrie, newPath(orderTrieShift, entry)};
+            return new PersistentJsonFieldMap(newHashTrie, newOrderTrie, orderTrieShift + BITS, slotCount + 1,
+                    size + 1);
+        }
+        return new PersistentJsonFieldMap(newHashTrie, appendSlot(orderTrie, orderTrieShift, slotCount, entry),
+                orderTrieShift, slotCount + 1, size + 1);
+    }
+
+    /**
+     * Returns a map which does not contain a field for the given key.
+     *
+     * @param key the key of the field to be removed.
+     * @return a map without a field for {@code key} or this map if it did not contain such a field.
+     * @throws NullPointerException if {@code key} is {@code null}.
+     */
+    public PersistentJsonFieldMap without(final String key) {
+        requireNonNull(key, "The key of the field to be removed must not be null!");
+        final int hash = key.hashCode();
+        final Entry existingEntry = hashTrie.find(key, hash, 0);
+        if (null == existingEntry) {
+            return this;
+        }
+        if (1 == size) {
+            return EMPTY;
+        }
+
+        final int newSize = size - 1;
+        final int gapCount = slotCount - newSize;
+        if (MIN_GAPS_FOR_COMPACTION <= gapCount && newSize < gapCount) {
+            return compactWithout(existingEntry);
+        }
+
+        Node newHashTrie = hashTrie.remove(key, hash, 0);
+        if (null == newHashTrie) {
+            newHashTrie = BitmapNode.EMPTY;
+        }
+        return new PersistentJsonFieldMap(newHashTrie, setSlot(orderTrie, orderTrieShift, existingEntry.index, null),
+                orderTrieShift, slotCount, newSize);
+    }
+
+    private PersistentJsonFieldMap compactWithout(final Entry removedEntry) {
+        final List<Entry> entries = new ArrayList<>(size - 1);
+        final EntryIterator entryIterator = new EntryIterator();
+        while (entryIterator.hasNext()) {
+            final Entry entry = entryIterator.next();
+            if (entry != removedEntry) {
+                entries.add(new Entry(entry.key, entry.field, entries.size()));
+            }
+        }
+        return ofEntries(entries);
+    }
+
+    private static Object[] setSlot(final Object[] node, final int shift, final int index,
+            @Nullable final Object value) {
+
+        final Object[] result = node.clone();
+        if (0 == shift) {
+            result[index & MASK] = value;
+        } else {
+            final int subIndex = (index >>> shift) & MASK;
+            result[subIndex] = setSlot((Object[]) node[subIndex], shift - BITS, index, value);
+        }
+        return result;
+    }
+
+    private static Object[] appendSlot(final Object[] node, final int shift, final int index, final Object value) {
+        final int subIndex = (index >>> shift) & MASK;
+        final Object[] result = Arrays.copyOf(node, Math.max(node.length, subIndex + 1));
+        if (0 == shift) {
+            result[subIndex] = value;
+        } else if (subIndex < node.length) {
+            result[subIndex] = appendSlot((Object[]) node[subIndex], shift - BITS, index, value);
+        } else {
+            result[subIndex] = newPath(shift - BITS, value);
+        }
+        return result;
+    }
+
+    private static Object[] newPath(final int shift, final Object value) {
+        if (0 == shift) {
+            return new Object[]{value};
+        }
+        return new Object[]{newPath(shift - BITS, value)};
+    }
+
+    @Nullable
+    @Override
+    public JsonField get(final Object key) {
+        if (key instanceof String) {
+            final Entry entry = hashTrie.find((String) key, key.hashCode(), 0);
+            if (null != entry) {
+                return entry.field;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return null != get(key);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+
+    @Override
+    public Collection<JsonField> values() {
+        return new AbstractCollection<JsonField>() {
+            @Override
+            public Iterator<JsonField> iterator() {
+                final EntryIterator entryIterator = new EntryIterator();
+                return new Iterator<JsonField>() {
+                    @Override
+                    public boolean hasNext() {
+                        return entryIterator.hasNext();
+                    }
+
+                    @Override
+                    public JsonField next() {
+                        return entryIterator.next().field;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public Set<Map.Entry<String, JsonField>> entrySet() {
+        return new AbstractSet<Map.Entry<String, JsonField>>() {
+            @Override
+            public Iterator<Map.Entry<String, JsonField>> iterator() {
+                final EntryIterator entryIterator = new EntryIterator();
+                return new Iterator<Map.Entry<String, JsonField>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return entryIterator.hasNext();
+                    }
+
+                    @Override
+                    public Map.Entry<String, JsonField> next() {
+                        final Entry entry = entryIterator.next();
+                        return new SimpleImmutableEntry<>(entry.key, entry.field);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @SuppressWarnings({"checkstyle:com.puppycrawl.tools.checkstyle.checks.metrics.CyclomaticComplexityCheck",
+            "squid:MethodCyclomaticComplexity"})
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PersistentJsonFieldMap)) {
+            return super.equals(o);
+        }
+        final PersistentJsonFieldMap that = (PersistentJsonFieldMap) o;
+        if (size != that.size) {
+            return false;
+        }
+        final EntryIterator entryIterator = new EntryIterator();
+        while (entryIterator.hasNext()) {
+            final Entry entry = entryIterator.next();
+            if (!entry.field.equals(that.get(entry.key))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        // lazily computed by using the Single-Check-Idiom like String does
+        int result = hashCode;
+        if (0 == result) {
+            final EntryIterator entryIterator = new EntryIterator();
+            while (entryIterator.hasNext()) {
+                final Entry entry = entryIterator.next();
+                result += entry.hash ^ entry.field.hashCode();
+            }
+            hashCode = result;
+        }
+        return result;
+    }
+
+    /**
+     * An entry of this map. The same entry instance is referenced by both tries.
+     */
+    @Immutable
+    private static final class Entry {
+
+        private final String key;
+        private final int hash;
+        private final JsonField field;
+        private final int index;
+
+        private Entry(final String key, final JsonField field, final int index) {
+            this.key = key;
+            hash = key.hashCode();
+            this.field = field;
+            this.index = index;
+        }
+
+    }
+
+    /**
+     * Iterates the entries of the order trie in insertion order while skipping gaps.
+     */
+    @NotThreadSafe
+    private final class EntryIterator implements Iterator<Entry> {
+
+        private int slotIndex;
+        private Object[] leaf;
+        @Nullable private Entry nextEntry;
+
+        private EntryIterator() {
+            slotIndex = 0;
+            leaf = EMPTY_ARRAY;
+            nextEntry = advance();
+        }
+
+        @Nullable
+        private Entry advance() {
+            while (slotIndex < slotCount) {
+                if (0 == (slotIndex & MASK)) {
+                    leaf = getLeaf(slotIndex);
+                }
+                final Object slot = leaf[slotIndex & MASK];
+                slotIndex++;
+                if (null != slot) {
+                    return (Entry) slot;
+                }
+            }
+            return null;
+        }
+
+        private Object[] getLeaf(final int index) {
+            Object[] node = orderTrie;
+            for (int shift = orderTrieShift; 0 < shift; shift -= BITS) {
+                node = (Object[]) node[(index >>> shift) & MASK];
+            }
+            return node;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return null != nextEntry;
+        }
+
+        @Override
+        public Entry next() {
+            final Entry result = nextEntry;
+            if (null == result) {
+                throw new NoSuchElementException();
+            }
+            nextEntry = advance();
+            return result;
+        }
+
+    }
+
+    /**
+     * A node of the hash array mapped trie.
+     */
+    private interface Node {
+
+        @Nullable
+        Entry find(String key, int hash, int shift);
+
+        Node put(Entry entry, int shift);
+
+        /**
+         * @return the node without the entry for {@code key} or {@code null} if the node would be empty.
+         */
+        @Nullable
+        Node remove(String key, int hash, int shift);
+
+    }
+
+    /**
+     * A node whose children are either entries or sub-nodes. The bitmap denotes which of the 32 possible hash
+     * fragments are present.
+     */
+    @Immutable
+    private static final class BitmapNode implements Node {
+
+        private static final BitmapNode EMPTY = new BitmapNode(0, EMPTY_ARRAY);
+
+        private final int bitmap;
+        private final Object[] children;
+
+        private BitmapNode(final int bitmap, final Object[] children) {
+            this.bitmap = bitmap;
+            this.children = children;
+        }
+
+        private static Node build(final List<Entry> entries, final int shift) {
+            final int firstHash = entries.get(0).hash;
+            if (entries.stream().allMatch(entry -> entry.hash == firstHash)) {
+                return 1 == entries.size()
+                        ? new BitmapNode(bit(firstHash, shift), new Object[]{entries.get(0)})
+                        : new CollisionNode(firstHash, entries.toArray(new Entry[entries.size()]));
+            }
+
+            // holds a list of entries per hash fragment
+            final Object[] buckets = new Object[WIDTH];
+            int bitmap = 0;
+            for (final Entry entry : entries) {
+                final int fragment = fragment(entry.hash, shift);
+                List<Entry> bucket = getBucket(buckets, fragment);
+                if (null == bucket) {
+                    bucket = new ArrayList<>(2);
+                    buckets[fragment] = bucket;
+                }
+                bucket.add(entry);
+                bitmap |= 1 << fragment;
+            }
+
+            final Object[] children = new Object[Integer.bitCount(bitmap)];
+            int childIndex = 0;
+            for (int fragment = 0; fragment < WIDTH; fragment++) {
+                final List<Entry> bucket = getBucket(buckets, fragment);
+                if (null != bucket) {
+                    children[childIndex++] = 1 == bucket.size() ? bucket.get(0) : build(bucket, shift + BITS);
+                }
+            }
+            return new BitmapNode(bitmap, children);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Nullable
+        private static List<Entry> getBucket(final Object[] buckets, final int fragment) {
+            return (List<Entry>) buckets[fragment];
+        }
+
+        private static int fragment(final int hash, final int shift) {
+            return (hash >>> shift) & MASK;
+        }
+
+        private static int bit(final int hash, final int shift) {
+            return 1 << fragment(hash, shift);
+        }
+
+        private int index(final int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Nullable
+        @Override
+        public Entry find(final String key, final int hash, final int shift) {
+            final int bit = bit(hash, shift);
+            if (0 == (bitmap & bit)) {
+                return null;
+            }
+            final Object child = children[index(bit)];
+            if (child instanceof Entry) {
+                final Entry entry = (Entry) child;
+                return entry.hash == hash && entry.key.equals(key) ? entry : null;
+            }
+            return ((Node) child).find(key, hash, shift + BITS);
+        }
+
+        @Override
+        public Node put(final Entry entry, final int shift) {
+            final int bit = bit(entry.hash, shift);
+            final int index = index(bit);
+            if (0 == (bitmap & bit)) {
+                final Object[] newChildren = new Object[children.length + 1];
+                System.arraycopy(children, 0, newChildren, 0, index);
+                newChildren[index] = entry;
+                System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+                return new BitmapNode(bitmap | bit, newChildren);
+            }
+
+            final Object child = children[index];
+            final Object newChild;
+            if (child instanceof Entry) {
+                final Entry existingEntry = (Entry) child;
+                if (existingEntry.hash == entry.hash && existingEntry.key.equals(entry.key)) {
+                    newChild = entry;
+                } else {
+                    newChild = createNode(existingEntry, entry, shift + BITS);
+                }
+            } else {
+                newChild = ((Node) child).put(entry, shift + BITS);
+            }
+            final Object[] newChildren = children.clone();
+            newChildren[index] = newChild;
+            return new BitmapNode(bitmap, newChildren);
+        }
+
+        private static Node createNode(final Entry entry1, final Entry entry2, final int shift) {
+            if (entry1.hash == entry2.hash) {
+                return new CollisionNode(entry1.hash, new Entry[]{entry1, entry2});
+            }
+            return EMPTY.put(entry1, shift).put(entry2, shift);
+        }
+
+        @Nullable
+        @Override
+        public Node remove(final String key, final int hash, final int shift) {
+            final int bit = bit(hash, shift);
+            if (0 == (bitmap & bit)) {
+                return this;
+            }
+            final int index = index(bit);
+            final Object child = children[index];
+            final Object newChild;
+            if (child instanceof Entry) {
+                final Entry entry = (Entry) child;
+                newChild = entry.hash == hash && entry.key.equals(key) ? null : entry;
+            } else {
+                newChild = ((Node) child).remove(key, hash, shift + BITS);
+            }
+
+            if (newChild == child) {
+                return this;
+            }
+            if (null == newChild) {
+                if (bitmap == bit) {
+                    return null;
+                }
+                final Object[] newChildren = new Object[children.length - 1];
+                System.arraycopy(children, 0, newChildren, 0, index);
+                System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+                return new BitmapNode(bitmap ^ bit, newChildren);
+            }
+            final Object[] newChildren = children.clone();
+            newChildren[index] = newChild;
+            return new BitmapNode(bitmap, newChildren);
+        }
+
+    }
+
+    /**
+     * A node for entries whose keys have the same hash code.
+     */
+    @Immutable
+    private static final class CollisionNode implements Node {
+
+        private final int hash;
+        private final Entry[] entries;
+
+        private CollisionNode(final int hash, final Entry[] entries) {
+            this.hash = hash;
+            this.entries = entries;
+        }
+
+        private int indexOf(final String key) {
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i].key.equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Nullable
+        @Override
+        public Entry find(final String key, final int hash, final int shift) {
+            if (this.hash != hash) {
+                return null;
+            }
+            final int index = indexOf(key);
+            return 0 <= index ? entries[index] : null;
+        }
+
+        @Override
+        public Node put(final Entry entry, final int shift) {
+            if (hash != entry.hash) {
+                // the new entry branches off at this level
+                final Node bitmapNode = new BitmapNode(BitmapNode.bit(hash, shift), new Object[]{this});
+                return bitmapNode.put(entry, shift);
+            }
+            final int index = indexOf(entry.key);
+            final Entry[] newEntries;
+            if (0 <= index) {
+                newEntries = entries.clone();
+                newEntries[index] = entry;
+            } else {
+                newEntries = Arrays.copyOf(entries, entries.length + 1);
+                newEntries[entries.length] = entry;
+            }
+            return new CollisionNode(hash, newEntries);
+        }
+
+        @Nullable
+        @Override
+        public Node remove(final String key, final int hash, final int shift) {
+            final int index = this.hash == hash ? indexOf(key) : -1;
+            if (0 > index) {
+                return this;
+            }
+            if (1 == entries.length) {
+                return null;
+            }
+            final Entry[] newEntries = new Entry[entries.length - 1];
+            System.arraycopy(entries, 0, newEntries, 0, index);
+            System.arraycopy(entries, index + 1, newEntries, index, entries.length - index - 1);
+            return new CollisionNode(hash, newEntries);
+        }
+
+    }
+
+}
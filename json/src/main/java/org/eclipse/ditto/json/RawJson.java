@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * The original text of a JSON document, either as string or as UTF-8 encoded bytes. It provides random access to the
+ * single code units of the text and allows to parse or copy regions of it. A region is always denoted by the index of
+ * its first code unit (inclusive) and the index after its last code unit (exclusive).
+ */
+@Immutable
+abstract class RawJson {
+
+    /**
+     * Indicates that an index is not within the text.
+     */
+    static final int END_OF_INPUT = -1;
+
+    /*
+     * A region which is shorter than this fraction of the whole text is copied when a lazy value is created for it.
+     */
+    private static final int MAX_SHARED_TEXT_PER_REGION = 2;
+
+    private RawJson() {
+        super();
+    }
+
+    /**
+     * Returns a new {@code RawJson} for the given string.
+     *
+     * @param json the JSON text.
+     * @return the RawJson.
+     * @throws NullPointerException if {@code json} is {@code null}.
+     */
+    static RawJson ofString(final String json) {
+        return new StringRawJson(requireNonNull(json, "The JSON string must not be null!"));
+    }
+
+    /**
+     * Returns a new {@code RawJson} for the given UTF-8 encoded bytes. The bytes are copied.
+     *
+     * @param utf8Bytes the UTF-8 encoded JSON text.
+     * @return the RawJson.
+     * @throws NullPointerException if {@code utf8Bytes} is {@code null}.
+     */
+    static RawJson ofUtf8Bytes(final byte[] utf8Bytes) {
+        return new Utf8RawJson(requireNonNull(utf8Bytes, "The JSON bytes must not be null!").clone());
+    }
+
+    /**
+     * Returns the text for a lazy JSON value which consists of the given region. Lazy values keep their text as long
+     * as they live, and nested lazy values may live much longer than the document they are part of, e.g. in a cache.
+     * Thus a region which makes up less than half of this text gets a copy of its own; a larger region shares this
+     * text. A lazy value therefore never keeps more than twice the length of its own text in memory.
+     *
+     * @param start the start index of the region.
+     * @param end the end index of the region.
+     * @return either this text or a copy of the region which starts at index {@code 0}.
+     * @see #getRegionStart(RawJson, int)
+     */
+    RawJson forRegion(final int start, final int end) {
+        if ((end - start) * MAX_SHARED_TEXT_PER_REGION < length()) {
+            return copyRegion(start, end);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the start index of a region in the text which {@link #forRegion(int, int)} returned for it.
+     *
+     * @param regionText the text which was returned for the region.
+     * @param start the start index of the region in this text.
+     * @return the start index of the region in {@code regionText}.
+     */
+    int getRegionStart(final RawJson regionText, final int start) {
+        return this == regionText ? start : 0;
+    }
+
+    /**
+     * Returns a copy of the given region as a text of its own.
+     *
+     * @param start the start index of the region.
+     * @param end the end index of the region.
+     * @return the copy.
+     */
+    abstract RawJson copyRegion(int start, int end);
+
+    /**
+     * Returns the number of code units of the text.
+     *
+     * @return the length.
+     */
+    abstract int length();
+
+    /**
+     * Returns the code unit at the given index, i. e. either a character or an unsigned byte.
+     *
+     * @param index the index of the code unit.
+     * @return the code unit or {@link #END_OF_INPUT} if {@code index} is not within the text.
+     */
+    abstract int codeUnitAt(int index);
+
+    /**
+     * Indicates whether the code units of this text are UTF-8 encoded bytes.
+     *
+     * @return {@code true} if the code units are bytes, {@code false} if they are characters.
+     */
+    abstract boolean isUtf8();
+
+    /**
+     * Parses the given region to a JSON value.
+     *
+     * @param start the start index of the region.
+     * @param end the end index of the region.
+     * @return the JSON value.
+     * @throws JsonValueParser.SyntaxException if the region is no valid JSON.
+     */
+    abstract JsonValue parse(int start, int end);
+
+    /**
+     * Returns a parser for the given region which has not read anything yet.
+     *
+     * @param start the start index of the region.
+     * @param end the end index of the region.
+     * @return the parser.
+     */
+    abstract JsonValueParser newParser(int start, int end);
+
+    /**
+     * Returns the given region as string.
+     *
+     * @param start the start index of the region.
+     * @param end the end index of the region.
+     * @return the characters of the region.
+     */
+    abstract String toString(int start, int end);
+
+    /**
+     * Appends the given region to the given StringBuilder.
+     *
+     * @param start the start index of the region.
+     * @param end the end index of the region.
+     * @param stringBuilder the StringBuilder to append to.
+     */
+    abstract void appendTo(int start, int end, StringBuilder stringBuilder);
+
+    /**
+     * Writes the given region UTF-8 encoded to the given stream.
+     *
+     * @param start the start index of the region.
+     * @param end the end index of the region.
+     * @param outputStream the stream to write to.
+     */
+    abstract void writeUtf8To(int start, int end, ByteArrayOutputStream outputStream);
+
+    @Immutable
+    private static final class StringRawJson extends RawJson {
+
+        private final String json;
+
+        private StringRawJson(final String json) {
+            this.json = json;
+        }
+
+        @Override
+        RawJson copyRegion(final int start, final int end) {
+            // String#substring copies the characters
+            return new StringRawJson(json.substring(start, end));
+        }
+
+        @Override
+        int length() {
+            return json.length();
+        }
+
+        @Override
+        int codeUnitAt(final int index) {
+            return index < json.length() ? json.charAt(index) : END_OF_INPUT;
+        }
+
+        @Override
+        boolean isUtf8() {
+            return false;
+        }
+
+        @Override
+        JsonValue parse(final int start, final int end) {
+            return JsonValueParser.parse(json, start, end);
+        }
+
+        @Override
+        JsonValueParser newParser(final int start, final int end) {
+            return JsonValueParser.forString(json, start, end);
+        }
+
+        @Override
+        String toString(final int start, final int end) {
+            return json.substring(start, end);
+        }
+
+        @Override
+        void appendTo(final int start, final int end, final StringBuilder stringBuilder) {
+            stringBuilder.append(json, start, end);
+        }
+
+        @Override
+        void writeUtf8To(final int start, final int end, final ByteArrayOutputStream outputStream) {
+            final byte[] bytes = toString(start, end).getBytes(StandardCharsets.UTF_8);
+            outputStream.write(bytes, 0, bytes.length);
+        }
+
+    }
+
+    @Immutable
+    private static final class Utf8RawJson extends RawJson {
+
+        private final byte[] utf8Bytes;
+
+        private Utf8RawJson(final byte[] utf8Bytes) {
+            this.utf8Bytes = utf8Bytes;
+        }
+
+        @Override
+        RawJson copyRegion(final int start, final int end) {
+            return new Utf8RawJson(Arrays.copyOfRange(utf8Bytes, start, end));
+        }
+
+        @Override
+        int length() {
+            return utf8Bytes.length;
+        }
+
+        @Override
+        int codeUnitAt(final int index) {
+            return index < utf8Bytes.length ? utf8Bytes[index] & 0xFF : END_OF_INPUT;
+        }
+
+        @Override
+        boolean isUtf8() {
+            return true;
+        }
+
+        @Override
+        JsonValue parse(final int start, final int end) {
+            return JsonValueParser.parse(ByteBuffer.wrap(utf8Bytes, start, end - start));
+        }
+
+        @Override
+        JsonValueParser newParser(final int start, final int end) {
+            return JsonValueParser.forUtf8Bytes(ByteBuffer.wrap(utf8Bytes, start, end - start));
+        }
+
+        @Override
+        String toString(final int start, final int end) {
+            return new String(utf8Bytes, start, end - start, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        void appendTo(final int start, final int end, final StringBuilder stringBuilder) {
+            stringBuilder.append(toString(start, end));
+        }
+
+        @Override
+        void writeUtf8To(final int start, final int end, final ByteArrayOutputStream outputStream) {
+            outputStream.write(utf8Bytes, start, end - start);
+        }
+
+    }
+
+}
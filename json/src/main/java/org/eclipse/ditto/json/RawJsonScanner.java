@@ -0,0 +1,662 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Scans a JSON object within a {@link RawJson} without creating any JSON values. The result is an {@link Index} of
+ * the offsets of the top-level members of the object. Nested values are only validated and skipped.
+ * <p>
+ * While scanning, the scanner determines for each member whether its original text is <em>verbatim</em>, i. e. equal
+ * to what {@link JsonValueWriter} would write for the parsed value. This is the case if the text contains no
+ * insignificant whitespace, no escape sequence other than those the writer uses and no duplicate keys. Numbers are
+ * always verbatim as the writer keeps their lexeme. Only verbatim text may be copied instead of being parsed and
+ * written again.
+ * </p>
+ * <p>
+ * The scanner accepts the same input as {@link JsonValueParser} with one exception: non-shortest UTF-8 encoded
+ * characters are rejected.
+ * </p>
+ */
+@NotThreadSafe
+final class RawJsonScanner {
+
+    /**
+     * Up to this number of members a JSON object is searched linearly for a key.
+     */
+    private static final int MAX_LINEAR_SEARCH_SIZE = 8;
+
+    private final RawJson rawJson;
+    private int position;
+    private boolean verbatim;
+    private boolean hasEscapeSequence;
+    private int[] keyHashes;
+    private int keyHashCount;
+
+    private RawJsonScanner(final RawJson rawJson, final int start) {
+        this.rawJson = rawJson;
+        position = start;
+        verbatim = true;
+        hasEscapeSequence = false;
+        keyHashes = new int[16];
+        keyHashCount = 0;
+    }
+
+    /**
+     * Scans the whole given text which has to consist of a JSON object with optional surrounding whitespace.
+     *
+     * @param rawJson the text to be scanned.
+     * @return the index of the JSON object.
+     * @throws JsonValueParser.SyntaxException if the text is no valid JSON or not a JSON object.
+     */
+    static Index scanDocument(final RawJson rawJson) {
+        final RawJsonScanner scanner = new RawJsonScanner(rawJson, 0);
+        scanner.skipWhitespace();
+        if ('{' != scanner.current()) {
+            throw scanner.unexpectedCharacter();
+        }
+        final Index result = scanner.scanIndexedObject();
+        scanner.skipWhitespace();
+        if (RawJson.END_OF_INPUT != scanner.current()) {
+            throw scanner.unexpectedCharacter();
+        }
+        return result;
+    }
+
+    /**
+     * Scans the JSON object which starts at the given index of the given text. The object has to be validated before.
+     *
+     * @param rawJson the text containing the JSON object.
+     * @param start the index of the opening brace of the JSON object.
+     * @return the index of the JSON object.
+     */
+    static Index scanObject(final RawJson rawJson, final int start) {
+        return new RawJsonScanner(rawJson, start).scanIndexedObject();
+    }
+
+    private Index scanIndexedObject() {
+        final int start = position;
+        final List<Member> members = new ArrayList<>();
+        Map<String, Member> membersByKey = null;
+        boolean isObjectVerbatim = true;
+        position++;
+        isObjectVerbatim &= !skipWhitespace();
+        if (!readIf('}')) {
+            do {
+                isObjectVerbatim &= !skipWhitespace();
+                final Member member = scanMember();
+                isObjectVerbatim &= !skipWhitespace();
+
+                if (null == membersByKey && MAX_LINEAR_SEARCH_SIZE < members.size()) {
+                    membersByKey = new HashMap<>();
+                    for (final Member m : members) {
+                        membersByKey.put(m.getKey(), m);
+                    }
+                }
+                final Member existingMember = null != membersByKey
+                        ? membersByKey.get(member.getKey())
+                        : findLinearly(members, member.getKey());
+                if (null != existingMember) {
+                    // like with parsing, the last value wins but the position of the first member is kept
+                    members.set(members.indexOf(existingMember), member);
+                    isObjectVerbatim = false;
+                } else {
+                    members.add(member);
+                }
+                if (null != membersByKey) {
+                    membersByKey.put(member.getKey(), member);
+                }
+                isObjectVerbatim &= member.isVerbatim();
+            } while (readIf(','));
+            expect('}');
+        }
+        return new Index(start, position, isObjectVerbatim, members, membersByKey);
+    }
+
+    @Nullable
+    private static Member findLinearly(final List<Member> members, final String key) {
+        for (final Member member : members) {
+            if (member.getKey().equals(key)) {
+                return member;
+            }
+        }
+        return null;
+    }
+
+    private Member scanMember() {
+        final int keyStart = position;
+        verbatim = true;
+        scanKey();
+        final int keyEnd = position;
+        final boolean isKeyVerbatim = verbatim;
+        final String key = isKeyVerbatim && !hasEscapeSequence
+                ? rawJson.toString(keyStart + 1, keyEnd - 1)
+                : rawJson.parse(keyStart, keyEnd).asString();
+
+        boolean isSeparatorVerbatim = !skipWhitespace();
+        expect(':');
+        isSeparatorVerbatim &= !skipWhitespace();
+
+        final int valueStart = position;
+        verbatim = true;
+        scanValue();
+        return new Member(key, keyStart, keyEnd, isKeyVerbatim, isSeparatorVerbatim, valueStart, position,
+                verbatim, '{' == rawJson.codeUnitAt(valueStart));
+    }
+
+    @SuppressWarnings({"squid:MethodCyclomaticComplexity",
+            "checkstyle:com.puppycrawl.tools.checkstyle.checks.metrics.CyclomaticComplexityCheck"})
+    private void scanValue() {
+        switch (current()) {
+            case '{':
+                scanNestedObject();
+                break;
+            case '[':
+                scanArray();
+                break;
+            case '"':
+                scanString();
+                break;
+            case 't':
+                scanLiteral("true");
+                break;
+            case 'f':
+                scanLiteral("false");
+                break;
+            case 'n':
+                scanLiteral("null");
+                break;
+            case '-':
+            case '0':
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+                scanNumber();
+                break;
+            default:
+                throw unexpectedCharacter();
+        }
+    }
+
+    private void scanNestedObject() {
+        final int keyHashesStart = keyHashCount;
+        position++;
+        skipNestedWhitespace();
+        if (!readIf('}')) {
+            do {
+                skipNestedWhitespace();
+                pushKeyHash(scanKey());
+                skipNestedWhitespace();
+                expect(':');
+                skipNestedWhitespace();
+                scanValue();
+                skipNestedWhitespace();
+            } while (readIf(','));
+            expect('}');
+        }
+        if (verbatim && hasDuplicateKeyHash(keyHashesStart)) {
+            verbatim = false;
+        }
+        keyHashCount = keyHashesStart;
+    }
+
+    private void pushKeyHash(final int keyHash) {
+        if (keyHashCount == keyHashes.length) {
+            keyHashes = Arrays.copyOf(keyHashes, keyHashes.length << 1);
+        }
+        keyHashes[keyHashCount++] = keyHash;
+    }
+
+    /*
+     * Equal hashes of the original key texts are regarded as duplicate keys. A false positive only means that the
+     * object is not copied verbatim.
+     */
+    private boolean hasDuplicateKeyHash(final int from) {
+        final int count = keyHashCount - from;
+        if (MAX_LINEAR_SEARCH_SIZE >= count) {
+            for (int i = from; i < keyHashCount; i++) {
+                for (int j = i + 1; j < keyHashCount; j++) {
+                    if (keyHashes[i] == keyHashes[j]) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+        final int[] sortedKeyHashes = Arrays.copyOfRange(keyHashes, from, keyHashCount);
+        Arrays.sort(sortedKeyHashes);
+        for (int i = 1; i < sortedKeyHashes.length; i++) {
+            if (sortedKeyHashes[i - 1] == sortedKeyHashes[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void scanArray() {
+        position++;
+        skipNestedWhitespace();
+        if (!readIf(']')) {
+            do {
+                skipNestedWhitespace();
+                scanValue();
+                skipNestedWhitespace();
+            } while (readIf(','));
+            expect(']');
+        }
+    }
+
+    private int scanKey() {
+        if ('"' != current()) {
+            throw unexpectedCharacter();
+        }
+        final int keyStart = position;
+        final int result = scanString();
+        if (keyStart + 2 == position) {
+            // JSON keys must not be empty
+            throw new JsonValueParser.SyntaxException(
+                    MessageFormat.format("Empty key at offset {0,number,#}!", keyStart));
+        }
+        return result;
+    }
+
+    /*
+     * Returns the hash of the original text of the string.
+     */
+    private int scanString() {
+        position++;
+        hasEscapeSequence = false;
+        int hash = 0;
+        int c = current();
+        while ('"' != c) {
+            if ('\\' == c) {
+                hasEscapeSequence = true;
+                position++;
+                c = current();
+                scanEscapeSequence();
+            } else if (0x20 > c) {
+                // covers END_OF_INPUT as well
+                throw unexpectedCharacter();
+            } else if (0x80 <= c && rawJson.isUtf8()) {
+                c = scanUtf8Sequence();
+            } else {
+                if ('\u2028' == c || '\u2029' == c) {
+                    // the writer escapes these characters
+                    verbatim = false;
+                }
+                position++;
+            }
+            hash = 31 * hash + c;
+            c = current();
+        }
+        position++;
+        return hash;
+    }
+
+    @SuppressWarnings({"squid:MethodCyclomaticComplexity",
+            "checkstyle:com.puppycrawl.tools.checkstyle.checks.metrics.CyclomaticComplexityCheck"})
+    private void scanEscapeSequence() {
+        switch (current()) {
+            case '"':
+            case '\\':
+            case 'n':
+            case 'r':
+            case 't':
+                // the writer uses the same escape sequences
+                break;
+            case '/':
+            case 'b':
+            case 'f':
+                verbatim = false;
+                break;
+            case 'u':
+                verbatim = false;
+                for (int i = 0; i < 4; i++) {
+                    position++;
+                    if (0 > Character.digit(current(), 16)) {
+                        throw unexpectedCharacter();
+                    }
+                }
+                break;
+            default:
+                throw unexpectedCharacter();
+        }
+        position++;
+    }
+
+    /*
+     * Validates a multi-byte UTF-8 sequence and returns the encoded code point. Overlong forms and encoded surrogates
+     * are rejected like the parser does; the line and paragraph separators are valid but cannot be copied verbatim.
+     */
+    private int scanUtf8Sequence() {
+        final int first = current();
+        final int codePoint;
+        position++;
+        if (0xC0 == (first & 0xE0)) {
+            codePoint = ((first & 0x1F) << 6) | readContinuation();
+            checkShortestForm(codePoint, 0x80);
+        } else if (0xE0 == (first & 0xF0)) {
+            codePoint = ((first & 0x0F) << 12) | (readContinuation() << 6) | readContinuation();
+            checkShortestForm(codePoint, 0x800);
+            if (Character.isSurrogate((char) codePoint)) {
+                throw malformedUtf8();
+            }
+            if (0x2028 == codePoint || 0x2029 == codePoint) {
+                verbatim = false;
+            }
+        } else if (0xF0 == (first & 0xF8)) {
+            codePoint = ((first & 0x07) << 18) | (readContinuation() << 12) | (readContinuation() << 6) |
+                    readContinuation();
+            if (!Character.isSupplementaryCodePoint(codePoint)) {
+                throw malformedUtf8();
+            }
+        } else {
+            throw malformedUtf8();
+        }
+        return codePoint;
+    }
+
+    private int readContinuation() {
+        final int b = current();
+        if (0x80 != (b & 0xC0)) {
+            // covers END_OF_INPUT as well
+            throw malformedUtf8();
+        }
+        position++;
+        return b & 0x3F;
+    }
+
+    private void checkShortestForm(final int codePoint, final int minCodePoint) {
+        if (codePoint < minCodePoint) {
+            throw malformedUtf8();
+        }
+    }
+
+    /*
+     * Numbers are always verbatim as the writer keeps their lexeme.
+     */
+    private void scanNumber() {
+        readIf('-');
+        if (!readIf('0')) {
+            skipDigits();
+        }
+        if (readIf('.')) {
+            skipDigits();
+        }
+        if (readIf('e') || readIf('E')) {
+            if (!readIf('+')) {
+                readIf('-');
+            }
+            skipDigits();
+        }
+    }
+
+    private void skipDigits() {
+        if (!isDigit()) {
+            throw unexpectedCharacter();
+        }
+        do {
+            position++;
+        } while (isDigit());
+    }
+
+    private boolean isDigit() {
+        final int c = current();
+        return '0' <= c && '9' >= c;
+    }
+
+    private void scanLiteral(final String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            expect(literal.charAt(i));
+        }
+    }
+
+    private void expect(final char expected) {
+        if (!readIf(expected)) {
+            throw unexpectedCharacter();
+        }
+    }
+
+    private boolean readIf(final char expected) {
+        if (expected == current()) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void skipNestedWhitespace() {
+        if (skipWhitespace()) {
+            verbatim = false;
+        }
+    }
+
+    private boolean skipWhitespace() {
+        final int start = position;
+        int c = current();
+        while (' ' == c || '\t' == c || '\n' == c || '\r' == c) {
+            position++;
+            c = current();
+        }
+        return position != start;
+    }
+
+    private int current() {
+        return rawJson.codeUnitAt(position);
+    }
+
+    private JsonValueParser.SyntaxException unexpectedCharacter() {
+        final int c = current();
+        if (RawJson.END_OF_INPUT == c) {
+            return new JsonValueParser.SyntaxException(
+                    MessageFormat.format("Unexpected end of input at offset {0,number,#}!", position));
+        }
+        return new JsonValueParser.SyntaxException(
+                MessageFormat.format("Unexpected character <{0}> at offset {1,number,#}!", (char) c, position));
+    }
+
+    private JsonValueParser.SyntaxException malformedUtf8() {
+        return new JsonValueParser.SyntaxException(
+                MessageFormat.format("Malformed UTF-8 input at byte {0,number,#}!", position));
+    }
+
+    /**
+     * The offsets of the top-level members of a scanned JSON object.
+     */
+    static final class Index {
+
+        private final int start;
+        private final int end;
+        private final boolean verbatim;
+        private final List<Member> members;
+        @Nullable private final Map<String, Member> membersByKey;
+
+        private Index(final int start, final int end, final boolean verbatim, final List<Member> members,
+                @Nullable final Map<String, Member> membersByKey) {
+
+            this.start = start;
+            this.end = end;
+            this.verbatim = verbatim;
+            this.members = members;
+            this.membersByKey = membersByKey;
+        }
+
+        /**
+         * Returns the index of the opening brace of the JSON object.
+         *
+         * @return the start index.
+         */
+        int getStart() {
+            return start;
+        }
+
+        /**
+         * Returns the index after the closing brace of the JSON object.
+         *
+         * @return the end index.
+         */
+        int getEnd() {
+            return end;
+        }
+
+        /**
+         * Indicates whether the whole text of the JSON object is verbatim.
+         *
+         * @return {@code true} if the text of the object can be copied, {@code false} else.
+         */
+        boolean isVerbatim() {
+            return verbatim;
+        }
+
+        /**
+         * Returns the members in the order of their first occurrence.
+         *
+         * @return the members.
+         */
+        List<Member> getMembers() {
+            return members;
+        }
+
+        /**
+         * Returns the member with the given key.
+         *
+         * @param key the key of the member.
+         * @return the member or {@code null} if the object has no member with {@code key}.
+         */
+        @Nullable
+        Member getMember(final String key) {
+            if (null != membersByKey) {
+                return membersByKey.get(key);
+            }
+            return findLinearly(members, key);
+        }
+
+    }
+
+    /**
+     * The offsets of the key and the value of a member of a scanned JSON object. The key offsets include the quotes.
+     * Additionally a member caches its parsed value.
+     */
+    static final class Member {
+
+        private final String key;
+        private final int keyStart;
+        private final int keyEnd;
+        private final boolean keyVerbatim;
+        private final boolean separatorVerbatim;
+        private final int valueStart;
+        private final int valueEnd;
+        private final boolean valueVerbatim;
+        private final boolean valueObject;
+        @Nullable private JsonValue value;
+
+        private Member(final String key, final int keyStart, final int keyEnd, final boolean keyVerbatim,
+                final boolean separatorVerbatim, final int valueStart, final int valueEnd,
+                final boolean valueVerbatim, final boolean valueObject) {
+
+            this.key = key;
+            this.keyStart = keyStart;
+            this.keyEnd = keyEnd;
+            this.keyVerbatim = keyVerbatim;
+            this.separatorVerbatim = separatorVerbatim;
+            this.valueStart = valueStart;
+            this.valueEnd = valueEnd;
+            this.valueVerbatim = valueVerbatim;
+            this.valueObject = valueObject;
+            value = null;
+        }
+
+        String getKey() {
+            return key;
+        }
+
+        int getKeyStart() {
+            return keyStart;
+        }
+
+        int getKeyEnd() {
+            return keyEnd;
+        }
+
+        boolean isKeyVerbatim() {
+            return keyVerbatim;
+        }
+
+        int getValueStart() {
+            return valueStart;
+        }
+
+        int getValueEnd() {
+            return valueEnd;
+        }
+
+        boolean isValueVerbatim() {
+            return valueVerbatim;
+        }
+
+        /**
+         * Indicates whether the whole text of this member from the start of the key to the end of the value is
+         * verbatim.
+         *
+         * @return {@code true} if the text of the member can be copied, {@code false} else.
+         */
+        boolean isVerbatim() {
+            return keyVerbatim && separatorVerbatim && valueVerbatim;
+        }
+
+        /**
+         * Indicates whether the value of this member is a JSON object.
+         *
+         * @return {@code true} if the value starts with an opening brace.
+         */
+        boolean isValueObject() {
+            return valueObject;
+        }
+
+        /**
+         * Returns the value of this member if it was already parsed by the owner of the index.
+         *
+         * @return the cached value or {@code null}.
+         */
+        @Nullable
+        JsonValue getValue() {
+            return value;
+        }
+
+        /**
+         * Caches the parsed value of this member. Each index is owned by exactly one JSON object which is the only
+         * one to call this method.
+         *
+         * @param value the parsed value.
+         */
+        void setValue(final JsonValue value) {
+            this.value = value;
+        }
+
+    }
+
+}
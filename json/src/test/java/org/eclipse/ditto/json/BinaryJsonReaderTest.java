@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link BinaryJsonReader}.
+ */
+public final class BinaryJsonReaderTest {
+
+    private static final String JSON_STRING = "{\"thingId\":\"org.eclipse.ditto:myThing\"," +
+            "\"attributes\":{\"manufacturer\":\"ACME\",\"serial\":1337,\"tags\":[true,false,null,\"\\\"\\n\"]," +
+            "\"location\":{\"longitude\":47.68217,\"latitude\":-9.386372},\"exp\":1e3,\"negativeZero\":-0," +
+            "\"huge\":12345678901234567890,\"min\":-9223372036854775808}," +
+            "\"features\":{\"lamp\":{\"properties\":{\"on\":true,\"unicode\":\"\u00e4\u20ac\uD83D\uDE00\"}}}," +
+            "\"empty\":{},\"list\":[]}";
+
+    private static JsonValue roundTrip(final JsonValue jsonValue) {
+        return BinaryJsonReader.read(BinaryJsonWriter.toBytes(jsonValue));
+    }
+
+    @Test
+    public void tryToReadNullBytes() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> BinaryJsonReader.read(null))
+                .withMessage("The bytes to read from must not be null!");
+    }
+
+    @Test
+    public void readValueEqualsWrittenValue() {
+        final JsonValue jsonValue = JsonFactory.readFrom(JSON_STRING);
+
+        final JsonValue actual = roundTrip(jsonValue);
+
+        assertThat(actual).isEqualTo(jsonValue);
+        assertThat(actual.hashCode()).isEqualTo(jsonValue.hashCode());
+        assertThat(actual.toString()).isEqualTo(jsonValue.toString());
+    }
+
+    @Test
+    public void numbersKeepTheirLexemes() {
+        for (final String lexeme : new String[]{"0", "-1", "1e3", "1E3", "-0", "-0.0", "1.5", "1.50", "2.5E-7",
+                "9223372036854775807", "9223372036854775808", "-9223372036854775809", "1e400"}) {
+            final JsonValue jsonNumber = JsonFactory.readFrom(lexeme);
+
+            assertThat(roundTrip(jsonNumber)).isEqualTo(jsonNumber);
+            assertThat(roundTrip(jsonNumber).toString()).isEqualTo(lexeme);
+        }
+    }
+
+    @Test
+    public void stringWithUnpairedSurrogatesIsRestored() {
+        final JsonValue jsonString = JsonFactory.newValue("\uDE00a\uD83D\uDE00\uD83D");
+
+        assertThat(roundTrip(jsonString)).isEqualTo(jsonString);
+    }
+
+    @Test
+    public void lazyObjectIsRestoredLikeParsedObject() {
+        final JsonObject lazyObject = JsonFactory.newLazyObject(JSON_STRING);
+
+        assertThat(roundTrip(lazyObject)).isEqualTo(JsonFactory.newObject(JSON_STRING));
+        assertThat(roundTrip(lazyObject).toString()).isEqualTo(lazyObject.toString());
+    }
+
+    @Test
+    public void keysOfEqualNameAreIdentical() {
+        final JsonArray jsonArray = roundTrip(JsonFactory.readFrom("[{\"id\":1},{\"id\":2}]")).asArray();
+
+        final JsonKey firstKey = jsonArray.get(0).get().asObject().getKeys().get(0);
+        final JsonKey secondKey = jsonArray.get(1).get().asObject().getKeys().get(0);
+
+        assertThat(secondKey).isSameAs(firstKey);
+    }
+
+    @Test
+    public void tryToReadWithoutMagicByte() {
+        assertThatExceptionOfType(BinaryJsonReader.FormatException.class)
+                .isThrownBy(() -> BinaryJsonReader.read(new byte[]{'{', '}'}))
+                .withMessage("The bytes are not in the binary JSON format!");
+    }
+
+    @Test
+    public void tryToReadUnsupportedVersion() {
+        assertThatExceptionOfType(BinaryJsonReader.FormatException.class)
+                .isThrownBy(() -> BinaryJsonReader.read(new byte[]{(byte) 0xD1, 2, 0}))
+                .withMessage("The binary JSON format version <2> is not supported!");
+    }
+
+    @Test
+    public void arraysOfNumbersAreReadUnboxed() {
+        final JsonValue expected = JsonFactory.readFrom("[[1,2,3],[0.5,-7],[1,1.50]]");
+
+        final JsonArray actual = BinaryJsonReader.read(BinaryJsonWriter.toBytes(expected)).asArray();
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.get(0).get()).isInstanceOf(ImmutableJsonNumberArray.class);
+        assertThat(actual.get(1).get()).isInstanceOf(ImmutableJsonNumberArray.class);
+        assertThat(actual.get(2).get()).isInstanceOf(ImmutableJsonArray.class);
+    }
+
+    @Test
+    public void tryToReadTruncatedBytes() {
+        final byte[] bytes = BinaryJsonWriter.toBytes(JsonFactory.readFrom(JSON_STRING));
+
+        assertThatExceptionOfType(BinaryJsonReader.FormatException.class)
+                .isThrownBy(() -> BinaryJsonReader.read(Arrays.copyOf(bytes, bytes.length - 1)));
+    }
+
+    @Test
+    public void tryToReadTrailingBytes() {
+        assertThatExceptionOfType(BinaryJsonReader.FormatException.class)
+                .isThrownBy(() -> BinaryJsonReader.read(new byte[]{(byte) 0xD1, 1, 2, 2}))
+                .withMessage("Unexpected byte <0x02> at offset 3!");
+    }
+
+    @Test
+    public void tryToReadUnknownKeyReference() {
+        assertThatExceptionOfType(BinaryJsonReader.FormatException.class)
+                .isThrownBy(() -> BinaryJsonReader.read(new byte[]{(byte) 0xD1, 1, 8, 3, 2, 0}))
+                .withMessage("Unknown key reference <1> before offset 4!");
+    }
+
+    @Test
+    public void tryToReadInvalidNumberLexeme() {
+        assertThatExceptionOfType(BinaryJsonReader.FormatException.class)
+                .isThrownBy(() -> BinaryJsonReader.read(new byte[]{(byte) 0xD1, 1, 5, 2, '"', '"'}))
+                .withMessage("Unexpected number <0x02> at offset 3!");
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link BinaryJsonWriter}.
+ */
+public final class BinaryJsonWriterTest {
+
+    private static final byte MAGIC = (byte) 0xD1;
+
+    @Test
+    public void tryToWriteNullValue() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> BinaryJsonWriter.toBytes(null))
+                .withMessage("The JSON value to be written must not be null!");
+    }
+
+    @Test
+    public void keysAreWrittenOnlyOnce() {
+        final JsonValue jsonValue = JsonFactory.readFrom("{\"a\":[{\"id\":1},{\"id\":-1}],\"b\":true}");
+
+        assertThat(BinaryJsonWriter.toBytes(jsonValue)).containsExactly(MAGIC, 1,
+                8, 2, 'a',
+                7,
+                8, 4, 'i', 'd', 3, 2, 0,
+                8, 3, 3, 1, 0,
+                9,
+                2, 'b', 2,
+                0);
+    }
+
+    @Test
+    public void numbersAreWrittenInBinaryFormIfLexemeCanBeRestored() {
+        assertThat(BinaryJsonWriter.toBytes(JsonFactory.newValue(-65))).containsExactly(MAGIC, 1, 3, (byte) 0x81, 1);
+        assertThat(BinaryJsonWriter.toBytes(JsonFactory.newValue(Long.MIN_VALUE)))
+                .containsExactly(MAGIC, 1, 3, -1, -1, -1, -1, -1, -1, -1, -1, -1, 1);
+        assertThat(BinaryJsonWriter.toBytes(JsonFactory.newValue(1.5)))
+                .containsExactly(MAGIC, 1, 4, 0x3F, (byte) 0xF8, 0, 0, 0, 0, 0, 0);
+    }
+
+    @Test
+    public void numbersKeepLexemeOtherwise() {
+        for (final String lexeme : new String[]{"1e3", "-0.0", "1.50", "9223372036854775808"}) {
+            final byte[] expected = new byte[lexeme.length() + 4];
+            expected[0] = MAGIC;
+            expected[1] = 1;
+            expected[2] = 5;
+            expected[3] = (byte) lexeme.length();
+            System.arraycopy(lexeme.getBytes(StandardCharsets.US_ASCII), 0, expected, 4, lexeme.length());
+
+            assertThat(BinaryJsonWriter.toBytes(JsonFactory.readFrom(lexeme))).containsExactly(expected);
+        }
+    }
+
+    @Test
+    public void stringsAreWrittenAsUtf8IncludingUnpairedSurrogates() {
+        final JsonValue jsonValue = JsonFactory.newValue("\u00e4\"\uD83D\uDE00\uD83D");
+
+        assertThat(BinaryJsonWriter.toBytes(jsonValue)).containsExactly(MAGIC, 1, 6, 10,
+                (byte) 0xC3, (byte) 0xA4,
+                '"',
+                (byte) 0xF0, (byte) 0x9F, (byte) 0x98, (byte) 0x80,
+                (byte) 0xED, (byte) 0xA0, (byte) 0xBD);
+    }
+
+    @Test
+    public void nullObjectIsWrittenAsNullLiteral() {
+        assertThat(BinaryJsonWriter.toBytes(JsonFactory.nullObject())).containsExactly(MAGIC, 1, 0);
+    }
+
+    @Test
+    public void binaryFormIsSmallerThanText() {
+        final JsonArray jsonArray = JsonFactory.newArrayBuilder()
+                .add(JsonFactory.newObject("{\"thingId\":\"org.eclipse.ditto:thing1\",\"revision\":123456}"))
+                .add(JsonFactory.newObject("{\"thingId\":\"org.eclipse.ditto:thing2\",\"revision\":654321}"))
+                .build();
+
+        assertThat(BinaryJsonWriter.toBytes(jsonArray).length).isLessThan(jsonArray.toUtf8Bytes().length);
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link BoundedInternPool}.
+ */
+public final class BoundedInternPoolTest {
+
+    @Test
+    public void tryToInternNullString() {
+        final BoundedInternPool<JsonKey> underTest = BoundedInternPool.newInstance(10, 10);
+
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> underTest.intern(null, JsonFactory::newKey))
+                .withMessage("The string must not be null!");
+    }
+
+    @Test
+    public void internReturnsSameInstanceForEqualStrings() {
+        final BoundedInternPool<JsonKey> underTest = BoundedInternPool.newInstance(10, 10);
+
+        final JsonKey first = underTest.intern("foo", JsonFactory::newKey);
+        final JsonKey second = underTest.intern(new String("foo"), JsonFactory::newKey);
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void tooLongStringsAreNotPooled() {
+        final BoundedInternPool<JsonKey> underTest = BoundedInternPool.newInstance(10, 2);
+
+        final JsonKey first = underTest.intern("foo", JsonFactory::newKey);
+        final JsonKey second = underTest.intern("foo", JsonFactory::newKey);
+
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+        assertThat(underTest.size()).isZero();
+    }
+
+    @Test
+    public void poolDoesNotExceedMaxSize() {
+        final BoundedInternPool<JsonKey> underTest = BoundedInternPool.newInstance(10, 10);
+
+        for (int i = 0; i < 100; i++) {
+            underTest.intern("key" + i, JsonFactory::newKey);
+        }
+
+        assertThat(underTest.size()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    public void fullPoolEvictsOnlyOneValueForEachNewValue() {
+        final BoundedInternPool<JsonKey> underTest = BoundedInternPool.newInstance(3, 10);
+        underTest.intern("foo", JsonFactory::newKey);
+        underTest.intern("bar", JsonFactory::newKey);
+        underTest.intern("baz", JsonFactory::newKey);
+
+        underTest.intern("qux", JsonFactory::newKey);
+
+        assertThat(underTest.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void frequentlyUsedValueStaysPooled() {
+        final BoundedInternPool<Object> underTest = BoundedInternPool.newInstance(3, 10);
+        final Object frequentlyUsed = underTest.intern("foo", string -> new Object());
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(underTest.intern("foo", string -> new Object())).isSameAs(frequentlyUsed);
+            underTest.intern("key" + i, string -> new Object());
+        }
+
+        assertThat(underTest.intern("foo", string -> new Object())).isSameAs(frequentlyUsed);
+        assertThat(underTest.size()).isLessThanOrEqualTo(3);
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CompiledJsonFieldSelector}.
+ */
+public final class CompiledJsonFieldSelectorTest {
+
+    private static final JsonFieldDefinition ATTRIBUTES_DEFINITION =
+            JsonFactory.newFieldDefinition("attributes", JsonObject.class);
+    private static final JsonFieldDefinition LOCATION_DEFINITION =
+            JsonFactory.newFieldDefinition("location", JsonObject.class);
+    private static final JsonFieldDefinition SERIAL_DEFINITION =
+            JsonFactory.newFieldDefinition("serial", Integer.class);
+
+    private static final ImmutableJsonObject THING = (ImmutableJsonObject) JsonFactory.newObjectBuilder()
+            .set("thingId", "org.eclipse.ditto:myThing")
+            .set(JsonFactory.newField(JsonFactory.newKey("attributes"), JsonFactory.newObjectBuilder()
+                    .set(JsonFactory.newField(JsonFactory.newKey("location"), JsonFactory.newObjectBuilder()
+                            .set("longitude", 47.68217)
+                            .set("latitude", -9.386372)
+                            .build(), LOCATION_DEFINITION))
+                    .set(JsonFactory.newField(JsonFactory.newKey("serial"), JsonFactory.newValue(1337),
+                            SERIAL_DEFINITION))
+                    .set("manufacturer", "ACME")
+                    .build(), ATTRIBUTES_DEFINITION))
+            .set("features", JsonFactory.newObject("{\"lamp\":{\"properties\":{\"on\":true}}}"))
+            .build();
+
+    private static JsonFieldSelector selectorOf(final String selectorString) {
+        return JsonFactory.newFieldSelector(selectorString,
+                JsonFactory.newParseOptionsBuilder().withoutUrlDecoding().build());
+    }
+
+    @Test
+    public void tryToCompileNullFieldSelector() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> CompiledJsonFieldSelector.of(null))
+                .withMessage("The JSON field selector must not be null!");
+    }
+
+    @Test
+    public void compiledSelectorIsCachedBySelectorString() {
+        final CompiledJsonFieldSelector compiled = CompiledJsonFieldSelector.of(selectorOf("thingId,attributes"));
+
+        assertThat(CompiledJsonFieldSelector.of(selectorOf("thingId,attributes"))).isSameAs(compiled);
+        assertThat(CompiledJsonFieldSelector.of(selectorOf("attributes,thingId"))).isNotSameAs(compiled);
+    }
+
+    @Test
+    public void selectorWhoseStringDoesNotReflectItsPointersIsNotMixedUp() {
+        final JsonFieldSelector withMisleadingString =
+                ImmutableJsonFieldSelector.of(Arrays.asList(JsonFactory.newPointer("features")), "thingId");
+
+        CompiledJsonFieldSelector.of(selectorOf("thingId"));
+        final JsonObject projection = CompiledJsonFieldSelector.of(withMisleadingString).project(THING);
+
+        assertThat(projection).isEqualTo(JsonFactory.newObjectBuilder()
+                .set("features", THING.getValue("features").get())
+                .build());
+    }
+
+    @Test
+    public void fieldsAreOrderedByFirstMatchingPointer() {
+        final JsonObject projection = CompiledJsonFieldSelector.of(
+                selectorOf("attributes/unknown/foo,features/lamp,attributes/manufacturer,thingId,attributes/serial"))
+                .project(THING);
+
+        assertThat(projection.toString()).isEqualTo("{\"features\":{\"lamp\":{\"properties\":{\"on\":true}}}," +
+                "\"attributes\":{\"manufacturer\":\"ACME\",\"serial\":1337},\"thingId\":\"org.eclipse.ditto:myThing\"}");
+    }
+
+    @Test
+    public void definitionsAreKeptOnPathOfFirstMatchingPointer() {
+        final JsonObject projection = CompiledJsonFieldSelector.of(
+                selectorOf("attributes/location/longitude,attributes/serial")).project(THING);
+
+        assertThat(projection.getField("attributes").flatMap(JsonField::getDefinition))
+                .contains(ATTRIBUTES_DEFINITION);
+        assertThat(projection.getField("attributes/location").flatMap(JsonField::getDefinition))
+                .contains(LOCATION_DEFINITION);
+        assertThat(projection.getField("attributes/serial").flatMap(JsonField::getDefinition)).isEmpty();
+    }
+
+    @Test
+    public void projectionEqualsPointerByPointerResolution() {
+        final JsonFieldSelector fieldSelector =
+                selectorOf("features/lamp/properties/on,attributes/location/latitude,attributes/serial,foo/bar");
+        final JsonObject expected = JsonFactory.newObjectBuilder()
+                .set(JsonFactory.newField(JsonFactory.newKey("features"), JsonFactory.newObject(
+                        "{\"lamp\":{\"properties\":{\"on\":true}}}")))
+                .set(JsonFactory.newField(JsonFactory.newKey("attributes"), JsonFactory.newObjectBuilder()
+                        .set(JsonFactory.newField(JsonFactory.newKey("location"), JsonFactory.newObjectBuilder()
+                                .set("latitude", -9.386372)
+                                .build(), LOCATION_DEFINITION))
+                        .set("serial", 1337)
+                        .build(), ATTRIBUTES_DEFINITION))
+                .build();
+
+        assertThat(CompiledJsonFieldSelector.of(fieldSelector).project(THING)).isEqualTo(expected);
+        assertThat(THING.get(fieldSelector)).isEqualTo(expected);
+    }
+
+    @Test
+    public void selectorWithPrefixPointerIsNotProjected() {
+        assertThat(CompiledJsonFieldSelector.of(selectorOf("attributes/serial,attributes")).project(THING)).isNull();
+        assertThat(CompiledJsonFieldSelector.of(selectorOf("attributes,attributes/serial")).project(THING)).isNull();
+    }
+
+    @Test
+    public void pointerThroughNonObjectValueIsNotProjected() {
+        final JsonFieldSelector fieldSelector = selectorOf("thingId/foo,attributes/serial");
+
+        assertThat(CompiledJsonFieldSelector.of(fieldSelector).project(THING)).isNull();
+        assertThat(THING.get(fieldSelector).getValue("thingId")).contains(JsonFactory.newValue(
+                "org.eclipse.ditto:myThing"));
+    }
+
+    @Test
+    public void lazyObjectIsProjectedLikeParsedObject() {
+        final JsonFieldSelector fieldSelector = selectorOf("features/lamp/properties/on,attributes/manufacturer");
+        final String jsonString = THING.toString();
+
+        assertThat(JsonFactory.newLazyObject(jsonString).get(fieldSelector))
+                .isEqualTo(JsonFactory.newObject(jsonString).get(fieldSelector));
+    }
+
+}
@@ -34,7 +34,10 @@ public final class ImmutableJsonKeyTest {
     /** */
     @Test
     public void testHashCodeAndEquals() {
-        EqualsVerifier.forClass(ImmutableJsonKey.class).suppress(Warning.NULL_FIELDS).verify();
+        EqualsVerifier.forClass(ImmutableJsonKey.class)
+                .suppress(Warning.NULL_FIELDS)
+                .withCachedHashCode("hashCode", "calculateHashCode", (ImmutableJsonKey) ImmutableJsonKey.of("foo"))
+                .verify();
     }
 
     /** */
@@ -42,7 +42,7 @@ public class ImmutableJsonNullTest {
 
         EqualsVerifier.forClass(ImmutableJsonNull.class) //
                 .withPrefabValues(SoftReference.class, red, black) //
-                .withIgnoredFields("stringRepresentation", "wrapped") //
+                .withIgnoredFields("stringRepresentation", "utf8Representation", "wrapped") //
                 .withRedefinedSuperclass() //
                 .verify();
 
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ImmutableJsonNumberArray}.
+ */
+public final class ImmutableJsonNumberArrayTest {
+
+    private static final String LONGS_STRING = "[23,-42,9223372036854775807]";
+    private static final String DOUBLES_STRING = "[0.5,-7,1.0E-10,3]";
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(ImmutableJsonNumberArray.class, areImmutable(),
+                assumingFields("values").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements(),
+                assumingFields("hashCode").areModifiedAsPartOfAnUnobservableCachingStrategy());
+    }
+
+    @Test
+    public void equalsImmutableJsonArrayWithSameElements() {
+        final JsonArray underTest = ImmutableJsonNumberArray.of(LongJsonValueList.of(new long[]{23L, -42L}));
+        final JsonArray boxed = ImmutableJsonArray.of(toList(JsonFactory.newValue(23), JsonFactory.newValue(-42)));
+
+        assertThat(underTest).isEqualTo(boxed);
+        assertThat(boxed).isEqualTo(underTest);
+        assertThat(underTest.hashCode()).isEqualTo(boxed.hashCode());
+        assertThat(underTest).isNotEqualTo(boxed.add(1));
+    }
+
+    @Test
+    public void equalsOnlyNumbersWithSameLexeme() {
+        final JsonArray underTest = ImmutableJsonNumberArray.of(DoubleJsonValueList.of(new double[]{1.0, 0.0}));
+
+        assertThat(underTest).isEqualTo(ImmutableJsonArray.of(toList(JsonFactory.readFrom("1"),
+                JsonFactory.readFrom("0"))));
+        assertThat(underTest).isNotEqualTo(ImmutableJsonArray.of(toList(JsonFactory.readFrom("1.0"),
+                JsonFactory.readFrom("0"))));
+        assertThat(underTest.contains(JsonFactory.readFrom("1"))).isTrue();
+        assertThat(underTest.contains(JsonFactory.readFrom("1.0"))).isFalse();
+        assertThat(underTest.indexOf(JsonFactory.readFrom("0"))).isEqualTo(1);
+        assertThat(underTest.indexOf(JsonFactory.readFrom("-0"))).isEqualTo(-1);
+    }
+
+    @Test
+    public void behavesLikeImmutableJsonArray() {
+        for (final String arrayString : new String[]{LONGS_STRING, DOUBLES_STRING}) {
+            final JsonArray underTest = JsonFactory.readFrom(arrayString).asArray();
+            final JsonArray boxed = JsonFactory.convert(com.eclipsesource.json.Json.parse(arrayString)).asArray();
+
+            assertThat(underTest).isInstanceOf(ImmutableJsonNumberArray.class);
+            assertThat(underTest.getSize()).isEqualTo(boxed.getSize());
+            assertThat(underTest.isEmpty()).isFalse();
+            assertThat(underTest.get(1)).isEqualTo(boxed.get(1));
+            assertThat(underTest.get(-1)).isEmpty();
+            assertThat(underTest.get(underTest.getSize())).isEmpty();
+            assertThat(underTest.stream()).containsExactlyElementsOf(boxed);
+            assertThat(underTest.contains(boxed.get(2).get())).isTrue();
+            assertThat(underTest.indexOf(boxed.get(2).get())).isEqualTo(2);
+            assertThat(underTest.toString()).isEqualTo(arrayString);
+            assertThat(underTest.toUtf8Bytes()).isEqualTo(arrayString.getBytes(StandardCharsets.UTF_8));
+            assertThat(underTest.toBinary()).isEqualTo(boxed.toBinary());
+        }
+    }
+
+    @Test
+    public void addingElementReturnsImmutableJsonArray() {
+        final JsonArray underTest = JsonFactory.readFrom(LONGS_STRING).asArray();
+
+        final JsonArray actual = underTest.add("foo");
+
+        assertThat(actual).isInstanceOf(ImmutableJsonArray.class);
+        assertThat(actual.toString()).isEqualTo("[23,-42,9223372036854775807,\"foo\"]");
+        assertThat(underTest.getSize()).isEqualTo(3);
+    }
+
+    @Test
+    public void iteratorDoesNotAlterArray() {
+        final JsonArray underTest = JsonFactory.readFrom(DOUBLES_STRING).asArray();
+
+        final Iterator<JsonValue> iterator = underTest.iterator();
+        iterator.next();
+        iterator.remove();
+
+        assertThat(underTest.toString()).isEqualTo(DOUBLES_STRING);
+    }
+
+    private static List<JsonValue> toList(final JsonValue... values) {
+        final List<JsonValue> result = new ArrayList<>();
+        for (final JsonValue value : values) {
+            result.add(value);
+        }
+        return result;
+    }
+
+}
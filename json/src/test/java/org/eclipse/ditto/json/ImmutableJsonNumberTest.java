@@ -13,6 +13,7 @@ package org.eclipse.ditto.json;
 
 import static org.eclipse.ditto.json.assertions.DittoJsonAssertions.assertThat;
 import static org.junit.Assert.fail;
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
@@ -42,7 +43,9 @@ public final class ImmutableJsonNumberTest {
 
     @Test
     public void assertImmutability() {
-        assertInstancesOf(ImmutableJsonNumber.class, areImmutable());
+        assertInstancesOf(ImmutableJsonNumber.class, areImmutable(),
+                assumingFields("isCanonicalLong", "longValue", "doubleValue", "isDecoded")
+                        .areModifiedAsPartOfAnUnobservableCachingStrategy());
     }
 
     @Test
@@ -51,7 +54,8 @@ public final class ImmutableJsonNumberTest {
         final SoftReference<JsonValue> black = new SoftReference<>(JsonFactory.newValue(42.0D));
 
         EqualsVerifier.forClass(ImmutableJsonNumber.class) //
-                .withIgnoredFields("stringRepresentation") //
+                .withIgnoredFields("stringRepresentation", "utf8Representation", "isCanonicalLong", "longValue",
+                        "doubleValue", "isDecoded") //
                 .withRedefinedSuperclass() //
                 .withPrefabValues(SoftReference.class, red, black) //
                 .suppress(Warning.REFERENCE_EQUALITY) //
@@ -133,6 +137,58 @@ public final class ImmutableJsonNumberTest {
         assertThat(doubleZero).isEqualTo(intZero);
     }
 
+    @Test
+    public void numberKeepsItsOriginalLexeme() {
+        for (final String lexeme : new String[]{"1.50", "1e3", "1E+3", "-0", "-0.0", "2.5E-7", "12345678901234567890"}) {
+            final ImmutableJsonNumber underTest = ImmutableJsonNumber.ofLexeme(lexeme);
+
+            assertThat(underTest.toString()).isEqualTo(lexeme);
+            assertThat(underTest.asDouble()).isEqualTo(Double.parseDouble(lexeme));
+        }
+    }
+
+    @Test
+    public void numbersWithDifferentLexemesAreNotEqual() {
+        assertThat(ImmutableJsonNumber.ofLexeme("1.5")).isNotEqualTo(ImmutableJsonNumber.ofLexeme("1.50"));
+        assertThat(ImmutableJsonNumber.ofLexeme("1000")).isNotEqualTo(ImmutableJsonNumber.ofLexeme("1e3"));
+    }
+
+    @Test
+    public void lexemeIsDecodedOnlyOnDemand() {
+        final ImmutableJsonNumber underTest = ImmutableJsonNumber.ofLexeme("2.5E-7");
+
+        assertThat(underTest.toString()).isEqualTo("2.5E-7");
+        assertThat(underTest).isEqualTo(ImmutableJsonNumber.ofLexeme("2.5E-7"));
+        assertThat(underTest.isDecoded()).isFalse();
+
+        assertThat(underTest.asDouble()).isEqualTo(2.5E-7);
+        assertThat(underTest.isDecoded()).isTrue();
+    }
+
+    @Test
+    public void numberWithCanonicalLongLexemeIsDecodedOnce() {
+        final ImmutableJsonNumber underTest = ImmutableJsonNumber.ofLexeme("-9223372036854775808");
+
+        assertThat(underTest.hasCanonicalLongLexeme()).isTrue();
+        assertThat(underTest.asLong()).isEqualTo(Long.MIN_VALUE);
+        assertThat(underTest.asDouble()).isEqualTo((double) Long.MIN_VALUE);
+        assertNumberFormatException(underTest::asInt);
+    }
+
+    @Test
+    public void numberOfPrimitiveEqualsNumberOfMinimalJsonValue() {
+        assertThat(ImmutableJsonNumber.of(4223L)).isEqualTo(ImmutableJsonNumber.of(Json.value(4223L)));
+        assertThat(ImmutableJsonNumber.of(42.23D)).isEqualTo(ImmutableJsonNumber.of(Json.value(42.23D)));
+        assertThat(ImmutableJsonNumber.of(1.0E10D)).isEqualTo(ImmutableJsonNumber.of(Json.value(1.0E10D)));
+        assertThat(ImmutableJsonNumber.of(-0.0D)).isEqualTo(ImmutableJsonNumber.of(Json.value(-0.0D)));
+        assertThat(ImmutableJsonNumber.of(3.0D).asLong()).isEqualTo(3L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tryToCreateInstanceFromInfiniteDouble() {
+        ImmutableJsonNumber.of(Double.POSITIVE_INFINITY);
+    }
+
     @Test
     public void jsonNumberIsRepresentationOfJsonValue() {
         final ImmutableJsonNumber underTest = ImmutableJsonNumber.of(Json.value(0.0D));
@@ -16,7 +16,7 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.eclipse.ditto.json.JsonFactory.newPointer;
 import static org.eclipse.ditto.json.assertions.DittoJsonAssertions.assertThat;
 import static org.mockito.Mockito.mock;
-import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
@@ -72,7 +72,7 @@ public final class ImmutableJsonObjectTest {
     public void assertImmutability() {
         assertInstancesOf(ImmutableJsonObject.class,
                 areImmutable(),
-                assumingFields("fields").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
+                provided(PersistentJsonFieldMap.class).isAlsoImmutable());
     }
 
     @Test
@@ -81,8 +81,10 @@ public final class ImmutableJsonObjectTest {
         final SoftReference<JsonObject> black = new SoftReference<>(JsonFactory.newObject("{\"foo\": 2}"));
 
         EqualsVerifier.forClass(ImmutableJsonObject.class) //
-                .withIgnoredFields("stringRepresentation") //
+                .withIgnoredFields("stringRepresentation", "utf8Representation") //
                 .withPrefabValues(SoftReference.class, red, black) //
+                .withPrefabValues(PersistentJsonFieldMap.class, PersistentJsonFieldMap.of(toMap("foo", 1)),
+                        PersistentJsonFieldMap.of(toMap("foo", 2))) //
                 .verify();
     }
 
@@ -1268,6 +1270,25 @@ public final class ImmutableJsonObjectTest {
         assertThat(underTest.isRepresentationOfJavaType(boolean.class)).isFalse();
     }
 
+    @Test
+    public void setValueForDeepPointerSharesUntouchedValues() {
+        final JsonObject siblingObject = JsonFactory.newObjectBuilder()
+                .set("foo", KNOWN_VALUE_FOO)
+                .set("bar", KNOWN_VALUE_BAR)
+                .build();
+        final JsonObject underTest = ImmutableJsonObject.empty()
+                .setValue("sibling", siblingObject)
+                .setValue("/features/thermometer/properties/value", KNOWN_INT_23);
+
+        final JsonObject actual = underTest.setValue("/features/thermometer/properties/value", KNOWN_INT_42);
+
+        assertThat(actual.getValue("sibling")).containsSame(siblingObject);
+        assertThat(actual.getValue("/features/thermometer/properties/value"))
+                .contains(JsonFactory.newValue(KNOWN_INT_42));
+        assertThat(underTest.getValue("/features/thermometer/properties/value"))
+                .contains(JsonFactory.newValue(KNOWN_INT_23));
+    }
+
     private static Map<String, JsonField> toMap(final CharSequence key, final JsonValue value) {
         final Map<String, JsonField> result = new HashMap<>();
         result.put(key.toString(), JsonFactory.newField(JsonFactory.newKey(key), value));
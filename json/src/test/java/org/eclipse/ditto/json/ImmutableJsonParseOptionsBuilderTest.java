@@ -32,4 +32,20 @@ public class ImmutableJsonParseOptionsBuilderTest {
         final JsonParseOptions optionsFalse2 = JsonFactory.newParseOptionsBuilder().withoutUrlDecoding().build();
         assertThat(optionsFalse2.isApplyUrlDecoding()).isFalse();
     }
+
+    @Test
+    public void buildWithBuilderAndCheckForKeyInterning() {
+        final JsonParseOptions options = JsonFactory.newParseOptionsBuilder().withKeyInterning().build();
+        assertThat(options.isInternKeys()).isTrue();
+        assertThat(options.isApplyUrlDecoding()).isFalse();
+
+        final JsonParseOptions optionsFalse = JsonFactory.newParseOptionsBuilder().build();
+        assertThat(optionsFalse.isInternKeys()).isFalse();
+
+        final JsonParseOptions optionsFalse2 = JsonFactory.newParseOptionsBuilder()
+                .withKeyInterning()
+                .withoutKeyInterning()
+                .build();
+        assertThat(optionsFalse2.isInternKeys()).isFalse();
+    }
 }
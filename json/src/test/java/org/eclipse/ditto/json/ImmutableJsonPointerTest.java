@@ -322,4 +322,41 @@ public final class ImmutableJsonPointerTest {
         assertThat(underTest.toString()).isEqualTo("/foo/~0dum~1~0die~1~0dum/baz");
     }
 
+    @Test
+    public void parsingSameStringTwiceReturnsPooledInstance() {
+        final JsonPointer firstPointer = ImmutableJsonPointer.ofParsed("/features/thermometer/properties");
+        final JsonPointer secondPointer =
+                ImmutableJsonPointer.ofParsed(new StringBuilder("/features/thermometer/properties"));
+
+        assertThat(secondPointer).isSameAs(firstPointer);
+    }
+
+    @Test
+    public void parsedPointersShareKeys() {
+        final JsonPointer fooPointer = ImmutableJsonPointer.ofParsed("/attributes/foo");
+        final JsonPointer barPointer = ImmutableJsonPointer.ofParsed("/attributes/bar");
+
+        assertThat(fooPointer.getRoot().get()).isSameAs(barPointer.getRoot().get());
+    }
+
+    @Test
+    public void consecutiveSlashesAreParsedAsBefore() {
+        final JsonPointer underTest = ImmutableJsonPointer.ofParsed("//foo//bar/");
+
+        assertThat(underTest).hasLevelCount(2);
+        assertThat(underTest.get(0)).contains(JsonFactory.newKey("foo/"));
+        assertThat(underTest.get(1)).contains(JsonFactory.newKey("bar"));
+    }
+
+    @Test
+    public void getSubPointerAndPrefixPointerForInvalidLevelAreEmpty() {
+        final JsonPointer underTest = ImmutableJsonPointer.ofParsed("/foo/bar");
+
+        assertThat(underTest.getSubPointer(-1)).isEmpty();
+        assertThat(underTest.getSubPointer(3)).isEmpty();
+        assertThat(underTest.getPrefixPointer(-1)).isEmpty();
+        assertThat(underTest.getPrefixPointer(3)).isEmpty();
+        assertThat(underTest.getSubPointer(2)).contains(ImmutableJsonPointer.empty());
+    }
+
 }
@@ -42,7 +42,7 @@ public final class ImmutableJsonStringTest {
         final SoftReference<JsonValue> black = new SoftReference<>(JsonFactory.newValue("black"));
 
         EqualsVerifier.forClass(ImmutableJsonString.class) //
-                .withIgnoredFields("stringRepresentation") //
+                .withIgnoredFields("stringRepresentation", "utf8Representation") //
                 .withRedefinedSuperclass() //
                 .withPrefabValues(SoftReference.class, red, black) //
                 .suppress(Warning.REFERENCE_EQUALITY) //
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonDiff}.
+ */
+public final class JsonDiffTest {
+
+    private static final JsonObject SOURCE = JsonFactory.newObject("{\"thingId\":\"org.eclipse.ditto:myThing\"," +
+            "\"attributes\":{\"manufacturer\":\"ACME\",\"serial\":1337,\"tags\":[\"a\",\"b\"]," +
+            "\"location\":{\"longitude\":47.68217,\"latitude\":-9.386372}}," +
+            "\"features\":{\"lamp\":{\"properties\":{\"on\":true,\"color\":\"red\"}}," +
+            "\"sensor\":{\"properties\":{\"value\":1}}}}");
+
+    private static JsonPatch patch(final JsonPatch.Operation operation, final String path, final JsonValue value) {
+        return JsonFactory.newPatch(operation, JsonFactory.newPointer(path), value);
+    }
+
+    @Test
+    public void tryToDiffWithNullSource() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> JsonDiff.diff(null, SOURCE))
+                .withMessage("The source JSON object must not be null!");
+    }
+
+    @Test
+    public void tryToDiffWithNullTarget() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> JsonDiff.diff(SOURCE, null))
+                .withMessage("The target JSON object must not be null!");
+    }
+
+    @Test
+    public void diffOfEqualObjectsIsEmpty() {
+        assertThat(JsonDiff.diff(SOURCE, SOURCE)).isEmpty();
+        assertThat(JsonDiff.diff(SOURCE, JsonFactory.newObject(SOURCE.toString()))).isEmpty();
+        assertThat(JsonDiff.diff(SOURCE, JsonFactory.newLazyObject(SOURCE.toString()))).isEmpty();
+    }
+
+    @Test
+    public void onlyChangedPathsArePatched() {
+        final JsonObject target = SOURCE.setValue(JsonFactory.newPointer("attributes/serial"), 42)
+                .remove(JsonFactory.newPointer("features/lamp/properties/color"))
+                .setValue(JsonFactory.newPointer("features/lamp/properties/brightness"), 0.5)
+                .setValue(JsonFactory.newPointer("attributes/tags"), JsonFactory.newArrayBuilder().add("a").build());
+
+        final List<JsonPatch> actual = JsonDiff.diff(SOURCE, target);
+
+        assertThat(actual).containsExactly(
+                patch(JsonPatch.Operation.REPLACE, "/attributes/serial", JsonFactory.newValue(42)),
+                patch(JsonPatch.Operation.REPLACE, "/attributes/tags", JsonFactory.newArrayBuilder().add("a").build()),
+                patch(JsonPatch.Operation.REMOVE, "/features/lamp/properties/color", null),
+                patch(JsonPatch.Operation.ADD, "/features/lamp/properties/brightness", JsonFactory.newValue(0.5)));
+    }
+
+    @Test
+    public void objectWithoutCommonMembersIsReplacedAsWhole() {
+        final JsonObject location = JsonFactory.newObject("{\"x\":1,\"y\":2}");
+        final JsonObject target = SOURCE.setValue(JsonFactory.newPointer("attributes/location"), location);
+
+        assertThat(JsonDiff.diff(SOURCE, target))
+                .containsExactly(patch(JsonPatch.Operation.REPLACE, "/attributes/location", location));
+    }
+
+    @Test
+    public void objectReplacingOtherValueIsReplacedAsWhole() {
+        final JsonObject target = SOURCE.setValue("thingId", JsonFactory.newObject("{\"namespace\":\"foo\"}"));
+
+        assertThat(JsonDiff.diff(SOURCE, target)).containsExactly(
+                patch(JsonPatch.Operation.REPLACE, "/thingId", JsonFactory.newObject("{\"namespace\":\"foo\"}")));
+    }
+
+    @Test
+    public void applyingDiffToSourceYieldsTarget() {
+        final JsonObject target = JsonFactory.newObject("{\"thingId\":\"org.eclipse.ditto:myThing\"," +
+                "\"attributes\":{\"serial\":1338,\"tags\":[\"a\",\"b\"],\"location\":{\"longitude\":47.68217}}," +
+                "\"features\":{\"sensor\":{\"properties\":{\"value\":2}},\"lamp\":{\"properties\":{\"on\":false}}}," +
+                "\"policyId\":\"org.eclipse.ditto:myPolicy\"}");
+
+        final List<JsonPatch> patches = JsonDiff.diff(SOURCE, target);
+
+        assertThat(JsonFactory.applyPatches(SOURCE, patches)).isEqualTo(target);
+        assertThat(JsonDiff.diff(target, SOURCE)).isNotEmpty();
+        assertThat(JsonFactory.applyPatches(target, JsonDiff.diff(target, SOURCE))).isEqualTo(SOURCE);
+    }
+
+}
@@ -19,6 +19,8 @@ import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable
 
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -203,6 +205,58 @@ public final class JsonFactoryTest {
         assertThat(underTest).contains(JsonFactory.newKey("properties"), expectedProperties);
     }
 
+    @Test(expected = NullPointerException.class)
+    public void tryToCreateNewLazyObjectFromNullString() {
+        JsonFactory.newLazyObject((String) null);
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void tryToCreateNewLazyObjectFromEmptyString() {
+        JsonFactory.newLazyObject("");
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void tryToCreateNewLazyObjectFromNullLiteral() {
+        JsonFactory.newLazyObject("null");
+    }
+
+    @Test
+    public void newLazyObjectFromStringEqualsParsedObject() {
+        final JsonObject underTest = JsonFactory.newLazyObject(KNOWN_JSON_OBJECT_STRING);
+
+        assertThat(underTest).isObject();
+        assertThat(underTest).isEqualTo(JsonFactory.newObject(KNOWN_JSON_OBJECT_STRING));
+    }
+
+    @Test
+    public void newLazyObjectFromBytesEqualsParsedObject() {
+        final JsonObject underTest =
+                JsonFactory.newLazyObject(KNOWN_JSON_OBJECT_STRING.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(underTest).isObject();
+        assertThat(underTest).isEqualTo(JsonFactory.newObject(KNOWN_JSON_OBJECT_STRING));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void tryToCreateNewPullParserFromNullString() {
+        JsonFactory.newPullParser((String) null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void tryToCreateNewPullParserFromNullReader() {
+        JsonFactory.newPullParser((Reader) null);
+    }
+
+    @Test
+    public void pullParserFromBytesReadsSameValueAsParser() {
+        final JsonPullParser underTest =
+                JsonFactory.newPullParser(KNOWN_JSON_OBJECT_STRING.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(underTest.nextToken()).isEqualTo(JsonToken.BEGIN_OBJECT);
+        assertThat(underTest.readValue()).isEqualTo(JsonFactory.readFrom(KNOWN_JSON_OBJECT_STRING));
+        assertThat(underTest.nextToken()).isEqualTo(JsonToken.END_OF_DOCUMENT);
+    }
+
     @Test(expected = NullPointerException.class)
     public void tryToCreateNewObjectBuilderFromNullIterable() {
         JsonFactory.newArrayBuilder(null);
@@ -431,6 +485,84 @@ public final class JsonFactoryTest {
         assertThat((JsonArray) jsonValue).contains("two");
     }
 
+    @Test
+    public void readFromUtf8BytesReturnsExpected() {
+        final JsonValue expected = JsonFactory.newObject().setValue("foo", "b\u00e4r");
+        final JsonValue actual = JsonFactory.readFrom("{\"foo\":\"b\u00e4r\"}".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    public void readFromWithKeyInterningReusesKeys() {
+        final JsonParseOptions options = JsonFactory.newParseOptionsBuilder().withKeyInterning().build();
+        final String jsonString = "{\"thingId\":\"foo:bar\",\"attributes\":{\"thingId\":42}}";
+        final JsonObject first = JsonFactory.readFrom(jsonString, options).asObject();
+        final JsonObject second = JsonFactory.readFrom(jsonString, options).asObject();
+
+        assertThat(first).isEqualTo(JsonFactory.readFrom(jsonString));
+        assertThat(second.getKeys().get(0)).isSameAs(first.getKeys().get(0));
+        assertThat(second.getValue("attributes").get().asObject().getKeys().get(0))
+                .isSameAs(first.getKeys().get(0));
+    }
+
+    @Test
+    public void readFromWithUrlDecodingDecodesString() {
+        final JsonParseOptions options = JsonFactory.newParseOptionsBuilder().withUrlDecoding().build();
+        final JsonValue expected = JsonFactory.newObject().setValue("foo", "b a");
+        final JsonValue actual = JsonFactory.readFrom("%7B%22foo%22%3A%22b+a%22%7D", options);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void tryToReadFromInvalidUrlEncodedString() {
+        final JsonParseOptions options = JsonFactory.newParseOptionsBuilder().withUrlDecoding().build();
+        JsonFactory.readFrom("%7B%2", options);
+    }
+
+    @Test
+    public void newObjectWithParseOptionsReturnsExpected() {
+        final JsonParseOptions options = JsonFactory.newParseOptionsBuilder().withKeyInterning().build();
+        final JsonObject actual = JsonFactory.newObject(KNOWN_JSON_OBJECT_STRING, options);
+
+        assertThat(actual).isEqualTo(JsonFactory.newObject(KNOWN_JSON_OBJECT_STRING));
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void tryToCreateObjectWithParseOptionsFromArrayString() {
+        JsonFactory.newObject(KNOWN_JSON_ARRAY_STRING, JsonFactory.newParseOptionsBuilder().build());
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void tryToReadFromEmptyByteBuffer() {
+        JsonFactory.readFrom(ByteBuffer.allocate(0));
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void tryToReadFromInvalidUtf8Bytes() {
+        JsonFactory.readFrom("{\"foo\":".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void tryToReadFromNullBinary() {
+        JsonFactory.readFromBinary(null);
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void tryToReadFromTextAsBinary() {
+        JsonFactory.readFromBinary(KNOWN_JSON_OBJECT_STRING.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void readFromBinaryReturnsExpected() {
+        final JsonValue expected = JsonFactory.readFrom(KNOWN_JSON_OBJECT_STRING);
+        final JsonValue actual = JsonFactory.readFromBinary(expected.toBinary());
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.toString()).isEqualTo(expected.toString());
+    }
+
     @Test(expected = NullPointerException.class)
     public void tryToCreateNewFieldSelectorWithNullSet() {
         JsonFactory.newFieldSelector((Iterable<JsonPointer>) null);
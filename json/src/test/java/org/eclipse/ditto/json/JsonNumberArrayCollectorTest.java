@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonNumberArrayCollector}.
+ */
+public final class JsonNumberArrayCollectorTest {
+
+    @Test
+    public void buildWithoutNumbersReturnsEmptyArray() {
+        final JsonArray actual = new JsonNumberArrayCollector().build();
+
+        assertThat(actual).isInstanceOf(ImmutableJsonArray.class);
+        assertThat(actual.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void collectsManyLongs() {
+        final JsonNumberArrayCollector underTest = new JsonNumberArrayCollector();
+        final JsonArrayBuilder expected = JsonFactory.newArrayBuilder();
+        for (long i = 0; i < 100; i++) {
+            assertThat(underTest.addLong(i * 1_000_000_000L)).isTrue();
+            expected.add(i * 1_000_000_000L);
+        }
+
+        final JsonArray actual = underTest.build();
+
+        assertThat(actual).isInstanceOf(ImmutableJsonNumberArray.class);
+        assertThat(actual).isEqualTo(expected.build());
+    }
+
+    @Test
+    public void switchesToDoublesIfLongsHaveSameLexeme() {
+        final JsonNumberArrayCollector underTest = new JsonNumberArrayCollector();
+        underTest.addLong(1L);
+        underTest.addLong(-9_999_999L);
+
+        assertThat(underTest.addDouble(2.5)).isTrue();
+        assertThat(underTest.addLong(3L)).isTrue();
+        assertThat(underTest.build().toString()).isEqualTo("[1,-9999999,2.5,3]");
+    }
+
+    @Test
+    public void rejectsNumbersWhoseLexemeWouldChange() {
+        final JsonNumberArrayCollector underTest = new JsonNumberArrayCollector();
+        underTest.addLong(10_000_000L);
+
+        assertThat(underTest.addDouble(2.5)).isFalse();
+
+        final JsonNumberArrayCollector withDouble = new JsonNumberArrayCollector();
+        withDouble.addDouble(2.5);
+
+        assertThat(withDouble.addLong(10_000_000L)).isFalse();
+        assertThat(withDouble.build().toString()).isEqualTo("[2.5]");
+    }
+
+    @Test
+    public void toValuesReturnsBoxedNumbers() {
+        final JsonNumberArrayCollector underTest = new JsonNumberArrayCollector();
+        underTest.addLong(10_000_000L);
+        underTest.addLong(-1L);
+
+        assertThat(underTest.toValues())
+                .containsExactly(JsonFactory.newValue(10_000_000L), JsonFactory.newValue(-1L));
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.eclipsesource.json.Json;
+
+/**
+ * Compares parsing JSON with Minimal JSON plus conversion to Ditto JSON values (the former parsing path) against
+ * parsing with {@link JsonValueParser}.
+ */
+@State(Scope.Benchmark)
+public class JsonParseBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    /**
+     * The number of features of the parsed Thing JSON.
+     */
+    @Param({"1", "10", "100"})
+    public int featureCount;
+
+    private String jsonString;
+    private byte[] jsonBytes;
+
+    @Setup
+    public void setUp() {
+        jsonString = createThingJson(featureCount);
+        jsonBytes = jsonString.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String createThingJson(final int featureCount) {
+        final StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("{\"thingId\":\"org.eclipse.ditto:benchmark\",")
+                .append("\"acl\":{\"sid\":{\"READ\":true,\"WRITE\":true,\"ADMINISTRATE\":true}},")
+                .append("\"attributes\":{\"manufacturer\":\"ACME\",\"location\":")
+                .append("{\"latitude\":47.682170,\"longitude\":9.386372},\"tags\":[\"a\",\"b\",\"c\"]},")
+                .append("\"features\":{");
+        for (int i = 0; i < featureCount; i++) {
+            if (0 < i) {
+                stringBuilder.append(',');
+            }
+            stringBuilder.append("\"feature-").append(i).append("\":{\"properties\":{")
+                    .append("\"value\":").append(i * 3.14D).append(',')
+                    .append("\"counter\":").append(i).append(',')
+                    .append("\"active\":").append(0 == i % 2).append(',')
+                    .append("\"unit\":\"\\u00b0C\",")
+                    .append("\"samples\":[1,2,3,4,5,6,7,8]}}");
+        }
+        return stringBuilder.append("}}").toString();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue minimalJsonParseAndConvert() {
+        return JsonFactory.convert(Json.parse(jsonString));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue minimalJsonParseAndConvertFromBytes() {
+        return JsonFactory.convert(Json.parse(new String(jsonBytes, StandardCharsets.UTF_8)));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue jsonValueParserFromString() {
+        return JsonValueParser.parse(jsonString);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue jsonValueParserFromBytes() {
+        return JsonValueParser.parse(jsonBytes);
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonPatchApplier}.
+ */
+public final class JsonPatchApplierTest {
+
+    private static final JsonFieldDefinition SERIAL_DEFINITION =
+            JsonFactory.newFieldDefinition("serial", int.class);
+
+    private static final JsonObject THING = JsonFactory.newObject("{\"thingId\":\"org.eclipse.ditto:myThing\"," +
+            "\"attributes\":{\"manufacturer\":\"ACME\",\"serial\":1337,\"location\":{\"longitude\":47.68217}}," +
+            "\"features\":{\"lamp\":{\"properties\":{\"on\":true}}}}");
+
+    private static JsonPatch patch(final JsonPatch.Operation operation, final String path, final JsonValue value) {
+        return JsonFactory.newPatch(operation, JsonFactory.newPointer(path), value);
+    }
+
+    private static JsonObject applyOneByOne(final JsonObject jsonObject, final Iterable<JsonPatch> patches) {
+        JsonObject result = jsonObject;
+        for (final JsonPatch patch : patches) {
+            if (JsonPatch.Operation.REMOVE == patch.getOperation()) {
+                result = result.remove(patch.getPath());
+            } else {
+                result = result.setValue(patch.getPath(), patch.getValue().get());
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void tryToApplyToNullObject() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> JsonPatchApplier.apply(null, Collections.emptyList()))
+                .withMessage("The JSON object to apply the patches to must not be null!");
+    }
+
+    @Test
+    public void tryToApplyNullPatches() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> JsonPatchApplier.apply(THING, null))
+                .withMessage("The JSON Patches to be applied must not be null!");
+    }
+
+    @Test
+    public void applyingNoPatchesReturnsSameObject() {
+        assertThat(JsonPatchApplier.apply(THING, Collections.emptyList())).isSameAs(THING);
+    }
+
+    @Test
+    public void tryToAddWithoutValue() {
+        final JsonPatch patch = patch(JsonPatch.Operation.ADD, "/attributes/foo", null);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> JsonPatchApplier.apply(THING, Collections.singletonList(patch)))
+                .withMessage("The JSON Patch <%s> has no value!", patch);
+    }
+
+    @Test
+    public void tryToReplaceRoot() {
+        final JsonPatch patch = patch(JsonPatch.Operation.REPLACE, "/", JsonFactory.newObject());
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> JsonPatchApplier.apply(THING, Collections.singletonList(patch)))
+                .withMessage("The key or pointer must not be empty!");
+    }
+
+    @Test
+    public void resultEqualsApplyingPatchesOneByOne() {
+        final List<JsonPatch> patches = Arrays.asList(
+                patch(JsonPatch.Operation.REPLACE, "/attributes/serial", JsonFactory.newValue(42)),
+                patch(JsonPatch.Operation.ADD, "/attributes/location/latitude", JsonFactory.newValue(-9.386372)),
+                patch(JsonPatch.Operation.REMOVE, "/attributes/manufacturer", null),
+                patch(JsonPatch.Operation.ADD, "/features/lamp/properties/color/r", JsonFactory.newValue(255)),
+                patch(JsonPatch.Operation.REMOVE, "/features/unknown/properties", null),
+                patch(JsonPatch.Operation.ADD, "/thingId/namespace", JsonFactory.newValue("org.eclipse.ditto")),
+                patch(JsonPatch.Operation.ADD, "/attributes/manufacturer", JsonFactory.newValue("Bosch")),
+                patch(JsonPatch.Operation.ADD, "/policyId", JsonFactory.newValue("org.eclipse.ditto:myPolicy")));
+
+        final JsonObject expected = applyOneByOne(THING, patches);
+        final JsonObject actual = JsonPatchApplier.apply(THING, patches);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.toString()).isEqualTo(expected.toString());
+    }
+
+    @Test
+    public void removedAndAddedMemberIsAppended() {
+        final List<JsonPatch> patches = Arrays.asList(
+                patch(JsonPatch.Operation.REMOVE, "/attributes/manufacturer", null),
+                patch(JsonPatch.Operation.ADD, "/attributes/manufacturer", JsonFactory.newValue("ACME")));
+
+        final JsonObject actual = JsonPatchApplier.apply(THING, patches);
+
+        assertThat(actual.getValue("attributes").get().asObject().getKeys())
+                .containsExactly(JsonFactory.newKey("serial"), JsonFactory.newKey("location"),
+                        JsonFactory.newKey("manufacturer"));
+        assertThat(actual.toString()).isEqualTo(applyOneByOne(THING, patches).toString());
+    }
+
+    @Test
+    public void fieldDefinitionsAreKept() {
+        final JsonObject jsonObject = JsonFactory.newObject()
+                .set(JsonFactory.newField(JsonFactory.newKey("serial"), JsonFactory.newValue(1), SERIAL_DEFINITION));
+        final List<JsonPatch> patches =
+                Collections.singletonList(patch(JsonPatch.Operation.REPLACE, "/serial", JsonFactory.newValue(2)));
+
+        final JsonObject actual = JsonPatchApplier.apply(jsonObject, patches);
+
+        assertThat(actual.getField("serial").flatMap(JsonField::getDefinition)).contains(SERIAL_DEFINITION);
+        assertThat(actual).isEqualTo(applyOneByOne(jsonObject, patches));
+    }
+
+    @Test
+    public void lazyObjectIsPatchedLikeParsedObject() {
+        final List<JsonPatch> patches = Arrays.asList(
+                patch(JsonPatch.Operation.REPLACE, "/attributes/location/longitude", JsonFactory.newValue(8.0)),
+                patch(JsonPatch.Operation.REMOVE, "/features/lamp", null));
+
+        assertThat(JsonPatchApplier.apply(JsonFactory.newLazyObject(THING.toString()), patches))
+                .isEqualTo(JsonPatchApplier.apply(THING, patches));
+    }
+
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonSerializationCache}.
+ */
+public final class JsonSerializationCacheTest {
+
+    private static final JsonObject KNOWN_JSON_OBJECT = JsonFactory.newObjectBuilder()
+            .set("thingId", "org.eclipse.ditto:myThing")
+            .set("attributes", JsonFactory.newObjectBuilder().set("counter", 42).build())
+            .build();
+
+    @Test
+    public void isCacheableRespectsMaxCachedLength() {
+        final JsonSerializationCache underTest = new JsonSerializationCache(10);
+
+        assertThat(underTest.isCacheable(10)).isTrue();
+        assertThat(underTest.isCacheable(11)).isFalse();
+        assertThat(underTest.getMaxCachedLength()).isEqualTo(10);
+    }
+
+    @Test
+    public void hitRateIsZeroWithoutRequests() {
+        final JsonSerializationCache underTest = new JsonSerializationCache(10);
+
+        assertThat(underTest.getHitRate()).isZero();
+    }
+
+    @Test
+    public void hitsAndMissesAreNotCountedByDefault() {
+        final JsonSerializationCache underTest = new JsonSerializationCache(10);
+        underTest.recordMiss();
+        underTest.recordHit();
+
+        assertThat(underTest.isStatisticsEnabled()).isFalse();
+        assertThat(underTest.getHitCount()).isZero();
+        assertThat(underTest.getMissCount()).isZero();
+    }
+
+    @Test
+    public void hitRateReflectsHitsAndMisses() {
+        final JsonSerializationCache underTest = new JsonSerializationCache(10);
+        underTest.setStatisticsEnabled(true);
+        underTest.recordMiss();
+        underTest.recordHit();
+        underTest.recordHit();
+        underTest.recordHit();
+
+        assertThat(underTest.getHitCount()).isEqualTo(3);
+        assertThat(underTest.getMissCount()).isEqualTo(1);
+        assertThat(underTest.getHitRate()).isEqualTo(0.75D);
+    }
+
+    @Test
+    public void repeatedToStringIsCountedAsHit() {
+        final JsonObject jsonObject = KNOWN_JSON_OBJECT.setValue("foo", "bar");
+        final JsonSerializationCacheStatistics statistics = JsonFactory.getSerializationCacheStatistics();
+        JsonFactory.setSerializationCacheStatisticsEnabled(true);
+        try {
+            final String firstStringRepresentation = jsonObject.toString();
+            final long hitCountBefore = statistics.getHitCount();
+
+            final String secondStringRepresentation = jsonObject.toString();
+
+            assertThat(secondStringRepresentation).isSameAs(firstStringRepresentation);
+            assertThat(statistics.getHitCount()).isGreaterThan(hitCountBefore);
+        } finally {
+            JsonFactory.setSerializationCacheStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    public void serializedFormsOfScalarsAreNotCached() {
+        final JsonValue jsonString = JsonFactory.newValue("foo");
+        final JsonValue jsonNumber = JsonFactory.newValue(4.2D);
+
+        assertThat(jsonString.toString()).isNotSameAs(jsonString.toString());
+        assertThat(((AbstractImmutableJsonValue) jsonString).getCachedStringRepresentation()).isNull();
+        assertThat(((AbstractImmutableJsonValue) jsonNumber).getUtf8Representation())
+                .isNotSameAs(((AbstractImmutableJsonValue) jsonNumber).getUtf8Representation());
+    }
+
+    @Test
+    public void utf8BytesOfLazyJsonObjectAreCached() throws IOException {
+        final LazyJsonObject lazyJsonObject =
+                LazyJsonObject.of(RawJson.ofUtf8Bytes(KNOWN_JSON_OBJECT.toString().getBytes(StandardCharsets.UTF_8)));
+        final byte[] utf8Bytes = lazyJsonObject.getUtf8Representation();
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        lazyJsonObject.writeTo(outputStream);
+
+        assertThat(lazyJsonObject.getUtf8Representation()).isSameAs(utf8Bytes);
+        assertThat(outputStream.toByteArray()).isEqualTo(utf8Bytes);
+    }
+
+    @Test
+    public void cachedUtf8BytesAreNotExposed() {
+        final byte[] expected = KNOWN_JSON_OBJECT.toString().getBytes(StandardCharsets.UTF_8);
+        final byte[] firstUtf8Bytes = KNOWN_JSON_OBJECT.toUtf8Bytes();
+        firstUtf8Bytes[0] = 'x';
+
+        final byte[] secondUtf8Bytes = KNOWN_JSON_OBJECT.toUtf8Bytes();
+
+        assertThat(secondUtf8Bytes).isEqualTo(expected);
+    }
+
+    @Test
+    public void setMaxCachedLengthRejectsNegativeLength() {
+        final JsonSerializationCache underTest = new JsonSerializationCache(10);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> underTest.setMaxCachedLength(-1))
+                .withMessage("The maximum cached length must not be negative!");
+    }
+
+    @Test
+    public void setMaxCachedLengthChangesCacheability() {
+        final JsonSerializationCache underTest = new JsonSerializationCache(10);
+
+        underTest.setMaxCachedLength(20);
+
+        assertThat(underTest.isCacheable(20)).isTrue();
+        assertThat(underTest.getMaxCachedLength()).isEqualTo(20);
+    }
+
+    @Test
+    public void writeToOutputStreamWritesUtf8Bytes() throws IOException {
+        final JsonObject jsonObject = KNOWN_JSON_OBJECT.setValue("umlaut", "\u00e4\u20ac\ud83d\ude00");
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        jsonObject.writeTo(outputStream);
+        jsonObject.writeTo(outputStream);
+
+        final byte[] expected = jsonObject.toString().getBytes(StandardCharsets.UTF_8);
+        final ByteArrayOutputStream expectedOutputStream = new ByteArrayOutputStream();
+        expectedOutputStream.write(expected);
+        expectedOutputStream.write(expected);
+        assertThat(outputStream.toByteArray()).isEqualTo(expectedOutputStream.toByteArray());
+    }
+
+    @Test
+    public void writeToOutputStreamWritesValuesLongerThanOneChunk() throws IOException {
+        final JsonArrayBuilder jsonArrayBuilder = JsonFactory.newArrayBuilder();
+        for (int i = 0; i < 2000; i++) {
+            jsonArrayBuilder.add("\u00e4" + i);
+        }
+        final JsonArray jsonArray = jsonArrayBuilder.build();
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        JsonValueWriter.write(jsonArray, outputStream);
+
+        assertThat(outputStream.toByteArray()).isEqualTo(jsonArray.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void hashCodeOfJsonArrayIsStable() {
+        final JsonArray jsonArray = JsonFactory.newArrayBuilder().add(KNOWN_JSON_OBJECT).add(1, 2, 3).build();
+
+        assertThat(jsonArray.hashCode()).isEqualTo(jsonArray.hashCode());
+        assertThat(jsonArray.hashCode()).isEqualTo(JsonFactory.newArray(jsonArray.toString()).hashCode());
+    }
+
+}
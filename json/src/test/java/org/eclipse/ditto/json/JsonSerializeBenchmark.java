@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares serializing JSON by conversion to Minimal JSON values (the former serialization path) against
+ * serializing with {@link JsonValueWriter}.
+ */
+@State(Scope.Benchmark)
+public class JsonSerializeBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    /**
+     * The number of features of the serialized Thing JSON.
+     */
+    @Param({"1", "10", "100"})
+    public int featureCount;
+
+    private JsonObject jsonObject;
+    private ByteBuffer byteBuffer;
+
+    @Setup
+    public void setUp() {
+        final JsonObjectBuilder featuresBuilder = JsonFactory.newObjectBuilder();
+        for (int i = 0; i < featureCount; i++) {
+            featuresBuilder.set("feature-" + i, JsonFactory.newObjectBuilder()
+                    .set("properties", JsonFactory.newObjectBuilder()
+                            .set("value", i * 3.14D)
+                            .set("counter", i)
+                            .set("active", 0 == i % 2)
+                            .set("unit", "\u00b0C")
+                            .set("samples", JsonFactory.newArrayBuilder().add(1, 2, 3, 4, 5, 6, 7, 8).build())
+                            .build())
+                    .build());
+        }
+        jsonObject = JsonFactory.newObjectBuilder()
+                .set("thingId", "org.eclipse.ditto:benchmark")
+                .set("attributes", JsonFactory.newObjectBuilder()
+                        .set("manufacturer", "ACME")
+                        .set("tags", JsonFactory.newArrayBuilder().add("a", "b", "c").build())
+                        .build())
+                .set("features", featuresBuilder.build())
+                .build();
+        byteBuffer = ByteBuffer.allocate(jsonObject.toUtf8Bytes().length);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] minimalJsonConvertToBytes() {
+        return JsonFactory.convert(jsonObject).toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public String jsonValueWriterToString() {
+        return JsonValueWriter.toJsonString(jsonObject);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] jsonValueWriterToUtf8Bytes() {
+        return JsonValueWriter.toUtf8Bytes(jsonObject);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public ByteBuffer jsonValueWriterToByteBuffer() {
+        byteBuffer.clear();
+        JsonValueWriter.write(jsonObject, byteBuffer);
+        return byteBuffer;
+    }
+
+}
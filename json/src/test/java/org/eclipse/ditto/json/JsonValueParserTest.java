@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import com.eclipsesource.json.Json;
+
+/**
+ * Unit test for {@link JsonValueParser}.
+ */
+public final class JsonValueParserTest {
+
+    private static final String KNOWN_JSON_STRING = " {\"thingId\": \"org.eclipse.ditto:myThing\", " +
+            "\"attributes\": {\"manufacturer\": \"ACME\", \"make\": \"Fancy Fab Car\", \"location\": " +
+            "{\"longitude\": 47.682170, \"latitude\": -9.386372}, \"serial\": 1337, \"huge\": 12345678901234567890, " +
+            "\"exp\": 1e3, \"negativeZero\": -0, \"tags\": [true, false, null, \"\\u00e4\\\"\\n\\/\"]}, " +
+            "\"features\": {}, \"empty\": []} ";
+
+    @Test
+    public void parseStringLeadsToSameResultAsMinimalJson() {
+        final JsonValue expected = JsonFactory.convert(Json.parse(KNOWN_JSON_STRING));
+
+        final JsonValue actual = JsonValueParser.parse(KNOWN_JSON_STRING);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.toString()).isEqualTo(expected.toString());
+    }
+
+    @Test
+    public void parseReaderLeadsToSameResultAsParseString() throws IOException {
+        final JsonValue expected = JsonValueParser.parse(KNOWN_JSON_STRING);
+
+        final JsonValue actual = JsonValueParser.parse(new StringReader(KNOWN_JSON_STRING));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    public void parseUtf8BytesLeadsToSameResultAsParseString() {
+        final String jsonWithMultiByteCharacters = "[\"\u00e4\u20ac\uD83D\uDE00\", \"\\uD83D\\uDE00\"]";
+        final JsonValue expected = JsonValueParser.parse(jsonWithMultiByteCharacters);
+
+        final JsonValue actual = JsonValueParser.parse(jsonWithMultiByteCharacters.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.asArray().get(0).map(JsonValue::asString)).contains("\u00e4\u20ac\uD83D\uDE00");
+    }
+
+    @Test
+    public void parseByteBufferDoesNotChangeItsPosition() {
+        final ByteBuffer byteBuffer = ByteBuffer.wrap("xx{\"foo\":\"bar\"}".getBytes(StandardCharsets.UTF_8));
+        byteBuffer.position(2);
+
+        final JsonValue actual = JsonValueParser.parse(byteBuffer);
+
+        assertThat(actual).isEqualTo(JsonFactory.newObject().setValue("foo", "bar"));
+        assertThat(byteBuffer.position()).isEqualTo(2);
+    }
+
+    @Test
+    public void duplicateKeysAreResolvedLikeMinimalJson() {
+        final String jsonWithDuplicateKeys = "{\"a\":1,\"b\":2,\"a\":3}";
+
+        final JsonValue actual = JsonValueParser.parse(jsonWithDuplicateKeys);
+
+        assertThat(actual).isEqualTo(JsonFactory.convert(Json.parse(jsonWithDuplicateKeys)));
+        assertThat(actual.toString()).isEqualTo("{\"a\":3,\"b\":2}");
+    }
+
+    @Test
+    public void numbersKeepTheirValue() {
+        final JsonArray actual = JsonValueParser.parse("[42, -23, 23.42, 1E-2, 9223372036854775807]").asArray();
+
+        assertThat(actual.get(0).map(JsonValue::asInt)).contains(42);
+        assertThat(actual.get(1).map(JsonValue::asInt)).contains(-23);
+        assertThat(actual.get(2).map(JsonValue::asDouble)).contains(23.42D);
+        assertThat(actual.get(3).map(JsonValue::asDouble)).contains(0.01D);
+        assertThat(actual.get(4).map(JsonValue::asLong)).contains(Long.MAX_VALUE);
+    }
+
+    @Test
+    public void arraysOfNumbersAreKeptUnboxed() {
+        final String[] numberArrayStrings = {"[1, -2, 9223372036854775807]", "[1, 2.5, -0, 1.0E7]"};
+
+        for (final String numberArrayString : numberArrayStrings) {
+            final JsonValue actual = JsonValueParser.parse(numberArrayString);
+
+            assertThat(actual).isInstanceOf(ImmutableJsonNumberArray.class);
+            assertThat(actual).isEqualTo(JsonFactory.convert(Json.parse(numberArrayString)));
+            assertThat(actual.toString()).isEqualTo(JsonFactory.convert(Json.parse(numberArrayString)).toString());
+        }
+    }
+
+    @Test
+    public void arraysOfNumbersWhoseLexemeWouldGetLostAreBoxed() {
+        final String[] arrayStrings = {"[1, 1.0]", "[2.5, 10000000]", "[1e3]", "[1, \"a\"]", "[-0.0]"};
+
+        for (final String arrayString : arrayStrings) {
+            final JsonValue actual = JsonValueParser.parse(arrayString);
+
+            assertThat(actual).isInstanceOf(ImmutableJsonArray.class);
+            assertThat(actual).isEqualTo(JsonFactory.convert(Json.parse(arrayString)));
+        }
+    }
+
+    @Test
+    public void parseInvalidJsonFails() {
+        final String[] invalidJsonStrings = {"", " ", "{", "[1,]", "{\"a\":1,}", "01", "tru", "\"abc", "[1 2]",
+                "{\"a\" 1}", "-", "1.", "1e", "\"\\x\"", "{}x", "\"\t\"", "{foo:1}", "[\"\\u12\"]"};
+
+        for (final String invalidJsonString : invalidJsonStrings) {
+            assertThatExceptionOfType(JsonValueParser.SyntaxException.class)
+                    .as(invalidJsonString)
+                    .isThrownBy(() -> JsonValueParser.parse(invalidJsonString));
+        }
+    }
+
+    @Test
+    public void parseMalformedUtf8Fails() {
+        final byte[] truncatedTwoByteSequence = {'"', (byte) 0xC3, '"'};
+
+        assertThatExceptionOfType(JsonValueParser.SyntaxException.class)
+                .isThrownBy(() -> JsonValueParser.parse(truncatedTwoByteSequence))
+                .withMessageContaining("Malformed UTF-8");
+    }
+
+    @Test
+    public void parseOverlongUtf8Fails() {
+        final byte[][] overlongEncodings = {
+                {'"', (byte) 0xC0, (byte) 0xAF, '"'}, // '/' in two bytes
+                {'"', (byte) 0xC0, (byte) 0xA2, '"'}, // '"' in two bytes
+                {'"', (byte) 0xE0, (byte) 0x80, (byte) 0xAF, '"'}, // '/' in three bytes
+                {'"', (byte) 0xF0, (byte) 0x80, (byte) 0x80, (byte) 0xAF, '"'} // '/' in four bytes
+        };
+
+        for (final byte[] overlongEncoding : overlongEncodings) {
+            assertThatExceptionOfType(JsonValueParser.SyntaxException.class)
+                    .isThrownBy(() -> JsonValueParser.parse(overlongEncoding))
+                    .withMessageContaining("Malformed UTF-8");
+        }
+    }
+
+    @Test
+    public void parseUtf8EncodedSurrogateFails() {
+        final byte[] encodedHighSurrogate = {'"', (byte) 0xED, (byte) 0xA0, (byte) 0xBD, '"'};
+        final byte[] encodedLowSurrogate = {'"', (byte) 0xED, (byte) 0xB8, (byte) 0x80, '"'};
+
+        assertThatExceptionOfType(JsonValueParser.SyntaxException.class)
+                .isThrownBy(() -> JsonValueParser.parse(encodedHighSurrogate))
+                .withMessageContaining("Malformed UTF-8");
+        assertThatExceptionOfType(JsonValueParser.SyntaxException.class)
+                .isThrownBy(() -> JsonValueParser.parse(encodedLowSurrogate))
+                .withMessageContaining("Malformed UTF-8");
+    }
+
+    @Test
+    public void parseShortestUtf8FormsSucceeds() {
+        final byte[] bytes = {'"', (byte) 0xC2, (byte) 0x80, (byte) 0xE0, (byte) 0xA0, (byte) 0x80, (byte) 0xED,
+                (byte) 0x9F, (byte) 0xBF, (byte) 0xEE, (byte) 0x80, (byte) 0x80, '"'};
+
+        final JsonValue actual = JsonValueParser.parse(bytes);
+
+        assertThat(actual).isEqualTo(JsonFactory.newValue("\u0080\u0800\ud7ff\ue000"));
+    }
+
+    @Test
+    public void readerSourceKeepsReturningEndOfInput() {
+        final JsonValueParser.CharSource underTest = new JsonValueParser.ReaderSource(new StringReader("ab"));
+
+        assertThat(underTest.read()).isEqualTo((int) 'a');
+        assertThat(underTest.read()).isEqualTo((int) 'b');
+        assertThat(underTest.read()).isEqualTo(-1);
+        assertThat(underTest.read()).isEqualTo(-1);
+        assertThat(underTest.read()).isEqualTo(-1);
+    }
+
+    @Test
+    public void syntaxExceptionContainsOffset() {
+        assertThatExceptionOfType(JsonValueParser.SyntaxException.class)
+                .isThrownBy(() -> JsonValueParser.parse("{\"a\" 1}"))
+                .withMessage("Unexpected character <1> at offset 5!");
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonValuePullParser}.
+ */
+public final class JsonValuePullParserTest {
+
+    private static final String JSON_STRING = " {\"things\" : [ {\"thingId\":\"a:b\",\"attributes\":{\"x\":[1,2]}}," +
+            " {\"thingId\":\"c:d\"} ], \"size\":2, \"ok\":true, \"next\":null, \"name\":\"\\u00e4\"} ";
+
+    private static JsonPullParser pullParserOf(final String jsonString) {
+        return JsonValuePullParser.of(JsonValueParser.forString(jsonString, 0, jsonString.length()));
+    }
+
+    @Test
+    public void tryToCreateInstanceWithNullParser() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> JsonValuePullParser.of(null))
+                .withMessage("The JSON value parser must not be null!");
+    }
+
+    @Test
+    public void tokensAreReportedInDocumentOrder() {
+        final JsonPullParser underTest = pullParserOf(JSON_STRING);
+        final List<String> tokens = new ArrayList<>();
+
+        assertThat(underTest.getCurrentToken()).isNull();
+        JsonToken token;
+        do {
+            token = underTest.nextToken();
+            tokens.add(JsonToken.KEY == token ? underTest.getKey() : token.name());
+        } while (JsonToken.END_OF_DOCUMENT != token);
+
+        assertThat(tokens).containsExactly("BEGIN_OBJECT", "things", "BEGIN_ARRAY", "BEGIN_OBJECT", "thingId", "STRING",
+                "attributes", "BEGIN_OBJECT", "x", "BEGIN_ARRAY", "NUMBER", "NUMBER", "END_ARRAY", "END_OBJECT",
+                "END_OBJECT", "BEGIN_OBJECT", "thingId", "STRING", "END_OBJECT", "END_ARRAY", "size", "NUMBER", "ok",
+                "BOOLEAN", "next", "NULL", "name", "STRING", "END_OBJECT", "END_OF_DOCUMENT");
+        assertThat(underTest.nextToken()).isEqualTo(JsonToken.END_OF_DOCUMENT);
+    }
+
+    @Test
+    public void arrayElementsAreReadOneByOne() {
+        final JsonPullParser underTest = pullParserOf(JSON_STRING);
+        final List<JsonValue> things = new ArrayList<>();
+
+        assertThat(underTest.nextToken()).isEqualTo(JsonToken.BEGIN_OBJECT);
+        assertThat(underTest.nextToken()).isEqualTo(JsonToken.KEY);
+        assertThat(underTest.nextToken()).isEqualTo(JsonToken.BEGIN_ARRAY);
+        while (JsonToken.END_ARRAY != underTest.nextToken()) {
+            things.add(underTest.readValue());
+        }
+
+        assertThat(things).containsExactlyElementsOf(JsonFactory.newObject(JSON_STRING).getValue("things").get()
+                .asArray());
+        assertThat(underTest.getCurrentToken()).isEqualTo(JsonToken.END_ARRAY);
+        assertThat(underTest.nextToken()).isEqualTo(JsonToken.KEY);
+        assertThat(underTest.getKey()).isEqualTo("size");
+        assertThat(underTest.readValue()).isEqualTo(JsonFactory.newValue(2));
+    }
+
+    @Test
+    public void skippedValuesAreNotReported() {
+        final JsonPullParser underTest = pullParserOf(JSON_STRING);
+        final List<String> keys = new ArrayList<>();
+
+        underTest.nextToken();
+        while (JsonToken.KEY == underTest.nextToken()) {
+            keys.add(underTest.getKey());
+            underTest.skipValue();
+        }
+
+        assertThat(keys).containsExactly("things", "size", "ok", "next", "name");
+        assertThat(underTest.getCurrentToken()).isEqualTo(JsonToken.END_OBJECT);
+        assertThat(underTest.nextToken()).isEqualTo(JsonToken.END_OF_DOCUMENT);
+    }
+
+    @Test
+    public void readValueOfDocumentEqualsParsedValue() {
+        final JsonPullParser underTest = pullParserOf(JSON_STRING);
+
+        underTest.nextToken();
+
+        assertThat(underTest.readValue()).isEqualTo(JsonFactory.readFrom(JSON_STRING));
+        assertThat(underTest.nextToken()).isEqualTo(JsonToken.END_OF_DOCUMENT);
+    }
+
+    @Test
+    public void tryToGetKeyOfOtherToken() {
+        final JsonPullParser underTest = pullParserOf(JSON_STRING);
+        underTest.nextToken();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(underTest::getKey)
+                .withMessage("The current token <BEGIN_OBJECT> is no key!");
+    }
+
+    @Test
+    public void tryToReadValueAtEndOfContainer() {
+        final JsonPullParser underTest = pullParserOf("[]");
+        underTest.nextToken();
+        underTest.nextToken();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(underTest::readValue)
+                .withMessage("No value starts at the current token <END_ARRAY>!");
+    }
+
+    @Test
+    public void invalidJsonIsRejectedWhenReached() {
+        final JsonPullParser underTest = pullParserOf("[1,{\"a\":2},]");
+
+        assertThat(underTest.nextToken()).isEqualTo(JsonToken.BEGIN_ARRAY);
+        assertThat(underTest.nextToken()).isEqualTo(JsonToken.NUMBER);
+        underTest.nextToken();
+        underTest.skipValue();
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(underTest::nextToken)
+                .withCauseInstanceOf(JsonValueParser.SyntaxException.class);
+    }
+
+    @Test
+    public void trailingCharactersAreRejected() {
+        final JsonPullParser underTest = pullParserOf("{} {}");
+        underTest.nextToken();
+        underTest.skipValue();
+
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(underTest::nextToken);
+    }
+
+    @Test
+    public void failingReaderIsReported() {
+        final IOException ioException = new IOException("Nope!");
+        final Reader reader = new StringReader("[1,2") {
+            private boolean isRead = false;
+
+            @Override
+            public int read(final char[] buffer, final int offset, final int length) throws IOException {
+                if (isRead) {
+                    throw ioException;
+                }
+                isRead = true;
+                return super.read(buffer, offset, length);
+            }
+        };
+        final JsonPullParser underTest = JsonFactory.newPullParser(reader);
+        underTest.nextToken();
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(underTest::skipValue)
+                .withCause(ioException);
+    }
+
+}
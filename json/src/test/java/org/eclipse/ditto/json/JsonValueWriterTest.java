@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonValueWriter}.
+ */
+public final class JsonValueWriterTest {
+
+    private static final String KNOWN_JSON_STRING = "{\"thingId\":\"org.eclipse.ditto:myThing\"," +
+            "\"attributes\":{\"manufacturer\":\"ACME\",\"location\":{\"longitude\":47.68217,\"latitude\":-9.386372}," +
+            "\"serial\":1337,\"huge\":12345678901234567890,\"exp\":1e3,\"negativeZero\":-0," +
+            "\"tags\":[true,false,null,\"\\u00e4\\\"\\n\\/\\u0001\\u2028\"]},\"features\":{},\"empty\":[]," +
+            "\"unicode\":\"\u00e4\u20ac\uD83D\uDE00\"}";
+
+    @Test
+    public void toJsonStringLeadsToSameResultAsMinimalJson() {
+        final JsonValue jsonValue = JsonFactory.readFrom(KNOWN_JSON_STRING);
+        final String expected = com.eclipsesource.json.Json.parse(KNOWN_JSON_STRING).toString();
+
+        final String actual = JsonValueWriter.toJsonString(jsonValue);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    public void controlCharactersAreEscapedLikeMinimalJson() {
+        final JsonValue jsonValue = JsonFactory.newValue("\"\\\b\f\n\r\t\u0000\u001f\u2028\u2029/\u00e4");
+
+        assertThat(JsonValueWriter.toJsonString(jsonValue))
+                .isEqualTo("\"\\\"\\\\\\u0008\\u000c\\n\\r\\t\\u0000\\u001f\\u2028\\u2029/\u00e4\"");
+    }
+
+    @Test
+    public void nullObjectAndNullArrayAreWrittenAsNullLiteral() {
+        final JsonObject jsonObject = JsonFactory.newObjectBuilder()
+                .set("object", JsonFactory.nullObject())
+                .set("array", JsonFactory.nullArray())
+                .set("literal", JsonFactory.nullLiteral())
+                .build();
+
+        assertThat(JsonValueWriter.toJsonString(jsonObject))
+                .isEqualTo("{\"object\":null,\"array\":null,\"literal\":null}");
+    }
+
+    @Test
+    public void numbersAreWrittenWithTheirOriginalLexeme() {
+        final String jsonString = "{\"a\":[1.50,1e3,-0,12345678901234567890],\"b\":{\"c\":2.5E-7,\"d\":-0.0}}";
+
+        assertThat(JsonValueWriter.toJsonString(JsonFactory.readFrom(jsonString))).isEqualTo(jsonString);
+    }
+
+    @Test
+    public void singleNumberIsWrittenLikeItsStringRepresentation() {
+        final JsonValue jsonNumber = JsonFactory.readFrom("1.0");
+
+        assertThat(JsonValueWriter.toJsonString(jsonNumber)).isEqualTo(jsonNumber.toString());
+        assertThat(jsonNumber.toUtf8Bytes()).isEqualTo(jsonNumber.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void cachedStringRepresentationOfNestedObjectIsWrittenVerbatim() {
+        final JsonObject nestedObject = JsonFactory.newObjectBuilder().set("foo", "bar").build();
+        final String nestedStringRepresentation = nestedObject.toString();
+        final JsonObject jsonObject = JsonFactory.newObjectBuilder().set("nested", nestedObject).build();
+
+        assertThat(JsonValueWriter.toJsonString(jsonObject))
+                .isEqualTo("{\"nested\":" + nestedStringRepresentation + "}");
+    }
+
+    @Test
+    public void writeToAppendableWritesToString() throws IOException {
+        final JsonValue jsonValue = JsonFactory.readFrom(KNOWN_JSON_STRING);
+        final StringWriter stringWriter = new StringWriter();
+
+        jsonValue.writeTo(stringWriter);
+
+        assertThat(stringWriter.toString()).isEqualTo(jsonValue.toString());
+    }
+
+    @Test
+    public void toUtf8BytesLeadsToSameResultAsEncodingString() {
+        final JsonValue jsonValue = JsonFactory.readFrom(KNOWN_JSON_STRING);
+
+        final byte[] actual = jsonValue.toUtf8Bytes();
+
+        assertThat(actual).isEqualTo(jsonValue.toString().getBytes(StandardCharsets.UTF_8));
+        assertThat(JsonFactory.readFrom(actual)).isEqualTo(jsonValue);
+    }
+
+    @Test
+    public void unpairedSurrogatesAreEncodedLikeStringGetBytes() {
+        final JsonValue jsonValue = JsonFactory.newArrayBuilder()
+                .add("\uD83Dx", "x\uDE00", "\uD83D\uD83D\uDE00", "\uD83D")
+                .build();
+
+        final byte[] actual = jsonValue.toUtf8Bytes();
+
+        assertThat(actual).isEqualTo(jsonValue.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void writeToByteBufferStartsAtCurrentPosition() {
+        final JsonValue jsonValue = JsonFactory.readFrom(KNOWN_JSON_STRING);
+        final byte[] expected = jsonValue.toUtf8Bytes();
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(expected.length + 2);
+        byteBuffer.position(2);
+
+        jsonValue.writeTo(byteBuffer);
+
+        assertThat(byteBuffer.position()).isEqualTo(byteBuffer.limit());
+        assertThat(Arrays.copyOfRange(byteBuffer.array(), 2, byteBuffer.limit())).isEqualTo(expected);
+    }
+
+    @Test
+    public void writeToTooSmallByteBufferFails() {
+        final JsonValue jsonValue = JsonFactory.readFrom(KNOWN_JSON_STRING);
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(8);
+
+        assertThatExceptionOfType(BufferOverflowException.class).isThrownBy(() -> jsonValue.writeTo(byteBuffer));
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LazyJsonArray}.
+ */
+public final class LazyJsonArrayTest {
+
+    private static final String MINIMAL_ARRAY_STRING = "[{\"thingId\":\"a:b\"},{\"thingId\":\"c:d\"},true,\"\u00e4\"]";
+    private static final String NON_MINIMAL_ARRAY_STRING = "[ 1.0, {\"a\" : [] }, \"\\u00e4\" ]";
+
+    private static JsonValue memberValueOf(final String arrayString) {
+        return JsonFactory.newLazyObject("{\"value\":" + arrayString + "}").getValue("value").get();
+    }
+
+    @Test
+    public void arrayMemberOfLazyObjectIsLazy() {
+        assertThat(memberValueOf(MINIMAL_ARRAY_STRING)).isInstanceOf(LazyJsonArray.class);
+    }
+
+    @Test
+    public void equalsParsedArray() {
+        for (final String arrayString : new String[]{MINIMAL_ARRAY_STRING, NON_MINIMAL_ARRAY_STRING, "[ ]"}) {
+            final JsonValue underTest = memberValueOf(arrayString);
+            final JsonValue expected = JsonFactory.readFrom(arrayString);
+
+            assertThat(underTest).isEqualTo(expected);
+            assertThat(expected).isEqualTo(underTest);
+            assertThat(underTest.hashCode()).isEqualTo(expected.hashCode());
+            assertThat(underTest.toString()).isEqualTo(expected.toString());
+            assertThat(underTest.toUtf8Bytes()).isEqualTo(expected.toUtf8Bytes());
+            assertThat(underTest.asArray().isEmpty()).isEqualTo(expected.asArray().isEmpty());
+            assertThat(underTest.asArray().getSize()).isEqualTo(expected.asArray().getSize());
+        }
+    }
+
+    @Test
+    public void elementsAreStreamedLikeParsedElements() {
+        final JsonArray underTest = memberValueOf(NON_MINIMAL_ARRAY_STRING).asArray();
+        final List<JsonValue> expected = new ArrayList<>();
+        JsonFactory.newArray(NON_MINIMAL_ARRAY_STRING).forEach(expected::add);
+
+        assertThat(underTest.stream().collect(Collectors.toList())).isEqualTo(expected);
+        assertThat(underTest.stream().collect(Collectors.toList())).isEqualTo(expected);
+    }
+
+    @Test
+    public void iteratorReadsElementsOnDemand() {
+        final JsonArray underTest = memberValueOf(MINIMAL_ARRAY_STRING).asArray();
+
+        final Iterator<JsonValue> iterator = underTest.iterator();
+
+        assertThat(iterator.hasNext()).isTrue();
+        assertThat(iterator.hasNext()).isTrue();
+        assertThat(iterator.next()).isEqualTo(JsonFactory.newObject("{\"thingId\":\"a:b\"}"));
+        iterator.next();
+        iterator.next();
+        assertThat(iterator.next()).isEqualTo(JsonFactory.newValue("\u00e4"));
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    public void minimalArrayIsCopiedVerbatim() {
+        final JsonObject jsonObject =
+                JsonFactory.newLazyObject(("{\"value\":" + MINIMAL_ARRAY_STRING + "}").getBytes(StandardCharsets.UTF_8));
+        final JsonValue underTest = jsonObject.getValue("value").get();
+
+        assertThat(underTest.toString()).isEqualTo(MINIMAL_ARRAY_STRING);
+        assertThat(underTest.toUtf8Bytes()).isEqualTo(MINIMAL_ARRAY_STRING.getBytes(StandardCharsets.UTF_8));
+        assertThat(JsonFactory.newObjectBuilder().set("copy", underTest).build().toString())
+                .isEqualTo("{\"copy\":" + MINIMAL_ARRAY_STRING + "}");
+    }
+
+    @Test
+    public void addingElementReturnsParsedArray() {
+        final JsonArray underTest = memberValueOf(MINIMAL_ARRAY_STRING).asArray();
+
+        final JsonArray actual = underTest.add(42);
+
+        assertThat(actual).isInstanceOf(ImmutableJsonArray.class);
+        assertThat(actual.getSize()).isEqualTo(5);
+        assertThat(actual.get(4)).contains(JsonFactory.newValue(42));
+    }
+
+}
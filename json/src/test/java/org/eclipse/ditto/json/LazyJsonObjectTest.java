@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LazyJsonObject}.
+ */
+public final class LazyJsonObjectTest {
+
+    private static final String MINIMAL_JSON_STRING = "{\"thingId\":\"org.eclipse.ditto:myThing\"," +
+            "\"attributes\":{\"manufacturer\":\"ACME\",\"serial\":1337,\"tags\":[true,false,null,\"\\\"\\n\"]}," +
+            "\"features\":{\"lamp\":{\"properties\":{\"on\":true,\"unicode\":\"\u00e4\u20ac\uD83D\uDE00\"}}}," +
+            "\"empty\":{},\"list\":[]}";
+
+    private static final String NON_MINIMAL_JSON_STRING = "{ \"thingId\" : \"org.eclipse.ditto:myThing\",\n" +
+            "\"attributes\":{\"location\":{\"longitude\":47.68217,\"latitude\":-9.386372},\"exp\":1e3," +
+            "\"huge\":12345678901234567890,\"negativeZero\":-0,\"escaped\":\"\\u00e4\\/\\b\"},\n" +
+            "\"features\":{\"lamp\":{\"properties\":{\"on\":true}}} }";
+
+    private static LazyJsonObject lazyObjectOf(final String jsonString) {
+        return LazyJsonObject.of(RawJson.ofString(jsonString));
+    }
+
+    private static LazyJsonObject lazyObjectOfUtf8(final String jsonString) {
+        return LazyJsonObject.of(RawJson.ofUtf8Bytes(jsonString.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void tryToCreateInstanceWithNullRawJson() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> LazyJsonObject.of(null))
+                .withMessage("The raw JSON must not be null!");
+    }
+
+    @Test
+    public void tryToCreateInstanceFromJsonArray() {
+        assertThatExceptionOfType(JsonValueParser.SyntaxException.class)
+                .isThrownBy(() -> lazyObjectOf("[{\"foo\":1}]"));
+    }
+
+    @Test
+    public void invalidNestedValueIsRejectedImmediately() {
+        assertThatExceptionOfType(JsonValueParser.SyntaxException.class)
+                .isThrownBy(() -> lazyObjectOf("{\"foo\":{\"bar\":[1,]}}"))
+                .withMessage("Unexpected character <]> at offset 17!");
+    }
+
+    @Test
+    public void equalsEagerlyParsedObject() {
+        for (final String jsonString : new String[]{MINIMAL_JSON_STRING, NON_MINIMAL_JSON_STRING}) {
+            final JsonObject expected = JsonFactory.newObject(jsonString);
+
+            for (final LazyJsonObject underTest : new LazyJsonObject[]{lazyObjectOf(jsonString),
+                    lazyObjectOfUtf8(jsonString)}) {
+                assertThat(underTest).isEqualTo(expected);
+                assertThat(expected).isEqualTo(underTest);
+                assertThat(underTest.hashCode()).isEqualTo(expected.hashCode());
+                assertThat(underTest.getKeys()).isEqualTo(expected.getKeys());
+                assertThat(underTest.getSize()).isEqualTo(expected.getSize());
+                assertThat(underTest.toString()).isEqualTo(expected.toString());
+                assertThat(underTest.toUtf8Bytes()).isEqualTo(expected.toUtf8Bytes());
+            }
+        }
+    }
+
+    @Test
+    public void minimalJsonIsCopiedVerbatim() {
+        final byte[] utf8Bytes = MINIMAL_JSON_STRING.getBytes(StandardCharsets.UTF_8);
+        final LazyJsonObject underTest = LazyJsonObject.of(RawJson.ofUtf8Bytes(utf8Bytes));
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(utf8Bytes.length);
+
+        underTest.writeTo(byteBuffer);
+
+        assertThat(underTest.toString()).isEqualTo(MINIMAL_JSON_STRING);
+        assertThat(underTest.toUtf8Bytes()).isEqualTo(utf8Bytes);
+        assertThat(byteBuffer.array()).isEqualTo(utf8Bytes);
+    }
+
+    @Test
+    public void nonMinimalJsonIsWrittenLikeParsedJson() {
+        final LazyJsonObject underTest = lazyObjectOf(NON_MINIMAL_JSON_STRING);
+
+        assertThat(underTest.toString()).isEqualTo(JsonFactory.readFrom(NON_MINIMAL_JSON_STRING).toString());
+    }
+
+    @Test
+    public void memberObjectsAreLazyAndParsedOnlyOnce() {
+        final LazyJsonObject underTest = lazyObjectOf(NON_MINIMAL_JSON_STRING);
+
+        final JsonValue attributes = underTest.getValue("attributes").get();
+
+        assertThat(attributes).isInstanceOf(LazyJsonObject.class);
+        assertThat(underTest.getValue("attributes").get()).isSameAs(attributes);
+        assertThat(underTest.getValue("thingId")).contains(JsonFactory.newValue("org.eclipse.ditto:myThing"));
+    }
+
+    @Test
+    public void smallMemberObjectDoesNotRetainItsDocument() {
+        final StringBuilder padding = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            padding.append('x');
+        }
+        final String attributesJsonString = "{\"manufacturer\":\"ACME\",\"tags\":[1,2]}";
+        final String jsonString = "{\"attributes\":" + attributesJsonString + ",\"padding\":\"" + padding + "\"}";
+        final LazyJsonObject underTest = lazyObjectOfUtf8(jsonString);
+
+        final LazyJsonObject attributes = (LazyJsonObject) underTest.getValue("attributes").get();
+        final LazyJsonArray tags = (LazyJsonArray) attributes.getValue("tags").get();
+
+        assertThat(attributes.getRawJson().length()).isEqualTo(attributesJsonString.length());
+        assertThat(attributes.toString()).isEqualTo(attributesJsonString);
+        assertThat(attributes.getValue("manufacturer")).contains(JsonFactory.newValue("ACME"));
+        assertThat(tags.toString()).isEqualTo("[1,2]");
+    }
+
+    @Test
+    public void largeMemberObjectSharesItsDocument() {
+        final LazyJsonObject underTest = lazyObjectOf("{\"thingId\":\"a:b\"," +
+                "\"attributes\":{\"manufacturer\":\"ACME\",\"serial\":1337,\"location\":\"Berlin\"}}");
+
+        final LazyJsonObject attributes = (LazyJsonObject) underTest.getValue("attributes").get();
+
+        assertThat(attributes.getRawJson()).isSameAs(underTest.getRawJson());
+        assertThat(attributes.getValue("serial")).contains(JsonFactory.newValue(1337));
+    }
+
+    @Test
+    public void getValueForDeepPointerReturnsExpected() {
+        final LazyJsonObject underTest = lazyObjectOf(NON_MINIMAL_JSON_STRING);
+
+        assertThat(underTest.getValue("attributes/location/longitude")).contains(JsonFactory.newValue(47.68217));
+        assertThat(underTest.getValue("attributes/location/altitude")).isEmpty();
+        assertThat(underTest.getValue("unknown/location")).isEmpty();
+        assertThat(underTest.contains("features/lamp/properties/on")).isTrue();
+        assertThat(underTest.contains("features/lamp/properties/off")).isFalse();
+        assertThat(underTest.getField("features/lamp")).isEqualTo(
+                JsonFactory.newObject(NON_MINIMAL_JSON_STRING).getField("features/lamp"));
+        assertThat(underTest.get(JsonFactory.newPointer("attributes/exp")))
+                .isEqualTo(JsonFactory.newObject(NON_MINIMAL_JSON_STRING).get(JsonFactory.newPointer("attributes/exp")));
+    }
+
+    @Test
+    public void untouchedMembersRemainLazyAfterModification() {
+        final LazyJsonObject underTest = lazyObjectOf(MINIMAL_JSON_STRING);
+
+        final JsonObject modified = underTest.setValue(JsonFactory.newPointer("attributes/serial"), 42);
+
+        assertThat(modified.getValue("features").get()).isInstanceOf(LazyJsonObject.class);
+        assertThat(modified.getValue("attributes/serial")).contains(JsonFactory.newValue(42));
+        assertThat(modified.toString()).isEqualTo(MINIMAL_JSON_STRING.replace("1337", "42"));
+        assertThat(underTest.toString()).isEqualTo(MINIMAL_JSON_STRING);
+    }
+
+    @Test
+    public void duplicateKeysAreHandledLikeParsing() {
+        final String jsonString = "{\"a\":1,\"b\":{\"c\":1,\"c\":2},\"a\":3}";
+
+        final LazyJsonObject underTest = lazyObjectOf(jsonString);
+
+        assertThat(underTest.toString()).isEqualTo("{\"a\":3,\"b\":{\"c\":2}}");
+        assertThat(underTest).isEqualTo(JsonFactory.newObject(jsonString));
+    }
+
+    @Test
+    public void lazyObjectNestedInOtherObjectIsWrittenVerbatim() {
+        final JsonObject jsonObject = JsonFactory.newObjectBuilder()
+                .set("payload", lazyObjectOf(MINIMAL_JSON_STRING))
+                .build();
+
+        assertThat(jsonObject.toString()).isEqualTo("{\"payload\":" + MINIMAL_JSON_STRING + "}");
+        assertThat(jsonObject.toUtf8Bytes()).isEqualTo(jsonObject.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void emptyObjectIsEmpty() {
+        final LazyJsonObject underTest = lazyObjectOf(" {} ");
+
+        assertThat(underTest.isEmpty()).isTrue();
+        assertThat(underTest).isEqualTo(JsonFactory.newObject());
+        assertThat(underTest.toString()).isEqualTo("{}");
+    }
+
+}
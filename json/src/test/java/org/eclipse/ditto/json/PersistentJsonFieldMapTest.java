@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PersistentJsonFieldMap}.
+ */
+public final class PersistentJsonFieldMapTest {
+
+    /**
+     * "Aa" and "BB" have the same hash code.
+     */
+    private static final String[] COLLIDING_KEYS = {"Aa", "BB", "AaAa", "AaBB", "BBAa", "BBBB"};
+
+    private static JsonField newField(final String key, final int value) {
+        return JsonFactory.newField(JsonFactory.newKey(key), JsonFactory.newValue(value));
+    }
+
+    @Test
+    public void tryToCreateInstanceWithNullMap() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> PersistentJsonFieldMap.of(null))
+                .withMessage("The fields of JSON object must not be null!");
+    }
+
+    @Test
+    public void ofKeepsIterationOrderOfGivenMap() {
+        final Map<String, JsonField> fields = new LinkedHashMap<>();
+        for (int i = 100; 0 < i; i--) {
+            fields.put("key" + i, newField("key" + i, i));
+        }
+
+        final PersistentJsonFieldMap underTest = PersistentJsonFieldMap.of(fields);
+
+        assertThat(underTest).isEqualTo(fields);
+        assertThat(underTest.hashCode()).isEqualTo(fields.hashCode());
+        assertThat(underTest.values()).containsExactlyElementsOf(fields.values());
+        assertThat(underTest.keySet()).containsExactlyElementsOf(fields.keySet());
+    }
+
+    @Test
+    public void withReplacesExistingFieldAtSamePosition() {
+        final PersistentJsonFieldMap underTest = PersistentJsonFieldMap.empty()
+                .with(newField("foo", 1))
+                .with(newField("bar", 2))
+                .with(newField("baz", 3));
+
+        final PersistentJsonFieldMap actual = underTest.with(newField("bar", 4));
+
+        assertThat(actual.values()).containsExactly(newField("foo", 1), newField("bar", 4), newField("baz", 3));
+        assertThat(underTest.get("bar")).isEqualTo(newField("bar", 2));
+    }
+
+    @Test
+    public void withSameFieldReturnsSameInstance() {
+        final PersistentJsonFieldMap underTest = PersistentJsonFieldMap.empty().with(newField("foo", 1));
+
+        assertThat(underTest.with(newField("foo", 1))).isSameAs(underTest);
+    }
+
+    @Test
+    public void withReplacedReplacesEqualFieldAtSamePosition() {
+        final JsonField reorderedField = JsonFactory.newField(JsonFactory.newKey("bar"),
+                JsonFactory.newObject("{\"b\":2,\"a\":1}"));
+        final PersistentJsonFieldMap underTest = PersistentJsonFieldMap.empty()
+                .with(newField("foo", 1))
+                .with(JsonFactory.newField(JsonFactory.newKey("bar"), JsonFactory.newObject("{\"a\":1,\"b\":2}")))
+                .with(newField("baz", 3));
+
+        final PersistentJsonFieldMap actual = underTest.withReplaced(reorderedField);
+
+        assertThat(underTest.with(reorderedField)).isSameAs(underTest);
+        assertThat(actual).isNotSameAs(underTest);
+        assertThat(actual.keySet()).containsExactly("foo", "bar", "baz");
+        assertThat(actual.get("bar").getValue().toString()).isEqualTo("{\"b\":2,\"a\":1}");
+    }
+
+    @Test
+    public void withoutUnknownKeyReturnsSameInstance() {
+        final PersistentJsonFieldMap underTest = PersistentJsonFieldMap.empty().with(newField("foo", 1));
+
+        assertThat(underTest.without("bar")).isSameAs(underTest);
+    }
+
+    @Test
+    public void collidingKeysAreDistinguished() {
+        PersistentJsonFieldMap underTest = PersistentJsonFieldMap.empty();
+        for (int i = 0; i < COLLIDING_KEYS.length; i++) {
+            underTest = underTest.with(newField(COLLIDING_KEYS[i], i));
+        }
+        underTest = underTest.without("AaBB");
+
+        assertThat(underTest).hasSize(COLLIDING_KEYS.length - 1);
+        assertThat(underTest.get("Aa")).isEqualTo(newField("Aa", 0));
+        assertThat(underTest.get("BB")).isEqualTo(newField("BB", 1));
+        assertThat(underTest.get("AaBB")).isNull();
+        assertThat(underTest.get("BBBB")).isEqualTo(newField("BBBB", 5));
+    }
+
+    @Test
+    public void randomModificationsLeadToSameResultAsLinkedHashMap() {
+        final Random random = new Random(42);
+        final Map<String, JsonField> expected = new LinkedHashMap<>();
+        PersistentJsonFieldMap underTest = PersistentJsonFieldMap.empty();
+        final PersistentJsonFieldMap[] snapshots = new PersistentJsonFieldMap[10];
+        final Map<?, ?>[] expectedSnapshots = new Map<?, ?>[snapshots.length];
+
+        for (int i = 0; i < 5000; i++) {
+            final String key = 0 == i % 10
+                    ? COLLIDING_KEYS[random.nextInt(COLLIDING_KEYS.length)]
+                    : "key" + random.nextInt(1000);
+            if (0 == random.nextInt(3)) {
+                expected.remove(key);
+                underTest = underTest.without(key);
+            } else {
+                final JsonField field = newField(key, random.nextInt(10));
+                expected.put(key, field);
+                underTest = underTest.with(field);
+            }
+            if (0 == i % 500) {
+                snapshots[i / 500] = underTest;
+                expectedSnapshots[i / 500] = new LinkedHashMap<>(expected);
+            }
+        }
+
+        assertThat(underTest).isEqualTo(expected);
+        assertThat(new ArrayList<>(underTest.entrySet())).isEqualTo(new ArrayList<>(expected.entrySet()));
+        for (int i = 0; i < snapshots.length; i++) {
+            assertThat(new ArrayList<>(snapshots[i].entrySet()))
+                    .isEqualTo(new ArrayList<>(expectedSnapshots[i].entrySet()));
+        }
+    }
+
+    @Test
+    public void removingAllFieldsLeadsToEmptyMap() {
+        PersistentJsonFieldMap underTest = PersistentJsonFieldMap.empty();
+        for (int i = 0; i < 100; i++) {
+            underTest = underTest.with(newField("key" + i, i));
+        }
+        for (int i = 0; i < 100; i++) {
+            underTest = underTest.without("key" + i);
+        }
+
+        assertThat(underTest).isEmpty();
+        assertThat(underTest.values()).isEmpty();
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link RawJsonScanner}.
+ */
+public final class RawJsonScannerTest {
+
+    private static RawJsonScanner.Index scan(final String jsonString) {
+        return RawJsonScanner.scanDocument(RawJson.ofString(jsonString));
+    }
+
+    private static boolean isValueVerbatim(final String jsonValueString) {
+        return scan("{\"value\":" + jsonValueString + "}").getMember("value").isValueVerbatim();
+    }
+
+    @Test
+    public void offsetsOfMembersAreIndexed() {
+        final RawJsonScanner.Index underTest = scan(" {\"foo\": [1, 2],\"bar\":{\"baz\":null}} ");
+
+        assertThat(underTest.getStart()).isEqualTo(1);
+        assertThat(underTest.getEnd()).isEqualTo(35);
+        assertThat(underTest.isVerbatim()).isFalse();
+        assertThat(underTest.getMembers()).hasSize(2);
+
+        final RawJsonScanner.Member foo = underTest.getMember("foo");
+        assertThat(foo.getKeyStart()).isEqualTo(2);
+        assertThat(foo.getKeyEnd()).isEqualTo(7);
+        assertThat(foo.getValueStart()).isEqualTo(9);
+        assertThat(foo.getValueEnd()).isEqualTo(15);
+        assertThat(foo.isKeyVerbatim()).isTrue();
+        assertThat(foo.isValueVerbatim()).isFalse();
+        assertThat(foo.isValueObject()).isFalse();
+
+        final RawJsonScanner.Member bar = underTest.getMember("bar");
+        assertThat(bar.getValueStart()).isEqualTo(22);
+        assertThat(bar.isVerbatim()).isTrue();
+        assertThat(bar.isValueObject()).isTrue();
+    }
+
+    @Test
+    public void escapedKeysAreDecoded() {
+        final RawJsonScanner.Index underTest = scan("{\"a\\\"b\":1,\"\\u00e4\":2}");
+
+        assertThat(underTest.getMember("a\"b").isKeyVerbatim()).isTrue();
+        assertThat(underTest.getMember("\u00e4").isKeyVerbatim()).isFalse();
+    }
+
+    @Test
+    public void manyMembersAreFoundByKey() {
+        final StringBuilder stringBuilder = new StringBuilder("{");
+        for (int i = 0; i < 100; i++) {
+            stringBuilder.append("\"key").append(i).append("\":").append(i).append(',');
+        }
+        stringBuilder.append("\"key0\":true}");
+
+        final RawJsonScanner.Index underTest = scan(stringBuilder.toString());
+
+        assertThat(underTest.getMembers()).hasSize(100);
+        assertThat(underTest.getMembers().get(0).getKey()).isEqualTo("key0");
+        assertThat(underTest.getMember("key0").getValueStart()).isEqualTo(stringBuilder.length() - 5);
+        assertThat(underTest.getMember("key99")).isNotNull();
+        assertThat(underTest.isVerbatim()).isFalse();
+    }
+
+    @Test
+    public void valuesInMinimalFormAreVerbatim() {
+        assertThat(isValueVerbatim("0")).isTrue();
+        assertThat(isValueVerbatim("-123456789012345")).isTrue();
+        assertThat(isValueVerbatim("-0")).isTrue();
+        assertThat(isValueVerbatim("1234567890123456")).isTrue();
+        assertThat(isValueVerbatim("1.50")).isTrue();
+        assertThat(isValueVerbatim("1e3")).isTrue();
+        assertThat(isValueVerbatim("\"\\\"\\\\\\n\\r\\t\u00e4\"")).isTrue();
+        assertThat(isValueVerbatim("{\"a\":[true,false,null],\"b\":{}}")).isTrue();
+    }
+
+    @Test
+    public void valuesWhichAreNormalizedWhenWrittenAreNotVerbatim() {
+        assertThat(isValueVerbatim("\"\\/\"")).isFalse();
+        assertThat(isValueVerbatim("\"\\u0041\"")).isFalse();
+        assertThat(isValueVerbatim("\"\u2028\"")).isFalse();
+        assertThat(isValueVerbatim("[1, 2]")).isFalse();
+        assertThat(isValueVerbatim("{\"a\":1,\"a\":2}")).isFalse();
+    }
+
+    @Test
+    public void encodedSurrogateIsRejected() {
+        final byte[] utf8Bytes = {'{', '"', 'a', '"', ':', '"', (byte) 0xED, (byte) 0xA0, (byte) 0x80, '"', '}'};
+
+        assertThatExceptionOfType(JsonValueParser.SyntaxException.class)
+                .isThrownBy(() -> RawJsonScanner.scanDocument(RawJson.ofUtf8Bytes(utf8Bytes)))
+                .withMessage("Malformed UTF-8 input at byte 9!");
+    }
+
+    @Test
+    public void overlongUtf8SequenceIsRejected() {
+        final byte[] utf8Bytes = {'{', '"', 'a', '"', ':', '"', (byte) 0xC0, (byte) 0xA2, '"', '}'};
+
+        assertThatExceptionOfType(JsonValueParser.SyntaxException.class)
+                .isThrownBy(() -> RawJsonScanner.scanDocument(RawJson.ofUtf8Bytes(utf8Bytes)))
+                .withMessage("Malformed UTF-8 input at byte 8!");
+    }
+
+    @Test
+    public void emptyKeyIsRejected() {
+        assertThatExceptionOfType(JsonValueParser.SyntaxException.class)
+                .isThrownBy(() -> scan("{\"a\":{\"\":1}}"))
+                .withMessage("Empty key at offset 6!");
+    }
+
+    @Test
+    public void trailingCharactersAreRejected() {
+        assertThatExceptionOfType(JsonValueParser.SyntaxException.class)
+                .isThrownBy(() -> scan("{} {}"))
+                .withMessage("Unexpected character <{> at offset 3!");
+    }
+
+}
@@ -72,6 +72,18 @@ public interface AuthorizationContext
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Returns the IDs of all authorization subjects of this context as {@link InternedAuthorizationSubjects}, i. e. as
+     * compact integer IDs for fast intersection and containment checks. The subject IDs are only looked up in the
+     * {@link AuthorizationSubjectDictionary}; subject IDs which are not interned yet are kept as unknown subject IDs.
+     * Long-living contexts may use {@link InternedAuthorizationSubjects#intern(Iterable)} instead.
+     *
+     * @return the looked up IDs.
+     */
+    default InternedAuthorizationSubjects getInternedAuthorizationSubjects() {
+        return InternedAuthorizationSubjects.lookUp(getAuthorizationSubjectIds());
+    }
+
     /**
      * Returns the first authorization subject of this context.
      *
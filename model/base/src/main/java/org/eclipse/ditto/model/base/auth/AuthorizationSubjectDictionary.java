@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.model.base.auth;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A node-wide dictionary which maps the IDs of authorization subjects to compact integer IDs. The integer IDs are
+ * assigned in ascending order starting with {@code 0}; an ID once assigned is never changed or released. Releasing
+ * IDs is not an option as a recycled ID would make sets which were interned before contain another subject.
+ * <p>
+ * Instead the dictionary is bounded: when it reached its capacity no further subject IDs are interned. Sets of
+ * {@link InternedAuthorizationSubjects} then keep those subject IDs as strings, which is slower but correct.
+ * </p>
+ * <p>
+ * Interning is intended for the subjects of long-living authorization contexts, e. g. the ones of streaming sessions.
+ * Subjects which are merely compared to those, e. g. the read subjects of events or the subjects of the authorization
+ * context of a command, should only be looked up so that the dictionary does not fill up with every subject which
+ * passes the node.
+ * </p>
+ *
+ * @see InternedAuthorizationSubjects
+ */
+@ThreadSafe
+public final class AuthorizationSubjectDictionary {
+
+    /**
+     * The maximum number of subject IDs of the node-wide dictionary.
+     */
+    static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private static final AuthorizationSubjectDictionary INSTANCE =
+            new AuthorizationSubjectDictionary(DEFAULT_CAPACITY);
+
+    private final int capacity;
+    private final Map<String, Integer> integerIds;
+
+    /*
+     * Is written after each new entry of integerIds. Thus all subjects with an integer ID less than the read size are
+     * visible to the reader.
+     */
+    private volatile int size;
+
+    AuthorizationSubjectDictionary(final int capacity) {
+        this.capacity = capacity;
+        integerIds = new ConcurrentHashMap<>();
+        size = 0;
+    }
+
+    /**
+     * Returns the node-wide instance of {@code AuthorizationSubjectDictionary}.
+     *
+     * @return the instance.
+     */
+    public static AuthorizationSubjectDictionary getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the integer ID of the given subject ID; an integer ID is assigned if the subject ID is not known yet and
+     * this dictionary did not reach its capacity.
+     *
+     * @param subjectId the ID of the authorization subject.
+     * @return the integer ID or {@code -1} if {@code subjectId} is unknown and this dictionary is full.
+     * @throws NullPointerException if {@code subjectId} is {@code null}.
+     */
+    public int intern(final CharSequence subjectId) {
+        checkNotNull(subjectId, "subject ID");
+
+        final String key = subjectId.toString();
+        final Integer integerId = integerIds.get(key);
+        if (null != integerId) {
+            return integerId;
+        }
+        synchronized (this) {
+            final Integer existingIntegerId = integerIds.get(key);
+            if (null != existingIntegerId) {
+                return existingIntegerId;
+            }
+            final int newIntegerId = size;
+            if (newIntegerId >= capacity) {
+                return -1;
+            }
+            integerIds.put(key, newIntegerId);
+            size = newIntegerId + 1;
+            return newIntegerId;
+        }
+    }
+
+    /**
+     * Returns the integer ID of the given subject ID without assigning one.
+     *
+     * @param subjectId the ID of the authorization subject.
+     * @return the integer ID or {@code -1} if {@code subjectId} was not interned yet.
+     * @throws NullPointerException if {@code subjectId} is {@code null}.
+     */
+    public int lookUp(final CharSequence subjectId) {
+        checkNotNull(subjectId, "subject ID");
+
+        final Integer integerId = integerIds.get(subjectId.toString());
+        return null != integerId ? integerId : -1;
+    }
+
+    /**
+     * Returns the number of interned subject IDs which is the integer ID the next new subject ID gets.
+     *
+     * @return the size of this dictionary.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of subject IDs this dictionary interns.
+     *
+     * @return the capacity.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "capacity=" + capacity +
+                ", size=" + size +
+                "]";
+    }
+
+}
@@ -23,6 +23,7 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.json.JsonArray;
@@ -42,6 +43,7 @@ import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 final class ImmutableAuthorizationContext implements AuthorizationContext {
 
     private final List<AuthorizationSubject> authorizationSubjects;
+    @Nullable private InternedAuthorizationSubjects internedAuthorizationSubjects;
 
     private ImmutableAuthorizationContext(final List<AuthorizationSubject> theAuthorizationSubjects) {
         authorizationSubjects = theAuthorizationSubjects;
@@ -106,6 +108,16 @@ final class ImmutableAuthorizationContext implements AuthorizationContext {
         return authorizationSubjects;
     }
 
+    @Override
+    public InternedAuthorizationSubjects getInternedAuthorizationSubjects() {
+        InternedAuthorizationSubjects result = internedAuthorizationSubjects;
+        if (null == result) {
+            result = InternedAuthorizationSubjects.lookUp(getAuthorizationSubjectIds());
+            internedAuthorizationSubjects = result;
+        }
+        return result;
+    }
+
     @Override
     public Optional<AuthorizationSubject> getFirstAuthorizationSubject() {
         return authorizationSubjects.stream().findFirst();
@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.model.base.auth;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.function.ToIntFunction;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * An immutable set of authorization subject IDs which are represented by their integer IDs of the
+ * {@link AuthorizationSubjectDictionary}. The integer IDs are kept in a sorted array, thus intersection and
+ * containment checks compare a few integers instead of hashing strings.
+ * <p>
+ * A set additionally keeps the subject IDs which were not interned when it was created, i. e. the unknown subject IDs
+ * of {@link #lookUp(Iterable)} resp. the ones {@link #intern(Iterable)} could not add to the full dictionary. Those
+ * are resolved again only if the dictionary grew in the meantime; as long as it did not they cannot be contained in
+ * any interned set.
+ * </p>
+ * <p>
+ * Equality is based on the representation: a subject ID which was unknown when a set was looked up does not equal its
+ * integer ID in a set which was interned later.
+ * </p>
+ */
+@Immutable
+public final class InternedAuthorizationSubjects {
+
+    private static final int[] NO_INTEGER_IDS = new int[0];
+    private static final String[] NO_SUBJECT_IDS = new String[0];
+
+    private final int[] integerIds;
+    private final String[] unknownSubjectIds;
+    private final int dictionarySize;
+
+    private InternedAuthorizationSubjects(final int[] integerIds, final String[] unknownSubjectIds,
+            final int dictionarySize) {
+
+        this.integerIds = integerIds;
+        this.unknownSubjectIds = unknownSubjectIds;
+        this.dictionarySize = dictionarySize;
+    }
+
+    /**
+     * Returns an instance of {@code InternedAuthorizationSubjects} which contains the given subject IDs. Subject IDs
+     * which were not known yet are added to the {@link AuthorizationSubjectDictionary} as long as it is not full.
+     * This should only be used for long-living sets, e. g. the authorization subjects of a streaming session.
+     *
+     * @param subjectIds the IDs of the authorization subjects.
+     * @return the instance.
+     * @throws NullPointerException if {@code subjectIds} is or contains {@code null}.
+     */
+    public static InternedAuthorizationSubjects intern(final Iterable<? extends CharSequence> subjectIds) {
+        checkNotNull(subjectIds, "subject IDs");
+
+        final AuthorizationSubjectDictionary dictionary = AuthorizationSubjectDictionary.getInstance();
+        return of(subjectIds, dictionary::intern, dictionary);
+    }
+
+    /**
+     * Returns an instance of {@code InternedAuthorizationSubjects} which contains the given subject IDs without
+     * adding any of them to the {@link AuthorizationSubjectDictionary}.
+     *
+     * @param subjectIds the IDs of the authorization subjects.
+     * @return the instance.
+     * @throws NullPointerException if {@code subjectIds} is or contains {@code null}.
+     */
+    public static InternedAuthorizationSubjects lookUp(final Iterable<? extends CharSequence> subjectIds) {
+        checkNotNull(subjectIds, "subject IDs");
+
+        final AuthorizationSubjectDictionary dictionary = AuthorizationSubjectDictionary.getInstance();
+        return of(subjectIds, dictionary::lookUp, dictionary);
+    }
+
+    private static InternedAuthorizationSubjects of(final Iterable<? extends CharSequence> subjectIds,
+            final ToIntFunction<CharSequence> toIntegerId, final AuthorizationSubjectDictionary dictionary) {
+
+        // must be read before the look-ups: each subject which is interned later gets an integer ID >= size
+        final int dictionarySize = dictionary.getSize();
+        final List<Integer> integerIds = new ArrayList<>();
+        final TreeSet<String> unknownSubjectIds = new TreeSet<>();
+        for (final CharSequence subjectId : subjectIds) {
+            final int integerId = toIntegerId.applyAsInt(subjectId);
+            if (0 <= integerId) {
+                integerIds.add(integerId);
+            } else {
+                unknownSubjectIds.add(subjectId.toString());
+            }
+        }
+        return new InternedAuthorizationSubjects(toSortedDistinctArray(integerIds),
+                unknownSubjectIds.isEmpty() ? NO_SUBJECT_IDS : unknownSubjectIds.toArray(NO_SUBJECT_IDS),
+                dictionarySize);
+    }
+
+    private static int[] toSortedDistinctArray(final List<Integer> integerIds) {
+        if (integerIds.isEmpty()) {
+            return NO_INTEGER_IDS;
+        }
+        final int[] result = new int[integerIds.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = integerIds.get(i);
+        }
+        Arrays.sort(result);
+        int distinctCount = 1;
+        for (int i = 1; i < result.length; i++) {
+            if (result[i] != result[distinctCount - 1]) {
+                result[distinctCount++] = result[i];
+            }
+        }
+        return distinctCount == result.length ? result : Arrays.copyOf(result, distinctCount);
+    }
+
+    /**
+     * Indicates whether this set and the given set have at least one subject ID in common. This is the equivalent
+     * of {@code !Collections.disjoint(this, other)}.
+     *
+     * @param other the set to be checked.
+     * @return {@code true} if both sets contain a common subject ID, {@code false} else.
+     * @throws NullPointerException if {@code other} is {@code null}.
+     */
+    public boolean intersects(final InternedAuthorizationSubjects other) {
+        checkNotNull(other, "other interned authorization subjects");
+
+        final int[] otherIntegerIds = other.integerIds;
+        int i = 0;
+        int j = 0;
+        while (i < integerIds.length && j < otherIntegerIds.length) {
+            if (integerIds[i] < otherIntegerIds[j]) {
+                i++;
+            } else if (integerIds[i] > otherIntegerIds[j]) {
+                j++;
+            } else {
+                return true;
+            }
+        }
+        return containsAnyUnknownSubjectIdOf(other) || other.containsAnyUnknownSubjectIdOf(this);
+    }
+
+    private boolean containsAnyUnknownSubjectIdOf(final InternedAuthorizationSubjects other) {
+        for (final String unknownSubjectId : other.unknownSubjectIds) {
+            if (containsSubjectId(unknownSubjectId, other.resolve(unknownSubjectId))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Indicates whether this set contains all subject IDs of the given set.
+     *
+     * @param other the set to be checked.
+     * @return {@code true} if this set contains each subject ID of {@code other}, {@code false} else.
+     * @throws NullPointerException if {@code other} is {@code null}.
+     */
+    public boolean containsAll(final InternedAuthorizationSubjects other) {
+        checkNotNull(other, "other interned authorization subjects");
+
+        for (final int otherIntegerId : other.integerIds) {
+            if (!containsIntegerId(otherIntegerId)) {
+                return false;
+            }
+        }
+        for (final String unknownSubjectId : other.unknownSubjectIds) {
+            if (!containsSubjectId(unknownSubjectId, other.resolve(unknownSubjectId))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Indicates whether this set contains the given subject ID.
+     *
+     * @param subjectId the ID of the authorization subject to be checked.
+     * @return {@code true} if this set contains {@code subjectId}, {@code false} else.
+     * @throws NullPointerException if {@code subjectId} is {@code null}.
+     */
+    public boolean contains(final CharSequence subjectId) {
+        checkNotNull(subjectId, "subject ID");
+
+        final String subjectIdString = subjectId.toString();
+        return containsSubjectId(subjectIdString,
+                AuthorizationSubjectDictionary.getInstance().lookUp(subjectIdString));
+    }
+
+    private boolean containsSubjectId(final String subjectId, final int integerId) {
+        if (0 <= integerId && 0 <= Arrays.binarySearch(integerIds, integerId)) {
+            return true;
+        }
+        return 0 <= Arrays.binarySearch(unknownSubjectIds, subjectId);
+    }
+
+    private boolean containsIntegerId(final int integerId) {
+        if (0 <= Arrays.binarySearch(integerIds, integerId)) {
+            return true;
+        }
+        for (final String unknownSubjectId : unknownSubjectIds) {
+            if (integerId == resolve(unknownSubjectId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+     * Returns the integer ID of a subject ID which was unknown when this set was created or -1 if it is still
+     * unknown.
+     */
+    private int resolve(final String unknownSubjectId) {
+        final AuthorizationSubjectDictionary dictionary = AuthorizationSubjectDictionary.getInstance();
+        if (dictionary.getSize() == dictionarySize) {
+            return -1;
+        }
+        return dictionary.lookUp(unknownSubjectId);
+    }
+
+    /**
+     * Returns the number of subject IDs of this set.
+     *
+     * @return the size.
+     */
+    public int getSize() {
+        return integerIds.length + unknownSubjectIds.length;
+    }
+
+    /**
+     * Indicates whether this set is empty.
+     *
+     * @return {@code true} if this set does not contain any subject ID, {@code false} else.
+     */
+    public boolean isEmpty() {
+        return 0 == getSize();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final InternedAuthorizationSubjects that = (InternedAuthorizationSubjects) o;
+        return Arrays.equals(integerIds, that.integerIds) &&
+                Arrays.equals(unknownSubjectIds, that.unknownSubjectIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(Arrays.hashCode(integerIds), Arrays.hashCode(unknownSubjectIds));
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "integerIds=" + Arrays.toString(integerIds) +
+                ", unknownSubjectIds=" + Arrays.toString(unknownSubjectIds) +
+                "]";
+    }
+
+}
@@ -26,6 +26,7 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 public abstract class AbstractIdValidator implements BiConsumer<CharSequence, DittoHeaders> {
 
     private final String idRegex;
+    private final boolean isNamespacedIdRegex;
 
     /**
      * Constructs a new {@code AbstractIdValidator} object.
@@ -34,6 +35,7 @@ public abstract class AbstractIdValidator implements BiConsumer<CharSequence, Di
      */
     protected AbstractIdValidator(final String idRegex) {
         this.idRegex = idRegex;
+        isNamespacedIdRegex = NamespacedIdGrammar.ID_REGEX.equals(idRegex);
     }
 
     /**
@@ -47,6 +49,9 @@ public abstract class AbstractIdValidator implements BiConsumer<CharSequence, Di
     @Override
     public void accept(@Nullable final CharSequence id, final DittoHeaders dittoHeaders) {
         checkNotNull(dittoHeaders, "Ditto Headers");
+        if (isNamespacedIdRegex && NamespacedIdGrammar.isValid(id)) {
+            return;
+        }
         final IdValidator idValidator = IdValidator.newInstance(id, idRegex);
         if (!idValidator.isValid()) {
             final DittoRuntimeExceptionBuilder builder = createBuilder(id).dittoHeaders(dittoHeaders);
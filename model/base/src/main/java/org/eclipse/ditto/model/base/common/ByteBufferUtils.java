@@ -47,4 +47,18 @@ public final class ByteBufferUtils {
         return clone;
     }
 
+    /**
+     * Copies the remaining bytes of the passed in ByteBuffer into a new array. Other than {@link ByteBuffer#array()}
+     * this works for read-only buffers and respects the position and limit of the buffer. The position of the buffer
+     * is not changed.
+     *
+     * @param byteBuffer the ByteBuffer to get the remaining bytes of.
+     * @return the remaining bytes.
+     */
+    public static byte[] toByteArray(final ByteBuffer byteBuffer) {
+        final byte[] result = new byte[byteBuffer.remaining()];
+        byteBuffer.duplicate().get(result);
+        return result;
+    }
+
 }
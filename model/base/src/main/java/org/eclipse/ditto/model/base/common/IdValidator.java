@@ -15,6 +15,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.text.MessageFormat;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -23,17 +25,26 @@ import javax.annotation.concurrent.Immutable;
 
 /**
  * Instances of this class can be used to validate a specified ID against the provided regular expression.
+ * <p>
+ * IDs are validated against {@link NamespacedIdGrammar#ID_REGEX} by {@link NamespacedIdGrammar} without evaluating
+ * the regular expression. Other regular expressions are compiled only once.
+ * </p>
  */
 @Immutable
 public final class IdValidator implements Validator {
 
+    private static final ConcurrentMap<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
+
     private final CharSequence id;
-    private final Pattern idPattern;
+    private final String regex;
+    @Nullable private final Pattern idPattern;
     private String reason;
 
     private IdValidator(@Nullable final CharSequence id, final String regex) {
         this.id = id;
-        idPattern = Pattern.compile(regex);
+        this.regex = regex;
+        idPattern = NamespacedIdGrammar.ID_REGEX.equals(regex) ? null : PATTERNS.computeIfAbsent(regex,
+                Pattern::compile);
         reason = null;
     }
 
@@ -65,18 +76,24 @@ public final class IdValidator implements Validator {
             isValid = false;
             reason = "The ID is not valid because it was 'null'!";
         } else {
-            final Matcher matcher = idPattern.matcher(id);
-            isValid = matcher.matches();
+            isValid = matches(id);
             if (!isValid) {
                 final String msgTemplate = "The ID ''{0}'' is not valid! It did not match the pattern ''{1}''.";
-                reason = MessageFormat.format(msgTemplate, id, idPattern);
+                reason = MessageFormat.format(msgTemplate, id, regex);
             }
         }
 
-
         return isValid;
     }
 
+    private boolean matches(final CharSequence id) {
+        if (null == idPattern) {
+            return NamespacedIdGrammar.isValid(id);
+        }
+        final Matcher matcher = idPattern.matcher(id);
+        return matcher.matches();
+    }
+
     @Override
     public Optional<String> getReason() {
         return Optional.ofNullable(reason);
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.model.base.common;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Validates IDs which consist of a namespace and a name, like the IDs of Things and Policies, without using regular
+ * expressions. An ID is valid if and only if it matches {@link #ID_REGEX}:
+ * <ul>
+ *     <li>The namespace is either empty or consists of segments in Java package notation, i. e. each segment starts
+ *     with an ASCII letter followed by ASCII letters, digits or underscores and the segments are separated by
+ *     dots.</li>
+ *     <li>A colon separates the namespace from the name. As the namespace cannot contain a colon it is always the
+ *     first colon of the ID.</li>
+ *     <li>The name is either empty or consists of ASCII letters, digits and the characters
+ *     {@code -_:@&=+,.!~*';$} as well as escape sequences of a percent sign followed by two hexadecimal digits. The
+ *     name must not start with {@code $}.</li>
+ * </ul>
+ * The validation does not allocate any objects.
+ */
+@Immutable
+public final class NamespacedIdGrammar {
+
+    /**
+     * The regular expression which is equivalent to the grammar of this class. It is the same as the ID regex of
+     * Things and Policies; the named group {@code ns} captures the namespace, the named group {@code id} captures the
+     * name.
+     */
+    public static final String ID_REGEX = "(?<ns>|(?:(?:[a-zA-Z]\\w*)(?:\\.[a-zA-Z]\\w*)*))" + "\\:" +
+            "(?<id>|(?:[-\\w:@&=+,.!~*'_;]|%\\p{XDigit}{2})(?:[-\\w:@&=+,.!~*'$_;]|%\\p{XDigit}{2})*)";
+
+    private static final char NAMESPACE_SEPARATOR = ':';
+    private static final char NAMESPACE_SEGMENT_SEPARATOR = '.';
+    private static final char ESCAPE = '%';
+    private static final char NOT_FIRST_NAME_CHAR = '$';
+
+    private static final String NAME_SPECIAL_CHARS = "-:@&=+,.!~*';";
+
+    private NamespacedIdGrammar() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Indicates whether the given ID complies to the grammar.
+     *
+     * @param id the ID to be validated.
+     * @return {@code true} if {@code id} is valid, {@code false} if it is invalid or {@code null}.
+     */
+    public static boolean isValid(@Nullable final CharSequence id) {
+        return 0 <= getNamespaceSeparatorIndex(id);
+    }
+
+    /**
+     * Validates the given ID and returns the index of the colon which separates the namespace from the name. Thus
+     * the index equals the length of the namespace.
+     *
+     * @param id the ID to be validated.
+     * @return the index of the namespace separator or {@code -1} if {@code id} is invalid or {@code null}.
+     */
+    public static int getNamespaceSeparatorIndex(@Nullable final CharSequence id) {
+        if (null == id) {
+            return -1;
+        }
+        final int separatorIndex = getNamespaceLength(id);
+        if (0 > separatorIndex || !isValidName(id, separatorIndex + 1)) {
+            return -1;
+        }
+        return separatorIndex;
+    }
+
+    /**
+     * Returns the namespace of the given ID.
+     *
+     * @param id the ID to get the namespace of.
+     * @return the namespace which might be empty or {@code null} if {@code id} is invalid or {@code null}.
+     */
+    @Nullable
+    public static String getNamespaceOrNull(@Nullable final CharSequence id) {
+        final int separatorIndex = getNamespaceSeparatorIndex(id);
+        return 0 <= separatorIndex ? id.subSequence(0, separatorIndex).toString() : null;
+    }
+
+    /**
+     * Returns the name of the given ID, i. e. the part after the namespace separator.
+     *
+     * @param id the ID to get the name of.
+     * @return the name which might be empty or {@code null} if {@code id} is invalid or {@code null}.
+     */
+    @Nullable
+    public static String getNameOrNull(@Nullable final CharSequence id) {
+        final int separatorIndex = getNamespaceSeparatorIndex(id);
+        return 0 <= separatorIndex ? id.subSequence(separatorIndex + 1, id.length()).toString() : null;
+    }
+
+    /*
+     * Returns the length of the valid namespace at the start of the ID or -1 if the ID does not start with a valid
+     * namespace followed by the namespace separator.
+     */
+    private static int getNamespaceLength(final CharSequence id) {
+        final int length = id.length();
+        boolean isSegmentStart = true;
+        for (int i = 0; i < length; i++) {
+            final char c = id.charAt(i);
+            if (NAMESPACE_SEPARATOR == c) {
+                // the namespace is either empty or does not end with a segment separator
+                return 0 == i || !isSegmentStart ? i : -1;
+            } else if (isSegmentStart) {
+                if (!isAsciiLetter(c)) {
+                    return -1;
+                }
+                isSegmentStart = false;
+            } else if (NAMESPACE_SEGMENT_SEPARATOR == c) {
+                isSegmentStart = true;
+            } else if (!isWordChar(c)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isValidName(final CharSequence id, final int nameStartIndex) {
+        final int length = id.length();
+        int i = nameStartIndex;
+        while (i < length) {
+            final char c = id.charAt(i);
+            if (ESCAPE == c) {
+                if (length - 2 <= i || !isHexDigit(id.charAt(i + 1)) || !isHexDigit(id.charAt(i + 2))) {
+                    return false;
+                }
+                i += 3;
+            } else if (isNameChar(c) || (NOT_FIRST_NAME_CHAR == c && nameStartIndex < i)) {
+                i++;
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAsciiLetter(final char c) {
+        return ('a' <= c && c <= 'z') || ('A' <= c && c <= 'Z');
+    }
+
+    private static boolean isWordChar(final char c) {
+        return isAsciiLetter(c) || ('0' <= c && c <= '9') || '_' == c;
+    }
+
+    private static boolean isHexDigit(final char c) {
+        return ('0' <= c && c <= '9') || ('a' <= c && c <= 'f') || ('A' <= c && c <= 'F');
+    }
+
+    private static boolean isNameChar(final char c) {
+        return isWordChar(c) || 0 <= NAME_SPECIAL_CHARS.indexOf(c);
+    }
+
+}
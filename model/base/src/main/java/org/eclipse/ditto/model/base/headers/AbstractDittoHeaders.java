@@ -17,15 +17,16 @@ import java.util.AbstractMap;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.json.JsonArray;
@@ -36,17 +37,36 @@ import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.auth.AuthorizationModelFactory;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.InternedAuthorizationSubjects;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 
 /**
  * Abstract immutable implementation of {@link DittoHeaders} which is heavily based on {@link AbstractMap}.
+ * <p>
+ * The typed values of the well-known headers like the authorization subjects are parsed from their string
+ * representation only once, when they are requested the first time. As the parsed values are immutable and always
+ * equal for the same headers, they are cached without synchronization; concurrent first requests might parse a value
+ * more than once but always get an equal result.
+ * </p>
  */
 @Immutable
 @SuppressWarnings("squid:S2160")
 public abstract class AbstractDittoHeaders extends AbstractMap<String, String> implements DittoHeaders {
 
+    private static final ConcurrentMap<Class<?>, Map<String, HeaderDefinition>> DEFINITIONS_BY_KEY_PER_CLASS =
+            new ConcurrentHashMap<>();
+
     private final Map<String, String> headers;
 
+    @Nullable private Optional<JsonSchemaVersion> schemaVersion;
+    @Nullable private List<String> authorizationSubjects;
+    @Nullable private AuthorizationContext authorizationContext;
+    @Nullable private Set<String> readSubjects;
+    @Nullable private InternedAuthorizationSubjects internedReadSubjects;
+    @Nullable private Boolean responseRequired;
+    @Nullable private Boolean dryRun;
+    @Nullable private JsonObject json;
+
     /**
      * Constructs a new {@code AbstractDittoHeaders} object.
      *
@@ -55,7 +75,12 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
      */
     protected AbstractDittoHeaders(final Map<String, String> headers) {
         checkNotNull(headers, "headers map");
-        this.headers = Collections.unmodifiableMap(new HashMap<>(headers));
+        if (headers instanceof AbstractDittoHeaders) {
+            // the headers of another instance are already an unmodifiable copy
+            this.headers = ((AbstractDittoHeaders) headers).headers;
+        } else {
+            this.headers = Collections.unmodifiableMap(new HashMap<>(headers));
+        }
     }
 
     @Override
@@ -73,18 +98,29 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
     }
 
     @Override
+    @SuppressWarnings("OptionalAssignedToNull")
     public Optional<JsonSchemaVersion> getSchemaVersion() {
-        return getStringForDefinition(DittoHeaderDefinition.SCHEMA_VERSION)
-                .map(Integer::valueOf)
-                .flatMap(JsonSchemaVersion::forInt);
+        Optional<JsonSchemaVersion> result = schemaVersion;
+        if (null == result) {
+            result = getStringForDefinition(DittoHeaderDefinition.SCHEMA_VERSION)
+                    .map(Integer::valueOf)
+                    .flatMap(JsonSchemaVersion::forInt);
+            schemaVersion = result;
+        }
+        return result;
     }
 
     @Override
     public List<String> getAuthorizationSubjects() {
-        final JsonArray jsonValueArray = getJsonArrayForDefinition(DittoHeaderDefinition.AUTHORIZATION_SUBJECTS);
-        return jsonValueArray.stream()
-                .map(JsonValue::asString)
-                .collect(Collectors.toList());
+        List<String> result = authorizationSubjects;
+        if (null == result) {
+            final JsonArray jsonValueArray = getJsonArrayForDefinition(DittoHeaderDefinition.AUTHORIZATION_SUBJECTS);
+            result = Collections.unmodifiableList(jsonValueArray.stream()
+                    .map(JsonValue::asString)
+                    .collect(Collectors.toList()));
+            authorizationSubjects = result;
+        }
+        return result;
     }
 
     protected JsonArray getJsonArrayForDefinition(final HeaderDefinition definition) {
@@ -95,69 +131,121 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
 
     @Override
     public AuthorizationContext getAuthorizationContext() {
-        final List<AuthorizationSubject> authSubjects = getAuthorizationSubjects()
-                .stream()
-                .map(AuthorizationModelFactory::newAuthSubject)
-                .collect(Collectors.toList());
-        return AuthorizationModelFactory.newAuthContext(authSubjects);
+        AuthorizationContext result = authorizationContext;
+        if (null == result) {
+            final List<AuthorizationSubject> authSubjects = getAuthorizationSubjects()
+                    .stream()
+                    .map(AuthorizationModelFactory::newAuthSubject)
+                    .collect(Collectors.toList());
+            result = AuthorizationModelFactory.newAuthContext(authSubjects);
+            authorizationContext = result;
+        }
+        return result;
     }
 
     @Override
     public Set<String> getReadSubjects() {
-        final JsonArray jsonValueArray = getJsonArrayForDefinition(DittoHeaderDefinition.READ_SUBJECTS);
-        return jsonValueArray.stream()
-                .map(JsonValue::asString)
-                .collect(Collectors.toSet());
+        Set<String> result = readSubjects;
+        if (null == result) {
+            final JsonArray jsonValueArray = getJsonArrayForDefinition(DittoHeaderDefinition.READ_SUBJECTS);
+            result = Collections.unmodifiableSet(jsonValueArray.stream()
+                    .map(JsonValue::asString)
+                    .collect(Collectors.toSet()));
+            readSubjects = result;
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The looked up read subjects are cached by this instance.
+     */
+    @Override
+    public InternedAuthorizationSubjects getInternedReadSubjects() {
+        InternedAuthorizationSubjects result = internedReadSubjects;
+        if (null == result) {
+            result = InternedAuthorizationSubjects.lookUp(getReadSubjects());
+            internedReadSubjects = result;
+        }
+        return result;
     }
 
     @Override
     public boolean isResponseRequired() {
-        return getBooleanForDefinition(DittoHeaderDefinition.RESPONSE_REQUIRED).orElse(true);
+        Boolean result = responseRequired;
+        if (null == result) {
+            result = getBooleanForDefinition(DittoHeaderDefinition.RESPONSE_REQUIRED).orElse(true);
+            responseRequired = result;
+        }
+        return result;
     }
 
     protected Optional<Boolean> getBooleanForDefinition(final HeaderDefinition definition) {
-        return getStringForDefinition(definition)
-                .map(JsonFactory::readFrom)
+        final String value = headers.get(definition.getKey());
+        if (null == value) {
+            return Optional.empty();
+        } else if ("true".equals(value)) {
+            return Optional.of(Boolean.TRUE);
+        } else if ("false".equals(value)) {
+            return Optional.of(Boolean.FALSE);
+        }
+        return Optional.of(JsonFactory.readFrom(value))
                 .filter(JsonValue::isBoolean)
                 .map(JsonValue::asBoolean);
     }
 
     @Override
     public boolean isDryRun() {
-        return getBooleanForDefinition(DittoHeaderDefinition.DRY_RUN).orElse(false);
+        Boolean result = dryRun;
+        if (null == result) {
+            result = getBooleanForDefinition(DittoHeaderDefinition.DRY_RUN).orElse(false);
+            dryRun = result;
+        }
+        return result;
     }
 
+    /**
+     * Returns the header definitions which are specific to the implementing class. The definitions are indexed once
+     * per class, thus all instances of a class have to return the same definitions.
+     *
+     * @return the specific header definitions.
+     */
     protected abstract Collection<HeaderDefinition> getSpecificDefinitions();
 
     @Override
     public JsonObject toJson() {
-        final JsonObjectBuilder jsonObjectBuilder = JsonFactory.newObjectBuilder();
-        forEach((key, value) -> {
-            final Class<?> type = getTypeForKey(key);
-            final JsonValue jsonValue = type.isAssignableFrom(String.class)
-                    ? JsonFactory.newValue(value)
-                    : JsonFactory.readFrom(value);
-            jsonObjectBuilder.set(key, jsonValue);
-        });
-        return jsonObjectBuilder.build();
+        JsonObject result = json;
+        if (null == result) {
+            final Map<String, HeaderDefinition> definitionsByKey = getDefinitionsByKey();
+            final JsonObjectBuilder jsonObjectBuilder = JsonFactory.newObjectBuilder();
+            forEach((key, value) -> {
+                final Class<?> type = getTypeForKey(definitionsByKey, key);
+                final JsonValue jsonValue = type.isAssignableFrom(String.class)
+                        ? JsonFactory.newValue(value)
+                        : JsonFactory.readFrom(value);
+                jsonObjectBuilder.set(key, jsonValue);
+            });
+            result = jsonObjectBuilder.build();
+            json = result;
+        }
+        return result;
     }
 
-    private Class<?> getTypeForKey(final CharSequence key) {
-        final Collection<HeaderDefinition> definitions = getDefinitions();
-
-        return definitions.parallelStream()
-                .filter(definition -> Objects.equals(definition.getKey(), key))
-                .map(HeaderDefinition::getJavaType)
-                .findAny()
-                .orElse(String.class);
+    private static Class<?> getTypeForKey(final Map<String, HeaderDefinition> definitionsByKey, final String key) {
+        final HeaderDefinition definition = definitionsByKey.get(key);
+        return null != definition ? definition.getJavaType() : String.class;
     }
 
-    private Collection<HeaderDefinition> getDefinitions() {
-        final Collection<HeaderDefinition> result = new LinkedHashSet<>();
-        Collections.addAll(result, DittoHeaderDefinition.values());
-        result.addAll(getSpecificDefinitions());
-
-        return result;
+    private Map<String, HeaderDefinition> getDefinitionsByKey() {
+        return DEFINITIONS_BY_KEY_PER_CLASS.computeIfAbsent(getClass(), clazz -> {
+            final Map<String, HeaderDefinition> result = new HashMap<>();
+            for (final DittoHeaderDefinition dittoHeaderDefinition : DittoHeaderDefinition.values()) {
+                result.put(dittoHeaderDefinition.getKey(), dittoHeaderDefinition);
+            }
+            getSpecificDefinitions().forEach(definition -> result.putIfAbsent(definition.getKey(), definition));
+            return Collections.unmodifiableMap(result);
+        });
     }
 
     @Override
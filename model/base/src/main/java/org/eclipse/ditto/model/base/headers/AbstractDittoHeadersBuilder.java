@@ -19,9 +19,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Objects;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
@@ -44,7 +42,7 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
 
     protected final S myself;
     private final Map<String, String> headers;
-    private final Collection<HeaderDefinition> definitions;
+    private final Map<String, HeaderDefinition> definitions;
 
     /**
      * Constructs a new {@code AbstractDittoHeadersBuilder} object.
@@ -65,8 +63,11 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         validateValueTypes(initialHeaders, definitions);
         myself = (S) selfType.cast(this);
         headers = new HashMap<>(initialHeaders);
-        this.definitions = new HashSet<>(definitions);
-        Collections.addAll(this.definitions, DittoHeaderDefinition.values());
+        this.definitions = new HashMap<>();
+        definitions.forEach(definition -> this.definitions.put(definition.getKey(), definition));
+        for (final DittoHeaderDefinition dittoHeaderDefinition : DittoHeaderDefinition.values()) {
+            this.definitions.putIfAbsent(dittoHeaderDefinition.getKey(), dittoHeaderDefinition);
+        }
     }
 
     /**
@@ -213,16 +214,16 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     }
 
     protected void validateValueType(final CharSequence key, final CharSequence value) {
-        definitions.stream()
-                .filter(definition -> Objects.equals(definition.getKey(), key))
-                .findAny()
-                .ifPresent(definition -> definition.validateValue(value));
+        final HeaderDefinition definition = definitions.get(key.toString());
+        if (null != definition) {
+            definition.validateValue(value);
+        }
     }
 
     @Override
     public S putHeaders(final Map<String, String> headers) {
         checkNotNull(headers, "headers");
-        validateValueTypes(headers, definitions);
+        validateValueTypes(headers, definitions.values());
         this.headers.putAll(headers);
         return myself;
     }
@@ -11,9 +11,10 @@
  */
 package org.eclipse.ditto.model.base.headers;
 
-import java.util.Objects;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -74,6 +75,16 @@ public enum DittoHeaderDefinition implements HeaderDefinition {
      */
     READ_SUBJECTS("read-subjects", JsonArray.class);
 
+    private static final Map<String, DittoHeaderDefinition> DEFINITIONS_BY_KEY;
+
+    static {
+        final Map<String, DittoHeaderDefinition> definitionsByKey = new HashMap<>();
+        for (final DittoHeaderDefinition definition : values()) {
+            definitionsByKey.put(definition.key, definition);
+        }
+        DEFINITIONS_BY_KEY = Collections.unmodifiableMap(definitionsByKey);
+    }
+
     private final String key;
     private final Class<?> type;
 
@@ -89,9 +100,10 @@ public enum DittoHeaderDefinition implements HeaderDefinition {
      * @return the DittoHeaderKey or an empty Optional.
      */
     public static Optional<DittoHeaderDefinition> forKey(@Nullable final CharSequence key) {
-        return Stream.of(values())
-                .filter(dittoHeaderKey -> Objects.equals(dittoHeaderKey.key, String.valueOf(key)))
-                .findAny();
+        if (null == key) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(DEFINITIONS_BY_KEY.get(key.toString()));
     }
 
     @Override
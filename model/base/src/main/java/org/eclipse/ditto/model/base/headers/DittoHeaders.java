@@ -21,6 +21,7 @@ import java.util.stream.Collectors;
 
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.InternedAuthorizationSubjects;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
 
@@ -145,9 +146,9 @@ public interface DittoHeaders extends Jsonifiable<JsonObject>, Map<String, Strin
 
     /**
      * Returns the authorization subjects for the command containing this header in a List of their String
-     * representation. Changes on the returned List are not reflected back to this headers object.
+     * representation.
      *
-     * @return the authorization subjects for the command.
+     * @return the unmodifiable authorization subjects for the command.
      */
     List<String> getAuthorizationSubjects();
 
@@ -160,12 +161,23 @@ public interface DittoHeaders extends Jsonifiable<JsonObject>, Map<String, Strin
 
     /**
      * Returns the authorization subjects having "READ" permission for the key in the map defining a pointer in the
-     * Thing. Changes on the returned Set are not reflected back to this headers object.
+     * Thing.
      *
-     * @return the read subjects for pointers in the Thing.
+     * @return the unmodifiable read subjects for pointers in the Thing.
      */
     Set<String> getReadSubjects();
 
+    /**
+     * Returns the {@link #getReadSubjects() read subjects} as {@link InternedAuthorizationSubjects} for fast
+     * intersection and containment checks against interned authorization subjects. The read subjects are only looked
+     * up, they are not added to the {@link org.eclipse.ditto.model.base.auth.AuthorizationSubjectDictionary}.
+     *
+     * @return the looked up read subjects.
+     */
+    default InternedAuthorizationSubjects getInternedReadSubjects() {
+        return InternedAuthorizationSubjects.lookUp(getReadSubjects());
+    }
+
     /**
      * Returns whether a response to a command is required or if it may be omitted (fire and forget semantics)
      *
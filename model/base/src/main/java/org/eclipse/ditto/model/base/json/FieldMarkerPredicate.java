@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.model.base.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonField;
+
+/**
+ * A {@code Predicate} for JSON fields which is composed of {@link FieldType}s and {@link JsonSchemaVersion}s only.
+ * The result of such a predicate solely depends on the definition of a field; thus it can be evaluated once per
+ * field definition instead of once per field, see {@link JsonSerializationPlans}.
+ * <p>
+ * Two predicates of this type are equal if they are composed equally. Composing field types, schema versions and
+ * predicates of this type with {@link #and(Predicate)}, {@link #or(Predicate)} or {@link #negate()} yields a
+ * predicate of this type again.
+ * </p>
+ */
+@Immutable
+final class FieldMarkerPredicate implements Predicate<JsonField> {
+
+    /**
+     * The predicate which returns {@code true} for all fields.
+     */
+    static final FieldMarkerPredicate ALL = new FieldMarkerPredicate(Operator.ALL, Collections.emptyList());
+
+    private final Operator operator;
+    private final List<Predicate<JsonField>> operands;
+
+    private FieldMarkerPredicate(final Operator operator, final List<Predicate<JsonField>> operands) {
+        this.operator = operator;
+        this.operands = operands;
+    }
+
+    /**
+     * Indicates whether the result of the given predicate solely depends on the definition of a field.
+     *
+     * @param predicate the predicate to be checked.
+     * @return {@code true} if {@code predicate} is a field type, a schema version or a predicate of this type.
+     */
+    static boolean isFieldMarkerBased(final Predicate<?> predicate) {
+        return predicate instanceof FieldType || predicate instanceof JsonSchemaVersion
+                || predicate instanceof FieldMarkerPredicate;
+    }
+
+    /**
+     * Returns a predicate which represents the short-circuiting logical AND of the given predicates.
+     *
+     * @param first the predicate to be evaluated first.
+     * @param other the predicate to be evaluated if {@code first} returns {@code true}.
+     * @return the composed predicate which is a {@code FieldMarkerPredicate} if {@code other} is field marker based.
+     * @throws NullPointerException if {@code other} is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    static Predicate<JsonField> and(final Predicate<JsonField> first, final Predicate<? super JsonField> other) {
+        requireNonNull(other, "The other predicate must not be null!");
+        if (isFieldMarkerBased(other)) {
+            return new FieldMarkerPredicate(Operator.AND, Arrays.asList(first, (Predicate<JsonField>) other));
+        }
+        return jsonField -> first.test(jsonField) && other.test(jsonField);
+    }
+
+    /**
+     * Returns a predicate which represents the short-circuiting logical OR of the given predicates.
+     *
+     * @param first the predicate to be evaluated first.
+     * @param other the predicate to be evaluated if {@code first} returns {@code false}.
+     * @return the composed predicate which is a {@code FieldMarkerPredicate} if {@code other} is field marker based.
+     * @throws NullPointerException if {@code other} is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    static Predicate<JsonField> or(final Predicate<JsonField> first, final Predicate<? super JsonField> other) {
+        requireNonNull(other, "The other predicate must not be null!");
+        if (isFieldMarkerBased(other)) {
+            return new FieldMarkerPredicate(Operator.OR, Arrays.asList(first, (Predicate<JsonField>) other));
+        }
+        return jsonField -> first.test(jsonField) || other.test(jsonField);
+    }
+
+    /**
+     * Returns a predicate which represents the logical negation of the given predicate.
+     *
+     * @param predicate the predicate to be negated.
+     * @return the negated predicate.
+     */
+    static FieldMarkerPredicate not(final Predicate<JsonField> predicate) {
+        return new FieldMarkerPredicate(Operator.NOT, Collections.singletonList(predicate));
+    }
+
+    @Override
+    public boolean test(final JsonField jsonField) {
+        switch (operator) {
+            case AND:
+                return operands.get(0).test(jsonField) && operands.get(1).test(jsonField);
+            case OR:
+                return operands.get(0).test(jsonField) || operands.get(1).test(jsonField);
+            case NOT:
+                return !operands.get(0).test(jsonField);
+            default:
+                return true;
+        }
+    }
+
+    @Override
+    public Predicate<JsonField> and(final Predicate<? super JsonField> other) {
+        return and(this, other);
+    }
+
+    @Override
+    public Predicate<JsonField> or(final Predicate<? super JsonField> other) {
+        return or(this, other);
+    }
+
+    @Override
+    public Predicate<JsonField> negate() {
+        return not(this);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final FieldMarkerPredicate that = (FieldMarkerPredicate) o;
+        return operator == that.operator && Objects.equals(operands, that.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(operator, operands);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + "operator=" + operator + ", operands=" + operands + "]";
+    }
+
+    private enum Operator {
+        ALL,
+        AND,
+        OR,
+        NOT
+    }
+
+}
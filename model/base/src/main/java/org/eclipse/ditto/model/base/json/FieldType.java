@@ -20,7 +20,9 @@ import org.eclipse.ditto.json.JsonFieldMarker;
 
 /**
  * An enumeration of types of JSON fields. Each field type constant is simultaneously a {@code Predicate} and can be
- * used as argument for {@link Jsonifiable.WithPredicate#toJson(Predicate)} for example.
+ * used as argument for {@link Jsonifiable.WithPredicate#toJson(Predicate)} for example. Composing field types and
+ * schema versions yields predicates which are equal if they are composed equally; this allows to cache decisions
+ * which are based on such a predicate, see {@link JsonSerializationPlans}.
  */
 public enum FieldType implements JsonFieldMarker, Predicate<JsonField> {
 
@@ -41,6 +43,9 @@ public enum FieldType implements JsonFieldMarker, Predicate<JsonField> {
      */
     HIDDEN;
 
+    private static final Predicate<JsonField> NOT_HIDDEN = HIDDEN.negate();
+    private static final Predicate<JsonField> REGULAR_OR_SPECIAL = REGULAR.or(SPECIAL);
+
     private final Predicate<JsonField> predicate;
 
     private FieldType() {
@@ -56,7 +61,7 @@ public enum FieldType implements JsonFieldMarker, Predicate<JsonField> {
      * @return the Predicate.
      */
     public static Predicate<JsonField> notHidden() {
-        return FieldType.HIDDEN.negate();
+        return NOT_HIDDEN;
     }
 
     /**
@@ -65,7 +70,7 @@ public enum FieldType implements JsonFieldMarker, Predicate<JsonField> {
      * @return the Predicate.
      */
     public static Predicate<JsonField> regularOrSpecial() {
-        return FieldType.REGULAR.or(FieldType.SPECIAL);
+        return REGULAR_OR_SPECIAL;
     }
 
     /**
@@ -74,7 +79,7 @@ public enum FieldType implements JsonFieldMarker, Predicate<JsonField> {
      * @return the Predicate.
      */
     public static Predicate<JsonField> all() {
-        return (unused -> true);
+        return FieldMarkerPredicate.ALL;
     }
 
     @Override
@@ -82,4 +87,19 @@ public enum FieldType implements JsonFieldMarker, Predicate<JsonField> {
         return predicate.test(jsonField);
     }
 
+    @Override
+    public Predicate<JsonField> and(final Predicate<? super JsonField> other) {
+        return FieldMarkerPredicate.and(this, other);
+    }
+
+    @Override
+    public Predicate<JsonField> or(final Predicate<? super JsonField> other) {
+        return FieldMarkerPredicate.or(this, other);
+    }
+
+    @Override
+    public Predicate<JsonField> negate() {
+        return FieldMarkerPredicate.not(this);
+    }
+
 }
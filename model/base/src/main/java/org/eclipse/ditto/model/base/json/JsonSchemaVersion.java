@@ -87,6 +87,21 @@ public enum JsonSchemaVersion implements JsonFieldMarker, Predicate<JsonField> {
         return predicate.test(jsonField);
     }
 
+    @Override
+    public Predicate<JsonField> and(final Predicate<? super JsonField> other) {
+        return FieldMarkerPredicate.and(this, other);
+    }
+
+    @Override
+    public Predicate<JsonField> or(final Predicate<? super JsonField> other) {
+        return FieldMarkerPredicate.or(this, other);
+    }
+
+    @Override
+    public Predicate<JsonField> negate() {
+        return FieldMarkerPredicate.not(this);
+    }
+
     /**
      * Returns the version number as String.
      *
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.model.base.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonKey;
+
+/**
+ * Decides which fields a {@link Jsonifiable.WithPredicate} writes for a particular schema version and predicate. The
+ * plan itself is the {@code Predicate} to be used for setting the fields.
+ * <p>
+ * If the predicate is composed of {@link FieldType}s and {@link JsonSchemaVersion}s only, the decision for each of
+ * the known field definitions is made once when the plan is created. Testing a field of a known definition then is a
+ * mere lookup. Otherwise the plan evaluates the predicate for each field.
+ * </p>
+ * <p>
+ * Plans are obtained from {@link JsonSerializationPlans}.
+ * </p>
+ */
+@Immutable
+public final class JsonSerializationPlan implements Predicate<JsonField> {
+
+    private static final JsonKey PROBE_KEY = JsonFactory.newKey("probe");
+
+    private final Predicate<JsonField> predicate;
+    private final boolean isDecidedPerDefinition;
+    private final List<JsonFieldDefinition> includedDefinitions;
+    private final List<JsonFieldDefinition> excludedDefinitions;
+
+    private JsonSerializationPlan(final Predicate<JsonField> predicate, final boolean isDecidedPerDefinition,
+            final List<JsonFieldDefinition> includedDefinitions, final List<JsonFieldDefinition> excludedDefinitions) {
+
+        this.predicate = predicate;
+        this.isDecidedPerDefinition = isDecidedPerDefinition;
+        this.includedDefinitions = includedDefinitions;
+        this.excludedDefinitions = excludedDefinitions;
+    }
+
+    /**
+     * Returns a plan which decides for each of the given field definitions once.
+     *
+     * @param fieldDefinitions the definitions of the fields which are known in advance.
+     * @param predicate the predicate whose result solely depends on the definition of a field.
+     * @return the plan.
+     */
+    static JsonSerializationPlan decidedPerDefinition(final Iterable<JsonFieldDefinition> fieldDefinitions,
+            final Predicate<JsonField> predicate) {
+
+        final List<JsonFieldDefinition> included = new ArrayList<>();
+        final List<JsonFieldDefinition> excluded = new ArrayList<>();
+        for (final JsonFieldDefinition fieldDefinition : fieldDefinitions) {
+            if (predicate.test(newProbeField(fieldDefinition))) {
+                included.add(fieldDefinition);
+            } else {
+                excluded.add(fieldDefinition);
+            }
+        }
+        return new JsonSerializationPlan(predicate, true, Collections.unmodifiableList(included),
+                Collections.unmodifiableList(excluded));
+    }
+
+    /**
+     * Returns a plan which evaluates the given predicate for each field.
+     *
+     * @param predicate the predicate.
+     * @return the plan.
+     */
+    static JsonSerializationPlan decidedPerField(final Predicate<JsonField> predicate) {
+        return new JsonSerializationPlan(predicate, false, Collections.emptyList(), Collections.emptyList());
+    }
+
+    /*
+     * As the predicate only looks at the definition of a field, the value of the probe does not matter.
+     */
+    private static JsonField newProbeField(final JsonFieldDefinition fieldDefinition) {
+        return JsonFactory.newField(PROBE_KEY, JsonFactory.nullLiteral(), fieldDefinition);
+    }
+
+    /**
+     * Indicates whether a field of the given definition might be included. If this method returns {@code false}, the
+     * value of the field does not need to be computed at all.
+     *
+     * @param fieldDefinition the definition of the field.
+     * @return {@code false} if fields of {@code fieldDefinition} are excluded regardless of their value.
+     * @throws NullPointerException if {@code fieldDefinition} is {@code null}.
+     */
+    public boolean mightInclude(final JsonFieldDefinition fieldDefinition) {
+        requireNonNull(fieldDefinition, "The field definition must not be null!");
+        if (!isDecidedPerDefinition) {
+            return true;
+        }
+        return decide(fieldDefinition);
+    }
+
+    /**
+     * Indicates whether a field of the given definition is included regardless of its value. If this method returns
+     * {@code true}, the field does not need to be tested.
+     *
+     * @param fieldDefinition the definition of the field.
+     * @return {@code true} if fields of {@code fieldDefinition} are included regardless of their value.
+     * @throws NullPointerException if {@code fieldDefinition} is {@code null}.
+     */
+    public boolean includes(final JsonFieldDefinition fieldDefinition) {
+        requireNonNull(fieldDefinition, "The field definition must not be null!");
+        return isDecidedPerDefinition && decide(fieldDefinition);
+    }
+
+    @Override
+    public boolean test(final JsonField jsonField) {
+        if (!isDecidedPerDefinition) {
+            return predicate.test(jsonField);
+        }
+        final Optional<JsonFieldDefinition> fieldDefinition = jsonField.getDefinition();
+        if (fieldDefinition.isPresent()) {
+            return decide(fieldDefinition.get());
+        }
+        return predicate.test(jsonField);
+    }
+
+    private boolean decide(final JsonFieldDefinition fieldDefinition) {
+        // the known definitions are constants, thus they are compared by identity first
+        if (containsIdentical(includedDefinitions, fieldDefinition)) {
+            return true;
+        } else if (containsIdentical(excludedDefinitions, fieldDefinition)) {
+            return false;
+        }
+        return predicate.test(newProbeField(fieldDefinition));
+    }
+
+    private static boolean containsIdentical(final List<JsonFieldDefinition> fieldDefinitions,
+            final JsonFieldDefinition fieldDefinition) {
+
+        for (int i = 0; i < fieldDefinitions.size(); i++) {
+            if (fieldDefinitions.get(i) == fieldDefinition) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "predicate=" + predicate +
+                ", isDecidedPerDefinition=" + isDecidedPerDefinition +
+                ", includedDefinitions=" + includedDefinitions +
+                ", excludedDefinitions=" + excludedDefinitions +
+                "]";
+    }
+
+}
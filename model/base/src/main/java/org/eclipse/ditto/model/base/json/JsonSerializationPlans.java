@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.model.base.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+
+/**
+ * Caches the {@link JsonSerializationPlan}s of a {@link Jsonifiable.WithPredicate} type. A type holds one instance of
+ * this class with the definitions of the fields it writes; {@code toJson(JsonSchemaVersion, Predicate)} then gets the
+ * plan for its arguments instead of combining the schema version and the predicate and evaluating the combination
+ * for each field:
+ *
+ * <pre>
+ *    private static final JsonSerializationPlans SERIALIZATION_PLANS =
+ *            JsonSerializationPlans.of(JsonFields.SCHEMA_VERSION, JsonFields.ID);
+ *
+ *    public JsonObject toJson(final JsonSchemaVersion schemaVersion, final Predicate&lt;JsonField&gt; thePredicate) {
+ *       final JsonSerializationPlan plan = SERIALIZATION_PLANS.getPlan(schemaVersion, thePredicate);
+ *       return JsonFactory.newObjectBuilder()
+ *               .set(JsonFields.SCHEMA_VERSION, schemaVersion.toInt(), plan)
+ *               .set(JsonFields.ID, id, plan)
+ *               .build();
+ *    }
+ * </pre>
+ *
+ * Plans are cached for predicates which are composed of {@link FieldType}s and {@link JsonSchemaVersion}s only, e. g.
+ * {@link FieldType#regularOrSpecial()}. All other predicates get a plan which evaluates them for each field.
+ */
+@ThreadSafe
+public final class JsonSerializationPlans {
+
+    /**
+     * The number of plans which are cached at most per type. There are only a few predicates which are used in
+     * practice; the limit merely protects against an unbounded growth by unusual compositions.
+     */
+    private static final int MAX_CACHED_PLANS = 64;
+
+    private final List<JsonFieldDefinition> fieldDefinitions;
+    private final Map<Predicate<JsonField>, JsonSerializationPlan> plans;
+
+    private JsonSerializationPlans(final List<JsonFieldDefinition> fieldDefinitions) {
+        this.fieldDefinitions = fieldDefinitions;
+        plans = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns a new instance of {@code JsonSerializationPlans} for the given field definitions.
+     *
+     * @param fieldDefinitions the definitions of the fields which are written by a type.
+     * @return the instance.
+     * @throws NullPointerException if {@code fieldDefinitions} is or contains {@code null}.
+     */
+    public static JsonSerializationPlans of(final JsonFieldDefinition... fieldDefinitions) {
+        requireNonNull(fieldDefinitions, "The field definitions must not be null!");
+        for (final JsonFieldDefinition fieldDefinition : fieldDefinitions) {
+            requireNonNull(fieldDefinition, "The field definition must not be null!");
+        }
+        return new JsonSerializationPlans(Collections.unmodifiableList(Arrays.asList(fieldDefinitions.clone())));
+    }
+
+    /**
+     * Returns the plan for the given schema version and predicate. The plan includes a field if it belongs to the
+     * schema version and if the predicate includes it.
+     *
+     * @param schemaVersion the schema version.
+     * @param predicate the predicate which determines the fields to be written.
+     * @return the plan.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public JsonSerializationPlan getPlan(final JsonSchemaVersion schemaVersion, final Predicate<JsonField> predicate) {
+        requireNonNull(schemaVersion, "The schema version must not be null!");
+        requireNonNull(predicate, "The predicate must not be null!");
+
+        final Predicate<JsonField> effectivePredicate = schemaVersion.and(predicate);
+        if (!FieldMarkerPredicate.isFieldMarkerBased(effectivePredicate)) {
+            return JsonSerializationPlan.decidedPerField(effectivePredicate);
+        }
+        JsonSerializationPlan result = plans.get(effectivePredicate);
+        if (null == result) {
+            result = JsonSerializationPlan.decidedPerDefinition(fieldDefinitions, effectivePredicate);
+            if (MAX_CACHED_PLANS > plans.size()) {
+                plans.putIfAbsent(effectivePredicate, result);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + "fieldDefinitions=" + fieldDefinitions + "]";
+    }
+
+}
@@ -29,7 +29,8 @@ public final class ImmutableAuthorizationContextTest {
     public void assertImmutability() {
         assertInstancesOf(ImmutableAuthorizationContext.class,
                 areImmutable(),
-                assumingFields("authorizationSubjects").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements()
+                assumingFields("authorizationSubjects").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements(),
+                assumingFields("internedAuthorizationSubjects").areModifiedAsPartOfAnUnobservableCachingStrategy()
         );
     }
 
@@ -38,6 +39,7 @@ public final class ImmutableAuthorizationContextTest {
     public void testHashCodeAndEquals() {
         EqualsVerifier.forClass(ImmutableAuthorizationContext.class)
                 .usingGetClass()
+                .withIgnoredFields("internedAuthorizationSubjects")
                 .verify();
     }
 
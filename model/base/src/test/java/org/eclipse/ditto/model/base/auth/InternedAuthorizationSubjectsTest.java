@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.model.base.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link InternedAuthorizationSubjects}.
+ */
+public final class InternedAuthorizationSubjectsTest {
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(InternedAuthorizationSubjects.class,
+                areImmutable(),
+                assumingFields("integerIds", "unknownSubjectIds").areNotModifiedAndDoNotEscape());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(InternedAuthorizationSubjects.class)
+                .withIgnoredFields("dictionarySize")
+                .verify();
+    }
+
+    @Test
+    public void tryToInternNull() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> InternedAuthorizationSubjects.intern(null))
+                .withMessage("The %s must not be null!", "subject IDs")
+                .withNoCause();
+    }
+
+    @Test
+    public void internedSubjectsGetStableIntegerIds() {
+        final String subjectId = randomSubjectId();
+        final AuthorizationSubjectDictionary dictionary = AuthorizationSubjectDictionary.getInstance();
+
+        final int integerId = dictionary.intern(subjectId);
+
+        assertThat(dictionary.intern(new StringBuilder(subjectId))).isEqualTo(integerId);
+        assertThat(dictionary.lookUp(subjectId)).isEqualTo(integerId);
+        assertThat(dictionary.getSize()).isGreaterThan(integerId);
+    }
+
+    @Test
+    public void fullDictionaryDoesNotInternFurtherSubjects() {
+        final String subjectId = randomSubjectId();
+        final String otherSubjectId = randomSubjectId();
+        final AuthorizationSubjectDictionary underTest = new AuthorizationSubjectDictionary(1);
+
+        final int integerId = underTest.intern(subjectId);
+
+        assertThat(underTest.intern(otherSubjectId)).isEqualTo(-1);
+        assertThat(underTest.lookUp(otherSubjectId)).isEqualTo(-1);
+        assertThat(underTest.intern(subjectId)).isEqualTo(integerId);
+        assertThat(underTest.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    public void lookUpDoesNotInternSubjects() {
+        final String subjectId = randomSubjectId();
+
+        final InternedAuthorizationSubjects underTest =
+                InternedAuthorizationSubjects.lookUp(Collections.singleton(subjectId));
+
+        assertThat(underTest.contains(subjectId)).isTrue();
+        assertThat(AuthorizationSubjectDictionary.getInstance().lookUp(subjectId)).isEqualTo(-1);
+    }
+
+    @Test
+    public void duplicateSubjectsAreContainedOnce() {
+        final String subjectId = randomSubjectId();
+
+        final InternedAuthorizationSubjects underTest =
+                InternedAuthorizationSubjects.intern(Arrays.asList(subjectId, subjectId));
+
+        assertThat(underTest.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    public void intersectsBehavesLikeNotDisjoint() {
+        final String a = randomSubjectId();
+        final String b = randomSubjectId();
+        final String c = randomSubjectId();
+        final InternedAuthorizationSubjects ab = InternedAuthorizationSubjects.intern(Arrays.asList(b, a));
+        final InternedAuthorizationSubjects bc = InternedAuthorizationSubjects.intern(Arrays.asList(b, c));
+        final InternedAuthorizationSubjects c1 = InternedAuthorizationSubjects.intern(Collections.singleton(c));
+
+        assertThat(ab.intersects(bc)).isTrue();
+        assertThat(bc.intersects(ab)).isTrue();
+        assertThat(ab.intersects(c1)).isFalse();
+        assertThat(ab.intersects(InternedAuthorizationSubjects.intern(Collections.emptyList()))).isFalse();
+    }
+
+    @Test
+    public void unknownSubjectsAreResolvedWhenInternedLater() {
+        final String known = randomSubjectId();
+        final String unknown = randomSubjectId();
+        InternedAuthorizationSubjects.intern(Collections.singleton(known));
+        final InternedAuthorizationSubjects readSubjects =
+                InternedAuthorizationSubjects.lookUp(Arrays.asList(known, unknown));
+
+        final InternedAuthorizationSubjects authorizationSubjects =
+                InternedAuthorizationSubjects.intern(Collections.singleton(unknown));
+
+        assertThat(readSubjects.intersects(authorizationSubjects)).isTrue();
+        assertThat(authorizationSubjects.intersects(readSubjects)).isTrue();
+        assertThat(readSubjects.containsAll(authorizationSubjects)).isTrue();
+        assertThat(authorizationSubjects.containsAll(readSubjects)).isFalse();
+    }
+
+    @Test
+    public void lookedUpSetsWithCommonUnknownSubjectIntersect() {
+        final String unknown = randomSubjectId();
+
+        final InternedAuthorizationSubjects first =
+                InternedAuthorizationSubjects.lookUp(Arrays.asList(randomSubjectId(), unknown));
+        final InternedAuthorizationSubjects second = InternedAuthorizationSubjects.lookUp(Collections.singleton(unknown));
+
+        assertThat(first.intersects(second)).isTrue();
+        assertThat(first.containsAll(second)).isTrue();
+    }
+
+    @Test
+    public void authorizationContextCachesInternedSubjects() {
+        final AuthorizationContext authorizationContext = AuthorizationModelFactory.newAuthContext(
+                AuthorizationModelFactory.newAuthSubject(randomSubjectId()));
+
+        final InternedAuthorizationSubjects underTest = authorizationContext.getInternedAuthorizationSubjects();
+
+        assertThat(authorizationContext.getInternedAuthorizationSubjects()).isSameAs(underTest);
+        assertThat(underTest.contains(authorizationContext.getFirstAuthorizationSubject().get().getId())).isTrue();
+    }
+
+    @Test
+    public void authorizationContextDoesNotInternSubjects() {
+        final String subjectId = randomSubjectId();
+        final AuthorizationContext authorizationContext =
+                AuthorizationModelFactory.newAuthContext(AuthorizationModelFactory.newAuthSubject(subjectId));
+
+        final InternedAuthorizationSubjects underTest = authorizationContext.getInternedAuthorizationSubjects();
+
+        assertThat(underTest.contains(subjectId)).isTrue();
+        assertThat(AuthorizationSubjectDictionary.getInstance().lookUp(subjectId)).isEqualTo(-1);
+        assertThat(underTest.intersects(InternedAuthorizationSubjects.intern(Collections.singleton(subjectId))))
+                .isTrue();
+    }
+
+    private static String randomSubjectId() {
+        return "test:" + UUID.randomUUID();
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.model.base.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link NamespacedIdGrammar}.
+ */
+public final class NamespacedIdGrammarTest {
+
+    private static final Pattern ID_PATTERN = Pattern.compile(NamespacedIdGrammar.ID_REGEX);
+
+    /*
+     * Contains the characters of all character classes of the regex as well as characters which look like them but
+     * are outside of ASCII.
+     */
+    private static final String ALPHABET = "aZq09_:.-@&=+,!~*';$%fFgG /#?ä٣０😀";
+
+    private static final int RANDOM_ID_COUNT = 200_000;
+    private static final int MAX_RANDOM_ID_LENGTH = 12;
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(NamespacedIdGrammar.class, areImmutable());
+    }
+
+    @Test
+    public void nullIsInvalid() {
+        assertThat(NamespacedIdGrammar.isValid(null)).isFalse();
+        assertThat(NamespacedIdGrammar.getNamespaceOrNull(null)).isNull();
+        assertThat(NamespacedIdGrammar.getNameOrNull(null)).isNull();
+    }
+
+    @Test
+    public void namespaceAndNameOfValidIdAreReturned() {
+        final String id = "org.eclipse.ditto_2:my:Thing%3A$";
+
+        assertThat(NamespacedIdGrammar.getNamespaceSeparatorIndex(id)).isEqualTo(19);
+        assertThat(NamespacedIdGrammar.getNamespaceOrNull(id)).isEqualTo("org.eclipse.ditto_2");
+        assertThat(NamespacedIdGrammar.getNameOrNull(id)).isEqualTo("my:Thing%3A$");
+    }
+
+    @Test
+    public void invalidIdsAreRejected() {
+        for (final String id : new String[]{"", "myThing", "org.:myThing", ".org:myThing", "1org:myThing",
+                "org..eclipse:myThing", "org-eclipse:myThing", "org:$myThing", "org:my%2", "org:my%gg",
+                "org:my/Thing", "ä:myThing", "org:ä"}) {
+            assertThat(NamespacedIdGrammar.isValid(id)).as(id).isFalse();
+        }
+    }
+
+    @Test
+    public void randomIdsAreValidatedLikeByRegex() {
+        final Random random = new Random(42);
+        for (int i = 0; i < RANDOM_ID_COUNT; i++) {
+            assertValidatedLikeByRegex(randomId(random));
+        }
+    }
+
+    @Test
+    public void randomValidIdsAreValidatedLikeByRegex() {
+        final Random random = new Random(4711);
+        for (int i = 0; i < RANDOM_ID_COUNT; i++) {
+            final String id = randomValidId(random);
+
+            assertThat(NamespacedIdGrammar.isValid(id)).as(id).isTrue();
+            assertValidatedLikeByRegex(id);
+        }
+    }
+
+    private static void assertValidatedLikeByRegex(final String id) {
+        final Matcher matcher = ID_PATTERN.matcher(id);
+        if (matcher.matches()) {
+            assertThat(NamespacedIdGrammar.getNamespaceOrNull(id)).as(id).isEqualTo(matcher.group("ns"));
+            assertThat(NamespacedIdGrammar.getNameOrNull(id)).as(id).isEqualTo(matcher.group("id"));
+        } else {
+            assertThat(NamespacedIdGrammar.isValid(id)).as(id).isFalse();
+        }
+    }
+
+    private static String randomId(final Random random) {
+        final int length = random.nextInt(MAX_RANDOM_ID_LENGTH + 1);
+        final StringBuilder stringBuilder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            stringBuilder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return stringBuilder.toString();
+    }
+
+    private static String randomValidId(final Random random) {
+        final StringBuilder stringBuilder = new StringBuilder();
+        final int segmentCount = random.nextInt(4);
+        for (int i = 0; i < segmentCount; i++) {
+            if (0 < i) {
+                stringBuilder.append('.');
+            }
+            stringBuilder.append(randomChars(random, "abcXYZ", 1));
+            stringBuilder.append(randomChars(random, "abcXYZ019_", random.nextInt(4)));
+        }
+        stringBuilder.append(':');
+        final int nameLength = random.nextInt(6);
+        for (int i = 0; i < nameLength; i++) {
+            if (0 == random.nextInt(5)) {
+                stringBuilder.append('%').append(randomChars(random, "09afAF", 2));
+            } else {
+                stringBuilder.append(randomChars(random, 0 < i ? "aZ09-_:@&=+,.!~*';$" : "aZ09-_:@&=+,.!~*';", 1));
+            }
+        }
+        return stringBuilder.toString();
+    }
+
+    private static String randomChars(final Random random, final String chars, final int count) {
+        final StringBuilder stringBuilder = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            stringBuilder.append(chars.charAt(random.nextInt(chars.length())));
+        }
+        return stringBuilder.toString();
+    }
+
+}
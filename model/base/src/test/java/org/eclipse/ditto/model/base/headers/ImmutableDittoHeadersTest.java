@@ -14,6 +14,7 @@ package org.eclipse.ditto.model.base.headers;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.entry;
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
@@ -34,6 +35,7 @@ import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.auth.AuthorizationModelFactory;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.InternedAuthorizationSubjects;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.junit.Test;
 
@@ -55,13 +57,19 @@ public final class ImmutableDittoHeadersTest {
 
     @Test
     public void assertImmutability() {
-        assertInstancesOf(ImmutableDittoHeaders.class, areImmutable());
+        assertInstancesOf(ImmutableDittoHeaders.class,
+                areImmutable(),
+                assumingFields("schemaVersion", "authorizationSubjects", "authorizationContext", "readSubjects",
+                        "internedReadSubjects", "responseRequired", "dryRun", "json")
+                        .areModifiedAsPartOfAnUnobservableCachingStrategy());
     }
 
     @Test
     public void testHashCodeAndEquals() {
         EqualsVerifier.forClass(ImmutableDittoHeaders.class)
                 .withNonnullFields("headers")
+                .withIgnoredFields("schemaVersion", "authorizationSubjects", "authorizationContext", "readSubjects",
+                        "internedReadSubjects", "responseRequired", "dryRun", "json")
                 .verify();
     }
 
@@ -205,6 +213,58 @@ public final class ImmutableDittoHeadersTest {
         assertThat(actualHeadersJsonObject).isEqualTo(expectedHeadersJsonObject);
     }
 
+    @Test
+    public void typedValuesAreParsedOnlyOnce() {
+        final DittoHeaders underTest = DittoHeaders.newBuilder(createMapContainingAllKnownHeaders()).build();
+
+        assertThat(underTest.getAuthorizationSubjects()).isSameAs(underTest.getAuthorizationSubjects());
+        assertThat(underTest.getAuthorizationContext()).isSameAs(underTest.getAuthorizationContext());
+        assertThat(underTest.getReadSubjects()).isSameAs(underTest.getReadSubjects());
+        assertThat(underTest.getSchemaVersion()).isSameAs(underTest.getSchemaVersion());
+        assertThat(underTest.toJson()).isSameAs(underTest.toJson());
+    }
+
+    @Test
+    public void authorizationSubjectsAreUnmodifiable() {
+        final DittoHeaders underTest = DittoHeaders.newBuilder().authorizationSubjects(AUTH_SUBJECTS).build();
+
+        final List<String> authorizationSubjects = underTest.getAuthorizationSubjects();
+
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> authorizationSubjects.add("foo"));
+    }
+
+    @Test
+    public void readSubjectsAreUnmodifiable() {
+        final DittoHeaders underTest = DittoHeaders.newBuilder().readSubjects(KNOWN_READ_SUBJECTS).build();
+
+        final Set<String> readSubjects = underTest.getReadSubjects();
+
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(readSubjects::clear);
+    }
+
+    @Test
+    public void toJsonKeepsUnknownHeadersAsStrings() {
+        final DittoHeaders underTest = DittoHeaders.newBuilder().putHeader("foo", "42").dryRun(true).build();
+
+        assertThat(underTest.toJson()).isEqualTo(JsonFactory.newObjectBuilder()
+                .set("foo", "42")
+                .set(DittoHeaderDefinition.DRY_RUN.getKey(), true)
+                .build());
+    }
+
+    @Test
+    public void internedReadSubjectsContainReadSubjectsAndAreCached() {
+        final DittoHeaders underTest = DittoHeaders.newBuilder().readSubjects(KNOWN_READ_SUBJECTS).build();
+
+        final InternedAuthorizationSubjects internedReadSubjects = underTest.getInternedReadSubjects();
+
+        assertThat(internedReadSubjects).isEqualTo(InternedAuthorizationSubjects.lookUp(KNOWN_READ_SUBJECTS));
+        assertThat(internedReadSubjects.contains(KNOWN_READ_SUBJECT)).isTrue();
+        assertThat(underTest.getInternedReadSubjects()).isSameAs(internedReadSubjects);
+    }
+
     @Test
     public void putThrowsUnsupportedOperationException() {
         final DittoHeaders underTest = DittoHeaders.empty();
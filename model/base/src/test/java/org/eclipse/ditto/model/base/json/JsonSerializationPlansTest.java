@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.model.base.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.function.Predicate;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonSerializationPlans} and {@link JsonSerializationPlan}.
+ */
+public final class JsonSerializationPlansTest {
+
+    private static final JsonFieldDefinition REGULAR_V2 =
+            JsonFactory.newFieldDefinition("regular", String.class, FieldType.REGULAR, JsonSchemaVersion.V_2);
+    private static final JsonFieldDefinition HIDDEN_V1_V2 =
+            JsonFactory.newFieldDefinition("hidden", int.class, FieldType.SPECIAL, FieldType.HIDDEN,
+                    JsonSchemaVersion.V_1, JsonSchemaVersion.V_2);
+    private static final JsonFieldDefinition UNKNOWN_V1 =
+            JsonFactory.newFieldDefinition("unknown", String.class, FieldType.REGULAR, JsonSchemaVersion.V_1);
+
+    private static final JsonSerializationPlans UNDER_TEST = JsonSerializationPlans.of(REGULAR_V2, HIDDEN_V1_V2);
+
+    @Test
+    public void tryToCreateInstanceWithNullDefinition() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> JsonSerializationPlans.of(REGULAR_V2, null))
+                .withMessage("The field definition must not be null!");
+    }
+
+    @Test
+    public void planIsCachedForFieldMarkerBasedPredicate() {
+        final JsonSerializationPlan plan = UNDER_TEST.getPlan(JsonSchemaVersion.V_2, FieldType.notHidden());
+
+        assertThat(UNDER_TEST.getPlan(JsonSchemaVersion.V_2, FieldType.HIDDEN.negate())).isSameAs(plan);
+        assertThat(UNDER_TEST.getPlan(JsonSchemaVersion.V_1, FieldType.notHidden())).isNotSameAs(plan);
+    }
+
+    @Test
+    public void planDecidesLikeSchemaVersionAndPredicate() {
+        final JsonSerializationPlan plan = UNDER_TEST.getPlan(JsonSchemaVersion.V_2, FieldType.notHidden());
+
+        assertThat(plan.includes(REGULAR_V2)).isTrue();
+        assertThat(plan.test(newField(REGULAR_V2))).isTrue();
+        assertThat(plan.mightInclude(HIDDEN_V1_V2)).isFalse();
+        assertThat(plan.test(newField(HIDDEN_V1_V2))).isFalse();
+        assertThat(plan.mightInclude(UNKNOWN_V1)).isFalse();
+        assertThat(plan.test(newField(UNKNOWN_V1))).isFalse();
+        assertThat(plan.test(JsonFactory.newField(JsonFactory.newKey("plain"), JsonFactory.nullLiteral()))).isFalse();
+    }
+
+    @Test
+    public void planEvaluatesOpaquePredicateForEachField() {
+        final Predicate<JsonField> isNumber = jsonField -> jsonField.getValue().isNumber();
+
+        final JsonSerializationPlan plan = UNDER_TEST.getPlan(JsonSchemaVersion.V_1, isNumber);
+
+        assertThat(UNDER_TEST.getPlan(JsonSchemaVersion.V_1, isNumber)).isNotSameAs(plan);
+        assertThat(plan.mightInclude(HIDDEN_V1_V2)).isTrue();
+        assertThat(plan.includes(HIDDEN_V1_V2)).isFalse();
+        assertThat(plan.test(JsonFactory.newField(HIDDEN_V1_V2.getPointer().getRoot().get(),
+                JsonFactory.newValue(1), HIDDEN_V1_V2))).isTrue();
+        assertThat(plan.test(newField(HIDDEN_V1_V2))).isFalse();
+        assertThat(plan.test(newField(REGULAR_V2))).isFalse();
+    }
+
+    @Test
+    public void composedFieldMarkerPredicatesAreEqualIfComposedEqually() {
+        assertThat(FieldType.REGULAR.and(FieldType.HIDDEN)).isEqualTo(FieldType.REGULAR.and(FieldType.HIDDEN));
+        assertThat(FieldType.REGULAR.and(FieldType.HIDDEN)).isNotEqualTo(FieldType.HIDDEN.and(FieldType.REGULAR));
+        assertThat(FieldType.notHidden()).isSameAs(FieldType.notHidden());
+    }
+
+    private static JsonField newField(final JsonFieldDefinition fieldDefinition) {
+        return JsonFactory.newField(fieldDefinition.getPointer().getRoot().get(), JsonFactory.newValue("value"),
+                fieldDefinition);
+    }
+
+}
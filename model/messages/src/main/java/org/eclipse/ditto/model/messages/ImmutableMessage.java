@@ -23,7 +23,6 @@ import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
-import org.eclipse.ditto.model.base.common.ByteBufferUtils;
 import org.eclipse.ditto.model.base.common.HttpStatusCode;
 
 /**
@@ -45,7 +44,7 @@ final class ImmutableMessage<T> implements Message<T> {
             @Nullable final MessageResponseConsumer<?> responseConsumer) {
 
         this.headers = checkNotNull(headers, "headers");
-        this.rawPayload = rawPayload != null ? ByteBufferUtils.clone(rawPayload) : null;
+        this.rawPayload = rawPayload != null ? rawPayload.asReadOnlyBuffer().slice() : null;
         this.payload = payload;
         this.responseConsumer = responseConsumer;
     }
@@ -56,7 +55,8 @@ final class ImmutableMessage<T> implements Message<T> {
      * @param <T> the type of the payload.
      * @param headers the headers of this message containing defined headers as well as custom headers.
      * @param rawPayload the raw payload of the message as provided by the message sender (maybe {@code null} if the
-     * sender has provided no payload)
+     * sender has provided no payload). The remaining bytes are not copied but viewed read-only; they must not be
+     * modified afterwards.
      * @param payload the payload of the message as provided by the message sender (maybe {@code null} if the sender has
      * provided no payload)
      * @throws NullPointerException if {@code headers} is {@code null}.
@@ -73,7 +73,8 @@ final class ImmutableMessage<T> implements Message<T> {
      * @param <T> the type of the payload.
      * @param headers the headers of this message containing defined headers as well as custom headers.
      * @param rawPayload the raw payload of the message as provided by the message sender (maybe {@code null} if the
-     * sender has provided no payload)
+     * sender has provided no payload). The remaining bytes are not copied but viewed read-only; they must not be
+     * modified afterwards.
      * @param payload the payload of the message as provided by the message sender (maybe {@code null} if the sender has
      * provided no payload)
      * @param responseConsumer MessageResponseConsumer which is invoked with a potential response message.
@@ -100,7 +101,8 @@ final class ImmutableMessage<T> implements Message<T> {
     @Override
     public Optional<ByteBuffer> getRawPayload() {
         if (null != rawPayload) {
-            return Optional.of(ByteBufferUtils.clone(rawPayload));
+            // an own view for each caller as the position of a view is mutable
+            return Optional.of(rawPayload.duplicate());
         } else {
             return Optional.empty();
         }
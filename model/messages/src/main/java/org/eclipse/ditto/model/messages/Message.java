@@ -57,7 +57,8 @@ public interface Message<T> {
 
     /**
      * Returns the raw payload of the message as provided by the message sender (may be empty if the sender has provided
-     * no payload).
+     * no payload). The returned buffer is a read-only view of the raw payload; its position and limit may be changed
+     * by the caller without affecting this message.
      *
      * @return the raw message payload.
      * @see #getPayload()
@@ -50,7 +50,8 @@ public interface MessageBuilder<T> {
     MessageBuilder<T> payload(@Nullable T payload);
 
     /**
-     * Sets the raw payload of the Message.
+     * Sets the raw payload of the Message. The remaining bytes of the buffer are not copied; they must not be
+     * modified after the Message was built.
      *
      * @param rawPayload the raw payload of the Message.
      * @return this builder to allow method chaining.
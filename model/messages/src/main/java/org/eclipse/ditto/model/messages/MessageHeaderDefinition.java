@@ -15,9 +15,10 @@ import java.text.MessageFormat;
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeParseException;
-import java.util.Objects;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -145,6 +146,16 @@ public enum MessageHeaderDefinition implements HeaderDefinition {
     static final String SUBJECT_REGEX =
             "(([a-zA-Z][0-9a-zA-Z+\\-\\.]*:)?/{0,2}[0-9a-zA-Z;/?:@&=+$\\.\\-_!~*'()%]+)?(#[0-9a-zA-Z;/?:@&=+$\\.\\-_!~*'()%]+)?";
 
+    private static final Map<String, MessageHeaderDefinition> DEFINITIONS_BY_KEY;
+
+    static {
+        final Map<String, MessageHeaderDefinition> definitionsByKey = new HashMap<>();
+        for (final MessageHeaderDefinition definition : values()) {
+            definitionsByKey.put(definition.key, definition);
+        }
+        DEFINITIONS_BY_KEY = Collections.unmodifiableMap(definitionsByKey);
+    }
+
     private final String key;
     private final Class<?> type;
 
@@ -160,9 +171,10 @@ public enum MessageHeaderDefinition implements HeaderDefinition {
      * @return the MessageHeaderKey or an empty Optional.
      */
     public static Optional<MessageHeaderDefinition> forKey(@Nullable final CharSequence key) {
-        return Stream.of(values())
-                .filter(dittoHeaderKey -> Objects.equals(dittoHeaderKey.key, String.valueOf(key)))
-                .findAny();
+        if (null == key) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(DEFINITIONS_BY_KEY.get(key.toString()));
     }
 
     @Override
@@ -11,6 +11,7 @@
  */
 package org.eclipse.ditto.model.messages;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
 import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
@@ -29,6 +30,9 @@ import nl.jqno.equalsverifier.EqualsVerifier;
  */
 public final class ImmutableMessageTest {
 
+    private static final MessageHeaders MESSAGE_HEADERS =
+            MessageHeaders.newBuilder(MessageDirection.TO, "org.eclipse.ditto.test:myThing", "subject").build();
+
     @Test
     public void assertImmutability() {
         assertInstancesOf(ImmutableMessage.class,
@@ -38,6 +42,20 @@ public final class ImmutableMessageTest {
                         MessageResponseConsumer.class).areAlsoImmutable());
     }
 
+    @Test
+    public void rawPayloadIsReturnedAsReadOnlyView() {
+        final byte[] rawPayloadBytes = new byte[]{1, 2, 3, 4};
+        final ByteBuffer rawPayload = ByteBuffer.wrap(rawPayloadBytes);
+        rawPayload.position(1);
+        final Message<?> underTest = ImmutableMessage.of(MESSAGE_HEADERS, rawPayload, null);
+
+        final ByteBuffer actual = underTest.getRawPayload().get();
+        actual.get();
+
+        assertThat(actual.isReadOnly()).isTrue();
+        assertThat(underTest.getRawPayload()).contains(ByteBuffer.wrap(rawPayloadBytes, 1, 3));
+    }
+
     @Test
     @Ignore("Somehow EqualsVerifier has a problem with this class")
     public void testHashCodeAndEquals() {
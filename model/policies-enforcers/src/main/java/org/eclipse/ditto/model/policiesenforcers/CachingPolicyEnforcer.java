@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.model.policiesenforcers;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.InternedAuthorizationSubjects;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.ResourceKey;
+
+/**
+ * A {@link PolicyEnforcer} which memoizes the decisions of another PolicyEnforcer. The decisions are keyed by the
+ * resource key, the {@link InternedAuthorizationSubjects} of the authorization context and the permissions; the
+ * least recently used decision is evicted if the cache exceeds its maximum size. The subjects of the authorization
+ * context are only looked up, thus caching does not add them to the
+ * {@link org.eclipse.ditto.model.base.auth.AuthorizationSubjectDictionary}. JSON views are not cached as they
+ * depend on the passed JSON fields.
+ * <p>
+ * The cached decisions are only valid for the Policy the underlying PolicyEnforcer was created for. Thus a new
+ * instance has to be created for each revision of the Policy, which invalidates all decisions of the previous
+ * revision.
+ * </p>
+ * <p>
+ * Hits and misses are counted per instance and for all instances together, see {@link #getGlobalStatistics()}.
+ * </p>
+ */
+@NotThreadSafe
+public final class CachingPolicyEnforcer implements PolicyEnforcer, DecisionCacheStatistics {
+
+    private static final GlobalStatistics GLOBAL_STATISTICS = new GlobalStatistics();
+
+    private final PolicyEnforcer policyEnforcer;
+    private final int maximumSize;
+    private final Map<DecisionKey, Object> decisions;
+    private long hitCount;
+    private long missCount;
+
+    private CachingPolicyEnforcer(final PolicyEnforcer policyEnforcer, final int maximumSize) {
+        this.policyEnforcer = policyEnforcer;
+        this.maximumSize = maximumSize;
+        decisions = new LinkedHashMap<DecisionKey, Object>(16, 0.75F, true) {
+            private static final long serialVersionUID = -1186316235553154421L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<DecisionKey, Object> eldest) {
+                return size() > CachingPolicyEnforcer.this.maximumSize;
+            }
+        };
+        hitCount = 0L;
+        missCount = 0L;
+    }
+
+    /**
+     * Returns a new instance of {@code CachingPolicyEnforcer} which memoizes the decisions of the given
+     * PolicyEnforcer.
+     *
+     * @param policyEnforcer the PolicyEnforcer whose decisions are cached.
+     * @param maximumSize the maximum number of cached decisions.
+     * @return the instance.
+     * @throws NullPointerException if {@code policyEnforcer} is {@code null}.
+     * @throws IllegalArgumentException if {@code maximumSize} is less than one.
+     */
+    public static CachingPolicyEnforcer of(final PolicyEnforcer policyEnforcer, final int maximumSize) {
+        checkNotNull(policyEnforcer, "PolicyEnforcer");
+        if (1 > maximumSize) {
+            throw new IllegalArgumentException(
+                    MessageFormat.format("The maximum size <{0}> must be positive!", maximumSize));
+        }
+        return new CachingPolicyEnforcer(policyEnforcer, maximumSize);
+    }
+
+    /**
+     * Returns the statistics of all instances of {@code CachingPolicyEnforcer} together.
+     *
+     * @return the statistics.
+     */
+    public static DecisionCacheStatistics getGlobalStatistics() {
+        return GLOBAL_STATISTICS;
+    }
+
+    @Override
+    public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        final DecisionKey decisionKey = DecisionKey.of(Operation.HAS_UNRESTRICTED_PERMISSIONS, resourceKey,
+                authorizationContext, permissions);
+        return (Boolean) getDecision(decisionKey,
+                () -> policyEnforcer.hasUnrestrictedPermissions(resourceKey, authorizationContext, permissions));
+    }
+
+    @Override
+    public boolean hasPartialPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        final DecisionKey decisionKey = DecisionKey.of(Operation.HAS_PARTIAL_PERMISSIONS, resourceKey,
+                authorizationContext, permissions);
+        return (Boolean) getDecision(decisionKey,
+                () -> policyEnforcer.hasPartialPermissions(resourceKey, authorizationContext, permissions));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned sets are unmodifiable.
+     */
+    @Override
+    public EffectedSubjectIds getSubjectIdsWithPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        final DecisionKey decisionKey = DecisionKey.of(Operation.GET_SUBJECT_IDS_WITH_PERMISSION, resourceKey, null,
+                permissions);
+        return (EffectedSubjectIds) getDecision(decisionKey, () -> {
+            final EffectedSubjectIds effectedSubjectIds =
+                    policyEnforcer.getSubjectIdsWithPermission(resourceKey, permissions);
+            return ImmutableEffectedSubjectIds.of(effectedSubjectIds.getGranted(), effectedSubjectIds.getRevoked());
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned set is unmodifiable.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Set<String> getSubjectIdsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        final DecisionKey decisionKey = DecisionKey.of(Operation.GET_SUBJECT_IDS_WITH_PARTIAL_PERMISSION,
+                resourceKey, null, permissions);
+        return (Set<String>) getDecision(decisionKey, () -> Collections.unmodifiableSet(
+                new HashSet<>(policyEnforcer.getSubjectIdsWithPartialPermission(resourceKey, permissions))));
+    }
+
+    @Override
+    public JsonObject buildJsonView(final ResourceKey resourceKey, final Iterable<JsonField> jsonFields,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        return policyEnforcer.buildJsonView(resourceKey, jsonFields, authorizationContext, permissions);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The views depend on the passed JSON objects and are therefore not cached; they are built by the wrapped
+     * PolicyEnforcer in one pass. The white list variant of this method additionally uses the cached decision of
+     * {@link #hasPartialPermissions(ResourceKey, AuthorizationContext, Permissions)}.
+     */
+    @Override
+    public List<JsonObject> buildJsonViews(final ResourceKey resourceKey, final Iterable<JsonObject> jsonObjects,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        return policyEnforcer.buildJsonViews(resourceKey, jsonObjects, authorizationContext, permissions);
+    }
+
+    private Object getDecision(final DecisionKey decisionKey, final Supplier<Object> evaluation) {
+        final Object cachedDecision = decisions.get(decisionKey);
+        if (null != cachedDecision) {
+            hitCount++;
+            GLOBAL_STATISTICS.hitCount.increment();
+            return cachedDecision;
+        }
+        missCount++;
+        GLOBAL_STATISTICS.missCount.increment();
+        final Object decision = evaluation.get();
+        decisions.put(decisionKey, decision);
+        return decision;
+    }
+
+    @Override
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    @Override
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of currently cached decisions.
+     *
+     * @return the size.
+     */
+    public int getSize() {
+        return decisions.size();
+    }
+
+    /**
+     * Returns the maximum number of cached decisions.
+     *
+     * @return the maximum size.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "policyEnforcer=" + policyEnforcer +
+                ", maximumSize=" + maximumSize +
+                ", size=" + decisions.size() +
+                ", hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                "]";
+    }
+
+    private enum Operation {
+        HAS_UNRESTRICTED_PERMISSIONS,
+        HAS_PARTIAL_PERMISSIONS,
+        GET_SUBJECT_IDS_WITH_PERMISSION,
+        GET_SUBJECT_IDS_WITH_PARTIAL_PERMISSION
+    }
+
+    /**
+     * The key of a cached decision. The authorization subjects are {@code null} for operations which do not depend
+     * on an authorization context. As they are only looked up, a subject which got interned in the meantime yields
+     * another key; this merely causes a cache miss as equal keys still denote equal subjects.
+     */
+    @Immutable
+    private static final class DecisionKey {
+
+        private final Operation operation;
+        private final ResourceKey resourceKey;
+        @Nullable private final InternedAuthorizationSubjects authorizationSubjects;
+        private final Permissions permissions;
+        private final int hashCode;
+
+        private DecisionKey(final Operation operation, final ResourceKey resourceKey,
+                @Nullable final InternedAuthorizationSubjects authorizationSubjects, final Permissions permissions) {
+
+            this.operation = operation;
+            this.resourceKey = resourceKey;
+            this.authorizationSubjects = authorizationSubjects;
+            this.permissions = permissions;
+            hashCode = Objects.hash(operation, resourceKey, authorizationSubjects, permissions);
+        }
+
+        private static DecisionKey of(final Operation operation, final ResourceKey resourceKey,
+                @Nullable final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+            checkNotNull(resourceKey, "resource key");
+            checkNotNull(permissions, "permissions to check");
+            final InternedAuthorizationSubjects authorizationSubjects;
+            if (Operation.HAS_UNRESTRICTED_PERMISSIONS == operation || Operation.HAS_PARTIAL_PERMISSIONS == operation) {
+                authorizationSubjects = checkNotNull(authorizationContext, "Authorization Context")
+                        .getInternedAuthorizationSubjects();
+            } else {
+                authorizationSubjects = null;
+            }
+            return new DecisionKey(operation, resourceKey, authorizationSubjects, permissions);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final DecisionKey that = (DecisionKey) o;
+            return hashCode == that.hashCode &&
+                    operation == that.operation &&
+                    Objects.equals(resourceKey, that.resourceKey) &&
+                    Objects.equals(authorizationSubjects, that.authorizationSubjects) &&
+                    Objects.equals(permissions, that.permissions);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+    @ThreadSafe
+    private static final class GlobalStatistics implements DecisionCacheStatistics {
+
+        private final LongAdder hitCount = new LongAdder();
+        private final LongAdder missCount = new LongAdder();
+
+        @Override
+        public long getHitCount() {
+            return hitCount.sum();
+        }
+
+        @Override
+        public long getMissCount() {
+            return missCount.sum();
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "hitCount=" + hitCount +
+                    ", missCount=" + missCount +
+                    "]";
+        }
+
+    }
+
+}
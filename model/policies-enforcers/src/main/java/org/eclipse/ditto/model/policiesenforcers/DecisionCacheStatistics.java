@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.model.policiesenforcers;
+
+/**
+ * Statistics about cached decisions of a {@link CachingPolicyEnforcer}, either of a single instance or of all
+ * instances together.
+ */
+public interface DecisionCacheStatistics {
+
+    /**
+     * Returns how often a decision was taken from the cache.
+     *
+     * @return the hit count.
+     */
+    long getHitCount();
+
+    /**
+     * Returns how often a decision had to be evaluated by the underlying PolicyEnforcer.
+     *
+     * @return the miss count.
+     */
+    long getMissCount();
+
+    /**
+     * Returns the ratio of hits to all requested decisions.
+     *
+     * @return the hit rate between {@code 0.0} and {@code 1.0}; {@code 0.0} if there was no request yet.
+     */
+    default double getHitRate() {
+        final long hitCount = getHitCount();
+        final long requestCount = hitCount + getMissCount();
+        return 0 == requestCount ? 0.0D : (double) hitCount / requestCount;
+    }
+
+}
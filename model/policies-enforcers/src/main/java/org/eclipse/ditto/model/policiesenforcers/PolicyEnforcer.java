@@ -11,6 +11,10 @@
  */
 package org.eclipse.ditto.model.policiesenforcers;
 
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.ditto.json.JsonFactory;
@@ -270,4 +274,71 @@ public interface PolicyEnforcer {
     JsonObject buildJsonView(ResourceKey resourceKey, Iterable<JsonField> jsonFields,
             AuthorizationContext authorizationContext, Permissions permissions);
 
+    /**
+     * Builds a view of each of the passed {@code jsonObjects} like {@link #buildJsonView(ResourceKey, Iterable,
+     * AuthorizationContext, Permissions)} does. The JSON objects are meant to be governed by the Policy of this
+     * evaluator, e.g. several Things sharing the same Policy; implementations may thus reuse the decision for a path
+     * for all JSON objects instead of evaluating it once per JSON object.
+     *
+     * @param resourceKey the ResourceKey (containing Resource type and path) to start from for building the views.
+     * @param jsonObjects the full JSON objects from which to build the views based on the permissions.
+     * @param authorizationContext the AuthorizationContext containing the AuthorizationSubjects.
+     * @param permissions the permissions.
+     * @return the views of the passed {@code jsonObjects} in the same order.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    default List<JsonObject> buildJsonViews(final ResourceKey resourceKey,
+            final Iterable<JsonObject> jsonObjects,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        checkNotNull(jsonObjects, "JSON objects");
+        final List<JsonObject> result = new ArrayList<>();
+        for (final JsonObject jsonObject : jsonObjects) {
+            result.add(buildJsonView(resourceKey, jsonObject, authorizationContext, permissions));
+        }
+        return result;
+    }
+
+    /**
+     * Builds a view of each of the passed {@code jsonObjects} like {@link #buildJsonView(ResourceKey, Iterable,
+     * AuthorizationContext, JsonFieldSelector, Permissions)} does. Whether the authorization subjects are relevant
+     * for the white list is determined once for all JSON objects.
+     *
+     * @param resourceKey the ResourceKey (containing Resource type and path) to start from.
+     * @param jsonObjects the full JSON objects from which to build the views based on the permissions.
+     * @param authorizationContext the AuthorizationContext containing the AuthorizationSubjects.
+     * @param whiteList white-listed fields to be present in the output as long as the authorization subjects are
+     * relevant, i. e., some of them are granted the required permissions on some resource.
+     * @param permissions the permissions.
+     * @return the views of the passed {@code jsonObjects} in the same order.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    default List<JsonObject> buildJsonViews(final ResourceKey resourceKey,
+            final Iterable<JsonObject> jsonObjects,
+            final AuthorizationContext authorizationContext,
+            final JsonFieldSelector whiteList,
+            final Permissions permissions) {
+
+        checkNotNull(whiteList, "white list");
+        final List<JsonObject> enforcedJsonViews =
+                buildJsonViews(resourceKey, jsonObjects, authorizationContext, permissions);
+
+        final ResourceKey rootResourceKey = PoliciesModelFactory.newResourceKey(resourceKey.getResourceType(),
+                JsonFactory.emptyPointer());
+        final boolean isAuthorizationSubjectRelevant =
+                hasPartialPermissions(rootResourceKey, authorizationContext, permissions);
+        if (isAuthorizationSubjectRelevant) {
+            final JsonObjectMerger jsonObjectMerger = new JsonObjectMerger();
+            final List<JsonObject> result = new ArrayList<>(enforcedJsonViews.size());
+            int i = 0;
+            for (final JsonObject jsonObject : jsonObjects) {
+                result.add(jsonObjectMerger.apply(jsonObject.get(whiteList), enforcedJsonViews.get(i++)));
+            }
+            return result;
+        } else {
+            return enforcedJsonViews;
+        }
+    }
+
 }
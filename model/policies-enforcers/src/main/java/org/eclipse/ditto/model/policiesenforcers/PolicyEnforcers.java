@@ -11,9 +11,13 @@
  */
 package org.eclipse.ditto.model.policiesenforcers;
 
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.model.policies.Label;
 import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policiesenforcers.compiled.CompiledPolicyEnforcer;
 import org.eclipse.ditto.model.policiesenforcers.tree.TreeBasedPolicyEnforcer;
 import org.eclipse.ditto.model.policiesenforcers.trie.TrieBasedPolicyEnforcer;
 
@@ -39,6 +43,27 @@ public final class PolicyEnforcers {
         return throughputOptimizedEvaluator(policy);
     }
 
+    /**
+     * Returns a general purpose PolicyEnforcer for a Policy which differs from the Policy of a previous default
+     * PolicyEnforcer only in the entries with the given labels. If possible, the previous PolicyEnforcer is updated
+     * incrementally instead of being built from scratch for the changed Policy.
+     *
+     * @param previousEvaluator the PolicyEnforcer returned by this class for the Policy before the change.
+     * @param changedPolicy the Policy after the change.
+     * @param changedLabels the labels of the entries which were created, modified or deleted.
+     * @return the general purpose PolicyEnforcer for {@code changedPolicy}.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static PolicyEnforcer defaultEvaluator(final PolicyEnforcer previousEvaluator, final Policy changedPolicy,
+            final Iterable<Label> changedLabels) {
+
+        checkNotNull(previousEvaluator, "previous PolicyEnforcer");
+        if (previousEvaluator instanceof TrieBasedPolicyEnforcer) {
+            return ((TrieBasedPolicyEnforcer) previousEvaluator).withChangedEntries(changedPolicy, changedLabels);
+        }
+        return defaultEvaluator(changedPolicy);
+    }
+
     /**
      * Returns a PolicyEnforcer which requires more memory (factor 2-4 more than {@link
      * #memoryOptimizedEvaluator(Policy)}) but delivers very high throughput for most of the Policies, especially good
@@ -65,4 +90,23 @@ public final class PolicyEnforcers {
         return TreeBasedPolicyEnforcer.createInstance(policy);
     }
 
+    /**
+     * Returns a PolicyEnforcer which compiles the Policy into an immutable, array-based structure with interned subject
+     * IDs and permissions as bit flags. It delivers the same results as {@link #throughputOptimizedEvaluator(Policy)}
+     * with less memory and lower latency, but takes a little longer to be initialized.
+     * <p>
+     * Policies with more than {@link CompiledPolicyEnforcer#MAX_PERMISSIONS_COUNT} distinct permissions cannot be
+     * compiled; for those the throughput optimized PolicyEnforcer is returned.
+     *
+     * @param policy the Policy to initialize the evaluator with.
+     * @return the initialized compiled PolicyEnforcer.
+     * @throws NullPointerException if {@code policy} is {@code null}.
+     */
+    public static PolicyEnforcer compiledEvaluator(final Policy policy) {
+        if (CompiledPolicyEnforcer.isCompilable(policy)) {
+            return CompiledPolicyEnforcer.newInstance(policy);
+        }
+        return throughputOptimizedEvaluator(policy);
+    }
+
 }
@@ -0,0 +1,389 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.model.policiesenforcers.compiled;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.text.MessageFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.policies.EffectedPermissions;
+import org.eclipse.ditto.model.policies.PolicyEntry;
+import org.eclipse.ditto.model.policies.Resource;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.policies.Subject;
+
+/**
+ * A Policy compiled into an immutable, array-based trie (en.wikipedia.org/wiki/Trie) of resources.
+ * <p>
+ * The subject IDs of the policy are interned to indexes into a sorted array and each distinct permission is
+ * represented by one bit of a {@code long}. The nodes of the trie are numbered in breadth-first order, thus the children
+ * of a node are adjacent and sorted by their key. Each node has three {@link PermissionWeights} which correspond to the
+ * inherited, the bottom up grant and the bottom up revoke trie of the trie-based enforcer.
+ * </p>
+ */
+@Immutable
+final class CompiledPolicy {
+
+    /**
+     * The maximum number of distinct permissions of a policy which can be compiled.
+     */
+    static final int MAX_PERMISSIONS_COUNT = Long.SIZE;
+
+    /**
+     * The index of the root node whose children are the resource types.
+     */
+    static final int ROOT = 0;
+
+    private final String[] subjectIds;
+    private final Map<String, Integer> subjectIndexes;
+    private final Map<String, Long> permissionBits;
+    private final String[] keys;
+    private final int[] firstChildren;
+    private final int[] childCounts;
+    private final PermissionWeights[] inherited;
+    private final PermissionWeights[] bottomUpGrants;
+    private final PermissionWeights[] bottomUpRevokes;
+
+    private CompiledPolicy(final String[] subjectIds,
+            final Map<String, Long> permissionBits,
+            final String[] keys,
+            final int[] firstChildren,
+            final int[] childCounts,
+            final PermissionWeights[] inherited,
+            final PermissionWeights[] bottomUpGrants,
+            final PermissionWeights[] bottomUpRevokes) {
+
+        this.subjectIds = subjectIds;
+        subjectIndexes = new HashMap<>();
+        for (int i = 0; i < subjectIds.length; i++) {
+            subjectIndexes.put(subjectIds[i], i);
+        }
+        this.permissionBits = permissionBits;
+        this.keys = keys;
+        this.firstChildren = firstChildren;
+        this.childCounts = childCounts;
+        this.inherited = inherited;
+        this.bottomUpGrants = bottomUpGrants;
+        this.bottomUpRevokes = bottomUpRevokes;
+    }
+
+    /**
+     * Returns whether the given policy uses few enough distinct permissions to be compiled.
+     *
+     * @param policy the policy to check.
+     * @return {@code true} if the policy can be compiled, {@code false} else.
+     * @throws NullPointerException if {@code policy} is {@code null}.
+     */
+    static boolean isCompilable(final Iterable<PolicyEntry> policy) {
+        return getPermissions(checkNotNull(policy, "policy to compile")).size() <= MAX_PERMISSIONS_COUNT;
+    }
+
+    /**
+     * Compiles the given policy.
+     *
+     * @param policy the policy to compile.
+     * @return the compiled policy.
+     * @throws NullPointerException if {@code policy} is {@code null}.
+     * @throws IllegalArgumentException if the policy uses more than {@link #MAX_PERMISSIONS_COUNT} distinct
+     * permissions.
+     */
+    static CompiledPolicy compile(final Iterable<PolicyEntry> policy) {
+        checkNotNull(policy, "policy to compile");
+
+        final List<String> permissions = new ArrayList<>(getPermissions(policy));
+        if (MAX_PERMISSIONS_COUNT < permissions.size()) {
+            throw new IllegalArgumentException(MessageFormat.format("The policy uses <{0}> distinct permissions but " +
+                    "at most <{1}> can be compiled!", permissions.size(), MAX_PERMISSIONS_COUNT));
+        }
+        final Map<String, Long> permissionBits = new HashMap<>();
+        for (int i = 0; i < permissions.size(); i++) {
+            permissionBits.put(permissions.get(i), 1L << i);
+        }
+
+        final Set<String> subjectIdSet = new TreeSet<>();
+        policy.forEach(policyEntry -> policyEntry.getSubjects()
+                .forEach(subject -> subjectIdSet.add(subject.getId().toString())));
+        final String[] subjectIds = subjectIdSet.toArray(new String[0]);
+
+        final Node root = new Node();
+        policy.forEach(policyEntry -> root.addPolicyEntry(policyEntry, subjectIds, permissionBits));
+
+        return root.compile(subjectIds, permissionBits);
+    }
+
+    private static Set<String> getPermissions(final Iterable<PolicyEntry> policy) {
+        final Set<String> result = new TreeSet<>();
+        policy.forEach(policyEntry -> policyEntry.getResources().forEach(resource -> {
+            final EffectedPermissions effectedPermissions = resource.getEffectedPermissions();
+            result.addAll(effectedPermissions.getGrantedPermissions());
+            result.addAll(effectedPermissions.getRevokedPermissions());
+        }));
+        return result;
+    }
+
+    private static long toBits(final Iterable<String> permissions, final Map<String, Long> permissionBits) {
+        long result = 0L;
+        for (final String permission : permissions) {
+            result |= permissionBits.get(permission);
+        }
+        return result;
+    }
+
+    /**
+     * Converts a {@link ResourceKey} to an iterator of JSON keys by prepending the resource type to the resource path.
+     *
+     * @param resourceKey the resource key to convert.
+     * @return the JSON key iterator.
+     */
+    static Iterator<JsonKey> getJsonKeyIterator(final ResourceKey resourceKey) {
+        return JsonFactory.newPointer(resourceKey.getResourceType()).append(resourceKey.getResourcePath()).iterator();
+    }
+
+    /**
+     * Returns the sorted indexes of those subjects of the given authorization context which are known to this policy.
+     *
+     * @param authorizationContext the authorization context.
+     * @return the subject indexes.
+     */
+    int[] getSubjectIndexes(final AuthorizationContext authorizationContext) {
+        final List<String> authorizationSubjectIds = authorizationContext.getAuthorizationSubjectIds();
+        final int[] result = new int[authorizationSubjectIds.size()];
+        int size = 0;
+        for (final String authorizationSubjectId : authorizationSubjectIds) {
+            final Integer subjectIndex = subjectIndexes.get(authorizationSubjectId);
+            if (null != subjectIndex) {
+                result[size++] = subjectIndex;
+            }
+        }
+        final int[] subjectIndexesOfContext = size == result.length ? result : Arrays.copyOf(result, size);
+        Arrays.sort(subjectIndexesOfContext);
+        return subjectIndexesOfContext;
+    }
+
+    /**
+     * Returns the subject IDs for the given subject indexes.
+     *
+     * @param subjectIndexesToResolve the subject indexes.
+     * @return the mutable set of subject IDs.
+     */
+    Set<String> getSubjectIds(final int[] subjectIndexesToResolve) {
+        final Set<String> result = new HashSet<>();
+        for (final int subjectIndex : subjectIndexesToResolve) {
+            result.add(subjectIds[subjectIndex]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the bit mask of the given permissions. Permissions which are not used by this policy have no bit.
+     *
+     * @param permissions the permissions.
+     * @return the bit mask.
+     */
+    long getPermissionBits(final Collection<String> permissions) {
+        long result = 0L;
+        for (final String permission : permissions) {
+            final Long bit = permissionBits.get(permission);
+            if (null != bit) {
+                result |= bit;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the index of the child of the given node with the given key.
+     *
+     * @param node the index of the parent node.
+     * @param key the key of the child.
+     * @return the index of the child or a negative number if the node has no such child.
+     */
+    int getChild(final int node, final String key) {
+        final int firstChild = firstChildren[node];
+        final int i = Arrays.binarySearch(keys, firstChild, firstChild + childCounts[node], key);
+        return 0 <= i ? i : -1;
+    }
+
+    /**
+     * Seeks the node whose path from the root matches the given path as much as possible.
+     *
+     * @param path the path to match.
+     * @return the index of the node if the path matched exactly, else the bitwise complement of the index of the best
+     * matched node.
+     */
+    int seek(final Iterator<JsonKey> path) {
+        int node = ROOT;
+        while (path.hasNext()) {
+            final int child = getChild(node, path.next().toString());
+            if (0 > child) {
+                return ~node;
+            }
+            node = child;
+        }
+        return node;
+    }
+
+    /**
+     * Returns the number of nodes; the nodes are indexed from {@link #ROOT} to this number exclusively.
+     *
+     * @return the number of nodes.
+     */
+    int getNodeCount() {
+        return keys.length;
+    }
+
+    PermissionWeights getInherited(final int node) {
+        return inherited[node];
+    }
+
+    PermissionWeights getBottomUpGrants(final int node) {
+        return bottomUpGrants[node];
+    }
+
+    PermissionWeights getBottomUpRevokes(final int node) {
+        return bottomUpRevokes[node];
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "subjectIds=" + Arrays.toString(subjectIds) +
+                ", permissionBits=" + permissionBits +
+                ", nodesCount=" + keys.length +
+                "]";
+    }
+
+    /**
+     * A mutable node of the trie which holds the grants and revokes of the policy entries for exactly its resource.
+     */
+    @NotThreadSafe
+    private static final class Node {
+
+        private final Map<String, Node> children = new TreeMap<>();
+        private final Map<Integer, long[]> grantsAndRevokes = new TreeMap<>();
+        private long grantedPermissions = 0L;
+
+        private void addPolicyEntry(final PolicyEntry policyEntry, final String[] subjectIds,
+                final Map<String, Long> permissionBits) {
+
+            final List<Integer> subjectIndexes = new ArrayList<>();
+            for (final Subject subject : policyEntry.getSubjects()) {
+                subjectIndexes.add(Arrays.binarySearch(subjectIds, subject.getId().toString()));
+            }
+            for (final Resource resource : policyEntry.getResources()) {
+                final Node target = seekOrCreate(getJsonKeyIterator(resource.getResourceKey()));
+                final EffectedPermissions effectedPermissions = resource.getEffectedPermissions();
+                final long granted = toBits(effectedPermissions.getGrantedPermissions(), permissionBits);
+                final long revoked = toBits(effectedPermissions.getRevokedPermissions(), permissionBits);
+                target.grantedPermissions |= granted;
+                subjectIndexes.forEach(subjectIndex -> {
+                    final long[] masks = target.grantsAndRevokes.computeIfAbsent(subjectIndex, i -> new long[2]);
+                    masks[0] |= granted;
+                    masks[1] |= revoked;
+                });
+            }
+        }
+
+        private Node seekOrCreate(final Iterator<JsonKey> path) {
+            Node node = this;
+            while (path.hasNext()) {
+                node = node.children.computeIfAbsent(path.next().toString(), key -> new Node());
+            }
+            return node;
+        }
+
+        private PermissionWeights.Builder overrideWith(final PermissionWeights.Builder builder) {
+            grantsAndRevokes.forEach((subjectIndex, masks) -> builder.override(subjectIndex, masks[0], masks[1]));
+            return builder.addGrantedPermissions(grantedPermissions);
+        }
+
+        private CompiledPolicy compile(final String[] subjectIds, final Map<String, Long> permissionBits) {
+            // numbers the nodes in breadth-first order
+            final List<Node> nodes = new ArrayList<>();
+            final List<String> keys = new ArrayList<>();
+            final List<Integer> parents = new ArrayList<>();
+            final Queue<Integer> queue = new ArrayDeque<>();
+            nodes.add(this);
+            keys.add("");
+            parents.add(-1);
+            queue.add(ROOT);
+            final int[] firstChildren = new int[countNodes()];
+            final int[] childCounts = new int[firstChildren.length];
+            while (!queue.isEmpty()) {
+                final int node = queue.remove();
+                firstChildren[node] = nodes.size();
+                childCounts[node] = nodes.get(node).children.size();
+                nodes.get(node).children.forEach((key, child) -> {
+                    queue.add(nodes.size());
+                    nodes.add(child);
+                    keys.add(key);
+                    parents.add(node);
+                });
+            }
+
+            final int permissionsCount = permissionBits.size();
+            final PermissionWeights[] inherited = new PermissionWeights[nodes.size()];
+            inherited[ROOT] = overrideWith(PermissionWeights.newBuilder(permissionsCount)).build();
+            for (int node = 1; node < nodes.size(); node++) {
+                inherited[node] = nodes.get(node)
+                        .overrideWith(inherited[parents.get(node)].toBuilder(-1))
+                        .build();
+            }
+
+            // children have greater indexes than their parents
+            final PermissionWeights[] bottomUpGrants = new PermissionWeights[nodes.size()];
+            final PermissionWeights[] bottomUpRevokes = new PermissionWeights[nodes.size()];
+            for (int node = nodes.size() - 1; 0 <= node; node--) {
+                final PermissionWeights.Builder grantsBuilder = inherited[node].toBuilder(0);
+                final PermissionWeights.Builder revokesBuilder = inherited[node].toBuilder(0);
+                for (int child = firstChildren[node]; child < firstChildren[node] + childCounts[node]; child++) {
+                    grantsBuilder.addAll(bottomUpGrants[child], 1, true, false);
+                    revokesBuilder.addAll(bottomUpRevokes[child], 1, false, true);
+                }
+                bottomUpGrants[node] = grantsBuilder.removeGrantedFromRevoked().build();
+                bottomUpRevokes[node] = revokesBuilder.build();
+            }
+
+            return new CompiledPolicy(subjectIds, permissionBits, keys.toArray(new String[0]), firstChildren,
+                    childCounts, inherited, bottomUpGrants, bottomUpRevokes);
+        }
+
+        private int countNodes() {
+            int result = 1;
+            for (final Node child : children.values()) {
+                result += child.countNodes(); // Recursion
+            }
+            return result;
+        }
+
+    }
+
+}
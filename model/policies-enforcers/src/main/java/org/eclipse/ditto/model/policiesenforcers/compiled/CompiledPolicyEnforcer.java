@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.model.policiesenforcers.compiled;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.policiesenforcers.EffectedSubjectIds;
+import org.eclipse.ditto.model.policiesenforcers.ImmutableEffectedSubjectIds;
+import org.eclipse.ditto.model.policiesenforcers.PolicyEnforcer;
+
+/**
+ * A policy enforcer which compiles a policy into a {@link CompiledPolicy}: an immutable trie whose nodes are array
+ * indexes, whose subjects are interned to integers and whose permissions are bit flags. The results equal those of
+ * the trie-based enforcer, but a check resolves the subjects of the authorization context by one hash look-up each and
+ * then only compares integers and bit masks instead of intersecting sets of strings.
+ * <p>
+ * A policy may use at most {@link #MAX_PERMISSIONS_COUNT} distinct permissions.
+ * </p>
+ */
+@Immutable
+public final class CompiledPolicyEnforcer implements PolicyEnforcer {
+
+    /**
+     * The maximum number of distinct permissions of a policy which can be compiled.
+     */
+    public static final int MAX_PERMISSIONS_COUNT = CompiledPolicy.MAX_PERMISSIONS_COUNT;
+
+    private final CompiledPolicy compiledPolicy;
+
+    private CompiledPolicyEnforcer(final CompiledPolicy compiledPolicy) {
+        this.compiledPolicy = compiledPolicy;
+    }
+
+    /**
+     * Compiles a policy into a policy enforcer.
+     *
+     * @param policy the policy to compile.
+     * @return the policy enforcer.
+     * @throws NullPointerException if {@code policy} is {@code null}.
+     * @throws IllegalArgumentException if {@code policy} uses more than {@link #MAX_PERMISSIONS_COUNT} distinct
+     * permissions.
+     * @see #isCompilable(Policy)
+     */
+    public static CompiledPolicyEnforcer newInstance(final Policy policy) {
+        return new CompiledPolicyEnforcer(CompiledPolicy.compile(checkNotNull(policy, "policy to compile")));
+    }
+
+    /**
+     * Indicates whether the given policy can be compiled, i. e. whether it uses at most
+     * {@link #MAX_PERMISSIONS_COUNT} distinct permissions.
+     *
+     * @param policy the policy to check.
+     * @return {@code true} if {@link #newInstance(Policy)} accepts {@code policy}, {@code false} else.
+     * @throws NullPointerException if {@code policy} is {@code null}.
+     */
+    public static boolean isCompilable(final Policy policy) {
+        return CompiledPolicy.isCompilable(checkNotNull(policy, "policy to compile"));
+    }
+
+    @Override
+    public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkAuthorizationContext(authorizationContext);
+        checkPermissions(permissions);
+
+        final int node = compiledPolicy.seek(CompiledPolicy.getJsonKeyIterator(resourceKey));
+        final PermissionWeights permissionWeights = 0 <= node
+                ? compiledPolicy.getBottomUpRevokes(node)
+                : compiledPolicy.getInherited(~node);
+        return hasPermissions(permissionWeights, authorizationContext, permissions);
+    }
+
+    @Override
+    public boolean hasPartialPermissions(final ResourceKey resourceKey, final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkAuthorizationContext(authorizationContext);
+        checkPermissions(permissions);
+
+        final int node = compiledPolicy.seek(CompiledPolicy.getJsonKeyIterator(resourceKey));
+        final PermissionWeights permissionWeights = 0 <= node
+                ? compiledPolicy.getBottomUpGrants(node)
+                : compiledPolicy.getInherited(~node);
+        return hasPermissions(permissionWeights, authorizationContext, permissions);
+    }
+
+    private boolean hasPermissions(final PermissionWeights permissionWeights,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        final long permissionBits = getKnownPermissionBits(permissions);
+        return 0L != permissionBits && permissionWeights.hasPermissions(
+                compiledPolicy.getSubjectIndexes(authorizationContext), permissionBits);
+    }
+
+    /*
+     * Returns the bit mask of the permissions or 0 if any of them is not used by the policy, as such a permission
+     * cannot be granted.
+     */
+    private long getKnownPermissionBits(final Permissions permissions) {
+        final long permissionBits = compiledPolicy.getPermissionBits(permissions);
+        return Long.bitCount(permissionBits) == permissions.size() ? permissionBits : 0L;
+    }
+
+    @Override
+    public EffectedSubjectIds getSubjectIdsWithPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+
+        final int node = compiledPolicy.seek(CompiledPolicy.getJsonKeyIterator(resourceKey));
+        final PermissionWeights permissionWeights = compiledPolicy.getInherited(0 <= node ? node : ~node);
+        final long permissionBits = compiledPolicy.getPermissionBits(permissions);
+        return ImmutableEffectedSubjectIds.of(
+                compiledPolicy.getSubjectIds(permissionWeights.getGrantedSubjects(permissionBits)),
+                compiledPolicy.getSubjectIds(permissionWeights.getRevokedSubjects(permissionBits)));
+    }
+
+    @Override
+    public Set<String> getSubjectIdsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+
+        final int node = compiledPolicy.seek(CompiledPolicy.getJsonKeyIterator(resourceKey));
+        final PermissionWeights permissionWeights = 0 <= node
+                ? compiledPolicy.getBottomUpGrants(node)
+                : compiledPolicy.getInherited(~node);
+        return compiledPolicy.getSubjectIds(
+                permissionWeights.getGrantedSubjects(compiledPolicy.getPermissionBits(permissions)));
+    }
+
+    @Override
+    public JsonObject buildJsonView(final ResourceKey resourceKey, final Iterable<JsonField> jsonFields,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkNotNull(jsonFields, "JSON fields");
+        checkAuthorizationContext(authorizationContext);
+        checkPermissions(permissions);
+
+        final int typeNode = compiledPolicy.getChild(CompiledPolicy.ROOT, resourceKey.getResourceType());
+        if (0 > typeNode) {
+            return JsonFactory.newObject();
+        }
+
+        // converts jsonFields into a JsonObject
+        final JsonObjectBuilder jsonObjectBuilder = JsonFactory.newObjectBuilder();
+        jsonFields.forEach(jsonObjectBuilder::set);
+
+        final JsonViewBuilder jsonViewBuilder = new JsonViewBuilder(
+                compiledPolicy.getSubjectIndexes(authorizationContext), getKnownPermissionBits(permissions));
+        return jsonViewBuilder.buildJsonObjectView(typeNode, true, resourceKey.getResourcePath().iterator(),
+                jsonObjectBuilder.build());
+    }
+
+    @Override
+    public List<JsonObject> buildJsonViews(final ResourceKey resourceKey, final Iterable<JsonObject> jsonObjects,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkNotNull(jsonObjects, "JSON objects");
+        checkAuthorizationContext(authorizationContext);
+        checkPermissions(permissions);
+
+        final List<JsonObject> result = new ArrayList<>();
+        final int typeNode = compiledPolicy.getChild(CompiledPolicy.ROOT, resourceKey.getResourceType());
+        if (0 > typeNode) {
+            jsonObjects.forEach(jsonObject -> result.add(JsonFactory.newObject()));
+            return result;
+        }
+
+        // the builder remembers the decision of each node for all JSON objects
+        final JsonViewBuilder jsonViewBuilder = new JsonViewBuilder(
+                compiledPolicy.getSubjectIndexes(authorizationContext), getKnownPermissionBits(permissions));
+        for (final JsonObject jsonObject : jsonObjects) {
+            result.add(jsonViewBuilder.buildJsonObjectView(typeNode, true, resourceKey.getResourcePath().iterator(),
+                    jsonObject));
+        }
+        return result;
+    }
+
+    private static void checkResourceKey(final ResourceKey resourceKey) {
+        checkNotNull(resourceKey, "resource key");
+    }
+
+    private static void checkAuthorizationContext(final AuthorizationContext authorizationContext) {
+        checkNotNull(authorizationContext, "Authorization Context");
+    }
+
+    private static void checkPermissions(final Permissions permissions) {
+        checkNotNull(permissions, "permissions to check");
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "compiledPolicy=" + compiledPolicy +
+                "]";
+    }
+
+    /**
+     * Builds a JSON view like the trie-based enforcer does. A node which is visited without its children stands for
+     * a JSON value below the deepest resource of the policy; it has the inherited permissions of that resource. The
+     * decision of each node is evaluated at most once per builder.
+     */
+    private final class JsonViewBuilder {
+
+        private static final byte UNDECIDED = 0;
+        private static final byte GRANTED = 1;
+        private static final byte NOT_GRANTED = 2;
+
+        private final int[] subjectIndexes;
+        private final long permissionBits;
+        private final byte[] decisions;
+
+        private JsonViewBuilder(final int[] subjectIndexes, final long permissionBits) {
+            this.subjectIndexes = subjectIndexes;
+            this.permissionBits = permissionBits;
+            decisions = new byte[compiledPolicy.getNodeCount()];
+        }
+
+        private boolean hasPermissions(final int node) {
+            if (UNDECIDED == decisions[node]) {
+                final boolean granted = 0L != permissionBits &&
+                        compiledPolicy.getInherited(node).hasPermissions(subjectIndexes, permissionBits);
+                decisions[node] = granted ? GRANTED : NOT_GRANTED;
+            }
+            return GRANTED == decisions[node];
+        }
+
+        private JsonObject buildJsonObjectView(final int node, final boolean withChildren,
+                final Iterator<JsonKey> path, final JsonObject inputObject) {
+
+            final JsonObjectBuilder outputObjectBuilder = JsonFactory.newObjectBuilder();
+
+            final Iterable<JsonField> objectFieldsToCheck;
+            if (path.hasNext()) {
+                final JsonKey childKey = path.next();
+                final Optional<JsonValue> maybeFieldValue = inputObject.getValue(childKey);
+                if (!maybeFieldValue.isPresent()) {
+                    return outputObjectBuilder.build();
+                }
+                objectFieldsToCheck = Collections.singletonList(JsonField.newInstance(childKey, maybeFieldValue.get()));
+            } else {
+                objectFieldsToCheck = inputObject;
+            }
+
+            for (final JsonField jsonField : objectFieldsToCheck) {
+                final int child = withChildren ? compiledPolicy.getChild(node, jsonField.getKeyName()) : -1;
+                final Optional<JsonValue> view = 0 <= child
+                        ? buildPossiblyEmptyView(child, true, path, jsonField.getValue()) // Recursion
+                        : buildPossiblyEmptyView(node, false, path, jsonField.getValue()); // Recursion
+                if (view.isPresent()) {
+                    if (jsonField.getDefinition().isPresent()) {
+                        outputObjectBuilder.set(jsonField.getDefinition().get(), view.get());
+                    } else {
+                        outputObjectBuilder.set(jsonField.getKey(), view.get());
+                    }
+                }
+            }
+
+            return outputObjectBuilder.build();
+        }
+
+        private Optional<JsonValue> buildPossiblyEmptyView(final int node, final boolean withChildren,
+                final Iterator<JsonKey> path, final JsonValue jsonValue) {
+
+            if (jsonValue.isObject()) {
+                final JsonObject candidate = buildJsonObjectView(node, withChildren, path, jsonValue.asObject());
+                return !candidate.isEmpty() || hasPermissions(node) ? Optional.of(candidate) : Optional.empty();
+            } else if (jsonValue.isArray()) {
+                final JsonArrayBuilder jsonArrayBuilder = JsonFactory.newArrayBuilder();
+                jsonValue.asArray().forEach(element -> buildPossiblyEmptyView(node, withChildren, path, element)
+                        .ifPresent(jsonArrayBuilder::add)); // Recursion
+                final JsonArray candidate = jsonArrayBuilder.build();
+                return !candidate.isEmpty() || hasPermissions(node) ? Optional.of(candidate) : Optional.empty();
+            } else {
+                return hasPermissions(node) ? Optional.of(jsonValue) : Optional.empty();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,382 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.model.policiesenforcers.compiled;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * The granted and revoked permissions of subjects on one node of a {@link CompiledPolicy}, the counterpart of the
+ * {@code GrantRevokeIndex} of the trie-based enforcer.
+ * <p>
+ * Subjects and permissions are given by their indexes in the compiled policy. The subjects are kept in a sorted
+ * array; for each subject the granted and the revoked permissions are bit masks and the weights of the set bits are
+ * kept in primitive arrays with {@code permissionsCount} slots per subject. A weight is {@code 0} for a permission
+ * which is defined at the node itself; it decreases by one per level for permissions inherited from ancestors and it
+ * increases by one per level for permissions pushed up from descendants.
+ * </p>
+ */
+@Immutable
+final class PermissionWeights {
+
+    private final int permissionsCount;
+    private final long grantedPermissions;
+    private final int[] subjects;
+    private final long[] grantMasks;
+    private final long[] revokeMasks;
+    private final int[] grantWeights;
+    private final int[] revokeWeights;
+
+    private PermissionWeights(final int permissionsCount, final long grantedPermissions, final int[] subjects,
+            final long[] grantMasks, final long[] revokeMasks, final int[] grantWeights, final int[] revokeWeights) {
+
+        this.permissionsCount = permissionsCount;
+        this.grantedPermissions = grantedPermissions;
+        this.subjects = subjects;
+        this.grantMasks = grantMasks;
+        this.revokeMasks = revokeMasks;
+        this.grantWeights = grantWeights;
+        this.revokeWeights = revokeWeights;
+    }
+
+    /**
+     * Returns a new mutable builder which is initialized with the weights of this instance, each shifted by
+     * {@code weightAdjustment}.
+     *
+     * @param weightAdjustment the value to be added to each weight.
+     * @return the builder.
+     */
+    Builder toBuilder(final int weightAdjustment) {
+        final Builder builder = new Builder(permissionsCount, grantedPermissions);
+        builder.addAll(this, weightAdjustment, true, true);
+        return builder;
+    }
+
+    /**
+     * Returns a new mutable builder without any granted or revoked permissions.
+     *
+     * @param permissionsCount the number of distinct permissions of the compiled policy.
+     * @return the builder.
+     */
+    static Builder newBuilder(final int permissionsCount) {
+        return new Builder(permissionsCount, 0L);
+    }
+
+    /**
+     * Returns the bit mask of all permissions for which this node knows granted subjects, even if the set of those
+     * subjects became empty by more specific revokes.
+     *
+     * @return the bit mask.
+     */
+    long getGrantedPermissions() {
+        return grantedPermissions;
+    }
+
+    /**
+     * Checks whether the given subjects have all the required permissions: each permission has to be granted to at
+     * least one of the subjects and no revoke of any of the permissions may outweigh the strongest grant.
+     *
+     * @param subjectIndexes the sorted indexes of the subjects to check.
+     * @param permissions the bit mask of the required permissions.
+     * @return {@code true} if the permissions are granted, {@code false} else.
+     */
+    boolean hasPermissions(final int[] subjectIndexes, final long permissions) {
+        if (0L == permissions) {
+            return false;
+        }
+        long granted = 0L;
+        long revoked = 0L;
+        int grantWeight = Integer.MIN_VALUE;
+        int revokeWeight = Integer.MIN_VALUE;
+        for (final int subjectIndex : subjectIndexes) {
+            final int i = Arrays.binarySearch(subjects, subjectIndex);
+            if (0 <= i) {
+                final long grantedOfSubject = grantMasks[i] & permissions;
+                final long revokedOfSubject = revokeMasks[i] & permissions;
+                granted |= grantedOfSubject;
+                revoked |= revokedOfSubject;
+                grantWeight = Math.max(grantWeight, getMaxWeight(grantWeights, i, grantedOfSubject));
+                revokeWeight = Math.max(revokeWeight, getMaxWeight(revokeWeights, i, revokedOfSubject));
+            }
+        }
+        return granted == permissions && (0L == revoked || revokeWeight < grantWeight);
+    }
+
+    private int getMaxWeight(final int[] weights, final int i, final long permissions) {
+        int result = Integer.MIN_VALUE;
+        long remaining = permissions;
+        while (0L != remaining) {
+            result = Math.max(result, weights[i * permissionsCount + Long.numberOfTrailingZeros(remaining)]);
+            remaining &= remaining - 1;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the indexes of the subjects which have all the given permissions granted which this node knows granted
+     * subjects for; unknown permissions are ignored.
+     *
+     * @param permissions the bit mask of the permissions.
+     * @return the subject indexes in ascending order.
+     */
+    int[] getGrantedSubjects(final long permissions) {
+        final long consideredPermissions = permissions & grantedPermissions;
+        if (0L == consideredPermissions) {
+            return new int[0];
+        }
+        final int[] result = new int[subjects.length];
+        int size = 0;
+        for (int i = 0; i < subjects.length; i++) {
+            if (consideredPermissions == (grantMasks[i] & consideredPermissions)) {
+                result[size++] = subjects[i];
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Returns the indexes of the subjects which have at least one of the given permissions revoked.
+     *
+     * @param permissions the bit mask of the permissions.
+     * @return the subject indexes in ascending order.
+     */
+    int[] getRevokedSubjects(final long permissions) {
+        final int[] result = new int[subjects.length];
+        int size = 0;
+        for (int i = 0; i < subjects.length; i++) {
+            if (0L != (revokeMasks[i] & permissions)) {
+                result[size++] = subjects[i];
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final PermissionWeights that = (PermissionWeights) o;
+        return permissionsCount == that.permissionsCount &&
+                grantedPermissions == that.grantedPermissions &&
+                Arrays.equals(subjects, that.subjects) &&
+                Arrays.equals(grantMasks, that.grantMasks) &&
+                Arrays.equals(revokeMasks, that.revokeMasks) &&
+                Arrays.equals(grantWeights, that.grantWeights) &&
+                Arrays.equals(revokeWeights, that.revokeWeights);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 31 * permissionsCount + Long.hashCode(grantedPermissions);
+        result = 31 * result + Arrays.hashCode(subjects);
+        result = 31 * result + Arrays.hashCode(grantMasks);
+        result = 31 * result + Arrays.hashCode(revokeMasks);
+        result = 31 * result + Arrays.hashCode(grantWeights);
+        return 31 * result + Arrays.hashCode(revokeWeights);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "grantedPermissions=" + Long.toBinaryString(grantedPermissions) +
+                ", subjects=" + Arrays.toString(subjects) +
+                ", grantMasks=" + Arrays.toString(grantMasks) +
+                ", revokeMasks=" + Arrays.toString(revokeMasks) +
+                "]";
+    }
+
+    /**
+     * A mutable builder for {@code PermissionWeights} which is only used while a policy is compiled.
+     */
+    @NotThreadSafe
+    static final class Builder {
+
+        private final int permissionsCount;
+        private final Map<Integer, SubjectWeights> subjectWeights;
+        private long grantedPermissions;
+
+        private Builder(final int permissionsCount, final long grantedPermissions) {
+            this.permissionsCount = permissionsCount;
+            this.grantedPermissions = grantedPermissions;
+            subjectWeights = new TreeMap<>();
+        }
+
+        /**
+         * Grants and revokes the given permissions to the given subject with weight {@code 0}, overriding any weights
+         * of the subject for the same permissions. A permission which is both granted and revoked is revoked.
+         *
+         * @param subjectIndex the index of the subject.
+         * @param granted the bit mask of the granted permissions.
+         * @param revoked the bit mask of the revoked permissions.
+         * @return this builder.
+         */
+        Builder override(final int subjectIndex, final long granted, final long revoked) {
+            final SubjectWeights weights = getSubjectWeights(subjectIndex);
+            weights.grantMask = (weights.grantMask | granted) & ~revoked;
+            weights.revokeMask = (weights.revokeMask & ~granted) | revoked;
+            setWeights(weights.grantWeights, granted & ~revoked, 0);
+            setWeights(weights.revokeWeights, revoked, 0);
+            return this;
+        }
+
+        /**
+         * Adds the given granted permissions to the permissions for which this node knows granted subjects.
+         *
+         * @param permissions the bit mask of the permissions.
+         * @return this builder.
+         */
+        Builder addGrantedPermissions(final long permissions) {
+            grantedPermissions |= permissions;
+            return this;
+        }
+
+        /**
+         * Adds the grants and/or revokes of {@code other} with their weights shifted by {@code weightAdjustment}; the
+         * greater weight wins for permissions which are present in both.
+         *
+         * @param other the weights to be added.
+         * @param weightAdjustment the value to be added to each weight of {@code other}.
+         * @param grants whether to add the grants of {@code other}.
+         * @param revokes whether to add the revokes of {@code other}.
+         * @return this builder.
+         */
+        Builder addAll(final PermissionWeights other, final int weightAdjustment, final boolean grants,
+                final boolean revokes) {
+
+            if (grants) {
+                grantedPermissions |= other.grantedPermissions;
+            }
+            for (int i = 0; i < other.subjects.length; i++) {
+                final SubjectWeights weights = getSubjectWeights(other.subjects[i]);
+                if (grants) {
+                    weights.grantMask = mergeWeights(weights.grantWeights, weights.grantMask, other.grantWeights, i,
+                            other.grantMasks[i], weightAdjustment);
+                }
+                if (revokes) {
+                    weights.revokeMask = mergeWeights(weights.revokeWeights, weights.revokeMask, other.revokeWeights,
+                            i, other.revokeMasks[i], weightAdjustment);
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Removes each revoke of a permission which is granted to the same subject.
+         *
+         * @return this builder.
+         */
+        Builder removeGrantedFromRevoked() {
+            subjectWeights.values().forEach(weights -> weights.revokeMask &= ~weights.grantMask);
+            return this;
+        }
+
+        private SubjectWeights getSubjectWeights(final int subjectIndex) {
+            return subjectWeights.computeIfAbsent(subjectIndex, index -> new SubjectWeights(permissionsCount));
+        }
+
+        private long mergeWeights(final int[] targetWeights, final long targetMask, final int[] sourceWeights,
+                final int sourceIndex, final long sourceMask, final int weightAdjustment) {
+
+            long remaining = sourceMask;
+            while (0L != remaining) {
+                final int permissionIndex = Long.numberOfTrailingZeros(remaining);
+                final int weight = sourceWeights[sourceIndex * permissionsCount + permissionIndex] + weightAdjustment;
+                final long bit = 1L << permissionIndex;
+                if (0L == (targetMask & bit) || targetWeights[permissionIndex] < weight) {
+                    targetWeights[permissionIndex] = weight;
+                }
+                remaining &= remaining - 1;
+            }
+            return targetMask | sourceMask;
+        }
+
+        private static void setWeights(final int[] weights, final long permissions, final int weight) {
+            long remaining = permissions;
+            while (0L != remaining) {
+                weights[Long.numberOfTrailingZeros(remaining)] = weight;
+                remaining &= remaining - 1;
+            }
+        }
+
+        /**
+         * Builds the immutable weights; subjects without any granted or revoked permission are dropped.
+         *
+         * @return the weights.
+         */
+        PermissionWeights build() {
+            int size = 0;
+            for (final SubjectWeights weights : subjectWeights.values()) {
+                if (!weights.isEmpty()) {
+                    size++;
+                }
+            }
+            final int[] subjects = new int[size];
+            final long[] grantMasks = new long[size];
+            final long[] revokeMasks = new long[size];
+            final int[] grantWeights = new int[size * permissionsCount];
+            final int[] revokeWeights = new int[size * permissionsCount];
+            int i = 0;
+            for (final Map.Entry<Integer, SubjectWeights> entry : subjectWeights.entrySet()) {
+                final SubjectWeights weights = entry.getValue();
+                if (!weights.isEmpty()) {
+                    subjects[i] = entry.getKey();
+                    grantMasks[i] = weights.grantMask;
+                    revokeMasks[i] = weights.revokeMask;
+                    copyWeights(weights.grantWeights, weights.grantMask, grantWeights, i * permissionsCount);
+                    copyWeights(weights.revokeWeights, weights.revokeMask, revokeWeights, i * permissionsCount);
+                    i++;
+                }
+            }
+            return new PermissionWeights(permissionsCount, grantedPermissions, subjects, grantMasks, revokeMasks,
+                    grantWeights, revokeWeights);
+        }
+
+        // copies only the weights of set bits so that equal weights result in equal arrays
+        private static void copyWeights(final int[] source, final long mask, final int[] target, final int offset) {
+            long remaining = mask;
+            while (0L != remaining) {
+                final int permissionIndex = Long.numberOfTrailingZeros(remaining);
+                target[offset + permissionIndex] = source[permissionIndex];
+                remaining &= remaining - 1;
+            }
+        }
+
+    }
+
+    @NotThreadSafe
+    private static final class SubjectWeights {
+
+        private final int[] grantWeights;
+        private final int[] revokeWeights;
+        private long grantMask;
+        private long revokeMask;
+
+        private SubjectWeights(final int permissionsCount) {
+            grantWeights = new int[permissionsCount];
+            revokeWeights = new int[permissionsCount];
+        }
+
+        private boolean isEmpty() {
+            return 0L == grantMask && 0L == revokeMask;
+        }
+
+    }
+
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+
+/**
+ * This package provides an implementation of {@link org.eclipse.ditto.model.policiesenforcers.PolicyEnforcer}
+ * which compiles a Policy into an immutable, array-based Trie (en.wikipedia.org/wiki/Trie) with subjects and
+ * permissions encoded as integers and bit flags.
+ */
+@org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault
+package org.eclipse.ditto.model.policiesenforcers.compiled;
@@ -14,18 +14,25 @@ package org.eclipse.ditto.model.policiesenforcers.trie;
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 import org.eclipse.ditto.json.JsonArray;
@@ -35,10 +42,12 @@ import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.policies.EffectedPermissions;
 import org.eclipse.ditto.model.policies.Permissions;
 import org.eclipse.ditto.model.policies.PolicyEntry;
+import org.eclipse.ditto.model.policies.Resource;
 import org.eclipse.ditto.model.policies.ResourceKey;
 import org.eclipse.ditto.model.policies.Subject;
 import org.eclipse.ditto.model.policies.SubjectId;
@@ -51,6 +60,9 @@ import org.eclipse.ditto.model.policies.Subjects;
  * into a {@link GrantRevokeIndex}. Each trie node corresponds to a unique resource, say for example {@code
  * thing:/attributes/A/B}. Its parent is the immediate super-resource {@code thing:/attributes/A}, and its children are
  * immediate sub-resources, say {@code thing:/attributes/A/B/C} and {@code thing:/attributes/A/B/D}.
+ * <p>
+ * Once built, a trie is not modified anymore. Thus tries which are derived incrementally from another trie share all
+ * unaffected subtries with it.
  */
 @NotThreadSafe
 final class PolicyTrie {
@@ -83,6 +95,92 @@ final class PolicyTrie {
         return prototype;
     }
 
+    /**
+     * Returns a copy of this trie in which the nodes of the given resources are recomputed from the given policy. All
+     * subtries which do not contain any of the resources are shared with this trie. Nodes of resources which are not
+     * mentioned in the policy anymore are removed unless they have descendants which are still mentioned.
+     * <p>
+     * The result equals the result of {@link #fromPolicy(Iterable)} if this trie was built from a policy which differs
+     * from the given policy only in the given resources.
+     *
+     * @param policy The changed policy to interpret.
+     * @param resourceKeys The keys of the resources which are changed.
+     * @return A trie for the changed policy.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    PolicyTrie withRecomputedResources(final Iterable<PolicyEntry> policy, final Iterable<ResourceKey> resourceKeys) {
+        checkNotNull(policy, "policy to interpret");
+        checkNotNull(resourceKeys, "keys of the changed resources");
+        PolicyTrie result = this;
+        for (final ResourceKey resourceKey : resourceKeys) {
+            final List<JsonKey> path = new ArrayList<>();
+            getJsonKeyIterator(resourceKey).forEachRemaining(path::add);
+            result = recomputeResource(result, path, 0, resourceKey, policy);
+        }
+        return result;
+    }
+
+    /*
+     * Returns a copy of the node at the given level of the path whose descendant at the end of the path is
+     * recomputed, or null if the copy is to be removed.
+     */
+    @Nullable
+    private static PolicyTrie recomputeResource(@Nullable final PolicyTrie node, final List<JsonKey> path,
+            final int level, final ResourceKey resourceKey, final Iterable<PolicyEntry> policy) {
+
+        if (path.size() == level) {
+            final PolicyTrie recomputedNode = new PolicyTrie(new GrantRevokeIndex(),
+                    null != node ? node.children : new HashMap<>());
+            boolean isMentioned = false;
+            for (final PolicyEntry policyEntry : policy) {
+                final Optional<Resource> resource = policyEntry.getResources().getResource(resourceKey);
+                if (resource.isPresent()) {
+                    final Collection<String> subjectIds = getSubjectIds(policyEntry.getSubjects());
+                    final EffectedPermissions effectedPermissions = resource.get().getEffectedPermissions();
+                    recomputedNode.grant(subjectIds, effectedPermissions.getGrantedPermissions());
+                    recomputedNode.revoke(subjectIds, effectedPermissions.getRevokedPermissions());
+                    isMentioned = true;
+                }
+            }
+            return isMentioned || !recomputedNode.children.isEmpty() ? recomputedNode : null;
+        }
+
+        final JsonKey childKey = path.get(level);
+        final PolicyTrie child = null != node ? node.children.get(childKey) : null;
+        final PolicyTrie recomputedChild = recomputeResource(child, path, level + 1, resourceKey, policy); // Recursion
+        final Map<JsonKey, PolicyTrie> children = null != node ? new HashMap<>(node.children) : new HashMap<>();
+        if (null != recomputedChild) {
+            children.put(childKey, recomputedChild);
+        } else {
+            children.remove(childKey);
+        }
+        if (0 < level && children.isEmpty() && !isMentioned(policy, getAncestorKey(resourceKey, level))) {
+            return null;
+        }
+        return new PolicyTrie(null != node ? node.grantRevokeIndex : new GrantRevokeIndex(), children);
+    }
+
+    /*
+     * Returns the key of the resource which corresponds to the node at the given level of the path of the given
+     * resource key; level 1 is the node of the resource type.
+     */
+    private static ResourceKey getAncestorKey(final ResourceKey resourceKey, final int level) {
+        // the prefix pointer consists of the given number of keys
+        final JsonPointer ancestorPath = resourceKey.getResourcePath()
+                .getPrefixPointer(level - 1)
+                .orElseThrow(() -> new IllegalArgumentException("The level exceeds the resource path!"));
+        return ResourceKey.newInstance(resourceKey.getResourceType(), ancestorPath);
+    }
+
+    private static boolean isMentioned(final Iterable<PolicyEntry> policy, final ResourceKey resourceKey) {
+        for (final PolicyEntry policyEntry : policy) {
+            if (policyEntry.getResources().getResource(resourceKey).isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Converts a {@link ResourceKey} to an iterator of JSON keys by prepending the resource type to the resource path.
      *
@@ -114,6 +212,44 @@ final class PolicyTrie {
         return computeTransitiveClosure(this, new GrantRevokeIndex());
     }
 
+    /**
+     * Returns the transitive closure of this trie like {@link #getTransitiveClosure()} does. The trie {@code
+     * previousTrie} is assumed to be a trie which this trie was derived from by {@link
+     * #withRecomputedResources(Iterable, Iterable)}; all subtries of the previous transitive closure which are not
+     * affected by the recomputed resources are reused instead of being computed again.
+     *
+     * @param previousTrie The trie which this trie was derived from.
+     * @param previousTransitiveClosure The transitive closure of {@code previousTrie}.
+     * @return The transitive closure of this trie.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    PolicyTrie getTransitiveClosure(final PolicyTrie previousTrie, final PolicyTrie previousTransitiveClosure) {
+        checkNotNull(previousTrie, "previous trie");
+        checkNotNull(previousTransitiveClosure, "transitive closure of the previous trie");
+        return updateTransitiveClosure(this, previousTrie, previousTransitiveClosure, new GrantRevokeIndex(), false);
+    }
+
+    private static PolicyTrie updateTransitiveClosure(final PolicyTrie thisTrie,
+            @Nullable final PolicyTrie previousTrie,
+            @Nullable final PolicyTrie previousTransitiveClosure,
+            final GrantRevokeIndex inherited,
+            final boolean isInheritedChanged) {
+
+        if (null == previousTrie || null == previousTransitiveClosure) {
+            return computeTransitiveClosure(thisTrie, inherited);
+        } else if (!isInheritedChanged && thisTrie == previousTrie) {
+            return previousTransitiveClosure;
+        }
+        final boolean isChanged = isInheritedChanged || thisTrie.grantRevokeIndex != previousTrie.grantRevokeIndex;
+        final GrantRevokeIndex thisMap = isChanged
+                ? inherited.copyWithDecrementedWeight().overrideBy(thisTrie.grantRevokeIndex)
+                : previousTransitiveClosure.grantRevokeIndex;
+        final Map<JsonKey, PolicyTrie> children = thisTrie.mapChildren((childKey, child) ->
+                updateTransitiveClosure(child, previousTrie.children.get(childKey),
+                        previousTransitiveClosure.children.get(childKey), thisMap, isChanged)); // Recursion
+        return new PolicyTrie(thisMap, children);
+    }
+
     private static PolicyTrie computeTransitiveClosure(final PolicyTrie thisTrie, final GrantRevokeIndex inherited) {
         final GrantRevokeIndex thisMap = inherited.copyWithDecrementedWeight().overrideBy(thisTrie.grantRevokeIndex);
         final Map<JsonKey, PolicyTrie> children = thisTrie.children.entrySet()
@@ -130,9 +266,35 @@ final class PolicyTrie {
      * @return A copy of this trie with grants pushed up from descendants to ancestors.
      */
     PolicyTrie getBottomUpGrantTrie() {
-        final Map<JsonKey, PolicyTrie> newChildren = children.entrySet()
-                .stream()
-                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().getBottomUpGrantTrie()));
+        return computeBottomUpGrantTrie((childKey, child) -> child.getBottomUpGrantTrie());
+    }
+
+    /**
+     * Returns the bottom-up grant trie of this trie like {@link #getBottomUpGrantTrie()} does, but reuses all subtries
+     * of {@code previousBottomUpGrantTrie} whose corresponding subtries of {@code previousTrie} are shared with this
+     * trie.
+     *
+     * @param previousTrie A trie which shares unchanged subtries with this trie.
+     * @param previousBottomUpGrantTrie The bottom-up grant trie of {@code previousTrie}.
+     * @return The bottom-up grant trie of this trie.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    PolicyTrie getBottomUpGrantTrie(final PolicyTrie previousTrie, final PolicyTrie previousBottomUpGrantTrie) {
+        checkNotNull(previousTrie, "previous trie");
+        checkNotNull(previousBottomUpGrantTrie, "bottom-up grant trie of the previous trie");
+        if (this == previousTrie) {
+            return previousBottomUpGrantTrie;
+        }
+        return computeBottomUpGrantTrie((childKey, child) -> {
+            final PolicyTrie previousChild = previousTrie.children.get(childKey);
+            return null != previousChild
+                    ? child.getBottomUpGrantTrie(previousChild, previousBottomUpGrantTrie.children.get(childKey))
+                    : child.getBottomUpGrantTrie();
+        });
+    }
+
+    private PolicyTrie computeBottomUpGrantTrie(final BiFunction<JsonKey, PolicyTrie, PolicyTrie> childComputation) {
+        final Map<JsonKey, PolicyTrie> newChildren = mapChildren(childComputation);
         final PermissionSubjectsMap newGrantMap = grantRevokeIndex.getGranted().copy();
         newChildren.values().forEach(child ->
                 newGrantMap.addAllEntriesFrom(child.getGrantRevokeIndex().getGranted().copyWithIncrementedWeight()));
@@ -148,9 +310,35 @@ final class PolicyTrie {
      * @return A copy of this trie with revokes pushed up from descendants to ancestors.
      */
     PolicyTrie getBottomUpRevokeTrie() {
-        final Map<JsonKey, PolicyTrie> newChildren = children.entrySet()
-                .stream()
-                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().getBottomUpRevokeTrie()));
+        return computeBottomUpRevokeTrie((childKey, child) -> child.getBottomUpRevokeTrie());
+    }
+
+    /**
+     * Returns the bottom-up revoke trie of this trie like {@link #getBottomUpRevokeTrie()} does, but reuses all
+     * subtries of {@code previousBottomUpRevokeTrie} whose corresponding subtries of {@code previousTrie} are shared
+     * with this trie.
+     *
+     * @param previousTrie A trie which shares unchanged subtries with this trie.
+     * @param previousBottomUpRevokeTrie The bottom-up revoke trie of {@code previousTrie}.
+     * @return The bottom-up revoke trie of this trie.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    PolicyTrie getBottomUpRevokeTrie(final PolicyTrie previousTrie, final PolicyTrie previousBottomUpRevokeTrie) {
+        checkNotNull(previousTrie, "previous trie");
+        checkNotNull(previousBottomUpRevokeTrie, "bottom-up revoke trie of the previous trie");
+        if (this == previousTrie) {
+            return previousBottomUpRevokeTrie;
+        }
+        return computeBottomUpRevokeTrie((childKey, child) -> {
+            final PolicyTrie previousChild = previousTrie.children.get(childKey);
+            return null != previousChild
+                    ? child.getBottomUpRevokeTrie(previousChild, previousBottomUpRevokeTrie.children.get(childKey))
+                    : child.getBottomUpRevokeTrie();
+        });
+    }
+
+    private PolicyTrie computeBottomUpRevokeTrie(final BiFunction<JsonKey, PolicyTrie, PolicyTrie> childComputation) {
+        final Map<JsonKey, PolicyTrie> newChildren = mapChildren(childComputation);
         final PermissionSubjectsMap newRevokeMap = grantRevokeIndex.getRevoked().copy();
         newChildren.values().forEach(child ->
                 newRevokeMap.addAllEntriesFrom(child.getGrantRevokeIndex().getRevoked().copyWithIncrementedWeight()));
@@ -159,6 +347,12 @@ final class PolicyTrie {
         return new PolicyTrie(newGrantRevokeMap, newChildren);
     }
 
+    private Map<JsonKey, PolicyTrie> mapChildren(final BiFunction<JsonKey, PolicyTrie, PolicyTrie> childMapper) {
+        final Map<JsonKey, PolicyTrie> result = new HashMap<>(children.size());
+        children.forEach((childKey, child) -> result.put(childKey, childMapper.apply(childKey, child)));
+        return result;
+    }
+
     /**
      * Returns whether a child exists for the given key.
      *
@@ -176,12 +370,38 @@ final class PolicyTrie {
         final JsonObjectBuilder jsonObjectBuilder = JsonFactory.newObjectBuilder();
         jsonFields.forEach(jsonObjectBuilder::set);
 
-        return buildJsonObjectView(path, jsonObjectBuilder.build(), subjectIds, permissions);
+        return buildJsonObjectView(path, jsonObjectBuilder.build(),
+                index -> index.hasPermissions(subjectIds, permissions));
     }
 
-    private JsonObject buildJsonObjectView(final Iterator<JsonKey> path, final JsonObject inputObject,
+    /**
+     * Builds the views of several JSON objects. The permission check of each trie node is evaluated at most once for
+     * all JSON objects.
+     *
+     * @param path the resource path to start from; it is iterated once per JSON object.
+     * @param jsonObjects the JSON objects to build views of.
+     * @param subjectIds the subject IDs to check the permissions of.
+     * @param permissions the permissions to check.
+     * @return the views in the order of {@code jsonObjects}.
+     */
+    List<JsonObject> buildJsonViews(final Iterable<JsonKey> path, final Iterable<JsonObject> jsonObjects,
             final Set<String> subjectIds, final Permissions permissions) {
 
+        // keyed by identity as the default tries of JSON values below the leaves share the index of their parent
+        final Map<GrantRevokeIndex, Boolean> decisions = new IdentityHashMap<>();
+        final Predicate<GrantRevokeIndex> hasPermissions = index ->
+                decisions.computeIfAbsent(index, i -> i.hasPermissions(subjectIds, permissions));
+
+        final List<JsonObject> result = new ArrayList<>();
+        for (final JsonObject jsonObject : jsonObjects) {
+            result.add(buildJsonObjectView(path.iterator(), jsonObject, hasPermissions));
+        }
+        return result;
+    }
+
+    private JsonObject buildJsonObjectView(final Iterator<JsonKey> path, final JsonObject inputObject,
+            final Predicate<GrantRevokeIndex> hasPermissions) {
+
         final JsonObjectBuilder outputObjectBuilder = JsonFactory.newObjectBuilder();
 
         final PolicyTrie defaultPolicyTrie = new PolicyTrie(grantRevokeIndex, Collections.emptyMap());
@@ -201,7 +421,7 @@ final class PolicyTrie {
         objectFieldsToCheck.forEach(jsonField -> {
             final JsonValue fieldValue = jsonField.getValue();
             final PolicyTrie relevantTrie = children.getOrDefault(jsonField.getKey(), defaultPolicyTrie);
-            relevantTrie.buildPossiblyEmptyViewForJsonObjectsArraysAndScalars(path, fieldValue, subjectIds, permissions)
+            relevantTrie.buildPossiblyEmptyViewForJsonObjectsArraysAndScalars(path, fieldValue, hasPermissions)
                     .ifPresent(value -> {
                         if (jsonField.getDefinition().isPresent()) {
                             outputObjectBuilder.set(jsonField.getDefinition().get(), value);
@@ -216,12 +436,11 @@ final class PolicyTrie {
 
     private Optional<JsonValue> buildPossiblyEmptyViewForJsonObjectsArraysAndScalars(final Iterator<JsonKey> path,
             final JsonValue jsonValue,
-            final Set<String> subjectIds,
-            final Permissions permissions) {
+            final Predicate<GrantRevokeIndex> hasPermissions) {
 
         if (jsonValue.isObject()) {
-            final JsonObject candidate = buildJsonObjectView(path, jsonValue.asObject(), subjectIds, permissions);
-            if (!candidate.isEmpty() || grantRevokeIndex.hasPermissions(subjectIds, permissions)) {
+            final JsonObject candidate = buildJsonObjectView(path, jsonValue.asObject(), hasPermissions);
+            if (!candidate.isEmpty() || hasPermissions.test(grantRevokeIndex)) {
                 return Optional.of(candidate);
             } else {
                 return Optional.empty();
@@ -229,17 +448,16 @@ final class PolicyTrie {
         } else if (jsonValue.isArray()) {
             final JsonArrayBuilder jsonArrayBuilder = JsonFactory.newArrayBuilder();
             jsonValue.asArray().forEach(element ->
-                    buildPossiblyEmptyViewForJsonObjectsArraysAndScalars(path, element, subjectIds,
-                            permissions).ifPresent(
+                    buildPossiblyEmptyViewForJsonObjectsArraysAndScalars(path, element, hasPermissions).ifPresent(
                             jsonArrayBuilder::add));
             final JsonArray candidate = jsonArrayBuilder.build();
-            if (!candidate.isEmpty() || grantRevokeIndex.hasPermissions(subjectIds, permissions)) {
+            if (!candidate.isEmpty() || hasPermissions.test(grantRevokeIndex)) {
                 return Optional.of(candidate);
             } else {
                 return Optional.empty();
             }
         } else {
-            return grantRevokeIndex.hasPermissions(subjectIds, permissions) ? Optional.of(jsonValue) : Optional.empty();
+            return hasPermissions.test(grantRevokeIndex) ? Optional.of(jsonValue) : Optional.empty();
         }
     }
 
@@ -332,4 +550,30 @@ final class PolicyTrie {
         }
     }
 
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final PolicyTrie that = (PolicyTrie) o;
+        return Objects.equals(grantRevokeIndex, that.grantRevokeIndex) &&
+                Objects.equals(children, that.children);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(grantRevokeIndex, children);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "grantRevokeIndex=" + grantRevokeIndex +
+                ", children=" + children +
+                "]";
+    }
+
 }
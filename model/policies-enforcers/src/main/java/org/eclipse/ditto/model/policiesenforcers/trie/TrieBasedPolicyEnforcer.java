@@ -13,8 +13,11 @@ package org.eclipse.ditto.model.policiesenforcers.trie;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -24,6 +27,7 @@ import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.policies.Label;
 import org.eclipse.ditto.model.policies.Permissions;
 import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.model.policies.PolicyEntry;
@@ -63,9 +67,23 @@ import org.eclipse.ditto.model.policiesenforcers.PolicyEnforcer;
  * permissions, e. g., a resource is considered writable only if all sub-resources are writable, and any WRITE-revoked
  * resource make all its super-resources non-writable. To build it, start from {@code inheritedTrie}, push revoked
  * subjects from descendants up to ancestors. </li> </ol> See Javadoc of individual methods for more details.
+ * <p>
+ * If only some entries of the policy change, {@link #withChangedEntries(Policy, Iterable)} derives the enforcer for the
+ * changed policy by recomputing only the subtries which are affected by the resources of the changed entries.
+ * </p>
  */
 public final class TrieBasedPolicyEnforcer implements PolicyEnforcer {
 
+    /**
+     * The policy this enforcer was built for.
+     */
+    private final Policy policy;
+
+    /**
+     * PolicyTrie obtained by interpreting the policy as trie; kept for incremental updates.
+     */
+    private final PolicyTrie rawTrie;
+
     /**
      * PolicyTrie obtained by propagating grant & revoke sets down from ancestors to descendants.
      */
@@ -81,13 +99,24 @@ public final class TrieBasedPolicyEnforcer implements PolicyEnforcer {
      */
     private final PolicyTrie bottomUpRevokeTrie;
 
-    private TrieBasedPolicyEnforcer(final Iterable<PolicyEntry> policy) {
-        final PolicyTrie rawTree = PolicyTrie.fromPolicy(policy);
-        inheritedTrie = rawTree.getTransitiveClosure();
+    private TrieBasedPolicyEnforcer(final Policy policy) {
+        this.policy = policy;
+        rawTrie = PolicyTrie.fromPolicy(policy);
+        inheritedTrie = rawTrie.getTransitiveClosure();
         bottomUpGrantTrie = inheritedTrie.getBottomUpGrantTrie();
         bottomUpRevokeTrie = inheritedTrie.getBottomUpRevokeTrie();
     }
 
+    private TrieBasedPolicyEnforcer(final Policy policy, final PolicyTrie rawTrie, final PolicyTrie inheritedTrie,
+            final PolicyTrie bottomUpGrantTrie, final PolicyTrie bottomUpRevokeTrie) {
+
+        this.policy = policy;
+        this.rawTrie = rawTrie;
+        this.inheritedTrie = inheritedTrie;
+        this.bottomUpGrantTrie = bottomUpGrantTrie;
+        this.bottomUpRevokeTrie = bottomUpRevokeTrie;
+    }
+
     /**
      * Constructs a trie-based policy enforcer from a policy.
      *
@@ -99,6 +128,43 @@ public final class TrieBasedPolicyEnforcer implements PolicyEnforcer {
         return new TrieBasedPolicyEnforcer(checkNotNull(policy, "policy to interpret"));
     }
 
+    /**
+     * Returns a policy enforcer for the given policy which differs from the policy of this enforcer only in the
+     * entries with the given labels, e. g. after a {@code PolicyEntryModified}, {@code SubjectCreated} or {@code
+     * ResourceModified} event. The result equals an enforcer built from scratch for the changed policy; however, only
+     * the subtries of the resources of the changed entries and their ancestors are recomputed. All other subtries are
+     * shared with this enforcer which stays unchanged.
+     *
+     * @param changedPolicy The policy after the change.
+     * @param changedLabels The labels of the entries which were created, modified or deleted.
+     * @return The policy enforcer for {@code changedPolicy}.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public TrieBasedPolicyEnforcer withChangedEntries(final Policy changedPolicy, final Iterable<Label> changedLabels) {
+        checkNotNull(changedPolicy, "changed policy to interpret");
+        checkNotNull(changedLabels, "labels of the changed entries");
+
+        final Set<ResourceKey> changedResourceKeys = new LinkedHashSet<>();
+        changedLabels.forEach(label -> {
+            policy.getEntryFor(label).ifPresent(entry -> addResourceKeys(entry, changedResourceKeys));
+            changedPolicy.getEntryFor(label).ifPresent(entry -> addResourceKeys(entry, changedResourceKeys));
+        });
+        if (changedResourceKeys.isEmpty()) {
+            return new TrieBasedPolicyEnforcer(changedPolicy, rawTrie, inheritedTrie, bottomUpGrantTrie,
+                    bottomUpRevokeTrie);
+        }
+
+        final PolicyTrie changedRawTrie = rawTrie.withRecomputedResources(changedPolicy, changedResourceKeys);
+        final PolicyTrie changedInheritedTrie = changedRawTrie.getTransitiveClosure(rawTrie, inheritedTrie);
+        return new TrieBasedPolicyEnforcer(changedPolicy, changedRawTrie, changedInheritedTrie,
+                changedInheritedTrie.getBottomUpGrantTrie(inheritedTrie, bottomUpGrantTrie),
+                changedInheritedTrie.getBottomUpRevokeTrie(inheritedTrie, bottomUpRevokeTrie));
+    }
+
+    private static void addResourceKeys(final PolicyEntry policyEntry, final Set<ResourceKey> resourceKeys) {
+        policyEntry.getResources().forEach(resource -> resourceKeys.add(resource.getResourceKey()));
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -189,6 +255,28 @@ public final class TrieBasedPolicyEnforcer implements PolicyEnforcer {
         }
     }
 
+    @Override
+    public List<JsonObject> buildJsonViews(final ResourceKey resourceKey, final Iterable<JsonObject> jsonObjects,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkNotNull(jsonObjects, "JSON objects");
+        checkPermissions(permissions);
+
+        final Set<String> subjectIds = getSubjectIds(authorizationContext);
+
+        final JsonKey typeKey = JsonKey.of(resourceKey.getResourceType());
+
+        if (inheritedTrie.hasChild(typeKey)) {
+            final PolicyTrie start = inheritedTrie.seekToLeastAncestor(Collections.singletonList(typeKey).iterator());
+            return start.buildJsonViews(resourceKey.getResourcePath(), jsonObjects, subjectIds, permissions);
+        } else {
+            final List<JsonObject> result = new ArrayList<>();
+            jsonObjects.forEach(jsonObject -> result.add(JsonFactory.newObject()));
+            return result;
+        }
+    }
+
     /**
      * Extracts all subject IDs from an authorization context as a set of strings.
      *
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.model.policiesenforcers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.eclipse.ditto.model.base.auth.AuthorizationModelFactory.newAuthContext;
+import static org.eclipse.ditto.model.base.auth.AuthorizationModelFactory.newAuthSubject;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubjectDictionary;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.PoliciesResourceType;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CachingPolicyEnforcer}.
+ */
+public final class CachingPolicyEnforcerTest {
+
+    private static final ResourceKey THING_ROOT = PoliciesResourceType.thingResource("/");
+    private static final ResourceKey ATTRIBUTES = PoliciesResourceType.thingResource("/attributes");
+    private static final Permissions READ = Permissions.newInstance("READ");
+    private static final Permissions WRITE = Permissions.newInstance("WRITE");
+    private static final AuthorizationContext AUTH_CONTEXT =
+            newAuthContext(Arrays.asList(newAuthSubject("alice"), newAuthSubject("bob")));
+
+    private PolicyEnforcer policyEnforcerMock;
+    private CachingPolicyEnforcer underTest;
+
+    @Before
+    public void setUp() {
+        policyEnforcerMock = mock(PolicyEnforcer.class);
+        underTest = CachingPolicyEnforcer.of(policyEnforcerMock, 2);
+    }
+
+    @Test
+    public void tryToCreateInstanceWithNullPolicyEnforcer() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> CachingPolicyEnforcer.of(null, 1))
+                .withMessageContaining("PolicyEnforcer");
+    }
+
+    @Test
+    public void tryToCreateInstanceWithNonPositiveMaximumSize() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> CachingPolicyEnforcer.of(policyEnforcerMock, 0))
+                .withMessage("The maximum size <0> must be positive!");
+    }
+
+    @Test
+    public void equalDecisionIsEvaluatedOnlyOnce() {
+        when(policyEnforcerMock.hasUnrestrictedPermissions(THING_ROOT, AUTH_CONTEXT, READ)).thenReturn(true);
+
+        assertThat(underTest.hasUnrestrictedPermissions(THING_ROOT, AUTH_CONTEXT, READ)).isTrue();
+        assertThat(underTest.hasUnrestrictedPermissions(THING_ROOT, AUTH_CONTEXT, READ)).isTrue();
+
+        verify(policyEnforcerMock, times(1)).hasUnrestrictedPermissions(THING_ROOT, AUTH_CONTEXT, READ);
+        assertThat(underTest.getHitCount()).isEqualTo(1L);
+        assertThat(underTest.getMissCount()).isEqualTo(1L);
+        assertThat(underTest.getHitRate()).isEqualTo(0.5D);
+    }
+
+    @Test
+    public void authorizationContextsWithSameSubjectsShareDecisions() {
+        final AuthorizationContext reorderedAuthContext =
+                newAuthContext(Arrays.asList(newAuthSubject("bob"), newAuthSubject("alice")));
+        when(policyEnforcerMock.hasPartialPermissions(any(), any(), any())).thenReturn(true);
+
+        underTest.hasPartialPermissions(ATTRIBUTES, AUTH_CONTEXT, WRITE);
+        underTest.hasPartialPermissions(ATTRIBUTES, reorderedAuthContext, WRITE);
+
+        verify(policyEnforcerMock, times(1)).hasPartialPermissions(any(), any(), any());
+    }
+
+    @Test
+    public void differentOperationsDoNotShareDecisions() {
+        when(policyEnforcerMock.hasUnrestrictedPermissions(any(), any(), any())).thenReturn(false);
+        when(policyEnforcerMock.hasPartialPermissions(any(), any(), any())).thenReturn(true);
+
+        assertThat(underTest.hasUnrestrictedPermissions(THING_ROOT, AUTH_CONTEXT, READ)).isFalse();
+        assertThat(underTest.hasPartialPermissions(THING_ROOT, AUTH_CONTEXT, READ)).isTrue();
+        assertThat(underTest.getMissCount()).isEqualTo(2L);
+    }
+
+    @Test
+    public void leastRecentlyUsedDecisionIsEvicted() {
+        when(policyEnforcerMock.hasUnrestrictedPermissions(any(), any(), any())).thenReturn(true);
+
+        underTest.hasUnrestrictedPermissions(THING_ROOT, AUTH_CONTEXT, READ);
+        underTest.hasUnrestrictedPermissions(ATTRIBUTES, AUTH_CONTEXT, READ);
+        underTest.hasUnrestrictedPermissions(THING_ROOT, AUTH_CONTEXT, READ);
+        underTest.hasUnrestrictedPermissions(THING_ROOT, AUTH_CONTEXT, WRITE);
+        underTest.hasUnrestrictedPermissions(THING_ROOT, AUTH_CONTEXT, READ);
+        underTest.hasUnrestrictedPermissions(ATTRIBUTES, AUTH_CONTEXT, READ);
+
+        assertThat(underTest.getSize()).isEqualTo(2);
+        assertThat(underTest.getHitCount()).isEqualTo(2L);
+        verify(policyEnforcerMock, times(2)).hasUnrestrictedPermissions(ATTRIBUTES, AUTH_CONTEXT, READ);
+    }
+
+    @Test
+    public void subjectIdsAreCachedAsUnmodifiableSets() {
+        when(policyEnforcerMock.getSubjectIdsWithPermission(THING_ROOT, READ))
+                .thenReturn(ImmutableEffectedSubjectIds.of(Collections.singleton("alice"),
+                        Collections.singleton("bob")));
+        when(policyEnforcerMock.getSubjectIdsWithPartialPermission(THING_ROOT, READ))
+                .thenReturn(Collections.singleton("alice"));
+
+        final EffectedSubjectIds effectedSubjectIds = underTest.getSubjectIdsWithPermission(THING_ROOT, READ);
+        final Set<String> partialSubjectIds = underTest.getSubjectIdsWithPartialPermission(THING_ROOT, READ);
+
+        assertThat(underTest.getSubjectIdsWithPermission(THING_ROOT, READ)).isSameAs(effectedSubjectIds);
+        assertThat(underTest.getSubjectIdsWithPartialPermission(THING_ROOT, READ)).isSameAs(partialSubjectIds);
+        assertThat(effectedSubjectIds.getGranted()).containsOnly("alice");
+        assertThat(effectedSubjectIds.getRevoked()).containsOnly("bob");
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> partialSubjectIds.add("bob"));
+    }
+
+    @Test
+    public void globalStatisticsCountDecisionsOfAllInstances() {
+        final DecisionCacheStatistics globalStatistics = CachingPolicyEnforcer.getGlobalStatistics();
+        final long hitCountBefore = globalStatistics.getHitCount();
+        final long missCountBefore = globalStatistics.getMissCount();
+
+        underTest.hasPartialPermissions(THING_ROOT, AUTH_CONTEXT, READ);
+        underTest.hasPartialPermissions(THING_ROOT, AUTH_CONTEXT, READ);
+        CachingPolicyEnforcer.of(policyEnforcerMock, 1).hasPartialPermissions(THING_ROOT, AUTH_CONTEXT, READ);
+
+        assertThat(globalStatistics.getHitCount() - hitCountBefore).isGreaterThanOrEqualTo(1L);
+        assertThat(globalStatistics.getMissCount() - missCountBefore).isGreaterThanOrEqualTo(2L);
+    }
+
+    @Test
+    public void cachedDecisionsDoNotGrowSubjectDictionary() {
+        final String subjectId = "test:" + UUID.randomUUID();
+        final AuthorizationContext authorizationContext = newAuthContext(newAuthSubject(subjectId));
+        when(policyEnforcerMock.hasPartialPermissions(THING_ROOT, authorizationContext, READ)).thenReturn(true);
+
+        underTest.hasPartialPermissions(THING_ROOT, authorizationContext, READ);
+        final boolean cachedDecision = underTest.hasPartialPermissions(THING_ROOT,
+                newAuthContext(newAuthSubject(subjectId)), READ);
+
+        assertThat(cachedDecision).isTrue();
+        assertThat(underTest.getHitCount()).isEqualTo(1L);
+        assertThat(AuthorizationSubjectDictionary.getInstance().lookUp(subjectId)).isEqualTo(-1);
+    }
+
+}
@@ -15,6 +15,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -25,7 +26,9 @@ import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.model.policies.EffectedPermissions;
+import org.eclipse.ditto.model.policies.Label;
 import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PoliciesResourceType;
 import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.model.policies.Resource;
 import org.eclipse.ditto.model.policies.ResourceKey;
@@ -212,6 +215,76 @@ public final class PolicyTrieTest {
                 .isEqualTo(expectedBarNodeGrantRevokeIndex);
     }
 
+    /** */
+    @Test
+    public void withRecomputedResourcesEqualsTrieOfChangedPolicy() {
+        final Label fooLabel = PoliciesModelFactory.newLabel(fooResourceKey.getResourcePath().toString());
+        final Policy changedPolicy = policy.setResourceFor(fooLabel, Resource.newInstance(barResourceKey,
+                EffectedPermissions.newInstance(Collections.singleton("WRITE"), Collections.emptySet())));
+
+        final PolicyTrie changedTrie =
+                underTest.withRecomputedResources(changedPolicy, Collections.singleton(barResourceKey));
+
+        assertThat(changedTrie).isEqualTo(PolicyTrie.fromPolicy(changedPolicy));
+        assertThat(underTest).isEqualTo(PolicyTrie.fromPolicy(policy));
+    }
+
+    /** */
+    @Test
+    public void withRecomputedResourcesRemovesNodesOfResourcesWhichAreNotMentionedAnymore() {
+        final Policy changedPolicy = policy
+                .removeResourceFor(fooResourceKey.getResourcePath().toString(), barResourceKey)
+                .removeResourceFor(barResourceKey.getResourcePath().toString(), barResourceKey);
+
+        final PolicyTrie changedTrie =
+                underTest.withRecomputedResources(changedPolicy, Collections.singleton(barResourceKey));
+
+        assertThat(changedTrie).isEqualTo(PolicyTrie.fromPolicy(changedPolicy));
+        Assertions.assertThat(changedTrie.seekToExactNode(PolicyTrie.getJsonKeyIterator(barResourceKey))).isEmpty();
+    }
+
+    /** */
+    @Test
+    public void incrementallyDerivedTriesEqualTriesOfChangedPolicy() {
+        final Label fooLabel = PoliciesModelFactory.newLabel(fooResourceKey.getResourcePath().toString());
+        final Policy changedPolicy = policy.setSubjectFor(fooLabel,
+                PoliciesModelFactory.newSubject(PoliciesModelFactory.newSubjectId(SubjectIssuer.GOOGLE_URL, "Neo"),
+                        SubjectType.JWT));
+        final PolicyTrie transitiveClosure = underTest.getTransitiveClosure();
+        final PolicyTrie expectedTransitiveClosure = PolicyTrie.fromPolicy(changedPolicy).getTransitiveClosure();
+
+        final PolicyTrie changedTrie =
+                underTest.withRecomputedResources(changedPolicy, Arrays.asList(fooResourceKey, barResourceKey));
+        final PolicyTrie changedTransitiveClosure = changedTrie.getTransitiveClosure(underTest, transitiveClosure);
+
+        assertThat(changedTransitiveClosure).isEqualTo(expectedTransitiveClosure);
+        assertThat(changedTransitiveClosure.getBottomUpGrantTrie(transitiveClosure,
+                transitiveClosure.getBottomUpGrantTrie()))
+                .isEqualTo(expectedTransitiveClosure.getBottomUpGrantTrie());
+        assertThat(changedTransitiveClosure.getBottomUpRevokeTrie(transitiveClosure,
+                transitiveClosure.getBottomUpRevokeTrie()))
+                .isEqualTo(expectedTransitiveClosure.getBottomUpRevokeTrie());
+    }
+
+    /** */
+    @Test
+    public void unaffectedSubtriesAreShared() {
+        final ResourceKey policyRootResourceKey = PoliciesResourceType.policyResource("/");
+        final Label fooLabel = PoliciesModelFactory.newLabel(fooResourceKey.getResourcePath().toString());
+        final Policy changedPolicy = policy.setResourceFor(fooLabel, Resource.newInstance(policyRootResourceKey,
+                EffectedPermissions.newInstance(Collections.singleton("READ"), Collections.emptySet())));
+        final PolicyTrie transitiveClosure = underTest.getTransitiveClosure();
+
+        final PolicyTrie changedTrie =
+                underTest.withRecomputedResources(changedPolicy, Collections.singleton(policyRootResourceKey));
+        final PolicyTrie changedTransitiveClosure = changedTrie.getTransitiveClosure(underTest, transitiveClosure);
+
+        Assertions.assertThat(changedTransitiveClosure.seekToExactNode(PolicyTrie.getJsonKeyIterator(fooResourceKey)))
+                .containsSame(transitiveClosure.seekToExactNode(PolicyTrie.getJsonKeyIterator(fooResourceKey))
+                        .orElse(null));
+        assertThat(changedTransitiveClosure.hasChild(JsonFactory.newKey(PoliciesResourceType.POLICY))).isTrue();
+    }
+
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
     private static GrantRevokeIndex getGrantRevokeIndex(final Optional<PolicyTrie> policyTrieOptional) {
         return policyTrieOptional.map(PolicyTrie::getGrantRevokeIndex).orElse(null);
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.model.policiesenforcers.trie;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationModelFactory;
+import org.eclipse.ditto.model.policies.EffectedPermissions;
+import org.eclipse.ditto.model.policies.Label;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PoliciesResourceType;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyEntry;
+import org.eclipse.ditto.model.policies.Resource;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.policies.Subject;
+import org.eclipse.ditto.model.policies.SubjectIssuer;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TrieBasedPolicyEnforcer}.
+ */
+public final class TrieBasedPolicyEnforcerTest {
+
+    private static final Label OWNER = PoliciesModelFactory.newLabel("owner");
+    private static final Label READER = PoliciesModelFactory.newLabel("reader");
+    private static final Subject ALICE = newSubject("alice");
+    private static final Subject BOB = newSubject("bob");
+    private static final Subject CAROL = newSubject("carol");
+
+    private static final Policy POLICY = PoliciesModelFactory.newPolicyBuilder("org.eclipse.ditto:policy")
+            .forLabel(OWNER)
+            .setSubject(ALICE)
+            .setGrantedPermissions(PoliciesResourceType.thingResource("/"), "READ", "WRITE")
+            .setGrantedPermissions(PoliciesResourceType.policyResource("/"), "READ", "WRITE")
+            .forLabel(READER)
+            .setSubject(BOB)
+            .setGrantedPermissions(PoliciesResourceType.thingResource("/attributes"), "READ")
+            .setRevokedPermissions(PoliciesResourceType.thingResource("/attributes/secret"), "READ")
+            .build();
+
+    private static final Collection<ResourceKey> RESOURCE_KEYS = Arrays.asList(
+            PoliciesResourceType.thingResource("/"),
+            PoliciesResourceType.thingResource("/attributes"),
+            PoliciesResourceType.thingResource("/attributes/secret"),
+            PoliciesResourceType.thingResource("/attributes/secret/nested"),
+            PoliciesResourceType.thingResource("/features"),
+            PoliciesResourceType.thingResource("/features/lamp/properties"),
+            PoliciesResourceType.policyResource("/"),
+            PoliciesResourceType.messageResource("/"));
+
+    private static final Collection<Permissions> PERMISSIONS = Arrays.asList(
+            Permissions.newInstance("READ"),
+            Permissions.newInstance("WRITE"),
+            Permissions.newInstance("READ", "WRITE"));
+
+    private static final JsonObject THING = JsonFactory.newObject("{\"thingId\":\"org.eclipse.ditto:thing\"," +
+            "\"attributes\":{\"public\":1,\"secret\":{\"nested\":2}},\"features\":{\"lamp\":{\"properties\":" +
+            "{\"on\":true}}}}");
+
+    private static final List<JsonObject> THINGS = Arrays.asList(THING,
+            JsonFactory.newObject("{\"thingId\":\"org.eclipse.ditto:other\",\"attributes\":{\"public\":[1,{\"a\":2}]," +
+                    "\"secret\":3},\"features\":{\"lamp\":{\"properties\":{\"on\":false}}}}"),
+            JsonFactory.newObject());
+
+    private static Subject newSubject(final String name) {
+        return PoliciesModelFactory.newSubject(PoliciesModelFactory.newSubjectId(SubjectIssuer.GOOGLE_URL, name),
+                SubjectType.JWT);
+    }
+
+    @Test
+    public void tryToApplyChangedEntriesWithNullPolicy() {
+        final TrieBasedPolicyEnforcer underTest = TrieBasedPolicyEnforcer.newInstance(POLICY);
+
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> underTest.withChangedEntries(null, Collections.singleton(OWNER)))
+                .withMessage("The %s must not be null!", "changed policy to interpret");
+    }
+
+    @Test
+    public void modifiedPolicyEntryYieldsSameDecisionsAsRebuild() {
+        final PolicyEntry modifiedEntry = PoliciesModelFactory.newPolicyEntry(READER, Collections.singleton(BOB),
+                Collections.singleton(Resource.newInstance(PoliciesResourceType.thingResource("/features"),
+                        EffectedPermissions.newInstance(Collections.singleton("WRITE"),
+                                Collections.singleton("READ")))));
+
+        assertEquivalentToRebuild(POLICY.setEntry(modifiedEntry), READER);
+    }
+
+    @Test
+    public void createdSubjectYieldsSameDecisionsAsRebuild() {
+        assertEquivalentToRebuild(POLICY.setSubjectFor(READER, CAROL), READER);
+    }
+
+    @Test
+    public void modifiedResourceYieldsSameDecisionsAsRebuild() {
+        final Resource modifiedResource = Resource.newInstance(PoliciesResourceType.thingResource("/attributes"),
+                EffectedPermissions.newInstance(Arrays.asList("READ", "WRITE"), Collections.emptySet()));
+
+        assertEquivalentToRebuild(POLICY.setResourceFor(READER, modifiedResource), READER);
+    }
+
+    @Test
+    public void deletedPolicyEntryYieldsSameDecisionsAsRebuild() {
+        assertEquivalentToRebuild(POLICY.removeEntry(READER), READER);
+    }
+
+    @Test
+    public void originalEnforcerIsNotChanged() {
+        final TrieBasedPolicyEnforcer underTest = TrieBasedPolicyEnforcer.newInstance(POLICY);
+
+        underTest.withChangedEntries(POLICY.removeEntry(OWNER), Collections.singleton(OWNER));
+
+        assertSameDecisions(underTest, TrieBasedPolicyEnforcer.newInstance(POLICY));
+    }
+
+    @Test
+    public void jsonViewsOfSeveralThingsEqualSingleJsonViews() {
+        final TrieBasedPolicyEnforcer underTest = TrieBasedPolicyEnforcer.newInstance(POLICY);
+
+        for (final Subject subject : Arrays.asList(ALICE, BOB, CAROL)) {
+            final AuthorizationContext authorizationContext = AuthorizationModelFactory.newAuthContext(
+                    AuthorizationModelFactory.newAuthSubject(subject.getId()));
+            for (final ResourceKey resourceKey : RESOURCE_KEYS) {
+                for (final Permissions permissions : PERMISSIONS) {
+                    final List<JsonObject> expected = THINGS.stream()
+                            .map(thing -> underTest.buildJsonView(resourceKey, thing, authorizationContext,
+                                    permissions))
+                            .collect(toList());
+
+                    assertThat(underTest.buildJsonViews(resourceKey, THINGS, authorizationContext, permissions))
+                            .as(subject.getId() + " " + resourceKey + " " + permissions)
+                            .isEqualTo(expected);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void whiteListedJsonViewsOfSeveralThingsEqualSingleJsonViews() {
+        final TrieBasedPolicyEnforcer underTest = TrieBasedPolicyEnforcer.newInstance(POLICY);
+        final JsonFieldSelector whiteList = JsonFactory.newFieldSelector(JsonFactory.newPointer("thingId"));
+        final ResourceKey resourceKey = PoliciesResourceType.thingResource("/");
+        final Permissions permissions = Permissions.newInstance("READ");
+
+        for (final Subject subject : Arrays.asList(ALICE, BOB, CAROL)) {
+            final AuthorizationContext authorizationContext = AuthorizationModelFactory.newAuthContext(
+                    AuthorizationModelFactory.newAuthSubject(subject.getId()));
+            final List<JsonObject> expected = THINGS.stream()
+                    .map(thing -> underTest.buildJsonView(resourceKey, thing, authorizationContext, whiteList,
+                            permissions))
+                    .collect(toList());
+
+            assertThat(underTest.buildJsonViews(resourceKey, THINGS, authorizationContext, whiteList, permissions))
+                    .as(subject.getId().toString())
+                    .isEqualTo(expected);
+        }
+    }
+
+    private static void assertEquivalentToRebuild(final Policy changedPolicy, final Label changedLabel) {
+        final TrieBasedPolicyEnforcer underTest = TrieBasedPolicyEnforcer.newInstance(POLICY)
+                .withChangedEntries(changedPolicy, Collections.singleton(changedLabel));
+
+        assertSameDecisions(underTest, TrieBasedPolicyEnforcer.newInstance(changedPolicy));
+    }
+
+    private static void assertSameDecisions(final TrieBasedPolicyEnforcer actual,
+            final TrieBasedPolicyEnforcer expected) {
+
+        for (final Subject subject : Arrays.asList(ALICE, BOB, CAROL)) {
+            final AuthorizationContext authorizationContext = AuthorizationModelFactory.newAuthContext(
+                    AuthorizationModelFactory.newAuthSubject(subject.getId()));
+            for (final ResourceKey resourceKey : RESOURCE_KEYS) {
+                for (final Permissions permissions : PERMISSIONS) {
+                    final String description = subject.getId() + " " + resourceKey + " " + permissions;
+                    assertThat(actual.hasUnrestrictedPermissions(resourceKey, authorizationContext, permissions))
+                            .as(description)
+                            .isEqualTo(expected.hasUnrestrictedPermissions(resourceKey, authorizationContext,
+                                    permissions));
+                    assertThat(actual.hasPartialPermissions(resourceKey, authorizationContext, permissions))
+                            .as(description)
+                            .isEqualTo(expected.hasPartialPermissions(resourceKey, authorizationContext,
+                                    permissions));
+                    assertThat(actual.getSubjectIdsWithPermission(resourceKey, permissions))
+                            .as(description)
+                            .isEqualTo(expected.getSubjectIdsWithPermission(resourceKey, permissions));
+                    assertThat(actual.getSubjectIdsWithPartialPermission(resourceKey, permissions))
+                            .as(description)
+                            .isEqualTo(expected.getSubjectIdsWithPartialPermission(resourceKey, permissions));
+                    assertThat(actual.buildJsonView(resourceKey, THING, authorizationContext, permissions))
+                            .as(description)
+                            .isEqualTo(expected.buildJsonView(resourceKey, THING, authorizationContext,
+                                    permissions));
+                }
+            }
+        }
+    }
+
+}
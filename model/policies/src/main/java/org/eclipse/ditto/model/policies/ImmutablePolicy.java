@@ -30,8 +30,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -47,6 +45,7 @@ import org.eclipse.ditto.json.JsonObjectReader;
 import org.eclipse.ditto.json.JsonParseException;
 import org.eclipse.ditto.json.JsonReader;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.common.NamespacedIdGrammar;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.FieldType;
@@ -58,8 +57,6 @@ import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 @Immutable
 final class ImmutablePolicy implements Policy {
 
-    private static final Pattern ID_PATTERN = Pattern.compile(ID_REGEX);
-
     @Nullable private final String policyId;
     private final Map<Label, PolicyEntry> entries;
     @Nullable private final String namespace;
@@ -88,16 +85,7 @@ final class ImmutablePolicy implements Policy {
 
     @Nullable
     private static String parseNamespace(@Nullable final CharSequence theId) {
-        String result = null;
-
-        if (null != theId) {
-            final Matcher namespaceMatcher = ID_PATTERN.matcher(theId);
-            if (namespaceMatcher.matches()) {
-                result = namespaceMatcher.group("ns");
-            }
-        }
-
-        return result;
+        return NamespacedIdGrammar.getNamespaceOrNull(theId);
     }
 
     /**
@@ -23,6 +23,8 @@ import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
 @Immutable
 public final class PolicyIdValidator extends AbstractIdValidator {
 
+    private static final PolicyIdValidator INSTANCE = new PolicyIdValidator();
+
     private PolicyIdValidator() {
         super(Policy.ID_REGEX);
     }
@@ -33,7 +35,7 @@ public final class PolicyIdValidator extends AbstractIdValidator {
      * @return the PolicyIdValidator.
      */
     public static PolicyIdValidator getInstance() {
-        return new PolicyIdValidator();
+        return INSTANCE;
     }
 
     @Override
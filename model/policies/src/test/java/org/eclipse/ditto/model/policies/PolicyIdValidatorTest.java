@@ -11,10 +11,12 @@
  */
 package org.eclipse.ditto.model.policies;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
+import org.eclipse.ditto.model.base.common.NamespacedIdGrammar;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.junit.Test;
 
@@ -28,6 +30,17 @@ public final class PolicyIdValidatorTest {
         assertInstancesOf(PolicyIdValidator.class, areImmutable());
     }
 
+    @Test
+    public void idRegexIsValidatedByNamespacedIdGrammar() {
+        // otherwise the validation falls back to the regex
+        assertThat(Policy.ID_REGEX).isEqualTo(NamespacedIdGrammar.ID_REGEX);
+    }
+
+    @Test
+    public void getInstanceReturnsSingleton() {
+        assertThat(PolicyIdValidator.getInstance()).isSameAs(PolicyIdValidator.getInstance());
+    }
+
     @Test
     public void validationOfValidPolicyIdSucceeds() {
         final String policyId = "org.eclipse.ditto.test:myPolicy";
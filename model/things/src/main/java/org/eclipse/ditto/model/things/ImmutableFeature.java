@@ -20,12 +20,15 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.common.ConditionChecker;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.base.json.JsonSerializationPlan;
+import org.eclipse.ditto.model.base.json.JsonSerializationPlans;
 
 /**
  * Representation of one Feature within Ditto.
@@ -33,12 +36,17 @@ import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 @Immutable
 final class ImmutableFeature implements Feature {
 
+    private static final JsonSerializationPlans SERIALIZATION_PLANS =
+            JsonSerializationPlans.of(JsonFields.SCHEMA_VERSION, JsonFields.PROPERTIES);
+
     private final String featureId;
     @Nullable private final FeatureProperties properties;
+    @Nullable private JsonFieldDefinition fieldDefinition;
 
     private ImmutableFeature(final String featureId, @Nullable final FeatureProperties properties) {
         this.featureId = featureId;
         this.properties = properties;
+        fieldDefinition = null;
     }
 
     /**
@@ -117,7 +125,7 @@ final class ImmutableFeature implements Feature {
             newFeatureProperties = properties.setValue(propertyPath, propertyValue);
         }
 
-        return setProperties(newFeatureProperties);
+        return withProperties(newFeatureProperties);
     }
 
     @Override
@@ -128,17 +136,45 @@ final class ImmutableFeature implements Feature {
             return this;
         }
 
-        return setProperties(properties.remove(propertyPath));
+        return withProperties(properties.remove(propertyPath));
+    }
+
+    /*
+     * Unlike setProperties the properties are not compared by equality, as altering the properties returns the same
+     * instance if nothing changed. This keeps setting or removing a single property independent of the number of
+     * properties.
+     */
+    private Feature withProperties(final FeatureProperties newProperties) {
+        if (newProperties == properties) {
+            return this;
+        }
+
+        return ImmutableFeature.of(featureId, newProperties);
+    }
+
+    /**
+     * Returns the definition of the field of this Feature within {@link ImmutableFeatures}. It is created on first
+     * access and then reused by each serialization of the Features.
+     *
+     * @return the definition.
+     */
+    JsonFieldDefinition getFieldDefinition() {
+        JsonFieldDefinition result = fieldDefinition;
+        if (null == result) {
+            result = ImmutableFeatures.newFeatureFieldDefinition(JsonFactory.newKey(featureId));
+            fieldDefinition = result;
+        }
+        return result;
     }
 
     @Override
     public JsonObject toJson(final JsonSchemaVersion schemaVersion, final Predicate<JsonField> thePredicate) {
-        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        final JsonSerializationPlan plan = SERIALIZATION_PLANS.getPlan(schemaVersion, thePredicate);
         final JsonObjectBuilder jsonObjectBuilder = JsonFactory.newObjectBuilder() //
-                .set(JsonFields.SCHEMA_VERSION, schemaVersion.toInt(), predicate);
+                .set(JsonFields.SCHEMA_VERSION, schemaVersion.toInt(), plan);
 
         if (null != properties) {
-            jsonObjectBuilder.set(JsonFields.PROPERTIES, properties, predicate);
+            jsonObjectBuilder.set(JsonFields.PROPERTIES, properties, plan);
         }
 
         return jsonObjectBuilder.build();
@@ -284,8 +284,9 @@ final class ImmutableFeatureProperties implements FeatureProperties {
     }
 
     private FeatureProperties determineResult(final Supplier<JsonObject> newWrappedSupplier) {
+        // the wrapped JSON object returns itself if it is not altered; comparing by equality would cost linear time
         final JsonObject newWrapped = newWrappedSupplier.get();
-        if (!newWrapped.equals(wrapped)) {
+        if (newWrapped != wrapped) {
             return of(newWrapped);
         }
         return this;
@@ -13,12 +13,7 @@ package org.eclipse.ditto.model.things;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -37,9 +32,12 @@ import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.common.ConditionChecker;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.base.json.JsonSerializationPlan;
+import org.eclipse.ditto.model.base.json.JsonSerializationPlans;
 
 /**
- * An immutable implementation of {@link Features}.
+ * An immutable implementation of {@link Features}. The Features are held in a {@link PersistentFeatureMap}; thus
+ * modifying a single Feature shares all other Features with this instance instead of copying them.
  */
 @Immutable
 final class ImmutableFeatures implements Features {
@@ -49,11 +47,22 @@ final class ImmutableFeatures implements Features {
                     // available in schema versions:
                     JsonSchemaVersion.V_1, JsonSchemaVersion.V_2);
 
-    private final Map<String, Feature> features;
+    /*
+     * The field of each feature has its own definition with the markers of this definition. Thus the serialization
+     * plan decides for all features at once by this definition.
+     */
+    private static final JsonFieldDefinition FEATURE_FIELD_DEFINITION =
+            JsonFactory.newFieldDefinition("featureId", JsonObject.class, FieldType.REGULAR,
+                    // available in schema versions:
+                    JsonSchemaVersion.V_1, JsonSchemaVersion.V_2);
+
+    private static final JsonSerializationPlans SERIALIZATION_PLANS =
+            JsonSerializationPlans.of(JSON_SCHEMA_VERSION, FEATURE_FIELD_DEFINITION);
 
-    private ImmutableFeatures(final Map<String, Feature> features) {
-        requireNonNull(features, "The Features must not be null!");
-        this.features = Collections.unmodifiableMap(new HashMap<>(features));
+    private final PersistentFeatureMap features;
+
+    private ImmutableFeatures(final PersistentFeatureMap features) {
+        this.features = requireNonNull(features, "The Features must not be null!");
     }
 
     /**
@@ -62,7 +71,7 @@ final class ImmutableFeatures implements Features {
      * @return a new empty {@code ImmutableFeatures} instance.
      */
     public static Features empty() {
-        return new ImmutableFeatures(new HashMap<>());
+        return new ImmutableFeatures(PersistentFeatureMap.empty());
     }
 
     /**
@@ -75,10 +84,7 @@ final class ImmutableFeatures implements Features {
     public static Features of(final Iterable<Feature> features) {
         ConditionChecker.checkNotNull(features, "initial features");
 
-        final Map<String, Feature> featureMap = new HashMap<>();
-        features.forEach(feature -> featureMap.put(feature.getId(), feature));
-
-        return new ImmutableFeatures(featureMap);
+        return new ImmutableFeatures(PersistentFeatureMap.of(features));
     }
 
     /**
@@ -93,16 +99,23 @@ final class ImmutableFeatures implements Features {
         ConditionChecker.checkNotNull(feature, "initial Feature");
         ConditionChecker.checkNotNull(additionalFeatures, "additional initial Features");
 
-        final Map<String, Feature> features = new HashMap<>();
-        features.put(feature.getId(), feature);
-
-        if (0 < additionalFeatures.length) {
-            Arrays.stream(additionalFeatures).forEach(f -> features.put(f.getId(), f));
+        PersistentFeatureMap features = PersistentFeatureMap.empty().with(feature);
+        for (final Feature additionalFeature : additionalFeatures) {
+            features = features.with(additionalFeature);
         }
 
         return new ImmutableFeatures(features);
     }
 
+    /**
+     * Returns the map which holds the Features of this instance.
+     *
+     * @return the map.
+     */
+    PersistentFeatureMap getFeatureMap() {
+        return features;
+    }
+
     private static void checkFeatureId(final String featureId) {
         ConditionChecker.checkNotNull(featureId, "Feature ID");
     }
@@ -137,14 +150,12 @@ final class ImmutableFeatures implements Features {
     public Features removeFeature(final String featureId) {
         checkFeatureId(featureId);
 
-        if (!features.containsKey(featureId)) {
+        final PersistentFeatureMap featuresWithout = features.without(featureId);
+        if (featuresWithout == features) {
             return this;
         }
 
-        final Map<String, Feature> featuresCopy = copyFeatures();
-        featuresCopy.remove(featureId);
-
-        return new ImmutableFeatures(featuresCopy);
+        return new ImmutableFeatures(featuresWithout);
     }
 
     @Override
@@ -182,9 +193,7 @@ final class ImmutableFeatures implements Features {
         if (null != feature) {
             final Feature featureWithoutProperties = feature.removeProperties();
             if (!featureWithoutProperties.equals(feature)) {
-                final Map<String, Feature> featuresCopy = copyFeatures();
-                featuresCopy.put(featureId, feature.removeProperties());
-                result = new ImmutableFeatures(featuresCopy);
+                result = createNewFeaturesWithNewFeature(featureWithoutProperties);
             }
         }
 
@@ -256,32 +265,56 @@ final class ImmutableFeatures implements Features {
 
     @Override
     public Iterator<Feature> iterator() {
-        return new HashSet<>(features.values()).iterator();
+        return features.values().iterator();
     }
 
     @Override
     public JsonObject toJson(final JsonSchemaVersion schemaVersion, final Predicate<JsonField> thePredicate) {
-        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        final JsonSerializationPlan plan = SERIALIZATION_PLANS.getPlan(schemaVersion, thePredicate);
         final JsonObjectBuilder jsonObjectBuilder = JsonFactory.newObjectBuilder();
 
-        jsonObjectBuilder.set(JSON_SCHEMA_VERSION, schemaVersion.toInt(), predicate);
+        jsonObjectBuilder.set(JSON_SCHEMA_VERSION, schemaVersion.toInt(), plan);
 
-        features.values()
-                .forEach(feature -> {
-                    final JsonKey key = JsonFactory.newKey(feature.getId());
-                    final JsonValue value = feature.toJson(schemaVersion, thePredicate);
-                    final JsonFieldDefinition fieldDefinition =
-                            JsonFactory.newFieldDefinition(key, JsonObject.class, FieldType.REGULAR,
-                                    // available in schema versions:
-                                    JsonSchemaVersion.V_1, JsonSchemaVersion.V_2);
-                    final JsonField field = JsonFactory.newField(key, value, fieldDefinition);
+        if (plan.mightInclude(FEATURE_FIELD_DEFINITION)) {
+            final boolean areFeaturesIncluded = plan.includes(FEATURE_FIELD_DEFINITION);
+            features.values()
+                    .forEach(feature -> {
+                        final JsonKey key = JsonFactory.newKey(feature.getId());
+                        final JsonValue value = feature.toJson(schemaVersion, thePredicate);
+                        final JsonField field = JsonFactory.newField(key, value, getFieldDefinition(feature, key));
 
-                    jsonObjectBuilder.set(field, predicate);
-                });
+                        if (areFeaturesIncluded || plan.test(field)) {
+                            jsonObjectBuilder.set(field);
+                        }
+                    });
+        }
 
         return jsonObjectBuilder.build();
     }
 
+    /*
+     * The definitions of the fields of ImmutableFeature instances are cached by the features themselves, thus they are
+     * only created once per feature instead of on each serialization.
+     */
+    private static JsonFieldDefinition getFieldDefinition(final Feature feature, final JsonKey key) {
+        if (feature instanceof ImmutableFeature) {
+            return ((ImmutableFeature) feature).getFieldDefinition();
+        }
+        return newFeatureFieldDefinition(key);
+    }
+
+    /**
+     * Returns a new definition of the field of the Feature with the specified key. The pointer of the definition is
+     * the key as the fields are filtered by the pointers of their definitions, e. g. by policy views; the markers are
+     * the same for all features.
+     *
+     * @param key the key of the field, i. e. the ID of the Feature.
+     * @return the definition.
+     */
+    static JsonFieldDefinition newFeatureFieldDefinition(final JsonKey key) {
+        return JsonFactory.newFieldDefinition(key, JsonObject.class, FEATURE_FIELD_DEFINITION.getMarkers());
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -304,14 +337,8 @@ final class ImmutableFeatures implements Features {
         return getClass().getSimpleName() + " [" + "features=" + features.values() + "]";
     }
 
-    private Map<String, Feature> copyFeatures() {
-        return new HashMap<>(features);
-    }
-
     private Features createNewFeaturesWithNewFeature(final Feature newFeature) {
-        final Map<String, Feature> featuresCopy = copyFeatures();
-        featuresCopy.put(newFeature.getId(), newFeature);
-        return new ImmutableFeatures(featuresCopy);
+        return new ImmutableFeatures(features.with(newFeature));
     }
 
 }
@@ -15,8 +15,6 @@ import java.time.Instant;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Predicate;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import javax.annotation.concurrent.Immutable;
 
@@ -28,8 +26,11 @@ import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.common.ConditionChecker;
+import org.eclipse.ditto.model.base.common.NamespacedIdGrammar;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.base.json.JsonSerializationPlan;
+import org.eclipse.ditto.model.base.json.JsonSerializationPlans;
 
 /**
  * Representation of one Thing within Ditto.
@@ -37,7 +38,10 @@ import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 @Immutable
 final class ImmutableThing implements Thing {
 
-    private static final Pattern ID_PATTERN = Pattern.compile(ID_REGEX);
+    private static final JsonSerializationPlans SERIALIZATION_PLANS = JsonSerializationPlans.of(
+            JsonFields.SCHEMA_VERSION, JsonFields.LIFECYCLE, JsonFields.REVISION, JsonFields.MODIFIED,
+            JsonFields.NAMESPACE, JsonFields.ID, JsonFields.ACL, JsonFields.POLICY_ID, JsonFields.ATTRIBUTES,
+            JsonFields.FEATURES);
 
     private final String namespace;
     private final String thingId;
@@ -53,9 +57,10 @@ final class ImmutableThing implements Thing {
             final Attributes attributes, final Features features,
             final ThingLifecycle lifecycle, final ThingRevision revision, final Instant modified) {
         if (null != thingId) {
-            final Matcher nsMatcher = ID_PATTERN.matcher(thingId);
-            nsMatcher.matches();
-            namespace = nsMatcher.group("ns");
+            namespace = NamespacedIdGrammar.getNamespaceOrNull(thingId);
+            if (null == namespace) {
+                throw ThingIdInvalidException.newBuilder(thingId).build();
+            }
         } else {
             namespace = null;
         }
@@ -159,7 +164,7 @@ final class ImmutableThing implements Thing {
             newAttributes = attributes.setValue(attributePath, attributeValue);
         }
 
-        return setAttributes(newAttributes);
+        return withAttributes(newAttributes);
     }
 
     @Override
@@ -168,7 +173,7 @@ final class ImmutableThing implements Thing {
             return this;
         }
 
-        return setAttributes(attributes.remove(attributePath));
+        return withAttributes(attributes.remove(attributePath));
     }
 
     @Override
@@ -205,7 +210,7 @@ final class ImmutableThing implements Thing {
             newFeatures = features.setFeature(feature);
         }
 
-        return setFeatures(newFeatures);
+        return withFeatures(newFeatures);
     }
 
     @Override
@@ -214,7 +219,7 @@ final class ImmutableThing implements Thing {
             return this;
         }
 
-        return setFeatures(features.removeFeature(featureId));
+        return withFeatures(features.removeFeature(featureId));
     }
 
     @Override
@@ -227,7 +232,7 @@ final class ImmutableThing implements Thing {
             newFeatures = features.setProperties(featureId, properties);
         }
 
-        return setFeatures(newFeatures);
+        return withFeatures(newFeatures);
     }
 
     @Override
@@ -236,7 +241,7 @@ final class ImmutableThing implements Thing {
             return this;
         }
 
-        return setFeatures(features.removeProperties(featureId));
+        return withFeatures(features.removeProperties(featureId));
     }
 
     @Override
@@ -252,7 +257,7 @@ final class ImmutableThing implements Thing {
             newFeatures = features.setProperty(featureId, propertyJsonPointer, propertyValue);
         }
 
-        return setFeatures(newFeatures);
+        return withFeatures(newFeatures);
     }
 
     @Override
@@ -261,7 +266,30 @@ final class ImmutableThing implements Thing {
             return this;
         }
 
-        return setFeatures(features.removeProperty(featureId, propertyPath));
+        return withFeatures(features.removeProperty(featureId, propertyPath));
+    }
+
+    /*
+     * The following two methods are used by the methods which alter a part of the attributes or features. Unlike
+     * setAttributes and setFeatures they do not compare by equality as the altered attributes or features are the
+     * same instance if nothing changed. Thus applying a single change costs time proportional to the depth of the
+     * change instead of the size of the Thing.
+     */
+
+    private Thing withAttributes(final Attributes newAttributes) {
+        if (newAttributes == attributes) {
+            return this;
+        }
+
+        return new ImmutableThing(thingId, acl, policyId, newAttributes, features, lifecycle, revision, modified);
+    }
+
+    private Thing withFeatures(final Features newFeatures) {
+        if (newFeatures == features) {
+            return this;
+        }
+
+        return new ImmutableThing(thingId, acl, policyId, attributes, newFeatures, lifecycle, revision, modified);
     }
 
     @Override
@@ -329,44 +357,48 @@ final class ImmutableThing implements Thing {
 
     @Override
     public JsonObject toJson(final JsonSchemaVersion schemaVersion, final Predicate<JsonField> thePredicate) {
-        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        final JsonSerializationPlan plan = SERIALIZATION_PLANS.getPlan(schemaVersion, thePredicate);
 
         final JsonObjectBuilder jsonObjectBuilder = JsonFactory.newObjectBuilder();
-        jsonObjectBuilder.set(JsonFields.SCHEMA_VERSION, schemaVersion.toInt(), predicate);
+        jsonObjectBuilder.set(JsonFields.SCHEMA_VERSION, schemaVersion.toInt(), plan);
 
         getLifecycle()
                 .map(ThingLifecycle::name)
-                .ifPresent(lifecycleName -> jsonObjectBuilder.set(JsonFields.LIFECYCLE, lifecycleName, predicate));
+                .ifPresent(lifecycleName -> jsonObjectBuilder.set(JsonFields.LIFECYCLE, lifecycleName, plan));
 
         getRevision()
                 .map(ThingRevision::toLong)
-                .ifPresent(revisionNumber -> jsonObjectBuilder.set(JsonFields.REVISION, revisionNumber, predicate));
+                .ifPresent(revisionNumber -> jsonObjectBuilder.set(JsonFields.REVISION, revisionNumber, plan));
 
         getModified()
                 .map(Instant::toString)
-                .ifPresent(modified -> jsonObjectBuilder.set(JsonFields.MODIFIED, modified, predicate));
+                .ifPresent(modified -> jsonObjectBuilder.set(JsonFields.MODIFIED, modified, plan));
 
         if (null != thingId) {
-            jsonObjectBuilder.set(JsonFields.NAMESPACE, namespace, predicate);
-            jsonObjectBuilder.set(JsonFields.ID, thingId, predicate);
+            jsonObjectBuilder.set(JsonFields.NAMESPACE, namespace, plan);
+            jsonObjectBuilder.set(JsonFields.ID, thingId, plan);
         }
 
         if (JsonSchemaVersion.V_1.equals(schemaVersion)) {
-            final AccessControlList theAcl = getAccessControlList().orElseGet(ThingsModelFactory::emptyAcl);
-            jsonObjectBuilder.set(JsonFields.ACL, theAcl.toJson(), predicate);
+            if (plan.mightInclude(JsonFields.ACL)) {
+                final AccessControlList theAcl = getAccessControlList().orElseGet(ThingsModelFactory::emptyAcl);
+                jsonObjectBuilder.set(JsonFields.ACL, theAcl.toJson(), plan);
+            }
         } else {
-            getPolicyId().ifPresent(id -> jsonObjectBuilder.set(JsonFields.POLICY_ID, id, predicate));
+            getPolicyId().ifPresent(id -> jsonObjectBuilder.set(JsonFields.POLICY_ID, id, plan));
         }
 
         if (null != attributes) {
-            jsonObjectBuilder.set(JsonFields.ATTRIBUTES, attributes, predicate);
+            jsonObjectBuilder.set(JsonFields.ATTRIBUTES, attributes, plan);
         }
 
+        // the features are only serialized if they are included at all
         getFeatures()
+                .filter(f -> plan.mightInclude(JsonFields.FEATURES))
                 .ifPresent(f -> jsonObjectBuilder.set(JsonFields.FEATURES,
                         f.toJson(schemaVersion, thePredicate.and(FieldType.notHidden())),
                         // notice: only "not HIDDEN" sub-fields of features are included
-                        predicate));
+                        plan));
 
         return jsonObjectBuilder.build();
     }
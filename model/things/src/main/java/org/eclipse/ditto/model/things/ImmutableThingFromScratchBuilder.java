@@ -22,6 +22,7 @@ import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.common.ConditionChecker;
 import org.eclipse.ditto.model.base.common.IdValidator;
+import org.eclipse.ditto.model.base.common.NamespacedIdGrammar;
 import org.eclipse.ditto.model.base.common.Validator;
 
 
@@ -75,10 +76,12 @@ final class ImmutableThingFromScratchBuilder implements ThingBuilder, ThingBuild
 
         if (attributes.isNull()) {
             return setNullAttributes();
-        } else {
-            invokeOnAttributesBuilder(ab -> ab.removeAll().setAll(attributes));
-            return this;
         }
+
+        // the attributes are immutable and thus need not be copied
+        attributesBuilder = null;
+        this.attributes = attributes;
+        return this;
     }
 
     @Override
@@ -101,6 +104,7 @@ final class ImmutableThingFromScratchBuilder implements ThingBuilder, ThingBuild
     @Override
     public FromScratch removeAllAttributes() {
         attributesBuilder = null;
+        attributes = null;
         return this;
     }
 
@@ -121,7 +125,11 @@ final class ImmutableThingFromScratchBuilder implements ThingBuilder, ThingBuild
     @Override
     public FromScratch setAttribute(final JsonPointer attributePath, final JsonValue attributeValue) {
         ConditionChecker.checkNotNull(attributeValue, "attribute value to be set");
-        invokeOnAttributesBuilder(ab -> ab.set(attributePath, attributeValue));
+        if (hasAlterableAttributes()) {
+            attributes = attributes.setValue(attributePath, attributeValue);
+        } else {
+            invokeOnAttributesBuilder(ab -> ab.set(attributePath, attributeValue));
+        }
         return this;
     }
 
@@ -129,13 +137,20 @@ final class ImmutableThingFromScratchBuilder implements ThingBuilder, ThingBuild
     public FromScratch removeAttribute(final JsonPointer attributePath) {
         if (null != attributesBuilder) {
             invokeOnAttributesBuilder(ab -> ab.remove(attributePath));
+        } else if (hasAlterableAttributes()) {
+            attributes = attributes.remove(attributePath);
         }
         return this;
     }
 
     @Override
     public FromScratch setFeature(final Feature feature) {
-        invokeOnFeaturesBuilder(fb -> fb.set(feature));
+        ConditionChecker.checkNotNull(feature, "feature to be set");
+        if (hasAlterableFeatures()) {
+            features = features.setFeature(feature);
+        } else {
+            invokeOnFeaturesBuilder(fb -> fb.set(feature));
+        }
         return this;
     }
 
@@ -151,9 +166,15 @@ final class ImmutableThingFromScratchBuilder implements ThingBuilder, ThingBuild
 
     @Override
     public FromScratch removeFeature(final String featureId) {
-        invokeOnFeaturesBuilder(fb -> fb.remove(featureId));
+        ConditionChecker.checkNotNull(featureId, "identifier of the feature to be removed");
+        if (hasAlterableFeatures()) {
+            features = features.removeFeature(featureId);
+        } else {
+            invokeOnFeaturesBuilder(fb -> fb.remove(featureId));
+        }
         if (getFeatures().isEmpty()) {
             featuresBuilder = null;
+            features = null;
         }
         return this;
     }
@@ -179,7 +200,7 @@ final class ImmutableThingFromScratchBuilder implements ThingBuilder, ThingBuild
         ConditionChecker.checkNotNull(featureId, "identifier of the Feature from which the property to be removed");
         ConditionChecker.checkNotNull(propertyPath, "path to the property to be removed");
 
-        if (null != featuresBuilder) {
+        if (null != featuresBuilder || hasAlterableFeatures()) {
             final Features existingFeatures = getFeatures();
             return setFeatures(existingFeatures.removeProperty(featureId, propertyPath));
         }
@@ -195,6 +216,11 @@ final class ImmutableThingFromScratchBuilder implements ThingBuilder, ThingBuild
             if (featuresToSet.isNull()) {
                 return setNullFeatures();
             }
+
+            // the features are immutable and thus need not be copied
+            featuresBuilder = null;
+            this.features = featuresToSet;
+            return this;
         }
 
         invokeOnFeaturesBuilder(fb -> fb.removeAll().setAll(features));
@@ -204,6 +230,7 @@ final class ImmutableThingFromScratchBuilder implements ThingBuilder, ThingBuild
     @Override
     public FromScratch removeAllFeatures() {
         featuresBuilder = null;
+        features = null;
         return this;
     }
 
@@ -331,7 +358,7 @@ final class ImmutableThingFromScratchBuilder implements ThingBuilder, ThingBuild
 
     @Override
     public FromScratch setId(final String thingId) {
-        if (null != thingId) {
+        if (null != thingId && !NamespacedIdGrammar.isValid(thingId)) {
             final Validator thingIdValidator = IdValidator.newInstance(thingId, Thing.ID_REGEX);
             if (!thingIdValidator.isValid()) {
                 throw ThingIdInvalidException.newBuilder(thingId)
@@ -387,6 +414,20 @@ final class ImmutableThingFromScratchBuilder implements ThingBuilder, ThingBuild
         features = null;
     }
 
+    /*
+     * Attributes resp. features which were set as a whole are altered directly instead of being copied into a
+     * builder. As they share all unaltered parts with their predecessor, applying a single change to a copied Thing
+     * costs time proportional to the depth of the change instead of the size of the Thing.
+     */
+
+    private boolean hasAlterableAttributes() {
+        return null == attributesBuilder && null != attributes && !attributes.isNull();
+    }
+
+    private boolean hasAlterableFeatures() {
+        return null == featuresBuilder && null != features && !features.isNull();
+    }
+
     AccessControlList getAcl() {
         AccessControlList result = null;
         if (null != aclBuilder) {
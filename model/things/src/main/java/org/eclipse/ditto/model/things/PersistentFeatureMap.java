@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.model.things;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A persistent map of Features by their IDs. Altering methods like {@link #with(Feature)} or {@link #without(String)}
+ * return a new map which shares all untouched parts with this map; thus the costs of a modification are logarithmic
+ * in the number of Features instead of linear. Successive versions of a Thing share the memory of all Features which
+ * were not modified in between.
+ * <p>
+ * The Features are stored in a persistent AVL tree ordered by their IDs. Hence the map iterates its Features in the
+ * natural order of their IDs; equal maps iterate equally regardless of the order of their modifications. It is
+ * unmodifiable in terms of the {@link Map} interface; equality and hash code are the same as defined by {@link Map}.
+ * </p>
+ */
+@Immutable
+final class PersistentFeatureMap extends AbstractMap<String, Feature> {
+
+    private static final PersistentFeatureMap EMPTY = new PersistentFeatureMap(null, 0);
+
+    @Nullable private final Node root;
+    private final int size;
+
+    private PersistentFeatureMap(@Nullable final Node root, final int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns an empty {@code PersistentFeatureMap}.
+     *
+     * @return the empty map.
+     */
+    public static PersistentFeatureMap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a new {@code PersistentFeatureMap} which contains the given Features. If several Features have the same
+     * ID, the last one wins.
+     *
+     * @param features the Features to be contained in the returned map.
+     * @return the new map.
+     * @throws NullPointerException if {@code features} is or contains {@code null}.
+     */
+    public static PersistentFeatureMap of(final Iterable<Feature> features) {
+        requireNonNull(features, "The Features must not be null!");
+        if (features instanceof ImmutableFeatures) {
+            return ((ImmutableFeatures) features).getFeatureMap();
+        }
+        PersistentFeatureMap result = EMPTY;
+        for (final Feature feature : features) {
+            result = result.with(feature);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a map which contains the given Feature. A Feature with the same ID is replaced.
+     *
+     * @param feature the Feature to be set.
+     * @return a map containing {@code feature} or this map if it already contained exactly this Feature.
+     * @throws NullPointerException if {@code feature} is {@code null}.
+     */
+    public PersistentFeatureMap with(final Feature feature) {
+        requireNonNull(feature, "The Feature to be set must not be null!");
+        final Feature existingFeature = Node.find(root, feature.getId());
+        if (feature == existingFeature) {
+            return this;
+        }
+        return new PersistentFeatureMap(Node.put(root, feature), null != existingFeature ? size : size + 1);
+    }
+
+    /**
+     * Returns a map which does not contain a Feature with the given ID.
+     *
+     * @param featureId the ID of the Feature to be removed.
+     * @return a map without a Feature with ID {@code featureId} or this map if it did not contain such a Feature.
+     * @throws NullPointerException if {@code featureId} is {@code null}.
+     */
+    public PersistentFeatureMap without(final String featureId) {
+        requireNonNull(featureId, "The ID of the Feature to be removed must not be null!");
+        if (null == Node.find(root, featureId)) {
+            return this;
+        }
+        if (1 == size) {
+            return EMPTY;
+        }
+        return new PersistentFeatureMap(Node.remove(root, featureId), size - 1);
+    }
+
+    @Nullable
+    @Override
+    public Feature get(final Object key) {
+        if (key instanceof String) {
+            return Node.find(root, (String) key);
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return null != get(key);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+
+    @Override
+    public Collection<Feature> values() {
+        return new AbstractCollection<Feature>() {
+            @Override
+            public Iterator<Feature> iterator() {
+                return new FeatureIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public Set<Map.Entry<String, Feature>> entrySet() {
+        return new AbstractSet<Map.Entry<String, Feature>>() {
+            @Override
+            public Iterator<Map.Entry<String, Feature>> iterator() {
+                final FeatureIterator featureIterator = new FeatureIterator();
+                return new Iterator<Map.Entry<String, Feature>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return featureIterator.hasNext();
+                    }
+
+                    @Override
+                    public Map.Entry<String, Feature> next() {
+                        final Feature feature = featureIterator.next();
+                        return new SimpleImmutableEntry<>(feature.getId(), feature);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Iterates the Features of the tree in the order of their IDs.
+     */
+    @NotThreadSafe
+    private final class FeatureIterator implements Iterator<Feature> {
+
+        private final Deque<Node> path;
+
+        private FeatureIterator() {
+            path = new ArrayDeque<>();
+            pushLeftmostPath(root);
+        }
+
+        private void pushLeftmostPath(@Nullable final Node node) {
+            for (Node current = node; null != current; current = current.left) {
+                path.push(current);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public Feature next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            final Node node = path.pop();
+            pushLeftmostPath(node.right);
+            return node.feature;
+        }
+
+    }
+
+    /**
+     * A node of the AVL tree. An absent subtree is {@code null}; the heights of the subtrees of a node differ by one
+     * at most. Altering operations copy the nodes on the path to the altered node and share all others.
+     */
+    @Immutable
+    private static final class Node {
+
+        private final Feature feature;
+        private final String featureId;
+        @Nullable private final Node left;
+        @Nullable private final Node right;
+        private final int height;
+
+        private Node(final Feature feature, @Nullable final Node left, @Nullable final Node right) {
+            this.feature = feature;
+            featureId = feature.getId();
+            this.left = left;
+            this.right = right;
+            height = 1 + Math.max(height(left), height(right));
+        }
+
+        private static int height(@Nullable final Node node) {
+            return null != node ? node.height : 0;
+        }
+
+        @Nullable
+        private static Feature find(@Nullable final Node root, final String featureId) {
+            Node node = root;
+            while (null != node) {
+                final int comparison = featureId.compareTo(node.featureId);
+                if (0 == comparison) {
+                    return node.feature;
+                }
+                node = 0 > comparison ? node.left : node.right;
+            }
+            return null;
+        }
+
+        private static Node put(@Nullable final Node node, final Feature feature) {
+            if (null == node) {
+                return new Node(feature, null, null);
+            }
+            final int comparison = feature.getId().compareTo(node.featureId);
+            if (0 > comparison) {
+                return balance(node.feature, put(node.left, feature), node.right); // Recursion
+            } else if (0 < comparison) {
+                return balance(node.feature, node.left, put(node.right, feature)); // Recursion
+            }
+            return new Node(feature, node.left, node.right);
+        }
+
+        @Nullable
+        private static Node remove(@Nullable final Node node, final String featureId) {
+            if (null == node) {
+                return null;
+            }
+            final int comparison = featureId.compareTo(node.featureId);
+            if (0 > comparison) {
+                return balance(node.feature, remove(node.left, featureId), node.right); // Recursion
+            } else if (0 < comparison) {
+                return balance(node.feature, node.left, remove(node.right, featureId)); // Recursion
+            } else if (null == node.left) {
+                return node.right;
+            } else if (null == node.right) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (null != successor.left) {
+                successor = successor.left;
+            }
+            return balance(successor.feature, node.left, removeFirst(node.right));
+        }
+
+        @Nullable
+        private static Node removeFirst(final Node node) {
+            if (null == node.left) {
+                return node.right;
+            }
+            return balance(node.feature, removeFirst(node.left), node.right); // Recursion
+        }
+
+        /*
+         * Creates a node of the given Feature and subtrees whose heights differ by two at most; a single or double
+         * rotation restores the balance.
+         */
+        private static Node balance(final Feature feature, @Nullable final Node left, @Nullable final Node right) {
+            final int leftHeight = height(left);
+            final int rightHeight = height(right);
+            if (leftHeight > rightHeight + 1) {
+                if (height(left.left) >= height(left.right)) {
+                    return new Node(left.feature, left.left, new Node(feature, left.right, right));
+                }
+                final Node pivot = left.right;
+                return new Node(pivot.feature, new Node(left.feature, left.left, pivot.left),
+                        new Node(feature, pivot.right, right));
+            } else if (rightHeight > leftHeight + 1) {
+                if (height(right.right) >= height(right.left)) {
+                    return new Node(right.feature, new Node(feature, left, right.left), right.right);
+                }
+                final Node pivot = right.left;
+                return new Node(pivot.feature, new Node(feature, left, pivot.left),
+                        new Node(right.feature, pivot.right, right.right));
+            }
+            return new Node(feature, left, right);
+        }
+
+    }
+
+}
@@ -22,6 +22,8 @@ import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
 @Immutable
 public final class ThingIdValidator extends AbstractIdValidator {
 
+    private static final ThingIdValidator INSTANCE = new ThingIdValidator();
+
     private ThingIdValidator() {
         super(Thing.ID_REGEX);
     }
@@ -32,7 +34,7 @@ public final class ThingIdValidator extends AbstractIdValidator {
      * @return the ThingIdValidator.
      */
     public static ThingIdValidator getInstance() {
-        return new ThingIdValidator();
+        return INSTANCE;
     }
 
     @Override
@@ -20,6 +20,7 @@ import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable
 import java.lang.ref.SoftReference;
 
 import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
@@ -52,6 +53,7 @@ public final class ImmutableFeatureTest {
 
         EqualsVerifier.forClass(ImmutableFeature.class) //
                 .withPrefabValues(SoftReference.class, red, black) //
+                .withIgnoredFields("fieldDefinition") //
                 .verify();
     }
 
@@ -60,8 +62,9 @@ public final class ImmutableFeatureTest {
     public void assertImmutability() {
         assertInstancesOf(ImmutableFeature.class, //
                 areImmutable(), //
-                provided(JsonObject.class, FeatureProperties.class, JsonSchemaVersion.class).areAlsoImmutable(), //
-                assumingFields("cachedJsonObject").areModifiedAsPartOfAnUnobservableCachingStrategy());
+                provided(JsonObject.class, FeatureProperties.class, JsonSchemaVersion.class,
+                        JsonFieldDefinition.class).areAlsoImmutable(), //
+                assumingFields("fieldDefinition").areModifiedAsPartOfAnUnobservableCachingStrategy());
     }
 
 
@@ -236,6 +239,21 @@ public final class ImmutableFeatureTest {
     }
 
 
+    @Test
+    public void fieldDefinitionIsCreatedOnceAndDefinesFieldOfFeature() {
+        final ImmutableFeature underTest = (ImmutableFeature) ImmutableFeature.of(KNOWN_FEATURE_ID,
+                TestConstants.Feature.FLUX_CAPACITOR_PROPERTIES);
+
+        final JsonFieldDefinition fieldDefinition = underTest.getFieldDefinition();
+
+        assertThat(fieldDefinition.getPointer()).isEqualTo(JsonFactory.newPointer(KNOWN_FEATURE_ID));
+        assertThat(fieldDefinition.getValueType()).isEqualTo(JsonObject.class);
+        assertThat(fieldDefinition.getMarkers())
+                .containsOnly(FieldType.REGULAR, JsonSchemaVersion.V_1, JsonSchemaVersion.V_2);
+        assertThat(underTest.getFieldDefinition()).isSameAs(fieldDefinition);
+    }
+
+
     @Test
     public void toStringContainsExpectedKeywords() {
         final Feature underTest =
@@ -17,7 +17,6 @@ import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
-import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
 import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
@@ -26,9 +25,11 @@ import java.lang.ref.SoftReference;
 import java.util.Optional;
 
 import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.json.FieldType;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -60,6 +61,9 @@ public final class ImmutableFeaturesTest {
         EqualsVerifier.forClass(ImmutableFeatures.class)
                 .usingGetClass()
                 .withPrefabValues(SoftReference.class, red, black)
+                .withPrefabValues(PersistentFeatureMap.class,
+                        PersistentFeatureMap.empty().with(TestConstants.Feature.FLUX_CAPACITOR),
+                        PersistentFeatureMap.empty().with(ImmutableFeature.of("waldo")))
                 .verify();
     }
 
@@ -68,8 +72,7 @@ public final class ImmutableFeaturesTest {
     public void assertImmutability() {
         assertInstancesOf(ImmutableFeatures.class,
                 areImmutable(),
-                provided(JsonObject.class, Feature.class).isAlsoImmutable(),
-                assumingFields("features").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
+                provided(JsonObject.class, Feature.class, PersistentFeatureMap.class).areAlsoImmutable());
     }
 
 
@@ -253,6 +256,20 @@ public final class ImmutableFeaturesTest {
     }
 
 
+    @Test
+    public void toJsonReusesFieldDefinitionsOfFeatures() {
+        final ImmutableFeature fluxCapacitor = (ImmutableFeature) TestConstants.Feature.FLUX_CAPACITOR;
+
+        final JsonObject firstJson = underTest.toJson();
+        final JsonObject secondJson = underTest.toJson(FieldType.notHidden());
+
+        assertThat(firstJson.getField(TestConstants.Feature.FLUX_CAPACITOR_ID).flatMap(JsonField::getDefinition))
+                .containsSame(fluxCapacitor.getFieldDefinition());
+        assertThat(secondJson.getField(TestConstants.Feature.FLUX_CAPACITOR_ID).flatMap(JsonField::getDefinition))
+                .containsSame(fluxCapacitor.getFieldDefinition());
+    }
+
+
     @Test(expected = NullPointerException.class)
     public void tryToRemovePropertiesForNullFeatureId() {
         underTest.removeProperties(null);
@@ -361,6 +361,47 @@ public final class ImmutableThingFromCopyBuilderTest {
     }
 
 
+    @Test
+    public void setFeaturePropertySharesUnchangedParts() {
+        final Feature otherFeature = ThingsModelFactory.newFeature("other");
+        final Thing original = TestConstants.Thing.THING_V2.setFeature(otherFeature);
+
+        final Thing thing = ImmutableThingFromCopyBuilder.of(original)
+                .setFeatureProperty(TestConstants.Feature.FLUX_CAPACITOR_ID, PROPERTY_PATH, PROPERTY_VALUE)
+                .build();
+
+        assertThat(thing)
+                .hasFeatureProperty(TestConstants.Feature.FLUX_CAPACITOR_ID, PROPERTY_PATH, PROPERTY_VALUE);
+        assertThat(thing.getAttributes().get()).isSameAs(original.getAttributes().get());
+        assertThat(thing.getFeatures().flatMap(features -> features.getFeature("other")).get())
+                .isSameAs(otherFeature);
+    }
+
+
+    @Test
+    public void removeAllAttributesAndFeaturesOfCopiedThing() {
+        final Thing thing = ImmutableThingFromCopyBuilder.of(TestConstants.Thing.THING_V2)
+                .removeAllAttributes()
+                .removeAllFeatures()
+                .build();
+
+        assertThat(thing).hasNoAttributes();
+        assertThat(thing).hasNoFeatures();
+    }
+
+
+    @Test
+    public void removeAttributeAndFeatureOfCopiedThing() {
+        final Thing thing = ImmutableThingFromCopyBuilder.of(TestConstants.Thing.THING_V2)
+                .removeAttribute(ATTRIBUTE_PATH)
+                .removeFeature(TestConstants.Feature.FLUX_CAPACITOR_ID)
+                .build();
+
+        assertThat(thing).hasNotAttribute(ATTRIBUTE_PATH);
+        assertThat(thing).hasNotFeatureWithId(TestConstants.Feature.FLUX_CAPACITOR_ID);
+    }
+
+
     @Test(expected = NullPointerException.class)
     public void tryToRemoveFeaturePropertyForNullFeatureId() {
         underTestV1.removeFeatureProperty(null, PROPERTY_PATH);
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.model.things;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PersistentFeatureMap}.
+ */
+public final class PersistentFeatureMapTest {
+
+    /**
+     * "Aa" and "BB" have the same hash code.
+     */
+    private static final String[] COLLIDING_IDS = {"Aa", "BB", "AaAa", "AaBB", "BBAa", "BBBB"};
+
+    @Test
+    public void tryToCreateInstanceWithNullFeatures() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> PersistentFeatureMap.of(null))
+                .withMessage("The Features must not be null!");
+    }
+
+    @Test
+    public void tryToSetNullFeature() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> PersistentFeatureMap.empty().with(null))
+                .withMessage("The Feature to be set must not be null!");
+    }
+
+    @Test
+    public void behavesLikeHashMapForRandomModifications() {
+        final Random random = new Random(42);
+        final Map<String, Feature> expected = new HashMap<>();
+        PersistentFeatureMap underTest = PersistentFeatureMap.empty();
+
+        for (int i = 0; i < 10_000; i++) {
+            final String featureId = 0 == i % 7
+                    ? COLLIDING_IDS[random.nextInt(COLLIDING_IDS.length)]
+                    : "feature" + random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                expected.remove(featureId);
+                underTest = underTest.without(featureId);
+            } else {
+                final Feature feature = ThingsModelFactory.newFeature(featureId);
+                expected.put(featureId, feature);
+                underTest = underTest.with(feature);
+            }
+        }
+
+        assertThat(underTest).isEqualTo(expected);
+        assertThat(underTest.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(underTest.values()).containsOnlyElementsOf(expected.values()).hasSize(expected.size());
+        for (final String featureId : expected.keySet()) {
+            assertThat(underTest.containsKey(featureId)).isTrue();
+        }
+    }
+
+    @Test
+    public void iteratesInOrderOfFeatureIds() {
+        final Random random = new Random(7);
+        final Map<String, Feature> expected = new TreeMap<>();
+        PersistentFeatureMap underTest = PersistentFeatureMap.empty();
+
+        for (int i = 0; i < 2_000; i++) {
+            final String featureId = "feature" + random.nextInt(300);
+            if (random.nextInt(4) == 0) {
+                expected.remove(featureId);
+                underTest = underTest.without(featureId);
+            } else {
+                final Feature feature = ThingsModelFactory.newFeature(featureId);
+                expected.put(featureId, feature);
+                underTest = underTest.with(feature);
+            }
+        }
+
+        assertThat(underTest.keySet()).containsExactlyElementsOf(expected.keySet());
+        assertThat(underTest.values()).containsExactlyElementsOf(expected.values());
+    }
+
+    @Test
+    public void modificationDoesNotAlterPreviousMap() {
+        final Feature feature = ThingsModelFactory.newFeature("foo");
+        final PersistentFeatureMap before = PersistentFeatureMap.empty().with(feature);
+
+        final PersistentFeatureMap after = before.with(ThingsModelFactory.newFeature("bar")).without("foo");
+
+        assertThat(before).containsOnlyKeys("foo");
+        assertThat(after).containsOnlyKeys("bar");
+    }
+
+    @Test
+    public void settingSameFeatureReturnsSameMap() {
+        final Feature feature = ThingsModelFactory.newFeature("foo");
+        final PersistentFeatureMap underTest = PersistentFeatureMap.empty().with(feature);
+
+        assertThat(underTest.with(feature)).isSameAs(underTest);
+    }
+
+    @Test
+    public void removingUnknownFeatureReturnsSameMap() {
+        final PersistentFeatureMap underTest = PersistentFeatureMap.empty().with(ThingsModelFactory.newFeature("foo"));
+
+        assertThat(underTest.without("bar")).isSameAs(underTest);
+        assertThat(underTest.without("foo")).isEmpty();
+    }
+
+}
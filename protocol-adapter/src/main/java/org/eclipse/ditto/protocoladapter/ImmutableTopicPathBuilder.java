@@ -14,12 +14,10 @@ package org.eclipse.ditto.protocoladapter;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
-import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.base.common.NamespacedIdGrammar;
 import org.eclipse.ditto.model.things.ThingIdInvalidException;
 
 /**
@@ -29,8 +27,6 @@ import org.eclipse.ditto.model.things.ThingIdInvalidException;
 final class ImmutableTopicPathBuilder implements TopicPathBuilder, MessagesTopicPathBuilder, EventsTopicPathBuilder,
         CommandsTopicPathBuilder {
 
-    private static final Pattern THING_ID_PATTERN = Pattern.compile(Thing.ID_REGEX);
-
     private final String namespace;
     private final String id;
 
@@ -66,15 +62,13 @@ final class ImmutableTopicPathBuilder implements TopicPathBuilder, MessagesTopic
     public static TopicPathBuilder of(final String thingId) {
         requireNonNull(thingId, "thing id");
 
-        final Matcher matcher = THING_ID_PATTERN.matcher(thingId);
-        final boolean matches = matcher.matches();
-
-        if (!matches) {
+        final int namespaceSeparatorIndex = NamespacedIdGrammar.getNamespaceSeparatorIndex(thingId);
+        if (0 > namespaceSeparatorIndex) {
             throw ThingIdInvalidException.newBuilder(thingId).build();
         }
 
-        final String namespace = matcher.group("ns");
-        final String id = matcher.group("id");
+        final String namespace = thingId.substring(0, namespaceSeparatorIndex);
+        final String id = thingId.substring(namespaceSeparatorIndex + 1);
 
         return new ImmutableTopicPathBuilder(namespace, id);
     }
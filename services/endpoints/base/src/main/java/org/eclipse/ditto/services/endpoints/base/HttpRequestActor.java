@@ -20,6 +20,7 @@ import java.util.function.Function;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonRuntimeException;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.common.ByteBufferUtils;
 import org.eclipse.ditto.model.base.common.HttpStatusCode;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
@@ -451,9 +452,9 @@ public final class HttpRequestActor extends AbstractActor {
                         .map(right -> (ContentType) right.get())
                         .orElse(null);
 
-                entity = HttpEntities.create(contentType, optionalPayload.get().array());
+                entity = HttpEntities.create(contentType, ByteBufferUtils.toByteArray(optionalPayload.get()));
             } else {
-                entity = HttpEntities.create(optionalPayload.get().array());
+                entity = HttpEntities.create(ByteBufferUtils.toByteArray(optionalPayload.get()));
             }
 
             httpResponse =
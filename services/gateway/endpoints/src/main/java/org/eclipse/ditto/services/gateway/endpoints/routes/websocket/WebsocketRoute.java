@@ -208,7 +208,8 @@ public final class WebsocketRoute {
                 throw new IllegalArgumentException("Empty command");
             }
 
-            final JsonObject jsonObject = JsonFactory.readFrom(cmdString).asObject();
+            // only the headers are read here; the payload is parsed when the adapter accesses it
+            final JsonObject jsonObject = JsonFactory.newLazyObject(cmdString);
             final JsonifiableAdaptable jsonifiableAdaptable = DittoJsonException.wrapJsonRuntimeException(jsonObject,
                     DittoHeaders.newBuilder()
                             .schemaVersion(JsonSchemaVersion.forInt(version).orElse(JsonSchemaVersion.LATEST))
@@ -21,12 +21,15 @@ import java.text.MessageFormat;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonFieldDefinition;
 import org.eclipse.ditto.json.JsonFieldSelector;
@@ -34,17 +37,21 @@ import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonRuntimeException;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.messages.MessageSendNotAllowedException;
+import org.eclipse.ditto.model.policies.Label;
 import org.eclipse.ditto.model.policies.Permissions;
 import org.eclipse.ditto.model.policies.PoliciesModelFactory;
 import org.eclipse.ditto.model.policies.PoliciesResourceType;
 import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyEntry;
 import org.eclipse.ditto.model.policies.PolicyRevision;
 import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.policiesenforcers.CachingPolicyEnforcer;
 import org.eclipse.ditto.model.policiesenforcers.EffectedSubjectIds;
 import org.eclipse.ditto.model.policiesenforcers.PolicyEnforcer;
 import org.eclipse.ditto.model.policiesenforcers.PolicyEnforcers;
@@ -83,8 +90,11 @@ import org.eclipse.ditto.signals.commands.things.modify.ThingModifyCommand;
 import org.eclipse.ditto.signals.commands.things.query.ThingQueryCommand;
 import org.eclipse.ditto.signals.events.base.Event;
 import org.eclipse.ditto.signals.events.policies.PolicyCreated;
+import org.eclipse.ditto.signals.events.policies.PolicyEntryModified;
 import org.eclipse.ditto.signals.events.policies.PolicyEvent;
 import org.eclipse.ditto.signals.events.policies.PolicyModified;
+import org.eclipse.ditto.signals.events.policies.ResourceModified;
+import org.eclipse.ditto.signals.events.policies.SubjectCreated;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 
 import akka.actor.AbstractActorWithStash;
@@ -113,7 +123,9 @@ import scala.concurrent.duration.FiniteDuration;
  * </ul>
  * <p>
  * For each {@code policyId} an instance of this Actor is created which caches the {@code PolicyEnforcer} used to
- * determine the permissions.
+ * determine the permissions. The decisions of the {@code PolicyEnforcer} are cached as well until the Policy
+ * changes. {@link PolicyEntryModified}, {@link SubjectCreated} and {@link ResourceModified} events update the
+ * {@code PolicyEnforcer} incrementally; all other changes of the Policy lead to a complete rebuild.
  * </p>
  */
 public final class PolicyEnforcerActor extends AbstractActorWithStash {
@@ -138,6 +150,7 @@ public final class PolicyEnforcerActor extends AbstractActorWithStash {
     private final ActorRef thingsShardRegion;
     private final FiniteDuration cacheInterval;
     private final FiniteDuration askTimeout;
+    private final int decisionCacheMaxSize;
 
     private final Receive enforcingBehaviour;
     private final Receive synchronizingBehaviour;
@@ -150,7 +163,9 @@ public final class PolicyEnforcerActor extends AbstractActorWithStash {
     private ActorRef queryOriginalSender;
 
     private long policyRevision = -1L;
-    private PolicyEnforcer policyEnforcer;
+    private CachingPolicyEnforcer policyEnforcer;
+    private Policy cachedPolicy;
+    private PolicyEnforcer uncachedPolicyEnforcer;
     private boolean policyLoadWasAttempted = false;
     private Set<String> cachedThingReadSubjectsOnRoot;
     private Set<String> cachedPolicyReadSubjectsOnRoot;
@@ -161,7 +176,8 @@ public final class PolicyEnforcerActor extends AbstractActorWithStash {
             final ActorRef thingsShardRegion,
             final ActorRef policyCacheFacade,
             final FiniteDuration cacheInterval,
-            final FiniteDuration askTimeout) {
+            final FiniteDuration askTimeout,
+            final int decisionCacheMaxSize) {
 
         try {
             policyId = URLDecoder.decode(getSelf().path().name(), StandardCharsets.UTF_8.name());
@@ -173,6 +189,7 @@ public final class PolicyEnforcerActor extends AbstractActorWithStash {
         this.thingsShardRegion = thingsShardRegion;
         this.cacheInterval = cacheInterval;
         this.askTimeout = askTimeout;
+        this.decisionCacheMaxSize = decisionCacheMaxSize;
 
         enforcingBehaviour = buildEnforcingBehaviour();
         synchronizingBehaviour = buildSynchronizingBehaviour();
@@ -196,6 +213,7 @@ public final class PolicyEnforcerActor extends AbstractActorWithStash {
      * activity happening.
      * @param askTimeout the internal timeout when retrieving the {@link Policy} or when waiting for a {@link
      * CommandResponse}.
+     * @param decisionCacheMaxSize the maximum number of decisions of the {@code PolicyEnforcer} which are cached.
      * @return the Akka configuration Props object.
      */
     public static Props props(final ActorRef pubSubMediator,
@@ -203,14 +221,15 @@ public final class PolicyEnforcerActor extends AbstractActorWithStash {
             final ActorRef thingsShardRegion,
             final ActorRef policyCacheFacade,
             final FiniteDuration cacheInterval,
-            final FiniteDuration askTimeout) {
+            final FiniteDuration askTimeout,
+            final int decisionCacheMaxSize) {
         return Props.create(PolicyEnforcerActor.class, new Creator<PolicyEnforcerActor>() {
             private static final long serialVersionUID = 1L;
 
             @Override
             public PolicyEnforcerActor create() throws Exception {
                 return new PolicyEnforcerActor(pubSubMediator, policiesShardRegion, thingsShardRegion,
-                        policyCacheFacade, cacheInterval, askTimeout);
+                        policyCacheFacade, cacheInterval, askTimeout, decisionCacheMaxSize);
             }
         });
     }
@@ -308,6 +327,20 @@ public final class PolicyEnforcerActor extends AbstractActorWithStash {
                     policyLoadWasAttempted = true;
                     publishEvent(policyModified);
                 })
+                .match(PolicyEntryModified.class, this::isIncrementallyApplicable, policyEntryModified -> {
+                    final PolicyEntry policyEntry = policyEntryModified.getPolicyEntry();
+                    updatePolicyEnforcer(cachedPolicy.setEntry(policyEntry), policyEntry.getLabel(),
+                            policyEntryModified);
+                })
+                .match(SubjectCreated.class, this::isIncrementallyApplicable, subjectCreated ->
+                        updatePolicyEnforcer(
+                                cachedPolicy.setSubjectFor(subjectCreated.getLabel(), subjectCreated.getSubject()),
+                                subjectCreated.getLabel(), subjectCreated))
+                .match(ResourceModified.class, this::isIncrementallyApplicable, resourceModified ->
+                        updatePolicyEnforcer(
+                                cachedPolicy.setResourceFor(resourceModified.getLabel(),
+                                        resourceModified.getResource()),
+                                resourceModified.getLabel(), resourceModified))
                 .match(PolicyEvent.class, this::isApplicable, event -> {
                     log.debug("Got '{}', reloading Policy now...", event.getName());
                     policyEnforcer = null;
@@ -471,17 +504,12 @@ public final class PolicyEnforcerActor extends AbstractActorWithStash {
                 .match(CommandResponse.class, response -> response instanceof WithEntity, response -> {
                     queryTimeout.cancel();
                     final WithEntity withEntity = (WithEntity) response;
-                    final JsonValue value = withEntity.getEntity();
-
-                    if (value.isObject()) {
-                        final String type = getResourceType(response);
-                        final JsonFieldSelector whitelist = getWhitelist(response);
-                        final JsonObject filterView =
-                                policyEnforcer.buildJsonView(ResourceKey.newInstance(type, JsonFactory.emptyPointer()),
-                                        value.asObject(), response.getDittoHeaders().getAuthorizationContext(),
-                                        whitelist, Permissions.newInstance(READ));
+                    final Optional<JsonValue> filterView =
+                            buildEntityView(policyEnforcer, response, withEntity.getEntity());
+
+                    if (filterView.isPresent()) {
                         try {
-                            queryOriginalSender.tell(withEntity.setEntity(filterView), getSelf());
+                            queryOriginalSender.tell(withEntity.setEntity(filterView.get()), getSelf());
                         } catch (final DittoRuntimeException e) {
                             log.warning("Received <{}> after building JsonView with PolicyEnforcer: <{}> ",
                                     getSimpleClassName(e), e.getMessage());
@@ -556,6 +584,50 @@ public final class PolicyEnforcerActor extends AbstractActorWithStash {
 
     }
 
+    /**
+     * Builds the view of the passed entity of a query command response which the authorization subjects of the
+     * response are allowed to read. An entity which is an array of JSON objects, e.g. the Things of a
+     * {@code RetrieveThingsResponse}, is filtered with one call to
+     * {@link PolicyEnforcer#buildJsonViews(ResourceKey, Iterable, AuthorizationContext, JsonFieldSelector,
+     * Permissions)} so that the policy decisions are shared by all of its elements.
+     *
+     * @param policyEnforcer the enforcer of the Policy governing the entity.
+     * @param response the response containing the entity.
+     * @param entity the entity to build the view of.
+     * @return the view of the entity or an empty Optional if the entity is neither a JSON object nor an array of JSON
+     * objects and thus cannot be filtered.
+     */
+    static Optional<JsonValue> buildEntityView(final PolicyEnforcer policyEnforcer,
+            final CommandResponse<?> response, final JsonValue entity) {
+
+        final boolean isObject = entity.isObject();
+        if (!isObject && !isArrayOfObjects(entity)) {
+            return Optional.empty();
+        }
+
+        final ResourceKey resourceKey = ResourceKey.newInstance(getResourceType(response), JsonFactory.emptyPointer());
+        final AuthorizationContext authorizationContext = response.getDittoHeaders().getAuthorizationContext();
+        final JsonFieldSelector whitelist = getWhitelist(response);
+        final Permissions permissions = Permissions.newInstance(READ);
+
+        if (isObject) {
+            return Optional.of(policyEnforcer.buildJsonView(resourceKey, entity.asObject(), authorizationContext,
+                    whitelist, permissions));
+        }
+        final List<JsonObject> jsonObjects = entity.asArray().stream()
+                .map(JsonValue::asObject)
+                .collect(Collectors.toList());
+        return Optional.of(policyEnforcer.buildJsonViews(resourceKey, jsonObjects, authorizationContext, whitelist,
+                permissions)
+                .stream()
+                .collect(JsonCollectors.valuesToArray()));
+    }
+
+    private static boolean isArrayOfObjects(final JsonValue entity) {
+        return entity.isArray() && !entity.asArray().isEmpty() &&
+                entity.asArray().stream().allMatch(JsonValue::isObject);
+    }
+
     /**
      * Obtains fields that should appear in a JSON view for all relevant authorization subjects. For things it contains
      * thingId, for policies it contains policyId.
@@ -706,6 +778,13 @@ public final class PolicyEnforcerActor extends AbstractActorWithStash {
         return event.getPolicyId().equals(policyId);
     }
 
+    /*
+     * An event can only be applied to the cached Policy if no event was missed in between.
+     */
+    private boolean isIncrementallyApplicable(final PolicyEvent event) {
+        return isApplicable(event) && policyEnforcer != null && event.getRevision() == policyRevision + 1;
+    }
+
     private boolean isCreateThingAuthorized(final CreateThing command) {
         if (isEnforcerAvailable()) {
             return isThingModifyCommandAuthorized(command);
@@ -904,8 +983,31 @@ public final class PolicyEnforcerActor extends AbstractActorWithStash {
         }
     }
 
-    private PolicyEnforcer rebuildPolicyEnforcer(final Policy policy) {
-        final PolicyEnforcer newPolicyEnforcer = PolicyEnforcers.defaultEvaluator(policy);
+    private CachingPolicyEnforcer rebuildPolicyEnforcer(final Policy policy) {
+        return cachePolicyEnforcer(policy, PolicyEnforcers.defaultEvaluator(policy));
+    }
+
+    private void updatePolicyEnforcer(final Policy changedPolicy, final Label changedLabel,
+            final PolicyEvent<?> event) {
+
+        log.debug("Got '{}', updating PolicyEnforcer for entry <{}>.", event.getName(), changedLabel);
+        policyEnforcer = cachePolicyEnforcer(changedPolicy, PolicyEnforcers.defaultEvaluator(uncachedPolicyEnforcer,
+                changedPolicy, Collections.singleton(changedLabel)));
+        policyRevision = event.getRevision();
+        policyLoadWasAttempted = true;
+        publishEvent(event);
+    }
+
+    private CachingPolicyEnforcer cachePolicyEnforcer(final Policy policy, final PolicyEnforcer newPolicyEnforcer) {
+        if (policyEnforcer != null) {
+            log.debug("Replacing PolicyEnforcer of revision <{}>; hit rate of its decision cache was <{}>.",
+                    policyRevision, policyEnforcer.getHitRate());
+        }
+        cachedPolicy = policy;
+        uncachedPolicyEnforcer = newPolicyEnforcer;
+        // a new decision cache per Policy revision ensures that no outdated decision is used
+        final CachingPolicyEnforcer newCachingPolicyEnforcer =
+                CachingPolicyEnforcer.of(newPolicyEnforcer, decisionCacheMaxSize);
 
         final EffectedSubjectIds effectedSubjectIdsOnThingResource =
                 newPolicyEnforcer.getSubjectIdsWithPermission(PoliciesResourceType.thingResource(ROOT_RESOURCE), READ);
@@ -915,7 +1017,7 @@ public final class PolicyEnforcerActor extends AbstractActorWithStash {
                 newPolicyEnforcer.getSubjectIdsWithPermission(PoliciesResourceType.policyResource(ROOT_RESOURCE), READ);
         cachedPolicyReadSubjectsOnRoot = effectedSubjectIdsOnPoliciesResource.getGranted();
 
-        return newPolicyEnforcer;
+        return newCachingPolicyEnforcer;
     }
 
     private void synchronizePolicy() {
@@ -17,15 +17,13 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.StreamSupport;
 
 import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.common.NamespacedIdGrammar;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
-import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoCommand;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
@@ -77,12 +75,10 @@ public final class ThingsAggregatorActor extends AbstractActor {
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
     private final ActorRef targetActor;
     private final ExecutionContext aggregatorDispatcher;
-    private final Matcher thingIdMatcher;
 
     private ThingsAggregatorActor(final ActorRef targetActor) {
         this.targetActor = targetActor;
         aggregatorDispatcher = getContext().system().dispatchers().lookup("aggregator-internal-dispatcher");
-        thingIdMatcher = Pattern.compile(Thing.ID_REGEX).matcher("");
     }
 
     /**
@@ -154,7 +150,7 @@ public final class ThingsAggregatorActor extends AbstractActor {
         final TraceContext traceContext = Kamon.tracer().newContext(TRACE_AGGREGATOR_RETRIEVE_THINGS, token);
 
         final List<Future<Object>> futures = thingIds.stream() //
-                .filter(thingId -> thingIdMatcher.reset(thingId).matches()) //
+                .filter(NamespacedIdGrammar::isValid) //
                 .map(thingId -> {
                     final Command retrieve;
                     if (command instanceof RetrieveThings) {
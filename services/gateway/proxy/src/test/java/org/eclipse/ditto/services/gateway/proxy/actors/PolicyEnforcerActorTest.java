@@ -11,14 +11,36 @@
  */
 package org.eclipse.ditto.services.gateway.proxy.actors;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.messages.Message;
 import org.eclipse.ditto.model.messages.MessageDirection;
 import org.eclipse.ditto.model.messages.MessageHeaders;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.PoliciesResourceType;
+import org.eclipse.ditto.model.policiesenforcers.PolicyEnforcer;
 import org.eclipse.ditto.signals.commands.messages.SendFeatureMessage;
 import org.eclipse.ditto.signals.commands.policies.query.RetrievePolicy;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingsResponse;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -68,7 +90,7 @@ public final class PolicyEnforcerActorTest {
             final ActorRef underTest = actorSystem.actorOf(
                     PolicyEnforcerActor.props(getRef(), thingsProbe.ref(),
                             pubSubProbe.ref(), cacheProbe.ref(), FiniteDuration.apply(1, TimeUnit.DAYS),
-                            internalTimeout), thingId);
+                            internalTimeout, 16), thingId);
 
             // if policy shard region does not reply, PolicyEnforcerActor keeps firing RetrievePolicy messages.
             // send MessageCommand to trigger immediate reload.
@@ -83,4 +105,37 @@ public final class PolicyEnforcerActorTest {
         }};
     }
 
+    @Test
+    public void arrayOfObjectsEntityIsFilteredWithOneBatchedView() {
+        final JsonObject thing1 = JsonFactory.newObject("{\"thingId\":\"x:1\",\"attributes\":{\"a\":1}}");
+        final JsonObject thing2 = JsonFactory.newObject("{\"thingId\":\"x:2\",\"attributes\":{\"a\":2}}");
+        final List<JsonObject> views = Arrays.asList(JsonFactory.newObject("{\"thingId\":\"x:1\"}"),
+                JsonFactory.newObject("{\"thingId\":\"x:2\"}"));
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().authorizationSubjects("subject").build();
+        final RetrieveThingsResponse response =
+                RetrieveThingsResponse.of(JsonFactory.newArrayBuilder().add(thing1, thing2).build(), dittoHeaders);
+        final PolicyEnforcer policyEnforcer = mock(PolicyEnforcer.class);
+        when(policyEnforcer.buildJsonViews(any(), any(), any(AuthorizationContext.class), any(JsonFieldSelector.class),
+                any())).thenReturn(views);
+
+        final Optional<JsonValue> entityView =
+                PolicyEnforcerActor.buildEntityView(policyEnforcer, response, response.getEntity());
+
+        assertThat(entityView).contains(JsonFactory.newArrayBuilder().add(views.get(0), views.get(1)).build());
+        verify(policyEnforcer).buildJsonViews(eq(PoliciesResourceType.thingResource("/")),
+                eq(Arrays.asList(thing1, thing2)), eq(dittoHeaders.getAuthorizationContext()),
+                any(JsonFieldSelector.class), eq(Permissions.newInstance("READ")));
+        verifyNoMoreInteractions(policyEnforcer);
+    }
+
+    @Test
+    public void arrayOfNonObjectsEntityIsNotFiltered() {
+        final JsonArray entity = JsonFactory.newArrayBuilder().add("x:1", "x:2").build();
+        final RetrieveThingsResponse response = RetrieveThingsResponse.of(entity, DittoHeaders.empty());
+        final PolicyEnforcer policyEnforcer = mock(PolicyEnforcer.class);
+
+        assertThat(PolicyEnforcerActor.buildEntityView(policyEnforcer, response, entity)).isEmpty();
+        verifyZeroInteractions(policyEnforcer);
+    }
+
 }
@@ -150,6 +150,7 @@ final class GatewayRootActor extends AbstractActor {
                 .ENFORCER_CACHE_INTERVAL));
         final FiniteDuration enforcerInternalAskTimeout = toFiniteDuration(config.getDuration(ConfigKeys
                 .ENFORCER_INTERNAL_ASK_TIMEOUT));
+        final int enforcerDecisionCacheMaxEntries = config.getInt(ConfigKeys.ENFORCER_DECISION_CACHE_MAX_ENTRIES);
 
         final ClusterShardingSettings shardingSettings =
                 ClusterShardingSettings.create(this.getContext().system()).withRole(GATEWAY_CLUSTER_ROLE);
@@ -168,7 +169,8 @@ final class GatewayRootActor extends AbstractActor {
                 CacheFacadeActor.props(CacheRole.POLICY, config));
         final Props policyEnforcerProps =
                 PolicyEnforcerActor.props(pubSubMediator, policiesShardRegionProxy, thingsShardRegionProxy,
-                        policyCacheFacade, enforcerCacheInterval, enforcerInternalAskTimeout);
+                        policyCacheFacade, enforcerCacheInterval, enforcerInternalAskTimeout,
+                        enforcerDecisionCacheMaxEntries);
         policyEnforcerShardRegion = ClusterSharding.get(this.getContext().system())
                 .start(POLICY_ENFORCER_SHARD_REGION, policyEnforcerProps, shardingSettings,
                         ShardRegionExtractor.of(numberOfShards, getContext().getSystem()));
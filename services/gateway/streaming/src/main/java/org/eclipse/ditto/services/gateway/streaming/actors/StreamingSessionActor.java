@@ -12,12 +12,10 @@
 package org.eclipse.ditto.services.gateway.streaming.actors;
 
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.ditto.model.base.auth.InternedAuthorizationSubjects;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.services.gateway.streaming.StartStreaming;
@@ -52,7 +50,7 @@ final class StreamingSessionActor extends AbstractActor {
     private final ActorRef pubSubMediator;
     private final ActorRef eventAndResponsePublisher;
 
-    private List<String> authorizationSubjects;
+    private InternedAuthorizationSubjects authorizationSubjects;
 
     private StreamingSessionActor(final String connectionCorrelationId, final String type,
             final ActorRef pubSubMediator, final ActorRef eventAndResponsePublisher) {
@@ -104,10 +102,9 @@ final class StreamingSessionActor extends AbstractActor {
                                 "Got 'LiveSignal' message in <{}> session, but this was issued by this connection itself, not telling "
                                         + "eventAndResponsePublisher about it", type);
                     } else {
-                        final Set<String> readSubjects = dittoHeaders.getReadSubjects();
                         // check if this session is "allowed" to receive the LiveSignal
-                        if (readSubjects != null && authorizationSubjects != null &&
-                                !Collections.disjoint(readSubjects, authorizationSubjects)) {
+                        if (authorizationSubjects != null &&
+                                dittoHeaders.getInternedReadSubjects().intersects(authorizationSubjects)) {
                             logger.debug(
                                     "Got 'LiveSignal' message in <{}> session, telling eventAndResponsePublisher about it: {}",
                                     type, liveSignal);
@@ -147,10 +144,9 @@ final class StreamingSessionActor extends AbstractActor {
                                 "Got 'Event' message in <{}> session, but this was issued by this connection itself, not telling "
                                         + "eventAndResponsePublisher about it", type);
                     } else {
-                        final Set<String> readSubjects = dittoHeaders.getReadSubjects();
                         // check if this session is "allowed" to receive the event
-                        if (readSubjects != null && authorizationSubjects != null &&
-                                !Collections.disjoint(readSubjects, authorizationSubjects)) {
+                        if (authorizationSubjects != null &&
+                                dittoHeaders.getInternedReadSubjects().intersects(authorizationSubjects)) {
                             logger.debug(
                                     "Got 'Event' message in <{}> session, telling eventAndResponsePublisher about it: {}",
                                     type, event);
@@ -160,7 +156,9 @@ final class StreamingSessionActor extends AbstractActor {
                 })
 
                 .match(StartStreaming.class, startStreaming -> {
-                    authorizationSubjects = startStreaming.getAuthorizationContext().getAuthorizationSubjectIds();
+                    // the session lives long and compares its subjects with each event, thus they are worth interning
+                    authorizationSubjects = InternedAuthorizationSubjects.intern(
+                            startStreaming.getAuthorizationContext().getAuthorizationSubjectIds());
                     LogUtil.enhanceLogWithCorrelationId(logger, connectionCorrelationId);
                     logger.info("Got 'StartStreaming' message for WS session, subscribing for <{}> in Cluster..",
                             startStreaming.getStreamingType().name());
@@ -301,6 +301,10 @@ public final class ConfigKeys {
      * Key of the PolicyEnforcer internal ask timeout.
      */
     public static final String ENFORCER_INTERNAL_ASK_TIMEOUT = ENFORCER_PREFIX + "internal.ask.timeout";
+    /**
+     * Key of the maximum entries of cached decisions per PolicyEnforcer.
+     */
+    public static final String ENFORCER_DECISION_CACHE_MAX_ENTRIES = ENFORCER_PREFIX + "decision-cache.maxentries";
 
 
     private static final String SECRETS_PREFIX = "secrets.";
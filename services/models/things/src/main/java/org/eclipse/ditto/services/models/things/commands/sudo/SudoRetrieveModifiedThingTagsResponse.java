@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.concurrent.Immutable;
 
@@ -142,8 +143,18 @@ public final class SudoRetrieveModifiedThingTagsResponse extends
      * @return the modified ThingTags.
      */
     public List<ThingTag> getModifiedThingTags() {
-        return modifiedThingTags.stream().filter(JsonValue::isObject).map(JsonValue::asObject).map(ThingTag::fromJson)
-                .collect(Collectors.toList());
+        return streamModifiedThingTags().collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a stream of the modified ThingTags. The ThingTags are created one by one while the stream is consumed. If
+     * this response was created from a lazily parsed JSON object, the JSON of each ThingTag is not parsed before
+     * either; thus responses with lots of ThingTags can be processed with bounded memory.
+     *
+     * @return the stream of modified ThingTags.
+     */
+    public Stream<ThingTag> streamModifiedThingTags() {
+        return modifiedThingTags.stream().filter(JsonValue::isObject).map(JsonValue::asObject).map(ThingTag::fromJson);
     }
 
     @Override
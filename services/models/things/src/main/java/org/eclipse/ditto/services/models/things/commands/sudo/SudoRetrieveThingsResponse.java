@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.concurrent.Immutable;
 
@@ -161,8 +162,18 @@ public final class SudoRetrieveThingsResponse extends AbstractCommandResponse<Su
      * @return the Things.
      */
     public List<Thing> getThings() {
-        return things.stream().filter(JsonValue::isObject).map(JsonValue::asObject).map(ThingsModelFactory::newThing)
-                .collect(Collectors.toList());
+        return streamThings().collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a stream of the {@code Thing}s. The Things are created one by one while the stream is consumed. If this
+     * response was created from a lazily parsed JSON object, the JSON of each Thing is not parsed before either; thus
+     * responses with lots of Things can be processed with bounded memory.
+     *
+     * @return the stream of Things.
+     */
+    public Stream<Thing> streamThings() {
+        return things.stream().filter(JsonValue::isObject).map(JsonValue::asObject).map(ThingsModelFactory::newThing);
     }
 
     @Override
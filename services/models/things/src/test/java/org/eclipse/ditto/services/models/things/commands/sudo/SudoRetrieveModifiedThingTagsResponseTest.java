@@ -19,6 +19,7 @@ import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable
 
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonFactory;
@@ -106,6 +107,16 @@ public class SudoRetrieveModifiedThingTagsResponseTest {
         assertThat(responseFromJson).isEqualTo(response);
     }
 
+    /** */
+    @Test
+    public void streamModifiedThingTagsOfLazilyParsedResponse() {
+        final SudoRetrieveModifiedThingTagsResponse underTest = SudoRetrieveModifiedThingTagsResponse.fromJson(
+                JsonFactory.newLazyObject(KNOWN_JSON.toString()), EMPTY_DITTO_HEADERS);
+
+        assertThat(underTest.streamModifiedThingTags().collect(Collectors.toList()))
+                .isEqualTo(KNOWN_MODIFIED_THINGS);
+    }
+
     /** */
     @Test
     public void checkSudoCommandResponseTypeWorks() {
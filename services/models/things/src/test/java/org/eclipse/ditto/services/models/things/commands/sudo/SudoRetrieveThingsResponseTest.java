@@ -19,6 +19,7 @@ import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable
 
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonFactory;
@@ -107,6 +108,17 @@ public final class SudoRetrieveThingsResponseTest {
         assertThat(responseFromJson).isEqualTo(response);
     }
 
+    /** */
+    @Test
+    public void streamThingsOfLazilyParsedResponse() {
+        final SudoRetrieveThingsResponse underTest =
+                SudoRetrieveThingsResponse.fromJson(JsonFactory.newLazyObject(KNOWN_JSON.toString()),
+                        EMPTY_DITTO_HEADERS);
+
+        assertThat(underTest.streamThings().collect(Collectors.toList())).isEqualTo(KNOWN_THINGS);
+        assertThat(underTest).isEqualTo(SudoRetrieveThingsResponse.fromJson(KNOWN_JSON, EMPTY_DITTO_HEADERS));
+    }
+
     /** */
     @Test
     public void checkSudoCommandResponseTypeWorks() {
@@ -21,6 +21,7 @@ import org.eclipse.ditto.services.policies.util.ConfigKeys;
 import org.eclipse.ditto.services.utils.cluster.ClusterMemberAwareActor;
 import org.eclipse.ditto.services.utils.cluster.ClusterUtil;
 import org.eclipse.ditto.services.utils.config.ConfigUtil;
+import org.eclipse.ditto.services.utils.config.JsonConfig;
 import org.eclipse.ditto.services.utils.health.status.StatusSupplierActor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -72,6 +73,7 @@ public final class PoliciesService {
         Kamon.start(ConfigFactory.load("kamon"));
 
         final Config config = ConfigUtil.determineConfig(SERVICE_NAME);
+        JsonConfig.configureSerializationCache(config);
         final ActorSystem system = ActorSystem.create(CLUSTER_NAME, config);
         system.actorOf(StatusSupplierActor.props(PoliciesRootActor.ACTOR_NAME), StatusSupplierActor.ACTOR_NAME);
 
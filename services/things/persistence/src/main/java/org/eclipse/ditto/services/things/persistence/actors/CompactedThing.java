@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Arrays;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+
+/**
+ * Holds a {@link Thing} in the compact binary JSON format instead of as an object graph. A {@link
+ * ThingPersistenceActor} which was idle for a while keeps its Thing in this form to save heap and materializes it
+ * again on the next command without having to recover it from the persistence.
+ * <p>
+ * The Thing is serialized like for a snapshot, i. e. including its special fields like revision, modified timestamp
+ * and lifecycle, thus the materialized Thing equals the compacted one.
+ * </p>
+ */
+@Immutable
+final class CompactedThing {
+
+    private final byte[] bytes;
+
+    private CompactedThing(final byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Returns a new instance of {@code CompactedThing} which holds the given Thing.
+     *
+     * @param thing the Thing to be compacted.
+     * @return the instance.
+     * @throws NullPointerException if {@code thing} is {@code null}.
+     */
+    static CompactedThing of(final Thing thing) {
+        checkNotNull(thing, "Thing to be compacted");
+
+        return new CompactedThing(thing.toJson(thing.getImplementedSchemaVersion(), FieldType.regularOrSpecial())
+                .toBinary());
+    }
+
+    /**
+     * Materializes the compacted Thing. Each call returns a new object graph.
+     *
+     * @return the Thing.
+     */
+    Thing toThing() {
+        return ThingsModelFactory.newThing(JsonFactory.readFromBinary(bytes).asObject());
+    }
+
+    /**
+     * Returns the number of bytes the compacted Thing occupies.
+     *
+     * @return the size in bytes.
+     */
+    int getSize() {
+        return bytes.length;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final CompactedThing that = (CompactedThing) o;
+        return Arrays.equals(bytes, that.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bytes);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + "size=" + bytes.length + "]";
+    }
+
+}
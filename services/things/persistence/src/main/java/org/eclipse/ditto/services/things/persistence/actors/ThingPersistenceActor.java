@@ -21,6 +21,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 import org.eclipse.ditto.json.JsonFieldSelector;
@@ -212,11 +213,14 @@ public final class ThingPersistenceActor extends AbstractPersistentActor impleme
     private final ActorRef thingCacheFacade;
     private final java.time.Duration activityCheckInterval;
     private final java.time.Duration activityCheckDeletedInterval;
+    @Nullable private final java.time.Duration compactionInterval;
     private final Receive handleThingEvents;
 
     private long accessCounter;
     private Cancellable activityChecker;
+    private Cancellable compactionChecker;
     private Thing thing;
+    @Nullable private CompactedThing compactedThing;
 
     private final ThingSnapshotter thingSnapshotter;
     private final long snapshotThreshold;
@@ -231,6 +235,7 @@ public final class ThingPersistenceActor extends AbstractPersistentActor impleme
         final Config config = getContext().system().settings().config();
         activityCheckInterval = config.getDuration(ConfigKeys.Thing.ACTIVITY_CHECK_INTERVAL);
         activityCheckDeletedInterval = config.getDuration(ConfigKeys.Thing.ACTIVITY_CHECK_DELETED_INTERVAL);
+        compactionInterval = getCompactionIntervalOrNull(config);
 
         // Activity checking
         final long configuredSnapshotThreshold = config.getLong(ConfigKeys.Thing.SNAPSHOT_THRESHOLD);
@@ -464,9 +469,22 @@ public final class ThingPersistenceActor extends AbstractPersistentActor impleme
     @Nonnull
     @Override
     public Thing getThing() {
+        if (null == thing && null != compactedThing) {
+            // e. g. for taking a snapshot: the Thing stays compacted as it was not accessed by a command
+            return compactedThing.toThing();
+        }
         return thing;
     }
 
+    /**
+     * Indicates whether the Thing is currently held in its compacted form because the actor was idle.
+     *
+     * @return {@code true} if the Thing is compacted, {@code false} else.
+     */
+    boolean isThingCompacted() {
+        return null != compactedThing;
+    }
+
     @Nonnull
     @Override
     public String getThingId() {
@@ -516,6 +534,53 @@ public final class ThingPersistenceActor extends AbstractPersistentActor impleme
                         new CheckForActivity(getRevisionNumber(), accessCounter), getContext().dispatcher(), null);
     }
 
+    @Nullable
+    private static java.time.Duration getCompactionIntervalOrNull(final Config config) {
+        if (config.hasPath(ConfigKeys.Thing.COMPACTION_INTERVAL)) {
+            final java.time.Duration result = config.getDuration(ConfigKeys.Thing.COMPACTION_INTERVAL);
+            if (!result.isZero() && !result.isNegative()) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    private void scheduleCheckForCompaction() {
+        if (null == compactionInterval) {
+            return;
+        }
+        log.debug("Scheduling for Compaction Check in '{}'", compactionInterval);
+        if (compactionChecker != null) {
+            compactionChecker.cancel();
+        }
+        compactionChecker = getContext().system().scheduler()
+                .scheduleOnce(Duration.fromNanos(compactionInterval.toNanos()), getSelf(),
+                        new CheckForCompaction(getRevisionNumber(), accessCounter), getContext().dispatcher(), null);
+    }
+
+    private void cancelCheckForCompaction() {
+        if (compactionChecker != null) {
+            compactionChecker.cancel();
+            compactionChecker = null;
+        }
+    }
+
+    private void compactThing() {
+        compactedThing = CompactedThing.of(thing);
+        thing = null;
+        log.debug("Thing '{}' was not accessed in a while. Compacted it to <{}> bytes.", thingId,
+                compactedThing.getSize());
+    }
+
+    private void materializeCompactedThing() {
+        if (null != compactedThing) {
+            thing = compactedThing.toThing();
+            compactedThing = null;
+            log.debug("Materialized compacted Thing '{}'.", thingId);
+            scheduleCheckForCompaction();
+        }
+    }
+
 
     @Override
     public String persistenceId() {
@@ -539,6 +604,7 @@ public final class ThingPersistenceActor extends AbstractPersistentActor impleme
         if (activityChecker != null) {
             activityChecker.cancel();
         }
+        cancelCheckForCompaction();
     }
 
     @Override
@@ -617,13 +683,14 @@ public final class ThingPersistenceActor extends AbstractPersistentActor impleme
         final Receive receive = new StrategyAwareReceiveBuilder()
                 .matchEach(thingCreatedStrategies)
                 .matchAny(new MatchAnyAfterInitializeStrategy())
-                .setPeekConsumer(getIncomingMessagesLoggerOrNull())
+                .setPeekConsumer(getThingCreatedPeekConsumerOrNull())
                 .build();
 
         getContext().become(receive, true);
         getContext().getParent().tell(new ThingSupervisorActor.ManualReset(), getSelf());
 
         scheduleCheckForThingActivity(activityCheckInterval.getSeconds());
+        scheduleCheckForCompaction();
         thingSnapshotter.startMaintenanceSnapshots();
     }
 
@@ -679,6 +746,7 @@ public final class ThingPersistenceActor extends AbstractPersistentActor impleme
 
         // Persistence specific
         result.add(new CheckForActivityStrategy());
+        result.add(new CheckForCompactionStrategy());
 
         return result;
     }
@@ -699,6 +767,7 @@ public final class ThingPersistenceActor extends AbstractPersistentActor impleme
        * - get a Snapshot when removed from memory
        */
         scheduleCheckForThingActivity(activityCheckDeletedInterval.getSeconds());
+        cancelCheckForCompaction();
         thingSnapshotter.stopMaintenanceSnapshots();
     }
 
@@ -711,6 +780,7 @@ public final class ThingPersistenceActor extends AbstractPersistentActor impleme
 
         // Persistence specific
         result.add(new CheckForActivityStrategy());
+        result.add(new CheckForCompactionStrategy());
 
         return result;
     }
@@ -915,11 +985,11 @@ public final class ThingPersistenceActor extends AbstractPersistentActor impleme
      * @return Whether the lifecycle of the Thing is active.
      */
     public boolean isThingActive() {
-        return thing.hasLifecycle(ThingLifecycle.ACTIVE);
+        return getThing().hasLifecycle(ThingLifecycle.ACTIVE);
     }
 
     public boolean isThingDeleted() {
-        return thing.hasLifecycle(ThingLifecycle.DELETED);
+        return getThing().hasLifecycle(ThingLifecycle.DELETED);
     }
 
     private void notifySubscribers(final ThingEvent event) {
@@ -1054,6 +1124,58 @@ public final class ThingPersistenceActor extends AbstractPersistentActor impleme
         }
     }
 
+    /**
+     * Message the ThingPersistenceActor can send to itself to check for activity of the Actor and compact its Thing
+     * if there was no activity since the last check.
+     */
+    private static final class CheckForCompaction {
+
+        private final long currentSequenceNr;
+        private final long currentAccessCounter;
+
+        /**
+         * Constructs a new {@code CheckForCompaction} message.
+         *
+         * @param currentSequenceNr the current {@code lastSequenceNr()} of the ThingPersistenceActor.
+         * @param currentAccessCounter the current {@code accessCounter} of the ThingPersistenceActor.
+         */
+        private CheckForCompaction(final long currentSequenceNr, final long currentAccessCounter) {
+            this.currentSequenceNr = currentSequenceNr;
+            this.currentAccessCounter = currentAccessCounter;
+        }
+
+        private long getCurrentSequenceNr() {
+            return currentSequenceNr;
+        }
+
+        private long getCurrentAccessCounter() {
+            return currentAccessCounter;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final CheckForCompaction that = (CheckForCompaction) o;
+            return currentSequenceNr == that.currentSequenceNr && currentAccessCounter == that.currentAccessCounter;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(currentSequenceNr, currentAccessCounter);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" + "currentSequenceNr=" + currentSequenceNr +
+                    ", currentAccessCounter=" + currentAccessCounter + "]";
+        }
+    }
+
 
     /**
      * This strategy handles the {@link CreateThing} command.
@@ -2408,6 +2530,31 @@ public final class ThingPersistenceActor extends AbstractPersistentActor impleme
         }
     }
 
+    /**
+     * This strategy handles the {@link CheckForCompaction} message which compacts the Thing of an idle actor.
+     */
+    @NotThreadSafe
+    private final class CheckForCompactionStrategy extends AbstractReceiveStrategy<CheckForCompaction> {
+
+        /**
+         * Constructs a new {@code CheckForCompactionStrategy} object.
+         */
+        public CheckForCompactionStrategy() {
+            super(CheckForCompaction.class, log);
+        }
+
+        @Override
+        protected void doApply(final CheckForCompaction message) {
+            if (accessCounter > message.getCurrentAccessCounter() ||
+                    getRevisionNumber() > message.getCurrentSequenceNr()) {
+                // if the Thing was accessed in any way since the last check
+                scheduleCheckForCompaction();
+            } else if (null != thing && isThingActive()) {
+                compactThing();
+            }
+        }
+    }
+
 
     /**
      * This extension of {@link AbstractReceiveStrategy} is for handling {@link ThingCommand}.
@@ -2447,6 +2594,28 @@ public final class ThingPersistenceActor extends AbstractPersistentActor impleme
         }
     }
 
+    /*
+     * Combines the logger of incoming messages with the materialization of a compacted Thing. Only commands
+     * materialize the Thing; the actor's internal messages like activity checks or maintenance snapshots leave it
+     * compacted.
+     */
+    @Nullable
+    private Consumer<Object> getThingCreatedPeekConsumerOrNull() {
+        final Consumer<Object> incomingMessagesLogger = getIncomingMessagesLoggerOrNull();
+        if (null == compactionInterval) {
+            return incomingMessagesLogger;
+        }
+        final Consumer<Object> compactedThingMaterializer = message -> {
+            if (message instanceof Command<?>) {
+                materializeCompactedThing();
+            }
+        };
+        if (null == incomingMessagesLogger) {
+            return compactedThingMaterializer;
+        }
+        return incomingMessagesLogger.andThen(compactedThingMaterializer);
+    }
+
     private Consumer<Object> getIncomingMessagesLoggerOrNull() {
         if (isLogIncomingMessages()) {
             return new LogIncomingMessagesConsumer();
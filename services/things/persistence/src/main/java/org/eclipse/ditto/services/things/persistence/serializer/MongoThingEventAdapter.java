@@ -16,13 +16,12 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
-import java.util.function.Predicate;
 
 import org.eclipse.ditto.json.JsonFactory;
-import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonFieldDefinition;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonParseOptions;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
@@ -70,10 +69,11 @@ public final class MongoThingEventAdapter implements EventAdapter {
     private static final String THING_ATTRIBUTE_DELETED = "thingAttributeDeleted";
     private static final String ATTRIBUTE = "attribute";
     private static final String PROPERTY = "property";
-    private static final Predicate<JsonField> IS_REVISION =
-            field -> field.getDefinition().map(definition -> definition == Event.JsonFields.REVISION).orElse(false);
     private static final JsonPointer POLICY_IN_THING_EVENT_PAYLOAD = ThingEvent.JsonFields.THING.getPointer()
             .append(JsonPointer.of(Policy.INLINED_FIELD_NAME));
+    private static final JsonParseOptions JSON_PARSE_OPTIONS = JsonFactory.newParseOptionsBuilder()
+            .withKeyInterning()
+            .build();
 
     private final Map<String, Function<JsonObject, JsonObject>> migrationMappings;
     private final ExtendedActorSystem system;
@@ -132,10 +132,11 @@ public final class MongoThingEventAdapter implements EventAdapter {
         if (event instanceof Event) {
             final Event<?> theEvent = (Event) event;
             final JsonSchemaVersion schemaVersion = theEvent.getImplementedSchemaVersion();
-            final JsonObject jsonObject =
-                    theEvent.toJson(schemaVersion, IS_REVISION.negate().and(FieldType.regularOrSpecial())) //
-                            // remove the policy entries from thing event payload
-                            .remove(POLICY_IN_THING_EVENT_PAYLOAD);
+            // the revision is removed afterwards so that the cached serialization plans of the event apply
+            final JsonObject jsonObject = theEvent.toJson(schemaVersion, FieldType.regularOrSpecial()) //
+                    .remove(Event.JsonFields.REVISION.getPointer())
+                    // remove the policy entries from thing event payload
+                    .remove(POLICY_IN_THING_EVENT_PAYLOAD);
             final Object bson = DittoBsonJSON.parse(jsonObject.toString());
             final Set<String> readSubjects = theEvent.getDittoHeaders().getReadSubjects();
             return new Tagged(bson, readSubjects);
@@ -169,7 +170,8 @@ public final class MongoThingEventAdapter implements EventAdapter {
     }
 
     private Event createEventFrom(final String json) {
-        final JsonObject jsonObject = JsonFactory.newObject(json)
+        // the keys of replayed events end up in the recovered Thing
+        final JsonObject jsonObject = JsonFactory.newObject(json, JSON_PARSE_OPTIONS)
                 .setValue(Event.JsonFields.REVISION.getPointer(), Event.DEFAULT_REVISION);
 
         return eventRegistry.parse(migrateComplex(migratePayload(jsonObject)), DittoHeaders.empty());
@@ -22,6 +22,7 @@ import javax.annotation.concurrent.ThreadSafe;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonParseOptions;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.json.FieldType;
@@ -47,6 +48,13 @@ abstract class MongoThingSnapshotAdapter<T extends Thing> implements SnapshotAda
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MongoThingSnapshotAdapter.class);
 
+    /*
+     * Snapshots are held by the persistence actors for a long time; the keys of all of them are shared.
+     */
+    private static final JsonParseOptions JSON_PARSE_OPTIONS = JsonFactory.newParseOptionsBuilder()
+            .withKeyInterning()
+            .build();
+
     private final ActorSystem system;
 
     /**
@@ -148,7 +156,8 @@ abstract class MongoThingSnapshotAdapter<T extends Thing> implements SnapshotAda
     private static JsonObject convertToJson(@Nonnull final DBObject dbObject) {
         checkNotNull(dbObject, "DBObject to be converted");
         final String jsonObjectString = DittoBsonJSON.serialize(dbObject);
-        return DittoJsonException.wrapJsonRuntimeException(() -> JsonFactory.newObject(jsonObjectString));
+        return DittoJsonException.wrapJsonRuntimeException(() -> JsonFactory.newObject(jsonObjectString,
+                JSON_PARSE_OPTIONS));
     }
 
     @Nullable
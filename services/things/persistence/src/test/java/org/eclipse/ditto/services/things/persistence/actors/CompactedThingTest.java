@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Instant;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.model.base.auth.AuthorizationModelFactory;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.AccessControlListModelFactory;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingLifecycle;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CompactedThing}.
+ */
+public final class CompactedThingTest {
+
+    private static final Thing THING_V2 = ThingsModelFactory.newThingBuilder()
+            .setId("org.eclipse.ditto:myThing")
+            .setPolicyId("org.eclipse.ditto:myPolicy")
+            .setLifecycle(ThingLifecycle.ACTIVE)
+            .setRevision(42L)
+            .setModified(Instant.parse("2017-10-18T10:11:12.123456789Z"))
+            .setAttributes(JsonFactory.newObject("{\"manufacturer\":\"ACME\",\"serial\":1337,\"factor\":1.50}"))
+            .setFeature("lamp", ThingsModelFactory.newFeatureProperties(
+                    JsonFactory.newObject("{\"on\":true,\"levels\":[1,2,3]}")))
+            .build();
+
+    @Test
+    public void tryToCompactNull() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> CompactedThing.of(null))
+                .withMessage("The %s must not be null!", "Thing to be compacted")
+                .withNoCause();
+    }
+
+    @Test
+    public void materializedThingEqualsCompactedThing() {
+        final CompactedThing underTest = CompactedThing.of(THING_V2);
+
+        assertThat(underTest.toThing()).isEqualTo(THING_V2);
+    }
+
+    @Test
+    public void materializedThingWithAclEqualsCompactedThing() {
+        final Thing thingV1 = ThingsModelFactory.newThingBuilder()
+                .setId("org.eclipse.ditto:myThing")
+                .setPermissions(AuthorizationModelFactory.newAuthSubject("allowedId"),
+                        AccessControlListModelFactory.allPermissions())
+                .setLifecycle(ThingLifecycle.ACTIVE)
+                .setRevision(1L)
+                .build();
+
+        assertThat(CompactedThing.of(thingV1).toThing()).isEqualTo(thingV1);
+    }
+
+    @Test
+    public void compactedThingIsSmallerThanItsJsonString() {
+        final CompactedThing underTest = CompactedThing.of(THING_V2);
+
+        assertThat(underTest.getSize())
+                .isLessThan(THING_V2.toJson(JsonSchemaVersion.V_2, FieldType.regularOrSpecial()).toString().length());
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.things.starter.util.ConfigKeys;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThingResponse;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+import akka.actor.Props;
+import akka.testkit.JavaTestKit;
+import akka.testkit.TestActorRef;
+
+/**
+ * Unit test for the compaction of the Thing of an idle {@link ThingPersistenceActor}.
+ */
+public final class ThingPersistenceActorCompactionTest extends PersistenceActorTestBase {
+
+    private static final long COMPACTION_INTERVAL_SECS = 1;
+
+    /** */
+    @Before
+    public void setUp() {
+        setup(ConfigFactory.empty()
+                .withValue(ConfigKeys.Thing.COMPACTION_INTERVAL,
+                        ConfigValueFactory.fromAnyRef(Duration.ofSeconds(COMPACTION_INTERVAL_SECS))));
+    }
+
+    /** */
+    @Test
+    public void idleThingIsCompactedAndMaterializedOnNextCommand() {
+        final Thing thing = createThingV2WithRandomId();
+        final String thingId = thing.getId().orElse(null);
+
+        new JavaTestKit(actorSystem) {
+            {
+                final Props props = ThingPersistenceActor.props(thingId, pubSubMediator, thingCacheFacade);
+                final TestActorRef<ThingPersistenceActor> underTest = TestActorRef.create(actorSystem, props);
+                final ThingPersistenceActor thingPersistenceActor = underTest.underlyingActor();
+
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersMockV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+                final Thing createdThing = thingPersistenceActor.getThing();
+                assertThat(thingPersistenceActor.isThingCompacted()).isFalse();
+
+                // the first check might still see the access of CreateThing
+                waitSecs(3 * COMPACTION_INTERVAL_SECS);
+                assertThat(thingPersistenceActor.isThingCompacted()).isTrue();
+                assertThat(thingPersistenceActor.getThing()).isEqualTo(createdThing);
+
+                underTest.tell(RetrieveThing.of(thingId, dittoHeadersMockV2), getRef());
+                final RetrieveThingResponse retrieveThingResponse = expectMsgClass(RetrieveThingResponse.class);
+                assertThat(retrieveThingResponse.getThing().toJson()).isEqualTo(createdThing.toJson());
+                assertThat(thingPersistenceActor.isThingCompacted()).isFalse();
+            }
+        };
+    }
+
+}
@@ -209,6 +209,13 @@ public final class ConfigKeys {
          */
         public static final String ACTIVITY_CHECK_INTERVAL = PREFIX + "activity.check.interval";
 
+        /**
+         * After an interval of this duration (configured by this key) without activity "with it", this Actor compacts
+         * the Thing it holds into a binary form and materializes it again on the next command. A duration of zero or
+         * a missing value disables the compaction.
+         */
+        public static final String COMPACTION_INTERVAL = PREFIX + "compaction.interval";
+
         private Thing() {
             throw new AssertionError();
         }
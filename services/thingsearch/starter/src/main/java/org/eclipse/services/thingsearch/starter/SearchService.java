@@ -19,6 +19,7 @@ import java.util.concurrent.TimeUnit;
 import org.eclipse.ditto.services.utils.cluster.ClusterMemberAwareActor;
 import org.eclipse.ditto.services.utils.cluster.ClusterUtil;
 import org.eclipse.ditto.services.utils.config.ConfigUtil;
+import org.eclipse.ditto.services.utils.config.JsonConfig;
 import org.eclipse.ditto.services.utils.health.status.StatusSupplierActor;
 import org.eclipse.services.thingsearch.common.util.ConfigKeys;
 import org.slf4j.Logger;
@@ -71,6 +72,7 @@ public final class SearchService {
         Kamon.start(ConfigFactory.load("kamon"));
 
         final Config config = ConfigUtil.determineConfig(SERVICE_NAME);
+        JsonConfig.configureSerializationCache(config);
         final ActorSystem system = ActorSystem.create(CLUSTER_NAME, config);
         system.actorOf(StatusSupplierActor.props(SearchRootActor.ACTOR_NAME), StatusSupplierActor.ACTOR_NAME);
 
@@ -91,7 +91,7 @@ public final class ThingsSynchronizerActor extends AbstractActor {
 
     private void processResponse(final SudoRetrieveModifiedThingTagsResponse response) {
         log.info("Retrieved SudoRetrieveModifiedThingTagsResponse is: {}", response);
-        response.getModifiedThingTags().forEach(thingTag -> thingsUpdater.tell(thingTag, getSelf()));
+        response.streamModifiedThingTags().forEach(thingTag -> thingsUpdater.tell(thingTag, getSelf()));
     }
 
     private void retrieveLastModifiedThingTags() {
@@ -14,11 +14,14 @@ package org.eclipse.ditto.services.utils.cluster;
 import static java.util.Objects.requireNonNull;
 
 import java.io.NotSerializableException;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -35,9 +38,12 @@ import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
+import org.eclipse.ditto.signals.base.WithBinaryPayload;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.typesafe.config.Config;
+
 import akka.actor.ExtendedActorSystem;
 import akka.serialization.SerializerWithStringManifest;
 import scala.Tuple2;
@@ -48,6 +54,19 @@ import scala.util.Try;
 /**
  * Abstract {@link SerializerWithStringManifest} which handles serializing and deserializing {@link Jsonifiable}s {@link
  * WithDittoHeaders}.
+ * <p>
+ * The serialized form is the UTF-8 encoded JSON object which contains the headers and the JSON representation of the
+ * Jsonifiable. Jsonifiables {@link WithBinaryPayload} are serialized in a frame instead if they have a non-empty
+ * binary payload: the byte {@code 0}, the length of the UTF-8 encoded JSON object as four bytes (big-endian), the
+ * JSON object of the Jsonifiable without binary payload and finally the raw bytes of the binary payload. Thus the
+ * binary payload is neither Base64 encoded nor copied again when it is deserialized.
+ * </p>
+ * <p>
+ * The manifest of a frame is the manifest of the Jsonifiable with the suffix
+ * {@value #BINARY_PAYLOAD_FRAME_MANIFEST_SUFFIX}. Frames are always read but only written if
+ * {@value #BINARY_PAYLOAD_FRAMES_ENABLED} is configured to be {@code true}: nodes of previous versions cannot read
+ * frames, thus writing them must only be enabled after all nodes of the cluster were updated.
+ * </p>
  */
 public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends SerializerWithStringManifest {
 
@@ -61,9 +80,26 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
     private static final JsonFieldDefinition JSON_PAYLOAD =
             JsonFieldDefinition.newInstance("payload", JsonObject.class);
 
+    /**
+     * Config key which enables writing Jsonifiables with binary payload in a frame.
+     */
+    public static final String BINARY_PAYLOAD_FRAMES_ENABLED = "ditto.cluster.binary-payload-frames.enabled";
+
+    /**
+     * Suffix of the manifest of a Jsonifiable which was serialized in a frame with binary payload.
+     */
+    public static final String BINARY_PAYLOAD_FRAME_MANIFEST_SUFFIX = "#binary-payload";
+
+    /*
+     * The first byte of a frame with binary payload; the serialized JSON object always starts with '{'.
+     */
+    private static final byte BINARY_PAYLOAD_FRAME_MARKER = 0;
+    private static final int BINARY_PAYLOAD_FRAME_HEADER_LENGTH = 1 + Integer.BYTES;
+
     private final int identifier;
     private final Map<String, BiFunction<JsonObject, DittoHeaders, Jsonifiable>> mappingStrategies;
     private final Function<Object, String> manifestProvider;
+    private final boolean binaryPayloadFramesEnabled;
 
     /**
      * Constructs a new {@code AbstractJsonifiableWithDittoHeadersSerializer} object.
@@ -73,9 +109,10 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
             final Function<Object, String> manifestProvider) {
         this.identifier = identifier;
 
+        final Config config = actorSystem.settings().config();
+
         // load via config the class implementing MappingStrategy:
-        final String mappingStrategyClass =
-                actorSystem.settings().config().getString("ditto.mapping-strategy.implementation");
+        final String mappingStrategyClass = config.getString("ditto.mapping-strategy.implementation");
         final ClassTag<MappingStrategy> tag = scala.reflect.ClassTag$.MODULE$.apply(MappingStrategy.class);
         final List<Tuple2<Class<?>, Object>> constructorArgs = new ArrayList<>();
         final Try<MappingStrategy> mappingStrategy =
@@ -85,6 +122,8 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
         mappingStrategies = new HashMap<>();
         mappingStrategies.putAll(requireNonNull(mappingStrategy.get().determineStrategy(), "mapping strategy"));
         this.manifestProvider = requireNonNull(manifestProvider, "manifest provider");
+        binaryPayloadFramesEnabled =
+                config.hasPath(BINARY_PAYLOAD_FRAMES_ENABLED) && config.getBoolean(BINARY_PAYLOAD_FRAMES_ENABLED);
     }
 
     @Override
@@ -94,11 +133,41 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
 
     @Override
     public String manifest(final Object o) {
-        return manifestProvider.apply(o);
+        final String manifest = manifestProvider.apply(o);
+        if (getBinaryPayloadForFrame(o).isPresent()) {
+            return manifest + BINARY_PAYLOAD_FRAME_MANIFEST_SUFFIX;
+        }
+        return manifest;
     }
 
     @Override
     public byte[] toBinary(final Object object) {
+        final Optional<ByteBuffer> binaryPayload = getBinaryPayloadForFrame(object);
+        if (binaryPayload.isPresent()) {
+            return toBinaryPayloadFrame(toJsonBytes(((WithBinaryPayload<?>) object).setBinaryPayload(null)),
+                    binaryPayload.get());
+        }
+        return toJsonBytes(object);
+    }
+
+    private Optional<ByteBuffer> getBinaryPayloadForFrame(final Object object) {
+        if (binaryPayloadFramesEnabled && object instanceof WithBinaryPayload && object instanceof Jsonifiable) {
+            return ((WithBinaryPayload<?>) object).getBinaryPayload().filter(ByteBuffer::hasRemaining);
+        }
+        return Optional.empty();
+    }
+
+    private static byte[] toBinaryPayloadFrame(final byte[] jsonBytes, final ByteBuffer binaryPayload) {
+        final ByteBuffer frame =
+                ByteBuffer.allocate(BINARY_PAYLOAD_FRAME_HEADER_LENGTH + jsonBytes.length + binaryPayload.remaining());
+        frame.put(BINARY_PAYLOAD_FRAME_MARKER)
+                .putInt(jsonBytes.length)
+                .put(jsonBytes)
+                .put(binaryPayload.duplicate());
+        return frame.array();
+    }
+
+    private static byte[] toJsonBytes(final Object object) {
         if (object instanceof Jsonifiable) {
             final DittoHeaders dittoHeaders;
             if (object instanceof WithDittoHeaders) {
@@ -124,9 +193,7 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
 
             jsonObjectBuilder.set(JSON_PAYLOAD, jsonValue);
 
-            return jsonObjectBuilder.build() //
-                    .toString() //
-                    .getBytes(UTF8_CHARSET);
+            return jsonObjectBuilder.build().toUtf8Bytes();
         } else {
             LOG.error("Could not serialize class '{}' as it does not implement '{}'", object.getClass(),
                     Jsonifiable.WithPredicate.class);
@@ -137,26 +204,59 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
 
     @Override
     public Object fromBinary(final byte[] bytes, final String manifest) {
-        final String json = new String(bytes, UTF8_CHARSET);
         try {
-            return tryToCreateKnownJsonifiableFrom(manifest, json);
+            return tryToCreateKnownJsonifiableFrom(manifest, bytes);
         } catch (final NotSerializableException e) {
             return e;
         }
     }
 
-    private Jsonifiable tryToCreateKnownJsonifiableFrom(final String manifest, final String json)
+    private Jsonifiable tryToCreateKnownJsonifiableFrom(final String manifest, final byte[] bytes)
             throws NotSerializableException {
         try {
-            return createJsonifiableFrom(manifest, json);
+            if (manifest.endsWith(BINARY_PAYLOAD_FRAME_MANIFEST_SUFFIX)) {
+                return createJsonifiableFromBinaryPayloadFrame(
+                        manifest.substring(0, manifest.length() - BINARY_PAYLOAD_FRAME_MANIFEST_SUFFIX.length()),
+                        bytes);
+            }
+            return createJsonifiableFrom(manifest, bytes);
         } catch (final DittoRuntimeException | JsonRuntimeException e) {
             LOG.error("Got {} during fromBinary(byte[],String) deserialization for manifest '{}' and JSON: '{}'",
-                    e.getClass().getSimpleName(), manifest, json, e);
+                    e.getClass().getSimpleName(), manifest, new String(bytes, UTF8_CHARSET), e);
             throw new NotSerializableException(manifest);
         }
     }
 
-    private Jsonifiable createJsonifiableFrom(final String manifest, final String json)
+    private Jsonifiable createJsonifiableFromBinaryPayloadFrame(final String manifest, final byte[] bytes)
+            throws NotSerializableException {
+
+        if (BINARY_PAYLOAD_FRAME_HEADER_LENGTH > bytes.length || BINARY_PAYLOAD_FRAME_MARKER != bytes[0]) {
+            LOG.error("Got invalid binary payload frame for manifest '{}'", manifest);
+            throw new NotSerializableException(manifest);
+        }
+        final ByteBuffer frame = ByteBuffer.wrap(bytes);
+        frame.position(1);
+        final int jsonLength = frame.getInt();
+        if (jsonLength < 0 || jsonLength > frame.remaining()) {
+            LOG.error("Got binary payload frame with invalid JSON length <{}> for manifest '{}'", jsonLength,
+                    manifest);
+            throw new NotSerializableException(manifest);
+        }
+        final byte[] jsonBytes = Arrays.copyOfRange(bytes, BINARY_PAYLOAD_FRAME_HEADER_LENGTH,
+                BINARY_PAYLOAD_FRAME_HEADER_LENGTH + jsonLength);
+        final Jsonifiable jsonifiable = createJsonifiableFrom(manifest, jsonBytes);
+        if (!(jsonifiable instanceof WithBinaryPayload)) {
+            LOG.error("Got binary payload frame for manifest '{}' which has no binary payload", manifest);
+            throw new NotSerializableException(manifest);
+        }
+
+        // the payload remains a view of the received bytes
+        frame.position(BINARY_PAYLOAD_FRAME_HEADER_LENGTH + jsonLength);
+        final ByteBuffer binaryPayload = frame.slice().asReadOnlyBuffer();
+        return (Jsonifiable) ((WithBinaryPayload<?>) jsonifiable).setBinaryPayload(binaryPayload);
+    }
+
+    private Jsonifiable createJsonifiableFrom(final String manifest, final byte[] bytes)
             throws NotSerializableException {
         final BiFunction<JsonObject, DittoHeaders, Jsonifiable> mappingFunction = mappingStrategies.get(manifest);
         if (null == mappingFunction) {
@@ -164,7 +264,8 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
             throw new NotSerializableException(manifest);
         }
 
-        final JsonObject jsonObject = JsonFactory.newObject(json);
+        // index the UTF-8 bytes only; the payload is parsed not until the mapping function accesses it
+        final JsonObject jsonObject = JsonFactory.newLazyObject(bytes);
 
         final JsonObject payload = jsonObject.getValue(JSON_PAYLOAD)
                 .map(JsonValue::asObject)
@@ -13,6 +13,8 @@ package org.eclipse.ditto.services.utils.cluster;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.UUID;
 import java.util.function.BiFunction;
@@ -23,8 +25,13 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
+import org.eclipse.ditto.model.messages.Message;
+import org.eclipse.ditto.model.messages.MessageDirection;
+import org.eclipse.ditto.model.messages.MessageHeaders;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.signals.commands.messages.MessageCommandRegistry;
+import org.eclipse.ditto.signals.commands.messages.SendThingMessage;
 import org.eclipse.ditto.signals.commands.things.ThingCommandRegistry;
 import org.eclipse.ditto.signals.commands.things.ThingCommandResponseRegistry;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingErrorRegistry;
@@ -58,6 +65,7 @@ public final class JsonifiableSerializerTest {
             .build();
 
     private JsonifiableSerializer underTestForThingCommands;
+    private JsonifiableSerializer underTestWithBinaryPayloadFrames;
 
     @Before
     public void setUp() throws Exception {
@@ -66,6 +74,10 @@ public final class JsonifiableSerializerTest {
                         .withValue("ditto.mapping-strategy.implementation",
                                 ConfigValueFactory.fromAnyRef(ThingCommandsStrategy.class.getName())));
         underTestForThingCommands = new JsonifiableSerializer(actorSystem);
+        underTestWithBinaryPayloadFrames = new JsonifiableSerializer((ExtendedActorSystem) ExtendedActorSystem.create(
+                "testWithBinaryPayloadFrames", actorSystem.settings().config()
+                        .withValue(AbstractJsonifiableWithDittoHeadersSerializer.BINARY_PAYLOAD_FRAMES_ENABLED,
+                                ConfigValueFactory.fromAnyRef(true))));
     }
 
     @Test
@@ -142,6 +154,74 @@ public final class JsonifiableSerializerTest {
                 .isEqualTo(shardedMessageEnvelope.getDittoHeaders());
     }
 
+    @Test
+    public void messageCommandWithBinaryPayloadIsSerializedWithoutBase64() {
+        final byte[] rawPayload = new byte[]{0, 1, 2, (byte) 0xFF, '{'};
+        final SendThingMessage<?> sendThingMessage = createSendThingMessageWithRawPayload(rawPayload);
+
+        final byte[] serialized = underTestWithBinaryPayloadFrames.toBinary(sendThingMessage);
+        final String manifest = underTestWithBinaryPayloadFrames.manifest(sendThingMessage);
+        final Object deserialized = underTestWithBinaryPayloadFrames.fromBinary(serialized, manifest);
+
+        assertThat(manifest).isEqualTo(underTestForThingCommands.manifest(sendThingMessage) +
+                AbstractJsonifiableWithDittoHeadersSerializer.BINARY_PAYLOAD_FRAME_MANIFEST_SUFFIX);
+        assertThat(Arrays.copyOfRange(serialized, serialized.length - rawPayload.length, serialized.length))
+                .isEqualTo(rawPayload);
+        assertThat(deserialized)
+                .isInstanceOf(SendThingMessage.class)
+                .isEqualTo(sendThingMessage);
+    }
+
+    @Test
+    public void binaryPayloadFramesAreOnlyWrittenIfEnabled() {
+        final SendThingMessage<?> sendThingMessage = createSendThingMessageWithRawPayload(new byte[]{0, 1, 2});
+
+        final byte[] serialized = underTestForThingCommands.toBinary(sendThingMessage);
+        final Object deserialized = underTestForThingCommands.fromBinary(serialized,
+                underTestForThingCommands.manifest(sendThingMessage));
+
+        assertThat(serialized[0]).isEqualTo((byte) '{');
+        assertThat(underTestForThingCommands.manifest(sendThingMessage))
+                .doesNotEndWith(AbstractJsonifiableWithDittoHeadersSerializer.BINARY_PAYLOAD_FRAME_MANIFEST_SUFFIX);
+        assertThat(deserialized).isEqualTo(sendThingMessage);
+    }
+
+    @Test
+    public void binaryPayloadFramesAreReadEvenIfWritingIsDisabled() {
+        final SendThingMessage<?> sendThingMessage = createSendThingMessageWithRawPayload(new byte[]{0, 1, 2});
+
+        final byte[] serialized = underTestWithBinaryPayloadFrames.toBinary(sendThingMessage);
+        final Object deserialized = underTestForThingCommands.fromBinary(serialized,
+                underTestWithBinaryPayloadFrames.manifest(sendThingMessage));
+
+        assertThat(deserialized).isEqualTo(sendThingMessage);
+    }
+
+    @Test
+    public void messageCommandWithoutPayloadIsSerializedAsJson() {
+        final SendThingMessage<?> sendThingMessage = SendThingMessage.of(THING_ID,
+                Message.newBuilder(MessageHeaders.newBuilder(MessageDirection.TO, THING_ID, "subject").build())
+                        .build(),
+                DITTO_HEADERS);
+
+        final byte[] serialized = underTestForThingCommands.toBinary(sendThingMessage);
+        final Object deserialized = underTestForThingCommands.fromBinary(serialized,
+                underTestForThingCommands.manifest(sendThingMessage));
+
+        assertThat(serialized[0]).isEqualTo((byte) '{');
+        assertThat(deserialized).isInstanceOf(SendThingMessage.class);
+        assertThat(((SendThingMessage<?>) deserialized).getMessage().getHeaders())
+                .isEqualTo(sendThingMessage.getMessage().getHeaders());
+    }
+
+    private static SendThingMessage<?> createSendThingMessageWithRawPayload(final byte[] rawPayload) {
+        return SendThingMessage.of(THING_ID,
+                Message.newBuilder(MessageHeaders.newBuilder(MessageDirection.TO, THING_ID, "subject").build())
+                        .rawPayload(ByteBuffer.wrap(rawPayload))
+                        .build(),
+                DITTO_HEADERS);
+    }
+
     static class ThingCommandsStrategy implements MappingStrategy {
 
         @Override
@@ -150,6 +230,7 @@ public final class JsonifiableSerializerTest {
                     .add(ThingErrorRegistry.newInstance())
                     .add(ThingCommandRegistry.newInstance())
                     .add(ThingCommandResponseRegistry.newInstance())
+                    .add(MessageCommandRegistry.newInstance())
                     .add(Thing.class, (jsonObject) -> ThingsModelFactory.newThing(
                             jsonObject)) // do not replace with lambda!
                     .add(ShardedMessageEnvelope.class,
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.services.utils.config;
+
+import org.eclipse.ditto.json.JsonFactory;
+
+import com.typesafe.config.Config;
+
+/**
+ * Applies the configuration settings of the Ditto JSON library.
+ */
+public final class JsonConfig {
+
+    private static final String PREFIX = "ditto.services-utils-config.json";
+
+    /**
+     * Config key of the maximum length of a serialized JSON value which gets cached.
+     */
+    public static final String SERIALIZATION_CACHE_MAX_CACHED_LENGTH =
+            PREFIX + ".serialization-cache.max-cached-length";
+
+    /**
+     * Config key of the switch whether hits and misses of the serialization cache are counted.
+     */
+    public static final String SERIALIZATION_CACHE_STATISTICS_ENABLED =
+            PREFIX + ".serialization-cache.statistics-enabled";
+
+    private JsonConfig() {}
+
+    /**
+     * Configures the serialization cache of JSON values according to the given config. Settings which are not
+     * configured keep their default value.
+     *
+     * @param config Config object containing the JSON settings.
+     * @throws IllegalArgumentException if the configured maximum cached length is negative.
+     */
+    public static void configureSerializationCache(final Config config) {
+        if (config.hasPath(SERIALIZATION_CACHE_MAX_CACHED_LENGTH)) {
+            JsonFactory.setSerializationCacheMaxCachedLength(config.getInt(SERIALIZATION_CACHE_MAX_CACHED_LENGTH));
+        }
+        if (config.hasPath(SERIALIZATION_CACHE_STATISTICS_ENABLED)) {
+            JsonFactory.setSerializationCacheStatisticsEnabled(
+                    config.getBoolean(SERIALIZATION_CACHE_STATISTICS_ENABLED));
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.services.utils.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonSerializationCacheStatistics;
+import org.junit.After;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link JsonConfig}.
+ */
+public class JsonConfigTest {
+
+    @After
+    public void resetSerializationCache() {
+        JsonFactory.setSerializationCacheMaxCachedLength(JsonSerializationCacheStatistics.DEFAULT_MAX_CACHED_LENGTH);
+        JsonFactory.setSerializationCacheStatisticsEnabled(false);
+    }
+
+    @Test
+    public void configuresMaxCachedLength() {
+        // GIVEN
+        final Config config =
+                ConfigFactory.parseString(String.format("%s=1024", JsonConfig.SERIALIZATION_CACHE_MAX_CACHED_LENGTH));
+
+        // WHEN
+        JsonConfig.configureSerializationCache(config);
+
+        // THEN
+        assertThat(JsonFactory.getSerializationCacheStatistics().getMaxCachedLength()).isEqualTo(1024);
+    }
+
+    @Test
+    public void configuresStatisticsEnabled() {
+        // GIVEN
+        final Config config =
+                ConfigFactory.parseString(String.format("%s=true", JsonConfig.SERIALIZATION_CACHE_STATISTICS_ENABLED));
+
+        // WHEN
+        JsonConfig.configureSerializationCache(config);
+
+        // THEN
+        assertThat(JsonFactory.getSerializationCacheStatistics().isStatisticsEnabled()).isTrue();
+    }
+
+    @Test
+    public void keepsMaxCachedLengthWithoutConfiguration() {
+        // GIVEN
+        final int maxCachedLengthBefore = JsonFactory.getSerializationCacheStatistics().getMaxCachedLength();
+
+        // WHEN
+        JsonConfig.configureSerializationCache(ConfigFactory.empty());
+
+        // THEN
+        assertThat(JsonFactory.getSerializationCacheStatistics().getMaxCachedLength())
+                .isEqualTo(maxCachedLengthBefore);
+    }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.signals.base;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * Implementations of this interface carry a binary payload which is part of their JSON representation in Base64
+ * encoded form. Serializers may transfer the binary payload as raw bytes next to the JSON representation of
+ * {@link #setBinaryPayload(ByteBuffer) the instance without payload} instead.
+ *
+ * @param <T> the type of the implementing class.
+ */
+public interface WithBinaryPayload<T extends WithBinaryPayload<T>> {
+
+    /**
+     * Returns the binary payload.
+     *
+     * @return a read-only view of the binary payload or an empty Optional.
+     */
+    Optional<ByteBuffer> getBinaryPayload();
+
+    /**
+     * Returns a copy of this instance with the given binary payload. The bytes are not copied.
+     *
+     * @param binaryPayload the binary payload of the copy or {@code null} if the copy should have none.
+     * @return the copy.
+     */
+    T setBinaryPayload(@Nullable ByteBuffer binaryPayload);
+
+}
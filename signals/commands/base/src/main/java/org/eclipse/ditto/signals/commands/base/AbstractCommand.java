@@ -25,6 +25,8 @@ import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.base.json.JsonSerializationPlan;
+import org.eclipse.ditto.model.base.json.JsonSerializationPlans;
 
 
 /**
@@ -34,6 +36,9 @@ import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
  */
 public abstract class AbstractCommand<T extends AbstractCommand> implements Command<T> {
 
+    private static final JsonSerializationPlans SERIALIZATION_PLANS =
+            JsonSerializationPlans.of(JsonFields.ID, JsonFields.TYPE);
+
     private final String type;
     private final DittoHeaders dittoHeaders;
 
@@ -67,15 +72,15 @@ public abstract class AbstractCommand<T extends AbstractCommand> implements Comm
 
     @Override
     public JsonObject toJson(final JsonSchemaVersion schemaVersion, final Predicate<JsonField> thePredicate) {
-        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        final JsonSerializationPlan plan = SERIALIZATION_PLANS.getPlan(schemaVersion, thePredicate);
         final JsonObjectBuilder jsonObjectBuilder = JsonFactory.newObjectBuilder();
 
         // for types containing the exchange separated with ":" :
         if (type.contains(":")) {
             // backward compatibility to V1!
-            jsonObjectBuilder.set(JsonFields.ID, getName(), predicate);
+            jsonObjectBuilder.set(JsonFields.ID, getName(), plan);
         }
-        jsonObjectBuilder.set(JsonFields.TYPE, type, predicate);
+        jsonObjectBuilder.set(JsonFields.TYPE, type, plan);
 
         appendPayload(jsonObjectBuilder, schemaVersion, thePredicate);
 
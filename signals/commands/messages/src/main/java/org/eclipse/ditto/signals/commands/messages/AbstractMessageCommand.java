@@ -28,8 +28,7 @@ import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.json.JsonObjectReader;
 import org.eclipse.ditto.json.JsonValue;
-import org.eclipse.ditto.model.base.common.IdValidator;
-import org.eclipse.ditto.model.base.common.Validator;
+import org.eclipse.ditto.model.base.common.NamespacedIdGrammar;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.messages.Message;
@@ -43,7 +42,7 @@ import org.eclipse.ditto.signals.commands.base.AbstractCommand;
  * @param <T> the type of the message's payload.
  * @param <C> the type of the AbstractMessageCommand.
  */
-abstract class AbstractMessageCommand<T, C extends AbstractMessageCommand> extends AbstractCommand<C>
+abstract class AbstractMessageCommand<T, C extends AbstractMessageCommand<T, C>> extends AbstractCommand<C>
         implements MessageCommand<T, C> {
 
     /**
@@ -80,8 +79,9 @@ abstract class AbstractMessageCommand<T, C extends AbstractMessageCommand> exten
     }
 
     private void validateThingId() {
-        final Validator thingIdValidator = IdValidator.newInstance(thingId, THING_ID_REGEX);
-        if (!thingIdValidator.isValid()) {
+        // same as matching THING_ID_REGEX which in contrast to the namespaced ID grammar requires a non-empty name
+        final int namespaceSeparatorIndex = NamespacedIdGrammar.getNamespaceSeparatorIndex(thingId);
+        if (0 > namespaceSeparatorIndex || thingId.length() - 1 == namespaceSeparatorIndex) {
             throw new ThingIdInvalidException(thingId);
         }
     }
@@ -96,6 +96,24 @@ abstract class AbstractMessageCommand<T, C extends AbstractMessageCommand> exten
         return message;
     }
 
+    @Override
+    public C setBinaryPayload(@Nullable final ByteBuffer binaryPayload) {
+        final Message<T> messageWithBinaryPayload = Message.<T>newBuilder(message.getHeaders())
+                .payload(message.getPayload().orElse(null))
+                .rawPayload(binaryPayload)
+                .responseConsumer(message.getResponseConsumer().orElse(null))
+                .build();
+        return setMessage(messageWithBinaryPayload);
+    }
+
+    /**
+     * Returns a copy of this command with the given message.
+     *
+     * @param message the message of the copy.
+     * @return the copy.
+     */
+    protected abstract C setMessage(Message<T> message);
+
     @Override
     protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
             final Predicate<JsonField> predicate) {
@@ -41,7 +41,7 @@ import org.eclipse.ditto.signals.commands.base.AbstractCommandResponse;
  * @param <T> the type of the message's payload.
  * @param <C> the type of the AbstractMessageCommand.
  */
-abstract class AbstractMessageCommandResponse<T, C extends AbstractMessageCommandResponse>
+abstract class AbstractMessageCommandResponse<T, C extends AbstractMessageCommandResponse<T, C>>
         extends AbstractCommandResponse<C> implements MessageCommandResponse<T, C> {
 
     private static final Base64.Encoder BASE64_ENCODER = Base64.getEncoder();
@@ -71,6 +71,24 @@ abstract class AbstractMessageCommandResponse<T, C extends AbstractMessageComman
         return message;
     }
 
+    @Override
+    public C setBinaryPayload(@Nullable final ByteBuffer binaryPayload) {
+        final Message<T> messageWithBinaryPayload = Message.<T>newBuilder(message.getHeaders())
+                .payload(message.getPayload().orElse(null))
+                .rawPayload(binaryPayload)
+                .responseConsumer(message.getResponseConsumer().orElse(null))
+                .build();
+        return setMessage(messageWithBinaryPayload);
+    }
+
+    /**
+     * Returns a copy of this response with the given message.
+     *
+     * @param message the message of the copy.
+     * @return the copy.
+     */
+    protected abstract C setMessage(Message<T> message);
+
     @Override
     protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
             final Predicate<JsonField> predicate) {
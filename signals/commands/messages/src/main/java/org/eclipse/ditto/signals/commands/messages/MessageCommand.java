@@ -11,6 +11,9 @@
  */
 package org.eclipse.ditto.signals.commands.messages;
 
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonFieldDefinition;
 import org.eclipse.ditto.json.JsonKey;
@@ -21,6 +24,7 @@ import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.messages.Message;
 import org.eclipse.ditto.model.messages.MessageDirection;
+import org.eclipse.ditto.signals.base.WithBinaryPayload;
 import org.eclipse.ditto.signals.base.WithThingId;
 import org.eclipse.ditto.signals.commands.base.Command;
 
@@ -30,7 +34,8 @@ import org.eclipse.ditto.signals.commands.base.Command;
  * @param <T> the type of the message's payload.
  * @param <C> the type of the MessageCommand.
  */
-public interface MessageCommand<T, C extends MessageCommand> extends Command<C>, WithThingId {
+public interface MessageCommand<T, C extends MessageCommand<T, C>>
+        extends Command<C>, WithThingId, WithBinaryPayload<C> {
 
     /**
      * Type Prefix of Message commands.
@@ -64,6 +69,16 @@ public interface MessageCommand<T, C extends MessageCommand> extends Command<C>,
      */
     Message<T> getMessage();
 
+    /**
+     * Returns the raw payload of the {@link #getMessage() Message}.
+     *
+     * @return a read-only view of the raw payload or an empty Optional.
+     */
+    @Override
+    default Optional<ByteBuffer> getBinaryPayload() {
+        return getMessage().getRawPayload();
+    }
+
     /**
      * Retrieves the type of the message to be delivered. This will be used as routingKey for delivering the message
      * over AMQP.
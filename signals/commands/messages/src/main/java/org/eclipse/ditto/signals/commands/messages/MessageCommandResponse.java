@@ -11,6 +11,9 @@
  */
 package org.eclipse.ditto.signals.commands.messages;
 
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonFieldDefinition;
 import org.eclipse.ditto.json.JsonKey;
@@ -22,6 +25,7 @@ import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.messages.Message;
 import org.eclipse.ditto.model.messages.MessageDirection;
 import org.eclipse.ditto.signals.base.WithId;
+import org.eclipse.ditto.signals.base.WithBinaryPayload;
 import org.eclipse.ditto.signals.base.WithThingId;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.base.CommandResponse;
@@ -32,8 +36,8 @@ import org.eclipse.ditto.signals.commands.base.CommandResponse;
  * @param <T> the type of the message's payload.
  * @param <C> the type of the MessageCommandResponse.
  */
-public interface MessageCommandResponse<T, C extends MessageCommandResponse>
-        extends CommandResponse<C>, WithId, WithThingId {
+public interface MessageCommandResponse<T, C extends MessageCommandResponse<T, C>>
+        extends CommandResponse<C>, WithId, WithThingId, WithBinaryPayload<C> {
 
     /**
      * Type Prefix of Message commands.
@@ -47,6 +51,16 @@ public interface MessageCommandResponse<T, C extends MessageCommandResponse>
      */
     Message<T> getMessage();
 
+    /**
+     * Returns the raw payload of the {@link #getMessage() Message}.
+     *
+     * @return a read-only view of the raw payload or an empty Optional.
+     */
+    @Override
+    default Optional<ByteBuffer> getBinaryPayload() {
+        return getMessage().getRawPayload();
+    }
+
     /**
      * Retrieves the type of the message to be delivered. This will be used as routingKey for delivering the message
      * over AMQP.
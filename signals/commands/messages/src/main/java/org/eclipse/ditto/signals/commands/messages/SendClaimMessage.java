@@ -24,7 +24,7 @@ import org.eclipse.ditto.signals.commands.base.CommandJsonDeserializer;
  *
  * @param <T> the type of the message's payload.
  */
-public final class SendClaimMessage<T> extends AbstractMessageCommand<T, SendClaimMessage> {
+public final class SendClaimMessage<T> extends AbstractMessageCommand<T, SendClaimMessage<T>> {
 
     /**
      * The name of the {@code Message} wrapped by this {@code MessageCommand}.
@@ -41,10 +41,15 @@ public final class SendClaimMessage<T> extends AbstractMessageCommand<T, SendCla
     }
 
     @Override
-    public SendClaimMessage setDittoHeaders(final DittoHeaders dittoHeaders) {
+    public SendClaimMessage<T> setDittoHeaders(final DittoHeaders dittoHeaders) {
         return of(getThingId(), getMessage(), dittoHeaders);
     }
 
+    @Override
+    protected SendClaimMessage<T> setMessage(final Message<T> message) {
+        return of(getThingId(), message, getDittoHeaders());
+    }
+
     /**
      * Creates a new instance of {@link SendClaimMessage}.
      *
@@ -110,6 +110,12 @@ public final class SendEmptyMessageResponse extends AbstractMessageCommandRespon
         return of(getThingId(), getStatusCode(), dittoHeaders);
     }
 
+    @Override
+    protected SendEmptyMessageResponse setMessage(final Message<Void> message) {
+        // the message of an empty response never has a payload
+        return this;
+    }
+
     public Optional<String> getCorrelationId() {
         return getDittoHeaders().getCorrelationId();
     }
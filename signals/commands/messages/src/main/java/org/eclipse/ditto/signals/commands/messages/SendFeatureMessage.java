@@ -37,7 +37,7 @@ import org.eclipse.ditto.signals.commands.base.CommandJsonDeserializer;
  * @param <T> the type of the message's payload.
  */
 @Immutable
-public final class SendFeatureMessage<T> extends AbstractMessageCommand<T, SendFeatureMessage>
+public final class SendFeatureMessage<T> extends AbstractMessageCommand<T, SendFeatureMessage<T>>
         implements WithFeatureId {
 
     /**
@@ -64,10 +64,15 @@ public final class SendFeatureMessage<T> extends AbstractMessageCommand<T, SendF
     }
 
     @Override
-    public SendFeatureMessage setDittoHeaders(final DittoHeaders dittoHeaders) {
+    public SendFeatureMessage<T> setDittoHeaders(final DittoHeaders dittoHeaders) {
         return of(getThingId(), featureId, getMessage(), dittoHeaders);
     }
 
+    @Override
+    protected SendFeatureMessage<T> setMessage(final Message<T> message) {
+        return of(getThingId(), featureId, message, getDittoHeaders());
+    }
+
     @Override
     protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
             final Predicate<JsonField> predicate) {
@@ -36,7 +36,7 @@ import org.eclipse.ditto.signals.commands.base.CommandResponseJsonDeserializer;
  *
  * @param <T> the type of the message's payload.
  */
-public final class SendFeatureMessageResponse<T> extends AbstractMessageCommandResponse<T, SendFeatureMessageResponse>
+public final class SendFeatureMessageResponse<T> extends AbstractMessageCommandResponse<T, SendFeatureMessageResponse<T>>
         implements WithFeatureId {
 
     /**
@@ -76,10 +76,15 @@ public final class SendFeatureMessageResponse<T> extends AbstractMessageCommandR
     }
 
     @Override
-    public SendFeatureMessageResponse setDittoHeaders(final DittoHeaders dittoHeaders) {
+    public SendFeatureMessageResponse<T> setDittoHeaders(final DittoHeaders dittoHeaders) {
         return of(getThingId(), getFeatureId(), getMessage(), getStatusCode(), dittoHeaders);
     }
 
+    @Override
+    protected SendFeatureMessageResponse<T> setMessage(final Message<T> message) {
+        return of(getThingId(), getFeatureId(), message, getStatusCode(), getDittoHeaders());
+    }
+
     /**
      * Creates a new instance of {@link SendFeatureMessageResponse}.
      *
@@ -26,7 +26,7 @@ import org.eclipse.ditto.signals.commands.base.CommandJsonDeserializer;
  * @param <T> the type of the message's payload.
  */
 @Immutable
-public final class SendThingMessage<T> extends AbstractMessageCommand<T, SendThingMessage> {
+public final class SendThingMessage<T> extends AbstractMessageCommand<T, SendThingMessage<T>> {
 
     /**
      * The name of the {@code Message} wrapped by this {@code MessageCommand}.
@@ -43,10 +43,15 @@ public final class SendThingMessage<T> extends AbstractMessageCommand<T, SendThi
     }
 
     @Override
-    public SendThingMessage setDittoHeaders(final DittoHeaders dittoHeaders) {
+    public SendThingMessage<T> setDittoHeaders(final DittoHeaders dittoHeaders) {
         return of(getThingId(), getMessage(), dittoHeaders);
     }
 
+    @Override
+    protected SendThingMessage<T> setMessage(final Message<T> message) {
+        return of(getThingId(), message, getDittoHeaders());
+    }
+
     /**
      * Creates a new instance of {@link SendThingMessage}.
      *
@@ -23,7 +23,7 @@ import org.eclipse.ditto.signals.commands.base.CommandResponseJsonDeserializer;
  *
  * @param <T> the type of the message's payload.
  */
-public final class SendThingMessageResponse<T> extends AbstractMessageCommandResponse<T, SendThingMessageResponse> {
+public final class SendThingMessageResponse<T> extends AbstractMessageCommandResponse<T, SendThingMessageResponse<T>> {
 
     /**
      * The name of the {@code Message} wrapped by this {@code MessageCommand}.
@@ -41,10 +41,15 @@ public final class SendThingMessageResponse<T> extends AbstractMessageCommandRes
     }
 
     @Override
-    public SendThingMessageResponse setDittoHeaders(final DittoHeaders dittoHeaders) {
+    public SendThingMessageResponse<T> setDittoHeaders(final DittoHeaders dittoHeaders) {
         return of(getThingId(), getMessage(), getStatusCode(), dittoHeaders);
     }
 
+    @Override
+    protected SendThingMessageResponse<T> setMessage(final Message<T> message) {
+        return of(getThingId(), message, getStatusCode(), getDittoHeaders());
+    }
+
     /**
      * Creates a new instance of {@link SendThingMessageResponse}.
      *
@@ -18,6 +18,7 @@ import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable
 
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonFactory;
@@ -90,4 +91,15 @@ public class RetrieveThingsResponseTest {
         assertThat(underTest.getThings().get(0).toJson()).isEqualTo(TestConstants.Thing.THING.toJson());
     }
 
+
+    @Test
+    public void streamThingsOfLazilyParsedResponse() {
+        final RetrieveThingsResponse underTest =
+                RetrieveThingsResponse.fromJson(JsonFactory.newLazyObject(KNOWN_JSON.toString()),
+                        TestConstants.EMPTY_DITTO_HEADERS);
+
+        assertThat(underTest.streamThings().map(thing -> thing.toJson()).collect(Collectors.toList()))
+                .containsExactly(TestConstants.Thing.THING.toJson());
+    }
+
 }
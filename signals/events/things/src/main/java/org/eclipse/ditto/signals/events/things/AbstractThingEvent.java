@@ -28,6 +28,8 @@ import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.base.json.JsonSerializationPlan;
+import org.eclipse.ditto.model.base.json.JsonSerializationPlans;
 import org.eclipse.ditto.signals.events.base.Event;
 
 
@@ -39,6 +41,9 @@ import org.eclipse.ditto.signals.events.base.Event;
 @Immutable
 public abstract class AbstractThingEvent<T extends AbstractThingEvent> implements ThingEvent<T> {
 
+    private static final JsonSerializationPlans SERIALIZATION_PLANS = JsonSerializationPlans.of(
+            Event.JsonFields.TIMESTAMP, Event.JsonFields.ID, Event.JsonFields.TYPE, Event.JsonFields.REVISION);
+
     private final String type;
     private final String thingId;
     private final long revision;
@@ -102,12 +107,12 @@ public abstract class AbstractThingEvent<T extends AbstractThingEvent> implement
 
     @Override
     public JsonObject toJson(final JsonSchemaVersion schemaVersion, final Predicate<JsonField> thePredicate) {
-        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        final JsonSerializationPlan plan = SERIALIZATION_PLANS.getPlan(schemaVersion, thePredicate);
         final JsonObjectBuilder jsonObjectBuilder = JsonFactory.newObjectBuilder()
-                .set(Event.JsonFields.TIMESTAMP, getTimestamp().map(Instant::toString).orElse(null), predicate)
-                .set(Event.JsonFields.ID, type.replace(TYPE_PREFIX, ""), predicate) // backward compatibility to V1!
-                .set(Event.JsonFields.TYPE, type, predicate)
-                .set(Event.JsonFields.REVISION, revision, predicate)
+                .set(Event.JsonFields.TIMESTAMP, getTimestamp().map(Instant::toString).orElse(null), plan)
+                .set(Event.JsonFields.ID, type.replace(TYPE_PREFIX, ""), plan) // backward compatibility to V1!
+                .set(Event.JsonFields.TYPE, type, plan)
+                .set(Event.JsonFields.REVISION, revision, plan)
                 .set(JsonFields.THING_ID, thingId);
 
         appendPayloadAndBuild(jsonObjectBuilder, schemaVersion, thePredicate);
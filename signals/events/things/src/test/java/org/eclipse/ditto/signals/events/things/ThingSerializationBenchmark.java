@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2017 Bosch Software Innovations GmbH.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/org/documents/epl-2.0/index.php
+ *
+ * Contributors:
+ *    Bosch Software Innovations GmbH - initial contribution
+ */
+package org.eclipse.ditto.signals.events.things;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingBuilder;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares serializing a Thing and Thing events with a predicate for which the serialization plans are cached
+ * against serializing with an opaque predicate of the same result which has to be evaluated for each field.
+ */
+@State(Scope.Benchmark)
+public class ThingSerializationBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final Predicate<JsonField> PREDICATE = FieldType.regularOrSpecial();
+    private static final Predicate<JsonField> OPAQUE_PREDICATE = jsonField -> PREDICATE.test(jsonField);
+
+    /**
+     * The number of features of the serialized Thing.
+     */
+    @Param({"1", "10", "100"})
+    public int featureCount;
+
+    private Thing thing;
+    private ThingCreated thingCreated;
+    private AttributeModified attributeModified;
+
+    @Setup
+    public void setUp() {
+        final ThingBuilder.FromScratch thingBuilder = ThingsModelFactory.newThingBuilder()
+                .setId(TestConstants.Thing.THING_ID)
+                .setPolicyId(TestConstants.Thing.POLICY_ID)
+                .setAttributes(TestConstants.Thing.ATTRIBUTES)
+                .setLifecycle(TestConstants.Thing.LIFECYCLE)
+                .setRevision(TestConstants.Thing.REVISION);
+        for (int i = 0; i < featureCount; i++) {
+            thingBuilder.setFeatureProperty("feature-" + i, JsonFactory.newPointer("counter"),
+                    JsonFactory.newValue(i));
+        }
+        thing = thingBuilder.build();
+        thingCreated = ThingCreated.of(thing, TestConstants.Thing.REVISION_NUMBER, TestConstants.DITTO_HEADERS);
+        attributeModified = AttributeModified.of(TestConstants.Thing.THING_ID,
+                TestConstants.Thing.LOCATION_ATTRIBUTE_POINTER, TestConstants.Thing.LOCATION_ATTRIBUTE_VALUE,
+                TestConstants.Thing.REVISION_NUMBER, TestConstants.DITTO_HEADERS);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject thingToJson() {
+        return thing.toJson(JsonSchemaVersion.V_2, PREDICATE);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject thingToJsonWithOpaquePredicate() {
+        return thing.toJson(JsonSchemaVersion.V_2, OPAQUE_PREDICATE);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject thingCreatedToJson() {
+        return thingCreated.toJson(JsonSchemaVersion.V_2, PREDICATE);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject thingCreatedToJsonWithOpaquePredicate() {
+        return thingCreated.toJson(JsonSchemaVersion.V_2, OPAQUE_PREDICATE);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject attributeModifiedToJson() {
+        return attributeModified.toJson(JsonSchemaVersion.V_2, PREDICATE);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject attributeModifiedToJsonWithOpaquePredicate() {
+        return attributeModified.toJson(JsonSchemaVersion.V_2, OPAQUE_PREDICATE);
+    }
+
+}